@@ -0,0 +1,217 @@
+package com.SIGMA.USCO.benchmark;
+
+import com.SIGMA.USCO.SigmaApplication;
+import com.SIGMA.USCO.Users.Entity.Role;
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.Entity.enums.Status;
+import com.SIGMA.USCO.security.JwtService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prueba de carga del modo de ejecución: compara Tomcat y los ejecutores de eventos con hilos
+ * de plataforma (pool fijo) y con hilos virtuales ({@code spring.threads.virtual.enabled}).
+ *
+ * Cada invocación envía {@code requests} búsquedas de usuarios del administrador por HTTP, con
+ * {@code concurrency} clientes a la vez, contra la aplicación completa sobre H2. Para simular
+ * la latencia de red de la base de datos, cada conexión tomada del pool espera
+ * {@code dbLatencyMs} antes de usarse. El tiempo de la invocación da el throughput; al terminar
+ * cada iteración se imprimen las latencias p50/p99 de las solicitudes. Cualquier respuesta
+ * distinta de 200 hace fallar el benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"0", "20"})
+    public int dbLatencyMs;
+
+    @Param({"2000"})
+    public int requests;
+
+    /** Clientes con una solicitud en curso al mismo tiempo */
+    @Param({"400"})
+    public int concurrency;
+
+    /** Conexiones del pool de la base de datos, el recurso que limita ambos modos */
+    @Param({"20"})
+    public int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ExecutorService clients;
+    private HttpRequest request;
+    private long[] latencies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("benchmark.db-latency-ms", Integer.toString(dbLatencyMs));
+        // Argumentos de línea de comandos para que tengan prioridad sobre el perfil activo por defecto
+        context = new SpringApplicationBuilder(SigmaApplication.class, DatabaseLatencyConfig.class).run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:execution-mode;LOCK_TIMEOUT=30000",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--jwt.secret=" + Base64.getEncoder().encodeToString(new byte[32]),
+                "--file.upload-dir=target/benchmark-uploads",
+                "--logging.level.root=WARN",
+                "--logging.level.com.SIGMA=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.hibernate=WARN");
+
+        User admin = context.getBean(TransactionTemplate.class)
+                .execute(status -> seed(context.getBean(EntityManager.class)));
+        String token = context.getBean(JwtService.class).generateToken(
+                Map.of("authorities", List.of("PERM_VIEW_USER"), JwtService.USER_ID_CLAIM, admin.getId()), admin);
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "");
+        request = HttpRequest.newBuilder(URI.create(baseUrl + "/admin/getUsers?name=estudiante&size=50"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().executor(clients).build();
+        latencies = new long[requests];
+    }
+
+    @Benchmark
+    public int requestRush() throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<Integer>> results = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            inFlight.acquire();
+            results.add(clients.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } finally {
+                    latencies[index] = System.nanoTime() - start;
+                    inFlight.release();
+                }
+            }));
+        }
+
+        for (Future<Integer> result : results) {
+            int status = result.get();
+            if (status != 200) {
+                throw new IllegalStateException("Respuesta inesperada: " + status);
+            }
+        }
+        return results.size();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLatencies() {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%n  latencia por solicitud: p50 %.1f ms, p99 %.1f ms%n",
+                sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.99)] / 1e6);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.shutdownNow();
+        context.close();
+    }
+
+    private static User seed(EntityManager entityManager) {
+        Role adminRole = Role.builder().name("BENCHMARK_ADMIN").permissions(new HashSet<>()).build();
+        entityManager.persist(adminRole);
+        User admin = User.builder()
+                .name("Administrador").lastName("Benchmark").email("admin@usco.edu.co")
+                .password("x").status(Status.ACTIVE).roles(new HashSet<>(Set.of(adminRole)))
+                .build();
+        entityManager.persist(admin);
+
+        for (int i = 0; i < 500; i++) {
+            entityManager.persist(User.builder()
+                    .name("Estudiante " + i).lastName("Benchmark").email("estudiante" + i + "@usco.edu.co")
+                    .password("x").status(Status.ACTIVE).roles(new HashSet<>())
+                    .build());
+        }
+        return admin;
+    }
+
+    /**
+     * Agrega la latencia simulada a cada conexión que se toma del pool, con la conexión ocupada
+     * mientras tanto, como en una consulta a una base de datos remota.
+     */
+    @Configuration
+    static class DatabaseLatencyConfig {
+
+        @Bean
+        static BeanPostProcessor databaseLatencyPostProcessor() {
+            long latencyMs = Long.getLong("benchmark.db-latency-ms", 0);
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (latencyMs == 0 || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            Connection connection = super.getConnection();
+                            try {
+                                Thread.sleep(latencyMs);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return connection;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
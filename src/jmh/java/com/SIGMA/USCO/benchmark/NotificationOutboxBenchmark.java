@@ -0,0 +1,192 @@
+package com.SIGMA.USCO.benchmark;
+
+import com.SIGMA.USCO.SigmaApplication;
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.Entity.enums.Status;
+import com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus;
+import com.SIGMA.USCO.notifications.event.SeminarStartedEvent;
+import com.SIGMA.USCO.notifications.publisher.NotificationEventPublisher;
+import com.SIGMA.USCO.notifications.repository.NotificationRepository;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga de las notificaciones por correo con hilos de plataforma y con hilos
+ * virtuales ({@code spring.threads.virtual.enabled}).
+ *
+ * Cada invocación publica {@code events} eventos de inicio de seminario, cada uno para
+ * {@code recipientsPerEvent} estudiantes, y termina cuando el outbox envió todos los correos.
+ * Los listeners guardan las notificaciones en el ejecutor de eventos y el outbox las envía por
+ * {@code smtpConnections} conexiones, contra la aplicación completa sobre H2. El servidor SMTP
+ * es un stub: cada conexión tarda {@code smtpLatencyMs} y cada correo {@code messageLatencyMs}.
+ * La cuota de envío se deja sin límite para medir solo el outbox. Un correo descartado (DEAD)
+ * hace fallar el benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NotificationOutboxBenchmark {
+
+    /** Correos que el stub SMTP aceptó, en todas las iteraciones */
+    private static final AtomicLong DELIVERED = new AtomicLong();
+
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"200"})
+    public int events;
+
+    @Param({"10"})
+    public int recipientsPerEvent;
+
+    @Param({"4"})
+    public int smtpConnections;
+
+    @Param({"150"})
+    public int smtpLatencyMs;
+
+    @Param({"5"})
+    public int messageLatencyMs;
+
+    private ConfigurableApplicationContext context;
+    private NotificationEventPublisher notificationEventPublisher;
+    private NotificationRepository notificationRepository;
+    private List<Long> recipientIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("benchmark.smtp-latency-ms", Integer.toString(smtpLatencyMs));
+        System.setProperty("benchmark.message-latency-ms", Integer.toString(messageLatencyMs));
+        // Argumentos de línea de comandos para que tengan prioridad sobre el perfil activo por defecto
+        context = new SpringApplicationBuilder(SigmaApplication.class, StubSmtpConfig.class).run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:notification-outbox;LOCK_TIMEOUT=30000",
+                "--notifications.mail.max-connections=" + smtpConnections,
+                "--notifications.mail.rate-per-minute=1.0E9",
+                "--notifications.mail.burst=1000000",
+                "--notifications.outbox.poll-interval-ms=200",
+                "--jwt.secret=" + Base64.getEncoder().encodeToString(new byte[32]),
+                "--file.upload-dir=target/benchmark-uploads",
+                "--logging.level.root=WARN",
+                "--logging.level.com.SIGMA=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.hibernate=WARN");
+
+        notificationEventPublisher = context.getBean(NotificationEventPublisher.class);
+        notificationRepository = context.getBean(NotificationRepository.class);
+        recipientIds = context.getBean(TransactionTemplate.class)
+                .execute(status -> seed(context.getBean(EntityManager.class), recipientsPerEvent));
+    }
+
+    @Benchmark
+    public long publishAndDeliver() {
+        long target = DELIVERED.get() + (long) events * recipientsPerEvent;
+        for (int i = 0; i < events; i++) {
+            notificationEventPublisher.publishSeminarStartedEvent(SeminarStartedEvent.builder()
+                    .recipientIds(recipientIds)
+                    .seminarName("Seminario de profundización " + i)
+                    .startDate(LocalDateTime.now())
+                    .totalHours(160)
+                    .programName("Ingeniería de Software")
+                    .build());
+        }
+
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (DELIVERED.get() < target) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("El outbox no envió los correos a tiempo: "
+                        + (target - DELIVERED.get()) + " pendientes");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return target;
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkDelivery() {
+        long dead = notificationRepository.countByEmailDeliveryStatus(EmailDeliveryStatus.DEAD);
+        if (dead > 0) {
+            throw new IllegalStateException("Correos descartados: " + dead);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static List<Long> seed(EntityManager entityManager, int students) {
+        List<Long> ids = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            User student = User.builder()
+                    .name("Estudiante " + i).lastName("Benchmark").email("estudiante" + i + "@usco.edu.co")
+                    .password("x").status(Status.ACTIVE).roles(new HashSet<>())
+                    .build();
+            entityManager.persist(student);
+            ids.add(student.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Reemplaza el envío SMTP: cada envío ocupa una conexión durante la latencia simulada y
+     * acepta todos los correos.
+     */
+    @Configuration
+    static class StubSmtpConfig {
+
+        @Bean
+        JavaMailSender javaMailSender() {
+            long smtpLatencyMs = Long.getLong("benchmark.smtp-latency-ms", 0);
+            long messageLatencyMs = Long.getLong("benchmark.message-latency-ms", 0);
+            return new JavaMailSenderImpl() {
+                @Override
+                protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+                    try {
+                        Thread.sleep(smtpLatencyMs + messageLatencyMs * mimeMessages.length);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    DELIVERED.addAndGet(mimeMessages.length);
+                }
+            };
+        }
+    }
+}
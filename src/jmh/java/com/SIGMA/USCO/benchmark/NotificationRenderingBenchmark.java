@@ -0,0 +1,118 @@
+package com.SIGMA.USCO.benchmark;
+
+import com.SIGMA.USCO.notifications.entity.NotificationTemplate;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
+import com.SIGMA.USCO.notifications.repository.NotificationTemplateRepository;
+import com.SIGMA.USCO.notifications.service.NotificationTemplateEngine;
+import com.SIGMA.USCO.notifications.service.RenderedNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.SIGMA.USCO.notifications.service.NotificationTemplateEngine.variables;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Costo de generar el mensaje de una notificación: el texto incorporado con
+ * {@link String#formatted}, como lo hacían los listeners, frente a
+ * {@link NotificationTemplateEngine} con el mismo texto compilado y con una plantilla editable
+ * activa. Las plantillas se leen de un repositorio simulado, así que solo se mide la
+ * generación del texto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationRenderingBenchmark {
+
+    private static final String SUBJECT = "Documento actualizado – Modalidad en revisión";
+
+    private static final String MESSAGE = """
+            El estudiante %s ha actualizado un documento en la modalidad de grado:
+
+            "%s"
+
+            Documento: %s
+            Estado actual: %s
+
+            Para revisar el documento y continuar con el proceso,
+            por favor ingrese al sistema.
+
+            Plataforma de Gestión de Modalidades de Grado
+            """;
+
+    private static final String TEMPLATE = """
+            El estudiante {{estudiante}} ha actualizado un documento en la modalidad de grado:
+
+            "{{modalidad}}"
+
+            Documento: {{documento}}
+            Estado actual: {{estadoDocumento}}
+
+            Para revisar el documento y continuar con el proceso,
+            por favor ingrese al sistema.
+
+            Plataforma de Gestión de Modalidades de Grado
+            """;
+
+    private NotificationTemplateEngine builtInEngine;
+    private NotificationTemplateEngine templateEngine;
+    private Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        NotificationTemplateRepository emptyRepository = mock(NotificationTemplateRepository.class);
+        when(emptyRepository.findByActiveTrue()).thenReturn(List.of());
+        builtInEngine = new NotificationTemplateEngine(emptyRepository, 10);
+
+        NotificationTemplateRepository templateRepository = mock(NotificationTemplateRepository.class);
+        when(templateRepository.findByActiveTrue()).thenReturn(List.of(NotificationTemplate.builder()
+                .id(1L)
+                .type(NotificationType.DOCUMENT_UPLOADED)
+                .recipientType(NotificationRecipientType.PROGRAM_CURRICULUM_COMMITTEE)
+                .subject(SUBJECT)
+                .bodyTemplate(TEMPLATE)
+                .active(true)
+                .build()));
+        templateEngine = new NotificationTemplateEngine(templateRepository, 10);
+
+        variables = variables(
+                "estudiante", "Laura Gómez",
+                "modalidad", "Proyecto de grado – Sistema de monitoreo de cultivos",
+                "documento", "Propuesta de proyecto",
+                "estadoDocumento", "En revisión por el Comité de Currículo");
+    }
+
+    @Benchmark
+    public String formatted() {
+        return MESSAGE.formatted(variables.values().toArray());
+    }
+
+    @Benchmark
+    public RenderedNotification builtInText() {
+        return builtInEngine.render(NotificationType.DOCUMENT_UPLOADED,
+                NotificationRecipientType.PROGRAM_CURRICULUM_COMMITTEE, SUBJECT, MESSAGE, variables);
+    }
+
+    @Benchmark
+    public RenderedNotification editableTemplate() {
+        return templateEngine.render(NotificationType.DOCUMENT_UPLOADED,
+                NotificationRecipientType.PROGRAM_CURRICULUM_COMMITTEE, SUBJECT, MESSAGE, variables);
+    }
+}
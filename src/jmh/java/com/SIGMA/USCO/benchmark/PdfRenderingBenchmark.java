@@ -0,0 +1,107 @@
+package com.SIGMA.USCO.benchmark;
+
+import com.SIGMA.USCO.report.dto.CompletedModalitiesReportDTO;
+import com.SIGMA.USCO.report.dto.DefenseCalendarReportDTO;
+import com.SIGMA.USCO.report.dto.DirectorAssignedModalitiesReportDTO;
+import com.SIGMA.USCO.report.dto.GlobalModalityReportDTO;
+import com.SIGMA.USCO.report.dto.StudentListingReportDTO;
+import com.SIGMA.USCO.report.service.CompletedModalitiesPdfGenerator;
+import com.SIGMA.USCO.report.service.DefenseCalendarPdfGenerator;
+import com.SIGMA.USCO.report.service.DirectorAssignedModalitiesPdfGenerator;
+import com.SIGMA.USCO.report.service.PdfReport;
+import com.SIGMA.USCO.report.service.ReportResultCache;
+import com.SIGMA.USCO.report.service.ReportService;
+import com.SIGMA.USCO.report.service.StudentListingPdfGenerator;
+import com.itextpdf.text.DocumentException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de renderizar cada PDF de reporte a partir de un DTO ya calculado.
+ *
+ * Los DTO se generan una vez por ensayo con los mismos servicios y datos sintéticos de
+ * {@link ReportGenerationBenchmark}, y el documento se escribe en un flujo descartable
+ * para medir solo el trabajo de iText y de los generadores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfRenderingBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int modalities;
+
+    private final PdfReport pdfReport = new PdfReport();
+    private final StudentListingPdfGenerator studentListingPdfGenerator = new StudentListingPdfGenerator();
+    private final CompletedModalitiesPdfGenerator completedModalitiesPdfGenerator = new CompletedModalitiesPdfGenerator();
+    private final DirectorAssignedModalitiesPdfGenerator directorAssignedModalitiesPdfGenerator = new DirectorAssignedModalitiesPdfGenerator();
+    private final DefenseCalendarPdfGenerator defenseCalendarPdfGenerator = new DefenseCalendarPdfGenerator();
+
+    private GlobalModalityReportDTO globalReport;
+    private StudentListingReportDTO studentListingReport;
+    private CompletedModalitiesReportDTO completedModalitiesReport;
+    private DirectorAssignedModalitiesReportDTO directorAssignedModalitiesReport;
+    private DefenseCalendarReportDTO defenseCalendarReport;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ReportFixtures.authenticateProgramHead();
+        ReportResultCache reportResultCache = new ReportResultCache(500, 10);
+
+        globalReport = ReportFixtures.create(modalities, ReportFixtures.ACTIVE_STATUSES)
+                .reportService(reportResultCache)
+                .generateGlobalReport();
+        completedModalitiesReport = ReportFixtures.create(modalities, ReportFixtures.COMPLETED_STATUSES)
+                .reportService(reportResultCache)
+                .generateCompletedModalitiesReport(null);
+
+        ReportFixtures mixed = ReportFixtures.create(modalities, ReportFixtures.MIXED_STATUSES);
+        ReportService mixedReportService = mixed.reportService(reportResultCache);
+        studentListingReport = mixedReportService.generateStudentListingReport(null);
+        directorAssignedModalitiesReport = mixedReportService.generateDirectorAssignedModalitiesReport(null);
+        defenseCalendarReport = mixed.defenseCalendarReportService()
+                .generateDefenseCalendarReport(null, null, true);
+    }
+
+    @Benchmark
+    public void globalReportPdf() throws DocumentException, IOException {
+        pdfReport.generatePDF(globalReport, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void studentListingPdf() throws DocumentException, IOException {
+        studentListingPdfGenerator.generatePDF(studentListingReport, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void completedModalitiesPdf() throws DocumentException, IOException {
+        completedModalitiesPdfGenerator.generatePDF(completedModalitiesReport, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void directorAssignedModalitiesPdf() throws DocumentException, IOException {
+        directorAssignedModalitiesPdfGenerator.generatePDF(directorAssignedModalitiesReport, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void defenseCalendarPdf() throws DocumentException, IOException {
+        defenseCalendarPdfGenerator.generatePdf(defenseCalendarReport, OutputStream.nullOutputStream());
+    }
+}
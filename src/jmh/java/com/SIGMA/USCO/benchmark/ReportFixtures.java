@@ -0,0 +1,392 @@
+package com.SIGMA.USCO.benchmark;
+
+import com.SIGMA.USCO.Modalities.Entity.DegreeModality;
+import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.Modalities.Entity.StudentModalityMember;
+import com.SIGMA.USCO.Modalities.Entity.enums.AcademicDistinction;
+import com.SIGMA.USCO.Modalities.Entity.enums.MemberStatus;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityType;
+import com.SIGMA.USCO.Modalities.Repository.DefenseEvaluationCriteriaRepository;
+import com.SIGMA.USCO.Modalities.Repository.DefenseExaminerRepository;
+import com.SIGMA.USCO.Modalities.Repository.StudentModalityMemberRepository;
+import com.SIGMA.USCO.Modalities.Repository.StudentModalityRepository;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityAggregateView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityStatusCountView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityStudentAggregateView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityTypeCountView;
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
+import com.SIGMA.USCO.Users.dto.projection.ProgramAuthorityView;
+import com.SIGMA.USCO.Users.repository.ProgramAuthorityRepository;
+import com.SIGMA.USCO.Users.repository.UserRepository;
+import com.SIGMA.USCO.Users.service.ProgramAuthorityCache;
+import com.SIGMA.USCO.academic.entity.AcademicProgram;
+import com.SIGMA.USCO.academic.entity.Faculty;
+import com.SIGMA.USCO.academic.entity.ProgramDegreeModality;
+import com.SIGMA.USCO.academic.entity.StudentProfile;
+import com.SIGMA.USCO.academic.repository.AcademicProgramRepository;
+import com.SIGMA.USCO.academic.repository.StudentProfileRepository;
+import com.SIGMA.USCO.report.service.DefenseCalendarReportService;
+import com.SIGMA.USCO.report.service.ReportResultCache;
+import com.SIGMA.USCO.report.service.ReportService;
+import com.SIGMA.USCO.report.service.ReportSnapshotService;
+import com.SIGMA.USCO.security.AuthenticatedUserResolver;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Datos sintéticos para los benchmarks de reportes.
+ *
+ * Construye un programa académico con {@code size} modalidades (individuales y grupales,
+ * con director, perfiles de estudiante y fechas de sustentación) y servicios de reportes
+ * cuyos repositorios responden en memoria con esos datos. Así se mide el costo de armar
+ * el reporte y el PDF sin la base de datos de por medio.
+ */
+public final class ReportFixtures {
+
+    static final String PROGRAM_HEAD_EMAIL = "jefatura.benchmark@usco.edu.co";
+
+    /** Estados de modalidades en curso, como los retorna la consulta del reporte global */
+    static final List<ModalityProcessStatus> ACTIVE_STATUSES = List.of(
+            ModalityProcessStatus.MODALITY_SELECTED,
+            ModalityProcessStatus.UNDER_REVIEW_PROGRAM_HEAD,
+            ModalityProcessStatus.PROPOSAL_APPROVED,
+            ModalityProcessStatus.DEFENSE_SCHEDULED,
+            ModalityProcessStatus.READY_FOR_DEFENSE,
+            ModalityProcessStatus.CORRECTIONS_REQUESTED_EXAMINERS);
+
+    /** Estados finales, como los retorna la consulta del reporte de modalidades completadas */
+    static final List<ModalityProcessStatus> COMPLETED_STATUSES = List.of(
+            ModalityProcessStatus.GRADED_APPROVED,
+            ModalityProcessStatus.GRADED_APPROVED,
+            ModalityProcessStatus.GRADED_APPROVED,
+            ModalityProcessStatus.GRADED_FAILED);
+
+    /** Mezcla de estados en curso y finales para los listados generales */
+    static final List<ModalityProcessStatus> MIXED_STATUSES = List.of(
+            ModalityProcessStatus.MODALITY_SELECTED,
+            ModalityProcessStatus.PROPOSAL_APPROVED,
+            ModalityProcessStatus.DEFENSE_SCHEDULED,
+            ModalityProcessStatus.READY_FOR_DEFENSE,
+            ModalityProcessStatus.GRADED_APPROVED,
+            ModalityProcessStatus.GRADED_FAILED,
+            ModalityProcessStatus.MODALITY_CANCELLED);
+
+    private static final String[] MODALITY_NAMES = {
+            "PROYECTO DE GRADO", "PASANTÍA", "SEMINARIO DE GRADO",
+            "EMPRENDIMIENTO", "PRODUCCIÓN ACADÉMICA DE ALTO NIVEL", "PRÁCTICA PROFESIONAL"
+    };
+
+    private final AcademicProgram program;
+    private final User programHead;
+    private final List<StudentModality> modalities;
+    private final Map<Long, List<StudentModalityMember>> membersByModality;
+    private final Map<Long, StudentProfile> profilesByUser;
+
+    private ReportFixtures(AcademicProgram program, User programHead, List<StudentModality> modalities,
+                           Map<Long, StudentProfile> profilesByUser) {
+        this.program = program;
+        this.programHead = programHead;
+        this.modalities = modalities;
+        this.membersByModality = modalities.stream()
+                .collect(Collectors.toMap(StudentModality::getId, StudentModality::getMembers));
+        this.profilesByUser = profilesByUser;
+    }
+
+    /**
+     * Genera {@code size} modalidades cuyos estados se asignan en ciclo desde {@code statuses}.
+     */
+    public static ReportFixtures create(int size, List<ModalityProcessStatus> statuses) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Faculty faculty = Faculty.builder()
+                .id(1L)
+                .name("Facultad de Ingeniería")
+                .code("FING")
+                .active(true)
+                .build();
+
+        AcademicProgram program = AcademicProgram.builder()
+                .id(1L)
+                .name("Ingeniería de Software")
+                .code("ISW")
+                .totalCredits(160L)
+                .faculty(faculty)
+                .active(true)
+                .build();
+
+        User programHead = user(1L, "Jefatura", "Programa", PROGRAM_HEAD_EMAIL);
+
+        List<ProgramDegreeModality> programModalities = new ArrayList<>();
+        for (int i = 0; i < MODALITY_NAMES.length; i++) {
+            DegreeModality degreeModality = DegreeModality.builder()
+                    .id((long) i + 1)
+                    .name(MODALITY_NAMES[i])
+                    .faculty(faculty)
+                    .build();
+            programModalities.add(ProgramDegreeModality.builder()
+                    .id((long) i + 1)
+                    .academicProgram(program)
+                    .degreeModality(degreeModality)
+                    .creditsRequired(10L)
+                    .active(true)
+                    .build());
+        }
+
+        int directorCount = Math.max(1, size / 8);
+        List<User> directors = new ArrayList<>();
+        for (int i = 0; i < directorCount; i++) {
+            directors.add(user(1_000L + i, "Director" + i, "Docente", "director" + i + "@usco.edu.co"));
+        }
+
+        long nextUserId = 10_000L;
+        long nextMemberId = 1L;
+        List<StudentModality> modalities = new ArrayList<>(size);
+        Map<Long, StudentProfile> profilesByUser = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            ModalityProcessStatus status = statuses.get(i % statuses.size());
+            boolean group = i % 3 == 0;
+            boolean graded = status == ModalityProcessStatus.GRADED_APPROVED
+                    || status == ModalityProcessStatus.GRADED_FAILED;
+
+            StudentModality modality = StudentModality.builder()
+                    .id((long) i + 1)
+                    .modalityType(group ? ModalityType.GROUP : ModalityType.INDIVIDUAL)
+                    .academicProgram(program)
+                    .programDegreeModality(programModalities.get(i % programModalities.size()))
+                    .status(status)
+                    .selectionDate(now.minusDays(30 + (i * 7L) % 540))
+                    .updatedAt(now.minusDays(i % 45))
+                    .projectDirector(i % 10 == 9 ? null : directors.get(i % directorCount))
+                    .defenseDate(now.plusDays((i % 120) - 60).withHour(8 + i % 9).withMinute(0))
+                    .defenseLocation("Bloque " + (char) ('A' + i % 5) + " - Sala " + (100 + i % 20))
+                    .finalGrade(graded ? (status == ModalityProcessStatus.GRADED_APPROVED ? 3.5 + (i % 15) / 10.0 : 2.4) : null)
+                    .academicDistinction(graded && i % 11 == 0 ? AcademicDistinction.AGREED_MERITORIOUS : null)
+                    .modalityTitle("Proyecto sintético número " + (i + 1))
+                    .statusHistory(new ArrayList<>())
+                    .invitations(new ArrayList<>())
+                    .defenseExaminers(new ArrayList<>())
+                    .build();
+
+            List<StudentModalityMember> members = new ArrayList<>();
+            int memberCount = group ? 2 + i % 2 : 1;
+            for (int m = 0; m < memberCount; m++) {
+                long userId = nextUserId++;
+                User student = user(userId, "Estudiante" + userId, "Apellido" + (userId % 97),
+                        "estudiante" + userId + "@usco.edu.co");
+                members.add(StudentModalityMember.builder()
+                        .id(nextMemberId++)
+                        .student(student)
+                        .isLeader(m == 0)
+                        .status(MemberStatus.ACTIVE)
+                        .joinedAt(modality.getSelectionDate())
+                        .build());
+                profilesByUser.put(userId, StudentProfile.builder()
+                        .id(userId)
+                        .user(student)
+                        .academicProgram(program)
+                        .faculty(faculty)
+                        .approvedCredits(120L + userId % 40)
+                        .gpa(3.2 + (userId % 18) / 10.0)
+                        .semester(8L + userId % 3)
+                        .studentCode("2019" + (100_000 + userId))
+                        .build());
+            }
+            modality.setMembers(members);
+            modality.setLeader(members.get(0).getStudent());
+            modalities.add(modality);
+        }
+
+        return new ReportFixtures(program, programHead, modalities, profilesByUser);
+    }
+
+    /**
+     * Autentica al jefe de programa sintético; los servicios de reportes resuelven el programa
+     * desde el contexto de seguridad. Se usa el modo global para que aplique a los hilos de JMH.
+     */
+    public static void authenticateProgramHead() {
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(PROGRAM_HEAD_EMAIL, null, List.of()));
+    }
+
+    public List<StudentModality> modalities() {
+        return modalities;
+    }
+
+    /**
+     * ReportService con repositorios en memoria y una caché de resultados propia.
+     */
+    @SuppressWarnings("unchecked")
+    public ReportService reportService(ReportResultCache cache) {
+        StudentModalityRepository modalityRepository = mock(StudentModalityRepository.class);
+        when(modalityRepository.findAll(any(Specification.class))).thenReturn(modalities);
+        when(modalityRepository.aggregateByProgramAndStatuses(anyLong(), anyCollection(), any()))
+                .thenReturn(aggregate());
+        when(modalityRepository.countByProgramGroupedByStatus(anyLong(), anyCollection()))
+                .thenReturn(statusCounts());
+        when(modalityRepository.countByProgramGroupedByModalityType(anyLong(), anyCollection()))
+                .thenReturn(typeCounts());
+
+        StudentModalityMemberRepository memberRepository = mock(StudentModalityMemberRepository.class);
+        when(memberRepository.findByStudentModalityIdAndStatus(anyLong(), eq(MemberStatus.ACTIVE)))
+                .thenAnswer(invocation -> membersByModality.getOrDefault(invocation.<Long>getArgument(0), List.of()));
+        when(memberRepository.aggregateActiveStudentsByProgram(anyLong(), anyCollection()))
+                .thenReturn(studentAggregate());
+
+        StudentProfileRepository profileRepository = mock(StudentProfileRepository.class);
+        when(profileRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(profilesByUser.get(invocation.<Long>getArgument(0))));
+        when(profileRepository.findByUserId(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(profilesByUser.get(invocation.<Long>getArgument(0))));
+
+        UserRepository userRepository = userRepository();
+        return new ReportService(
+                modalityRepository,
+                memberRepository,
+                mock(DefenseEvaluationCriteriaRepository.class),
+                userRepository,
+                new AuthenticatedUserResolver(userRepository),
+                profileRepository,
+                academicProgramRepository(),
+                programAuthorityCache(),
+                mock(ReportSnapshotService.class),
+                cache);
+    }
+
+    /**
+     * DefenseCalendarReportService con repositorios en memoria (sin jurados asignados).
+     */
+    @SuppressWarnings("unchecked")
+    public DefenseCalendarReportService defenseCalendarReportService() {
+        StudentModalityRepository modalityRepository = mock(StudentModalityRepository.class);
+        when(modalityRepository.findAll(any(Specification.class))).thenReturn(modalities);
+
+        return new DefenseCalendarReportService(
+                modalityRepository,
+                mock(DefenseExaminerRepository.class),
+                mock(DefenseEvaluationCriteriaRepository.class),
+                userRepository(),
+                academicProgramRepository(),
+                programAuthorityCache());
+    }
+
+    private UserRepository userRepository() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(programHead));
+        return userRepository;
+    }
+
+    private AcademicProgramRepository academicProgramRepository() {
+        AcademicProgramRepository programRepository = mock(AcademicProgramRepository.class);
+        when(programRepository.findById(anyLong())).thenReturn(Optional.of(program));
+        return programRepository;
+    }
+
+    private ProgramAuthorityCache programAuthorityCache() {
+        ProgramAuthorityView authority = mock(ProgramAuthorityView.class);
+        when(authority.getId()).thenReturn(1L);
+        when(authority.getUserId()).thenReturn(programHead.getId());
+        when(authority.getAcademicProgramId()).thenReturn(program.getId());
+        when(authority.getFacultyId()).thenReturn(program.getFaculty().getId());
+        when(authority.getRole()).thenReturn(ProgramRole.PROGRAM_HEAD);
+
+        ProgramAuthorityRepository authorityRepository = mock(ProgramAuthorityRepository.class);
+        when(authorityRepository.findAllViews()).thenReturn(List.of(authority));
+        return new ProgramAuthorityCache(authorityRepository, 10);
+    }
+
+    // ── Resultados de las consultas agregadas, calculados sobre los datos sintéticos ──
+
+    private ModalityAggregateView aggregate() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = modalities.size();
+        long group = modalities.stream().filter(m -> m.getModalityType() == ModalityType.GROUP).count();
+        long withoutDirector = modalities.stream().filter(m -> m.getProjectDirector() == null).count();
+        long directors = modalities.stream()
+                .filter(m -> m.getProjectDirector() != null)
+                .map(m -> m.getProjectDirector().getId())
+                .distinct()
+                .count();
+        double averageDays = modalities.stream()
+                .mapToLong(m -> Duration.between(m.getSelectionDate(), now).toDays())
+                .average()
+                .orElse(0);
+
+        return new ModalityAggregateView() {
+            public Long getTotalModalities() { return total; }
+            public Long getIndividualModalities() { return total - group; }
+            public Long getGroupModalities() { return group; }
+            public Long getModalitiesWithoutDirector() { return withoutDirector; }
+            public Long getTotalDirectors() { return directors; }
+            public Double getAverageDaysInProcess() { return averageDays; }
+        };
+    }
+
+    private ModalityStudentAggregateView studentAggregate() {
+        long students = membersByModality.values().stream().mapToLong(Collection::size).sum();
+        long groupMembers = modalities.stream()
+                .filter(m -> m.getModalityType() == ModalityType.GROUP)
+                .mapToLong(m -> m.getMembers().size())
+                .sum();
+
+        return new ModalityStudentAggregateView() {
+            public Long getTotalStudents() { return students; }
+            public Long getGroupMembers() { return groupMembers; }
+        };
+    }
+
+    private List<ModalityStatusCountView> statusCounts() {
+        return countBy(StudentModality::getStatus).entrySet().stream()
+                .map(entry -> (ModalityStatusCountView) new ModalityStatusCountView() {
+                    public ModalityProcessStatus getStatus() { return entry.getKey(); }
+                    public Long getTotal() { return entry.getValue(); }
+                })
+                .toList();
+    }
+
+    private List<ModalityTypeCountView> typeCounts() {
+        return countBy((StudentModality m) -> m.getProgramDegreeModality().getDegreeModality().getName())
+                .entrySet().stream()
+                .map(entry -> (ModalityTypeCountView) new ModalityTypeCountView() {
+                    public String getModalityName() { return entry.getKey(); }
+                    public Long getTotal() { return entry.getValue(); }
+                })
+                .toList();
+    }
+
+    private <K> Map<K, Long> countBy(Function<StudentModality, K> classifier) {
+        return modalities.stream().collect(Collectors.groupingBy(classifier, Collectors.counting()));
+    }
+
+    private static User user(Long id, String name, String lastName, String email) {
+        return User.builder()
+                .id(id)
+                .name(name)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.SIGMA.USCO.benchmark;
+
+import com.SIGMA.USCO.report.dto.CompletedModalitiesReportDTO;
+import com.SIGMA.USCO.report.dto.DefenseCalendarReportDTO;
+import com.SIGMA.USCO.report.dto.DirectorAssignedModalitiesReportDTO;
+import com.SIGMA.USCO.report.dto.GlobalModalityReportDTO;
+import com.SIGMA.USCO.report.dto.StudentListingReportDTO;
+import com.SIGMA.USCO.report.service.DefenseCalendarReportService;
+import com.SIGMA.USCO.report.service.ReportResultCache;
+import com.SIGMA.USCO.report.service.ReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de armar los DTO de reportes en ReportService y DefenseCalendarReportService
+ * (agrupaciones, estadísticas y detalle por estudiante) sobre datos en memoria.
+ *
+ * El reporte global pasa por la caché de resultados; se vacía antes de cada invocación
+ * para medir la generación y no el acierto en caché.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportGenerationBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int modalities;
+
+    private ReportResultCache reportResultCache;
+    private ReportService activeReportService;
+    private ReportService completedReportService;
+    private ReportService mixedReportService;
+    private DefenseCalendarReportService defenseCalendarReportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ReportFixtures.authenticateProgramHead();
+
+        reportResultCache = new ReportResultCache(500, 10);
+        activeReportService = ReportFixtures.create(modalities, ReportFixtures.ACTIVE_STATUSES)
+                .reportService(reportResultCache);
+        completedReportService = ReportFixtures.create(modalities, ReportFixtures.COMPLETED_STATUSES)
+                .reportService(reportResultCache);
+
+        ReportFixtures mixed = ReportFixtures.create(modalities, ReportFixtures.MIXED_STATUSES);
+        mixedReportService = mixed.reportService(reportResultCache);
+        defenseCalendarReportService = mixed.defenseCalendarReportService();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        reportResultCache.evictAll();
+    }
+
+    @Benchmark
+    public GlobalModalityReportDTO globalReport() {
+        return activeReportService.generateGlobalReport();
+    }
+
+    @Benchmark
+    public StudentListingReportDTO studentListingReport() {
+        return mixedReportService.generateStudentListingReport(null);
+    }
+
+    @Benchmark
+    public CompletedModalitiesReportDTO completedModalitiesReport() {
+        return completedReportService.generateCompletedModalitiesReport(null);
+    }
+
+    @Benchmark
+    public DirectorAssignedModalitiesReportDTO directorAssignedModalitiesReport() {
+        return mixedReportService.generateDirectorAssignedModalitiesReport(null);
+    }
+
+    @Benchmark
+    public DefenseCalendarReportDTO defenseCalendarReport() {
+        return defenseCalendarReportService.generateDefenseCalendarReport(null, null, true);
+    }
+}
@@ -0,0 +1,225 @@
+package com.SIGMA.USCO.benchmark;
+
+import com.SIGMA.USCO.Modalities.Entity.DegreeModality;
+import com.SIGMA.USCO.Modalities.Entity.Seminar;
+import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityType;
+import com.SIGMA.USCO.Modalities.Entity.enums.SeminarStatus;
+import com.SIGMA.USCO.Modalities.service.ModalityService;
+import com.SIGMA.USCO.SigmaApplication;
+import com.SIGMA.USCO.Users.Entity.Role;
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.Entity.enums.Status;
+import com.SIGMA.USCO.academic.entity.AcademicProgram;
+import com.SIGMA.USCO.academic.entity.Faculty;
+import com.SIGMA.USCO.academic.entity.ProgramDegreeModality;
+import com.SIGMA.USCO.academic.entity.StudentProfile;
+import com.SIGMA.USCO.security.JwtService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prueba de carga de la inscripción a seminarios: cada invocación lanza a la vez una
+ * inscripción por estudiante contra un seminario con menos cupos que estudiantes, a través
+ * de {@link ModalityService#enrollInSeminar} y con la aplicación completa sobre H2.
+ *
+ * Mide cuánto tarda en resolverse la avalancha de inscripciones y, al terminar cada una,
+ * verifica que el seminario quedó exactamente lleno: tantas inscripciones exitosas, filas en
+ * seminar_students y participantes como cupos. Si se sobrepasa el cupo, el benchmark falla.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SeminarEnrollmentBenchmark {
+
+    @Param({"500"})
+    public int students;
+
+    @Param({"100"})
+    public int seats;
+
+    /** Solicitudes en curso al mismo tiempo, como los hilos del servidor web */
+    @Param({"64"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private ModalityService modalityService;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService executor;
+    private Long seminarId;
+    private List<JwtAuthenticationToken> authentications;
+    private int enrolled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Argumentos de línea de comandos para que tengan prioridad sobre el perfil activo por defecto
+        context = new SpringApplicationBuilder(SigmaApplication.class).run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:seminar-enrollment;LOCK_TIMEOUT=30000",
+                "--spring.datasource.hikari.maximum-pool-size=" + Math.min(concurrency, 20),
+                "--jwt.secret=" + Base64.getEncoder().encodeToString(new byte[32]),
+                "--file.upload-dir=target/benchmark-uploads",
+                "--logging.level.root=WARN",
+                "--logging.level.com.SIGMA=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.hibernate=WARN");
+        modalityService = context.getBean(ModalityService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        executor = Executors.newFixedThreadPool(concurrency);
+
+        authentications = new ArrayList<>(students);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> seed(context.getBean(EntityManager.class)));
+    }
+
+    @Setup(Level.Invocation)
+    public void resetSeminar() {
+        jdbcTemplate.update("DELETE FROM seminar_students WHERE seminar_id = ?", seminarId);
+        jdbcTemplate.update("UPDATE seminars SET current_participants = 0 WHERE id = ?", seminarId);
+    }
+
+    @Benchmark
+    public int enrollmentRush() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>(authentications.size());
+        for (JwtAuthenticationToken authentication : authentications) {
+            results.add(executor.submit(() -> {
+                start.await();
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                try {
+                    return modalityService.enrollInSeminar(seminarId).getStatusCode() == HttpStatus.CREATED;
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+
+        start.countDown();
+        int successes = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                successes++;
+            }
+        }
+        enrolled = successes;
+        return successes;
+    }
+
+    @TearDown(Level.Invocation)
+    public void verifySeats() {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM seminar_students WHERE seminar_id = ?", Integer.class, seminarId);
+        Integer participants = jdbcTemplate.queryForObject(
+                "SELECT current_participants FROM seminars WHERE id = ?", Integer.class, seminarId);
+        int expected = Math.min(seats, students);
+        if (enrolled != expected || rows == null || rows != expected || participants == null || participants != expected) {
+            throw new IllegalStateException("Cupos inconsistentes: esperados " + expected + ", inscripciones exitosas "
+                    + enrolled + ", filas en seminar_students " + rows + ", participantes " + participants);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    private void seed(EntityManager entityManager) {
+        Role studentRole = entityManager.createQuery("SELECT r FROM Role r WHERE r.name = 'STUDENT'", Role.class)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role role = Role.builder().name("STUDENT").permissions(new HashSet<>()).build();
+                    entityManager.persist(role);
+                    return role;
+                });
+
+        Faculty faculty = Faculty.builder().name("Facultad de Ingeniería").code("FING").active(true).build();
+        entityManager.persist(faculty);
+        AcademicProgram program = AcademicProgram.builder()
+                .name("Ingeniería de Software").code("ISOF").totalCredits(160L).faculty(faculty).active(true).build();
+        entityManager.persist(program);
+        DegreeModality degreeModality = DegreeModality.builder().name("SEMINARIO DE GRADO").faculty(faculty).build();
+        entityManager.persist(degreeModality);
+        ProgramDegreeModality programDegreeModality = ProgramDegreeModality.builder()
+                .academicProgram(program).degreeModality(degreeModality).build();
+        entityManager.persist(programDegreeModality);
+
+        Seminar seminar = Seminar.builder()
+                .academicProgram(program)
+                .name("Seminario de Arquitectura de Software")
+                .totalCost(new BigDecimal("1500000.00"))
+                .minParticipants(1)
+                .maxParticipants(seats)
+                .status(SeminarStatus.OPEN)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(seminar);
+        seminarId = seminar.getId();
+
+        for (int i = 0; i < students; i++) {
+            User student = User.builder()
+                    .name("Estudiante " + i).lastName("Benchmark").email("estudiante" + i + "@usco.edu.co")
+                    .password("x").status(Status.ACTIVE).roles(new HashSet<>(Set.of(studentRole)))
+                    .creationDate(LocalDateTime.now())
+                    .build();
+            entityManager.persist(student);
+            entityManager.persist(StudentProfile.builder()
+                    .user(student).academicProgram(program).faculty(faculty).semester(9L).build());
+            entityManager.persist(StudentModality.builder()
+                    .modalityType(ModalityType.INDIVIDUAL)
+                    .leader(student)
+                    .academicProgram(program)
+                    .programDegreeModality(programDegreeModality)
+                    .status(ModalityProcessStatus.MODALITY_SELECTED)
+                    .selectionDate(LocalDateTime.now())
+                    .build());
+
+            Jwt jwt = Jwt.withTokenValue("benchmark-" + i)
+                    .header("alg", "none")
+                    .subject(student.getEmail())
+                    .claim(JwtService.USER_ID_CLAIM, student.getId())
+                    .build();
+            authentications.add(new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_STUDENT"))));
+        }
+    }
+}
@@ -291,32 +291,40 @@ public class ModalityController {
     @PreAuthorize("hasAuthority('PERM_VIEW_ALL_MODALITIES')")
     public ResponseEntity<?> listAllModalitiesForProgramHead(@RequestParam(required = false)
                                                              List<ModalityProcessStatus> statuses, @RequestParam(required = false)
-                                                             String name) {
-        return modalityService.getAllStudentModalitiesForProgramHead(statuses, name);
+                                                             String name,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String cursor) {
+        return modalityService.getAllStudentModalitiesForProgramHead(statuses, name, size, cursor);
     }
 
     @GetMapping("/students/committee")
     @PreAuthorize("hasAuthority('PERM_VIEW_ALL_MODALITIES')")
     public ResponseEntity<?> listAllModalitiesForCommittee(@RequestParam(required = false)
                                                            List<ModalityProcessStatus> statuses, @RequestParam(required = false)
-                                                           String name) {
-        return modalityService.getAllStudentModalitiesForProgramCurriculumCommittee(statuses, name);
+                                                           String name,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String cursor) {
+        return modalityService.getAllStudentModalitiesForProgramCurriculumCommittee(statuses, name, size, cursor);
     }
 
     @GetMapping("/students/director")
     @PreAuthorize("hasAuthority('PERM_VIEW_MODALITY')")
     public ResponseEntity<?> listAllModalitiesForProjectDirector(@RequestParam(required = false)
                                                                  List<ModalityProcessStatus> statuses,
-                                                                 @RequestParam(required = false) String name) {
-        return modalityService.getAllStudentModalitiesForProjectDirector(statuses, name);
+                                                                 @RequestParam(required = false) String name,
+                                                                 @RequestParam(required = false) Integer size,
+                                                                 @RequestParam(required = false) String cursor) {
+        return modalityService.getAllStudentModalitiesForProjectDirector(statuses, name, size, cursor);
     }
 
     @GetMapping("/students/examiner")
     @PreAuthorize("hasAuthority('PERM_VIEW_EXAMINER_MODALITIES')")
     public ResponseEntity<?> listAllModalitiesForExaminer(@RequestParam(required = false)
                                                           List<ModalityProcessStatus> statuses,
-                                                          @RequestParam(required = false) String name) {
-        return modalityService.getAllStudentModalitiesForExaminer(statuses, name);
+                                                          @RequestParam(required = false) String name,
+                                                          @RequestParam(required = false) Integer size,
+                                                          @RequestParam(required = false) String cursor) {
+        return modalityService.getAllStudentModalitiesForExaminer(statuses, name, size, cursor);
     }
 
     @GetMapping("/students/{studentModalityId}")
@@ -579,8 +587,8 @@ public class ModalityController {
 
     @GetMapping("/seminar/available")
     @PreAuthorize("hasRole('ROLE_STUDENT')")
-    public ResponseEntity<?> listActiveSeminarsWithSeats() {
-        return modalityService.listActiveSeminarsWithSeats();
+    public ResponseEntity<?> listActiveSeminarsWithSeats(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return modalityService.listActiveSeminarsWithSeats(ifNoneMatch);
     }
 
 
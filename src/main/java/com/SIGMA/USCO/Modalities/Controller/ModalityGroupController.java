@@ -41,8 +41,10 @@ public class ModalityGroupController {
     @ApiResponse(responseCode = "200", description = "Lista de estudiantes elegibles obtenida")
     @GetMapping("/eligible-students")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<?> getEligibleStudents(@Parameter(description = "Filtro por nombre de estudiante (opcional)") @RequestParam(required = false) String nameFilter) {
-        return modalityGroupService.getEligibleStudentsForInvitation(nameFilter);
+    public ResponseEntity<?> getEligibleStudents(@Parameter(description = "Filtro por nombre de estudiante (opcional)") @RequestParam(required = false) String nameFilter,
+                                                 @Parameter(description = "Cantidad de estudiantes por página (máximo 50)") @RequestParam(required = false) Integer size,
+                                                 @Parameter(description = "Cursor de la página siguiente (encabezado X-Next-Cursor)") @RequestParam(required = false) String cursor) {
+        return modalityGroupService.getEligibleStudentsForInvitation(nameFilter, size, cursor);
     }
 
     @Operation(summary = "Invitar estudiante", description = "El estudiante invita a otro estudiante para que se una a su modalidad grupal")
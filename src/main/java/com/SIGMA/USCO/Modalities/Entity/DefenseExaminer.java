@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "defense_examiners")
+@Table(name = "defense_examiners",
+        indexes = @Index(name = "idx_defense_examiners_examiner_modality", columnList = "examiner_id, student_modality_id"))
 public class DefenseExaminer {
 
     @Id
@@ -2,6 +2,7 @@ package com.SIGMA.USCO.Modalities.Entity;
 
 import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
 import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.report.listeners.ModalityStatusHistoryEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
 @Entity
 @Data
 @Table(name = "modality_process_status_history")
+@EntityListeners(ModalityStatusHistoryEntityListener.class)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +22,12 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "student_modalities")
+@Table(name = "student_modalities",
+        indexes = {
+                @Index(name = "idx_student_modalities_program_updated", columnList = "academic_program_id, updated_at, id"),
+                @Index(name = "idx_student_modalities_director_updated", columnList = "project_director_id, updated_at, id"),
+                @Index(name = "idx_student_modalities_leader", columnList = "leader_id")
+        })
 public class StudentModality {
 
     @Id
@@ -63,6 +68,9 @@ public class StudentModality {
     private ModalityProcessStatus status;
 
     private LocalDateTime selectionDate;
+
+    /** Nunca nulo: los listados se paginan por (updatedAt, id) */
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
 
@@ -104,4 +112,11 @@ public class StudentModality {
     @Column(length = 500)
     private String modalityTitle;
 
+    @PrePersist
+    void defaultUpdatedAt() {
+        if (updatedAt == null) {
+            updatedAt = selectionDate != null ? selectionDate : LocalDateTime.now();
+        }
+    }
+
 }
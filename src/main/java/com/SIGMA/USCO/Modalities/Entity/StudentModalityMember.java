@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "student_modality_members")
+@Table(name = "student_modality_members",
+        indexes = @Index(name = "idx_student_modality_members_student", columnList = "student_id"))
 public class StudentModalityMember {
 
     @Id
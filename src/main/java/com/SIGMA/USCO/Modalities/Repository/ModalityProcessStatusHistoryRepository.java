@@ -17,4 +17,6 @@ public interface ModalityProcessStatusHistoryRepository extends JpaRepository<Mo
     Arrays findByStudentModalityIdOrderByChangeDateDesc(Long id);
 
     Optional<ModalityProcessStatusHistory> findTopByStudentModalityAndStatusOrderByChangeDateDesc(StudentModality studentModality, ModalityProcessStatus status);
+
+    Optional<ModalityProcessStatusHistory> findTopByStudentModalityIdAndIdLessThanOrderByIdDesc(Long studentModalityId, Long id);
 }
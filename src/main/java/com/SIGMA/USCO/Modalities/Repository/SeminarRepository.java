@@ -6,18 +6,27 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SeminarRepository extends JpaRepository<Seminar, Long> {
 
     List<Seminar> findByAcademicProgramId(Long academicProgramId);
 
-    @Query("SELECT s FROM Seminar s WHERE s.active = true AND s.currentParticipants < s.maxParticipants AND s.academicProgram.id = :programId")
-    List<Seminar> findActiveWithAvailableSeatsByProgram(@Param("programId") Long programId);
-
     @Query("SELECT s FROM Seminar s WHERE s.active = true AND s.currentParticipants < s.maxParticipants")
     List<Seminar> findAllActiveWithAvailableSeats();
 
+    @Query("""
+        SELECT s FROM Seminar s
+        JOIN FETCH s.academicProgram ap
+        JOIN FETCH ap.faculty
+        WHERE s.active = true
+        AND s.currentParticipants < s.maxParticipants
+        AND ap.id = :programId
+        ORDER BY s.id
+        """)
+    List<Seminar> findActiveWithAvailableSeatsByProgramFetchingProgram(@Param("programId") Long programId);
+
     @Query(value = "SELECT CASE WHEN COUNT(*) > 0 THEN 1 ELSE 0 END FROM seminar_students WHERE seminar_id = :seminarId AND student_id = :studentId", nativeQuery = true)
     Integer isStudentEnrolledNative(@Param("seminarId") Long seminarId, @Param("studentId") Long studentId);
 
@@ -30,6 +39,28 @@ public interface SeminarRepository extends JpaRepository<Seminar, Long> {
     @Query(value = "INSERT INTO seminar_students (seminar_id, student_id) VALUES (:seminarId, :studentId)", nativeQuery = true)
     void enrollStudent(@Param("seminarId") Long seminarId, @Param("studentId") Long studentId);
 
+    /**
+     * Reserva un cupo si el seminario está activo, abierto y no ha llegado al máximo de
+     * participantes. La condición y el incremento van en la misma sentencia: la fila queda
+     * bloqueada hasta el fin de la transacción, así que las inscripciones simultáneas se
+     * ordenan y nunca superan el cupo.
+     *
+     * @return 1 si se reservó el cupo, 0 si no había cupo o el seminario ya no admite inscripciones
+     */
+    @Modifying
+    @Query("""
+        UPDATE Seminar s
+        SET s.currentParticipants = s.currentParticipants + 1, s.updatedAt = :now
+        WHERE s.id = :seminarId
+        AND s.active = true
+        AND s.status = com.SIGMA.USCO.Modalities.Entity.enums.SeminarStatus.OPEN
+        AND s.currentParticipants < s.maxParticipants
+        """)
+    int reserveSeat(@Param("seminarId") Long seminarId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.currentParticipants FROM Seminar s WHERE s.id = :seminarId")
+    Integer findCurrentParticipants(@Param("seminarId") Long seminarId);
+
     @Query(value = """
         SELECT sp.* FROM student_profiles sp
         WHERE sp.user_id IN (
@@ -38,6 +69,25 @@ public interface SeminarRepository extends JpaRepository<Seminar, Long> {
     """, nativeQuery = true)
     List<com.SIGMA.USCO.academic.entity.StudentProfile> findEnrolledStudentsBySeminarId(@Param("seminarId") Long seminarId);
 
+    /**
+     * IDs de los estudiantes inscritos; el ID del perfil de estudiante es el del usuario
+     */
+    @Query(value = "SELECT ss.student_id FROM seminar_students ss WHERE ss.seminar_id = :seminarId ORDER BY ss.student_id",
+            nativeQuery = true)
+    List<Long> findEnrolledStudentIds(@Param("seminarId") Long seminarId);
+
+    /**
+     * IDs de los estudiantes inscritos que tienen correo, destinatarios de los avisos del seminario
+     */
+    @Query(value = """
+        SELECT u.id FROM seminar_students ss
+        JOIN users u ON u.id = ss.student_id
+        WHERE ss.seminar_id = :seminarId
+        AND u.email IS NOT NULL
+        ORDER BY u.id
+    """, nativeQuery = true)
+    List<Long> findEnrolledRecipientIds(@Param("seminarId") Long seminarId);
+
     List<Seminar> findByAcademicProgramIdOrderByCreatedAtDesc(Long academicProgramId);
 
     List<Seminar> findByAcademicProgramIdAndStatusOrderByCreatedAtDesc(Long academicProgramId, com.SIGMA.USCO.Modalities.Entity.enums.SeminarStatus status);
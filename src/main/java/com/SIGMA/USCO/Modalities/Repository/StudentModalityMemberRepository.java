@@ -3,11 +3,18 @@ package com.SIGMA.USCO.Modalities.Repository;
 import com.SIGMA.USCO.Modalities.Entity.StudentModality;
 import com.SIGMA.USCO.Modalities.Entity.StudentModalityMember;
 import com.SIGMA.USCO.Modalities.Entity.enums.MemberStatus;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityMemberCountView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityMemberView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityStudentAggregateView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityTypeCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -162,5 +169,95 @@ public interface StudentModalityMemberRepository extends JpaRepository<StudentMo
         ORDER BY m.studentModality.updatedAt DESC
         """)
     List<StudentModality> findActiveModalitiesByUserId(@Param("studentId") Long studentId);
-}
 
+    /**
+     * Obtiene en una sola consulta los miembros activos de varias modalidades
+     * @param modalityIds IDs de las modalidades
+     * @return Nombre, apellido y correo de cada miembro activo, con el ID de su modalidad
+     */
+    @Query("""
+        SELECT m.studentModality.id AS studentModalityId,
+               s.name AS name, s.lastName AS lastName, s.email AS email
+        FROM StudentModalityMember m
+        JOIN m.student s
+        WHERE m.studentModality.id IN :modalityIds
+        AND m.status = 'ACTIVE'
+        ORDER BY m.id ASC
+        """)
+    List<ModalityMemberView> findActiveMemberViewsByModalityIds(@Param("modalityIds") Collection<Long> modalityIds);
+
+    /**
+     * Calcula los estudiantes activos de las modalidades de un programa en los estados indicados
+     * @param programId ID del programa académico
+     * @param statuses Estados de la modalidad a considerar
+     * @return Estudiantes únicos y miembros de modalidades grupales
+     */
+    @Query("""
+        SELECT COUNT(DISTINCT m.student.id) AS totalStudents,
+               COALESCE(SUM(CASE WHEN sm.modalityType = 'GROUP' THEN 1 ELSE 0 END), 0) AS groupMembers
+        FROM StudentModalityMember m
+        JOIN m.studentModality sm
+        WHERE sm.academicProgram.id = :programId
+        AND sm.status IN :statuses
+        AND m.status = 'ACTIVE'
+        """)
+    ModalityStudentAggregateView aggregateActiveStudentsByProgram(
+            @Param("programId") Long programId,
+            @Param("statuses") Collection<ModalityProcessStatus> statuses
+    );
+
+    /**
+     * Obtiene los IDs de los estudiantes activos únicos de un conjunto de modalidades
+     * @param modalityIds IDs de las modalidades (un lote acotado)
+     * @return IDs de estudiantes distintos
+     */
+    @Query("""
+        SELECT DISTINCT m.student.id FROM StudentModalityMember m
+        WHERE m.studentModality.id IN :modalityIds
+        AND m.status = 'ACTIVE'
+        """)
+    List<Long> findDistinctActiveStudentIdsByModalityIds(@Param("modalityIds") Collection<Long> modalityIds);
+
+    /**
+     * Cuenta en una sola consulta los miembros activos de cada modalidad
+     * @param modalityIds IDs de las modalidades (un lote acotado)
+     * @return Cantidad de miembros activos por ID de modalidad
+     */
+    @Query("""
+        SELECT m.studentModality.id AS studentModalityId, COUNT(m) AS total
+        FROM StudentModalityMember m
+        WHERE m.studentModality.id IN :modalityIds
+        AND m.status = 'ACTIVE'
+        GROUP BY m.studentModality.id
+        """)
+    List<ModalityMemberCountView> countActiveMembersByModalityIds(@Param("modalityIds") Collection<Long> modalityIds);
+
+    /**
+     * Cuenta los estudiantes activos únicos por tipo de modalidad de grado, para las
+     * modalidades de un programa seleccionadas en un rango de fechas
+     * @param programId ID del programa académico
+     * @param statuses Estados de la modalidad a considerar
+     * @param from Inicio del rango de selección (inclusivo)
+     * @param to Fin del rango de selección (exclusivo)
+     * @return Estudiantes únicos por nombre de la modalidad de grado
+     */
+    @Query("""
+        SELECT dm.name AS modalityName, COUNT(DISTINCT m.student.id) AS total
+        FROM StudentModalityMember m
+        JOIN m.studentModality sm
+        JOIN sm.programDegreeModality pdm
+        JOIN pdm.degreeModality dm
+        WHERE sm.academicProgram.id = :programId
+        AND sm.status IN :statuses
+        AND sm.selectionDate >= :from
+        AND sm.selectionDate < :to
+        AND m.status = 'ACTIVE'
+        GROUP BY dm.name
+        """)
+    List<ModalityTypeCountView> countDistinctActiveStudentsByModalityType(
+            @Param("programId") Long programId,
+            @Param("statuses") Collection<ModalityProcessStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
@@ -2,15 +2,24 @@ package com.SIGMA.USCO.Modalities.Repository;
 
 import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
 import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityAggregateView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityListView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityStatusCountView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityTypeCountView;
 import com.SIGMA.USCO.Users.Entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface StudentModalityRepository extends JpaRepository<StudentModality, Long> {
+public interface StudentModalityRepository extends JpaRepository<StudentModality, Long>,
+        JpaSpecificationExecutor<StudentModality> {
 
 
     List<StudentModality> findByStatus(ModalityProcessStatus status);
@@ -33,6 +42,18 @@ public interface StudentModalityRepository extends JpaRepository<StudentModality
     // Verifica si un estudiante tiene CUALQUIER modalidad como líder (sin importar el estado)
     boolean existsByLeaderId(Long leaderId);
 
+    // Verifica si un estudiante lidera una modalidad de grado con ese nombre en alguno de los estados
+    @Query("""
+        SELECT CASE WHEN COUNT(sm) > 0 THEN true ELSE false END
+        FROM StudentModality sm
+        WHERE sm.leader.id = :leaderId
+        AND UPPER(sm.programDegreeModality.degreeModality.name) = UPPER(:modalityName)
+        AND sm.status IN :statuses
+        """)
+    boolean existsByLeaderIdAndModalityNameAndStatusIn(@Param("leaderId") Long leaderId,
+                                                       @Param("modalityName") String modalityName,
+                                                       @Param("statuses") List<ModalityProcessStatus> statuses);
+
     // Busca modalidades por líder y estado específico
     List<StudentModality> findByLeaderIdAndStatus(Long leaderId, ModalityProcessStatus status);
 
@@ -86,52 +107,6 @@ public interface StudentModalityRepository extends JpaRepository<StudentModality
     boolean existsByStudent_IdAndProgramDegreeModality_Id(Long id, Long id1);
     */
 
-    @Query("""
-SELECT sm FROM StudentModality sm
-WHERE sm.programDegreeModality.academicProgram.id IN :programIds
-AND sm.status IN :statuses
-AND (
-    LOWER(sm.leader.name) LIKE LOWER(CONCAT('%', :name, '%'))
-    OR LOWER(sm.leader.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
-)
-""")
-    List<StudentModality> findForProgramHeadWithStatusAndName(
-            List<Long> programIds,
-            List<ModalityProcessStatus> statuses,
-            String name
-    );
-
-    @Query("""
-SELECT sm FROM StudentModality sm
-WHERE sm.programDegreeModality.academicProgram.id IN :programIds
-AND sm.status IN :statuses
-""")
-    List<StudentModality> findForProgramHeadWithStatus(
-            List<Long> programIds,
-            List<ModalityProcessStatus> statuses
-    );
-
-    @Query("""
-SELECT sm FROM StudentModality sm
-WHERE sm.programDegreeModality.academicProgram.id IN :programIds
-AND (
-    LOWER(sm.leader.name) LIKE LOWER(CONCAT('%', :name, '%'))
-    OR LOWER(sm.leader.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
-)
-""")
-    List<StudentModality> findForProgramHeadWithName(
-            List<Long> programIds,
-            String name
-    );
-
-    @Query("""
-SELECT sm FROM StudentModality sm
-WHERE sm.programDegreeModality.academicProgram.id IN :programIds
-""")
-    List<StudentModality> findForProgramHead(
-            List<Long> programIds
-    );
-
 
     List<StudentModality> findByStatusAndProgramDegreeModality_AcademicProgram_IdIn(
             ModalityProcessStatus status,
@@ -139,103 +114,131 @@ WHERE sm.programDegreeModality.academicProgram.id IN :programIds
     );
 
     @Query("""
-SELECT sm FROM StudentModality sm
-WHERE sm.projectDirector.id = :directorId
-AND sm.status IN :statuses
-AND (
-    LOWER(sm.leader.name) LIKE LOWER(CONCAT('%', :name, '%'))
-    OR LOWER(sm.leader.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
-)
-""")
-    List<StudentModality> findForProjectDirectorWithStatusAndName(
-            Long directorId,
-            List<ModalityProcessStatus> statuses,
-            String name
-    );
-
-    @Query("""
-SELECT sm FROM StudentModality sm
-WHERE sm.projectDirector.id = :directorId
+SELECT DISTINCT sm FROM StudentModality sm
+JOIN DefenseExaminer de ON de.studentModality.id = sm.id
+WHERE de.examiner.id = :examinerId
 AND sm.status IN :statuses
+ORDER BY sm.updatedAt DESC
 """)
-    List<StudentModality> findForProjectDirectorWithStatus(
-            Long directorId,
+    List<StudentModality> findForExaminerWithStatus(
+            Long examinerId,
             List<ModalityProcessStatus> statuses
     );
 
+    // ==================== LISTADOS POR ROL (PROYECCIONES) ====================
+
+    /**
+     * Listado de modalidades de uno o varios programas (jefe de programa y comité).
+     * Devuelve solo las columnas que necesita el listado, sin cargar líder, programa ni director.
+     * La paginación es por llave (updatedAt, id) para que el costo no dependa de la página pedida:
+     * updatedAt &lt;= cursor acota el recorrido del índice y la segunda condición desempata por ID.
+     * No se usa la comparación de tuplas (updatedAt, id) &lt; (...) porque Hibernate no aplica
+     * LocalDateTimeConverter a sus parámetros.
+     * @param programIds IDs de los programas académicos
+     * @param statuses Estados a incluir
+     * @param name Texto a buscar en nombre o apellido del líder ("" para no filtrar)
+     * @param cursorUpdatedAt updatedAt de la última fila de la página anterior
+     * @param cursorId ID de la última fila de la página anterior
+     * @param limit Tamaño máximo de la página
+     * @return Filas del listado ordenadas por updatedAt e ID descendentes
+     */
     @Query("""
-SELECT sm FROM StudentModality sm
-WHERE sm.projectDirector.id = :directorId
+SELECT sm.id AS id, sm.status AS status, sm.updatedAt AS updatedAt, dm.name AS modalityName
+FROM StudentModality sm
+JOIN sm.programDegreeModality pdm
+JOIN pdm.degreeModality dm
+JOIN sm.leader l
+WHERE sm.academicProgram.id IN :programIds
+AND sm.status IN :statuses
 AND (
-    LOWER(sm.leader.name) LIKE LOWER(CONCAT('%', :name, '%'))
-    OR LOWER(sm.leader.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
+    LOWER(l.name) LIKE LOWER(CONCAT('%', :name, '%'))
+    OR LOWER(l.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
 )
+AND sm.updatedAt <= :cursorUpdatedAt
+AND (sm.updatedAt < :cursorUpdatedAt OR sm.id < :cursorId)
+ORDER BY sm.updatedAt DESC, sm.id DESC
 """)
-    List<StudentModality> findForProjectDirectorWithName(
-            Long directorId,
-            String name
+    List<ModalityListView> findListViewForPrograms(
+            List<Long> programIds,
+            List<ModalityProcessStatus> statuses,
+            String name,
+            LocalDateTime cursorUpdatedAt,
+            Long cursorId,
+            Limit limit
     );
 
+    /**
+     * Listado de modalidades dirigidas por un director de proyecto.
+     * @param directorId ID del director
+     * @param statuses Estados a incluir
+     * @param name Texto a buscar en nombre o apellido del líder ("" para no filtrar)
+     * @param cursorUpdatedAt updatedAt de la última fila de la página anterior
+     * @param cursorId ID de la última fila de la página anterior
+     * @param limit Tamaño máximo de la página
+     * @return Filas del listado ordenadas por updatedAt e ID descendentes
+     */
     @Query("""
-SELECT sm FROM StudentModality sm
+SELECT sm.id AS id, sm.status AS status, sm.updatedAt AS updatedAt, dm.name AS modalityName
+FROM StudentModality sm
+JOIN sm.programDegreeModality pdm
+JOIN pdm.degreeModality dm
+JOIN sm.leader l
 WHERE sm.projectDirector.id = :directorId
-""")
-    List<StudentModality> findForProjectDirector(
-            Long directorId
-    );
-
-    @Query("""
-SELECT DISTINCT sm FROM StudentModality sm
-JOIN DefenseExaminer de ON de.studentModality.id = sm.id
-WHERE de.examiner.id = :examinerId
 AND sm.status IN :statuses
 AND (
-    LOWER(sm.leader.name) LIKE LOWER(CONCAT('%', :name, '%'))
-    OR LOWER(sm.leader.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
+    LOWER(l.name) LIKE LOWER(CONCAT('%', :name, '%'))
+    OR LOWER(l.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
 )
-ORDER BY sm.updatedAt DESC
+AND sm.updatedAt <= :cursorUpdatedAt
+AND (sm.updatedAt < :cursorUpdatedAt OR sm.id < :cursorId)
+ORDER BY sm.updatedAt DESC, sm.id DESC
 """)
-    List<StudentModality> findForExaminerWithStatusAndName(
-            Long examinerId,
+    List<ModalityListView> findListViewForProjectDirector(
+            Long directorId,
             List<ModalityProcessStatus> statuses,
-            String name
+            String name,
+            LocalDateTime cursorUpdatedAt,
+            Long cursorId,
+            Limit limit
     );
 
+    /**
+     * Listado de modalidades en las que un usuario es jurado.
+     * @param examinerId ID del jurado
+     * @param statuses Estados a incluir
+     * @param name Texto a buscar en nombre o apellido del líder ("" para no filtrar)
+     * @param cursorUpdatedAt updatedAt de la última fila de la página anterior
+     * @param cursorId ID de la última fila de la página anterior
+     * @param limit Tamaño máximo de la página
+     * @return Filas del listado ordenadas por updatedAt e ID descendentes
+     */
     @Query("""
-SELECT DISTINCT sm FROM StudentModality sm
-JOIN DefenseExaminer de ON de.studentModality.id = sm.id
-WHERE de.examiner.id = :examinerId
+SELECT sm.id AS id, sm.status AS status, sm.updatedAt AS updatedAt, dm.name AS modalityName
+FROM StudentModality sm
+JOIN sm.programDegreeModality pdm
+JOIN pdm.degreeModality dm
+JOIN sm.leader l
+WHERE EXISTS (
+    SELECT 1 FROM DefenseExaminer de
+    WHERE de.studentModality.id = sm.id
+    AND de.examiner.id = :examinerId
+)
 AND sm.status IN :statuses
-ORDER BY sm.updatedAt DESC
-""")
-    List<StudentModality> findForExaminerWithStatus(
-            Long examinerId,
-            List<ModalityProcessStatus> statuses
-    );
-
-    @Query("""
-SELECT DISTINCT sm FROM StudentModality sm
-JOIN DefenseExaminer de ON de.studentModality.id = sm.id
-WHERE de.examiner.id = :examinerId
 AND (
-    LOWER(sm.leader.name) LIKE LOWER(CONCAT('%', :name, '%'))
-    OR LOWER(sm.leader.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
+    LOWER(l.name) LIKE LOWER(CONCAT('%', :name, '%'))
+    OR LOWER(l.lastName) LIKE LOWER(CONCAT('%', :name, '%'))
 )
-ORDER BY sm.updatedAt DESC
+AND sm.updatedAt <= :cursorUpdatedAt
+AND (sm.updatedAt < :cursorUpdatedAt OR sm.id < :cursorId)
+ORDER BY sm.updatedAt DESC, sm.id DESC
 """)
-    List<StudentModality> findForExaminerWithName(
+    List<ModalityListView> findListViewForExaminer(
             Long examinerId,
-            String name
-    );
-
-    @Query("""
-SELECT DISTINCT sm FROM StudentModality sm
-JOIN DefenseExaminer de ON de.studentModality.id = sm.id
-WHERE de.examiner.id = :examinerId
-ORDER BY sm.updatedAt DESC
-""")
-    List<StudentModality> findForExaminer(
-            Long examinerId
+            List<ModalityProcessStatus> statuses,
+            String name,
+            LocalDateTime cursorUpdatedAt,
+            Long cursorId,
+            Limit limit
     );
 
     // ==================== NUEVOS MÉTODOS PARA MODALIDADES GRUPALES ====================
@@ -390,4 +393,68 @@ ORDER BY sm.updatedAt DESC
         WHERE sm.academicProgram.id = :programId
         """)
     Object[] getModalityStatisticsByProgram(@Param("programId") Long programId);
+
+    /**
+     * Calcula en una sola consulta los totales de las modalidades de un programa
+     * en los estados indicados, para el resumen ejecutivo de los reportes
+     * @param programId ID del programa académico
+     * @param statuses Estados a considerar
+     * @param now Fecha de referencia para el promedio de días en proceso
+     * @return Totales de modalidades, tipo de sesión, directores y promedio de días en proceso
+     */
+    @Query("""
+        SELECT
+            COUNT(sm) AS totalModalities,
+            COALESCE(SUM(CASE WHEN sm.modalityType = 'INDIVIDUAL' THEN 1 ELSE 0 END), 0) AS individualModalities,
+            COALESCE(SUM(CASE WHEN sm.modalityType = 'GROUP' THEN 1 ELSE 0 END), 0) AS groupModalities,
+            COALESCE(SUM(CASE WHEN sm.projectDirector IS NULL THEN 1 ELSE 0 END), 0) AS modalitiesWithoutDirector,
+            COUNT(DISTINCT sm.projectDirector.id) AS totalDirectors,
+            AVG(FLOOR((:now - sm.selectionDate) BY DAY)) AS averageDaysInProcess
+        FROM StudentModality sm
+        WHERE sm.academicProgram.id = :programId
+        AND sm.status IN :statuses
+        """)
+    ModalityAggregateView aggregateByProgramAndStatuses(
+            @Param("programId") Long programId,
+            @Param("statuses") Collection<ModalityProcessStatus> statuses,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Cuenta las modalidades de un programa agrupadas por estado del proceso
+     * @param programId ID del programa académico
+     * @param statuses Estados a considerar
+     * @return Cantidad de modalidades por estado
+     */
+    @Query("""
+        SELECT sm.status AS status, COUNT(sm) AS total
+        FROM StudentModality sm
+        WHERE sm.academicProgram.id = :programId
+        AND sm.status IN :statuses
+        GROUP BY sm.status
+        """)
+    List<ModalityStatusCountView> countByProgramGroupedByStatus(
+            @Param("programId") Long programId,
+            @Param("statuses") Collection<ModalityProcessStatus> statuses
+    );
+
+    /**
+     * Cuenta las modalidades de un programa agrupadas por tipo de modalidad de grado
+     * @param programId ID del programa académico
+     * @param statuses Estados a considerar
+     * @return Cantidad de modalidades por nombre de la modalidad de grado
+     */
+    @Query("""
+        SELECT dm.name AS modalityName, COUNT(sm) AS total
+        FROM StudentModality sm
+        JOIN sm.programDegreeModality pdm
+        JOIN pdm.degreeModality dm
+        WHERE sm.academicProgram.id = :programId
+        AND sm.status IN :statuses
+        GROUP BY dm.name
+        """)
+    List<ModalityTypeCountView> countByProgramGroupedByModalityType(
+            @Param("programId") Long programId,
+            @Param("statuses") Collection<ModalityProcessStatus> statuses
+    );
 }
@@ -0,0 +1,58 @@
+package com.SIGMA.USCO.Modalities.dto;
+
+import com.SIGMA.USCO.config.PageCursor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Cursor de paginación por llave (updatedAt, id) para los listados de modalidades.
+ * Se envía al cliente como un token opaco (ver {@link PageCursor}) y el cliente lo
+ * devuelve en el parámetro "cursor" para pedir la página siguiente.
+ */
+public record ModalityListCursor(LocalDateTime updatedAt, Long id) {
+
+    /**
+     * Posición antes de la primera fila: las consultas comparan (updatedAt, id) < cursor,
+     * así la primera página usa la misma búsqueda por rango que las siguientes.
+     */
+    public static final ModalityListCursor FIRST_PAGE =
+            new ModalityListCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        if (updatedAt == null || id == null) {
+            throw new IllegalStateException("El cursor de paginación requiere updatedAt e ID de la fila");
+        }
+        return PageCursor.encode(updatedAt + SEPARATOR + id);
+    }
+
+    /**
+     * @param token Token recibido del cliente
+     * @return El cursor decodificado, o null si no se envió token
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static ModalityListCursor decode(String token) {
+
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = PageCursor.decode(token);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException(PageCursor.INVALID_CURSOR_MESSAGE);
+            }
+
+            return new ModalityListCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(PageCursor.INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
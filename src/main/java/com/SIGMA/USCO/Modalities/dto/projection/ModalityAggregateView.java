@@ -0,0 +1,21 @@
+package com.SIGMA.USCO.Modalities.dto.projection;
+
+/**
+ * Proyección con los totales agregados de las modalidades de un programa,
+ * calculados en una sola consulta para los resúmenes de los reportes.
+ */
+public interface ModalityAggregateView {
+
+    Long getTotalModalities();
+
+    Long getIndividualModalities();
+
+    Long getGroupModalities();
+
+    Long getModalitiesWithoutDirector();
+
+    Long getTotalDirectors();
+
+    Double getAverageDaysInProcess();
+
+}
@@ -0,0 +1,22 @@
+package com.SIGMA.USCO.Modalities.dto.projection;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de solo lectura usada por los listados de modalidades
+ * (jefe de programa, comité, director y jurado).
+ * Se obtiene en una sola consulta sin hidratar la entidad StudentModality.
+ */
+public interface ModalityListView {
+
+    Long getId();
+
+    ModalityProcessStatus getStatus();
+
+    LocalDateTime getUpdatedAt();
+
+    String getModalityName();
+
+}
@@ -0,0 +1,12 @@
+package com.SIGMA.USCO.Modalities.dto.projection;
+
+/**
+ * Proyección con la cantidad de miembros activos de cada modalidad.
+ */
+public interface ModalityMemberCountView {
+
+    Long getStudentModalityId();
+
+    Long getTotal();
+
+}
@@ -0,0 +1,17 @@
+package com.SIGMA.USCO.Modalities.dto.projection;
+
+/**
+ * Proyección de los miembros activos de una modalidad,
+ * cargada por lotes para varios listados a la vez.
+ */
+public interface ModalityMemberView {
+
+    Long getStudentModalityId();
+
+    String getName();
+
+    String getLastName();
+
+    String getEmail();
+
+}
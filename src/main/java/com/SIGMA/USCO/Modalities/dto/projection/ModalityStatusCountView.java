@@ -0,0 +1,14 @@
+package com.SIGMA.USCO.Modalities.dto.projection;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+
+/**
+ * Proyección con la cantidad de modalidades por estado del proceso.
+ */
+public interface ModalityStatusCountView {
+
+    ModalityProcessStatus getStatus();
+
+    Long getTotal();
+
+}
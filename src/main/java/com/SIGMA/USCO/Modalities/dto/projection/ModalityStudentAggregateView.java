@@ -0,0 +1,13 @@
+package com.SIGMA.USCO.Modalities.dto.projection;
+
+/**
+ * Proyección con los totales de estudiantes activos de un conjunto de modalidades:
+ * estudiantes únicos y miembros vinculados a modalidades grupales.
+ */
+public interface ModalityStudentAggregateView {
+
+    Long getTotalStudents();
+
+    Long getGroupMembers();
+
+}
@@ -0,0 +1,12 @@
+package com.SIGMA.USCO.Modalities.dto.projection;
+
+/**
+ * Proyección con la cantidad de modalidades por tipo de modalidad de grado.
+ */
+public interface ModalityTypeCountView {
+
+    String getModalityName();
+
+    Long getTotal();
+
+}
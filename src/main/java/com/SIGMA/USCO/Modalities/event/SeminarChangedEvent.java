@@ -0,0 +1,11 @@
+package com.SIGMA.USCO.Modalities.event;
+
+/**
+ * Evento publicado cuando cambia un seminario: creación, edición, inscripción, cierre de
+ * inscripciones, inicio, cancelación o finalización.
+ *
+ * @param seminarId ID del seminario
+ * @param academicProgramId ID del programa académico del seminario
+ */
+public record SeminarChangedEvent(Long seminarId, Long academicProgramId) {
+}
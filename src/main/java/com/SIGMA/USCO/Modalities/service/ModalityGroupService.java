@@ -15,15 +15,18 @@ import com.SIGMA.USCO.academic.entity.StudentProfile;
 import com.SIGMA.USCO.academic.repository.FacultyRepository;
 import com.SIGMA.USCO.academic.repository.ProgramDegreeModalityRepository;
 import com.SIGMA.USCO.academic.repository.StudentProfileRepository;
+import com.SIGMA.USCO.config.PageCursor;
 import com.SIGMA.USCO.documents.repository.RequiredDocumentRepository;
 import com.SIGMA.USCO.documents.repository.StudentDocumentRepository;
 import com.SIGMA.USCO.documents.repository.StudentDocumentStatusHistoryRepository;
 import com.SIGMA.USCO.notifications.event.ModalityInvitationAcceptedEvent;
 import com.SIGMA.USCO.notifications.event.ModalityInvitationRejectedEvent;
 import com.SIGMA.USCO.notifications.publisher.NotificationEventPublisher;
+import com.SIGMA.USCO.security.AuthenticatedUserResolver;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -42,6 +45,7 @@ public class ModalityGroupService {
     private final ModalityRequirementsRepository modalityRequirementsRepository;
     private final RequiredDocumentRepository requiredDocumentRepository;
     private final UserRepository userRepository;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
     private final StudentProfileRepository studentProfileRepository;
     private final StudentModalityRepository studentModalityRepository;
     private final StudentModalityMemberRepository studentModalityMemberRepository;
@@ -56,6 +60,9 @@ public class ModalityGroupService {
     private final DefenseExaminerRepository defenseExaminerRepository;
     private final ExaminerEvaluationRepository examinerEvaluationRepository;
 
+    private static final int DEFAULT_ELIGIBLE_STUDENTS_PAGE_SIZE = 20;
+    private static final int MAX_ELIGIBLE_STUDENTS_PAGE_SIZE = 50;
+
 
     @Value("${file.upload-dir}")
     private String uploadDir;
@@ -240,79 +247,45 @@ public class ModalityGroupService {
         );
     }
 
-    public ResponseEntity<?> getEligibleStudentsForInvitation(String nameFilter) {
+    /**
+     * Estudiantes que el líder puede invitar, para el buscador del diálogo de invitación.
+     * Se resuelve en una sola consulta, paginada por cursor: si hay más resultados, el cursor
+     * de la siguiente página se envía en el encabezado {@link PageCursor#NEXT_CURSOR_HEADER}.
+     */
+    public ResponseEntity<?> getEligibleStudentsForInvitation(String nameFilter, Integer size, String cursor) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User leader = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long leaderId = authenticatedUserResolver.currentUserId();
 
-        StudentProfile leaderProfile = studentProfileRepository.findByUserId(leader.getId())
+        StudentProfile leaderProfile = studentProfileRepository.findByUserId(leaderId)
                 .orElseThrow(() -> new RuntimeException("Debe completar su perfil académico antes de invitar estudiantes"));
 
-        Long leaderProgramId = leaderProfile.getAcademicProgram().getId();
-
-
-        List<StudentProfile> studentProfiles = studentProfileRepository
-                .findByAcademicProgramId(leaderProgramId);
-
-        List<EligibleStudentDTO> eligibleStudents = new ArrayList<>();
-
-        for (StudentProfile profile : studentProfiles) {
-            User student = profile.getUser();
-
-
-            if (student.getId().equals(leader.getId())) {
-                continue;
-            }
-
-
-            boolean isStudent = student.getRoles().stream()
-                    .anyMatch(role -> role.getName().equals("STUDENT"));
-
-            if (!isStudent) {
-                continue;
-            }
-
-
-            if (!"ACTIVE".equals(student.getStatus().name())) {
-                continue;
-            }
-
-
-            boolean hasAnyModalityAsLeader = studentModalityRepository
-                    .existsByLeaderId(student.getId());
-
-
-            boolean isAnyModalityMember = studentModalityMemberRepository
-                    .existsByStudentId(student.getId());
-
-
-            if (hasAnyModalityAsLeader || isAnyModalityMember) {
-                continue;
-            }
+        Long afterId;
+        try {
+            afterId = PageCursor.decodeId(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
+        int pageSize = size == null || size <= 0
+                ? DEFAULT_ELIGIBLE_STUDENTS_PAGE_SIZE
+                : Math.min(size, MAX_ELIGIBLE_STUDENTS_PAGE_SIZE);
 
-            String fullName = student.getName() + " " + student.getLastName();
-            if (nameFilter != null && !nameFilter.isBlank()) {
-                if (!fullName.toLowerCase().contains(nameFilter.toLowerCase())) {
-                    continue;
-                }
-            }
-
+        List<EligibleStudentDTO> eligibleStudents = studentProfileRepository.findEligibleForInvitation(
+                leaderProfile.getAcademicProgram().getId(),
+                leaderId,
+                User.toSearchPattern(nameFilter),
+                afterId,
+                Limit.of(pageSize + 1)
+        );
 
-            eligibleStudents.add(
-                    EligibleStudentDTO.builder()
-                            .userId(student.getId())
-                            .fullName(fullName)
-                            .academicProgramName(profile.getAcademicProgram().getName())
-                            .currentSemester(profile.getSemester())
-                            .build()
-            );
+        if (eligibleStudents.size() <= pageSize) {
+            return ResponseEntity.ok(eligibleStudents);
         }
 
-        return ResponseEntity.ok(eligibleStudents);
+        List<EligibleStudentDTO> page = eligibleStudents.subList(0, pageSize);
+        return ResponseEntity.ok()
+                .header(PageCursor.NEXT_CURSOR_HEADER, PageCursor.encodeId(page.get(pageSize - 1).getUserId()))
+                .body(page);
     }
 
 
@@ -4,13 +4,18 @@ import com.SIGMA.USCO.Modalities.Entity.*;
 import com.SIGMA.USCO.Modalities.Entity.enums.*;
 import com.SIGMA.USCO.Modalities.Repository.*;
 import com.SIGMA.USCO.Modalities.dto.*;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityListView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityMemberView;
 import com.SIGMA.USCO.Modalities.dto.response.*;
+import com.SIGMA.USCO.Modalities.event.SeminarChangedEvent;
 import com.SIGMA.USCO.Users.Entity.*;
 import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
 import com.SIGMA.USCO.Users.repository.ProgramAuthorityRepository;
 import com.SIGMA.USCO.Users.repository.UserRepository;
+import com.SIGMA.USCO.Users.service.ProgramAuthorityCache;
 import com.SIGMA.USCO.academic.entity.*;
 import com.SIGMA.USCO.academic.repository.*;
+import com.SIGMA.USCO.config.PageCursor;
 import com.SIGMA.USCO.documents.dto.*;
 import com.SIGMA.USCO.documents.entity.*;
 import com.SIGMA.USCO.documents.entity.enums.DocumentEditRequestStatus;
@@ -26,12 +31,16 @@ import com.SIGMA.USCO.notifications.listeners.ExaminerNotificationListener;
 import com.SIGMA.USCO.notifications.publisher.NotificationEventPublisher;
 import org.springframework.context.ApplicationEventPublisher;
 import com.SIGMA.USCO.notifications.repository.NotificationRepository;
+import com.SIGMA.USCO.security.AuthenticatedUserResolver;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.UrlResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -39,6 +48,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -62,6 +72,7 @@ public class ModalityService {
     private final ModalityRequirementsRepository modalityRequirementsRepository;
     private final RequiredDocumentRepository requiredDocumentRepository;
     private final UserRepository userRepository;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
     private final StudentProfileRepository studentProfileRepository;
     private final StudentModalityRepository studentModalityRepository;
     private final StudentModalityMemberRepository studentModalityMemberRepository;
@@ -72,9 +83,11 @@ public class ModalityService {
     private final FacultyRepository facultyRepository;
     private final ProgramDegreeModalityRepository programDegreeModalityRepository;
     private final ProgramAuthorityRepository programAuthorityRepository;
+    private final ProgramAuthorityCache programAuthorityCache;
     private final DefenseExaminerRepository defenseExaminerRepository;
     private final DefenseEvaluationCriteriaRepository defenseEvaluationCriteriaRepository;
     private final SeminarRepository seminarRepository;
+    private final SeminarAvailabilityCache seminarAvailabilityCache;
     private final ExaminerNotificationListener examinerNotificationListener;
     private final NotificationRepository notificationRepository;
     private final ProposalEvaluationRepository proposalEvaluationRepository;
@@ -89,6 +102,9 @@ public class ModalityService {
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    private static final int DEFAULT_MODALITY_PAGE_SIZE = 50;
+    private static final int MAX_MODALITY_PAGE_SIZE = 200;
+
 
     public DegreeModality createModality(ModalityDTO request) {
 
@@ -302,13 +318,9 @@ public class ModalityService {
 
     public ResponseEntity<List<ModalityDTO>> getAllModalities() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long userId = authenticatedUserResolver.currentUserId();
 
-        StudentProfile profile = studentProfileRepository.findByUserId(user.getId())
+        StudentProfile profile = studentProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Perfil académico no encontrado"));
 
         Long userProgramId = profile.getAcademicProgram().getId();
@@ -346,13 +358,9 @@ public class ModalityService {
             return ResponseEntity.badRequest().body("La modalidad con ID " + modalityId + " no existe.");
         }
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long userId = authenticatedUserResolver.currentUserId();
 
-        StudentProfile profile = studentProfileRepository.findByUserId(user.getId())
+        StudentProfile profile = studentProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Perfil académico no encontrado"));
 
         Long userProgramId = profile.getAcademicProgram().getId();
@@ -991,15 +999,11 @@ public class ModalityService {
 
     public ResponseEntity<?> getAvailableDocumentsForStudent() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User student = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long studentId = authenticatedUserResolver.currentUserId();
 
 
         Optional<StudentModality> studentModalityOpt = studentModalityRepository
-                .findTopByStudentIdOrderByUpdatedAtDesc(student.getId());
+                .findTopByStudentIdOrderByUpdatedAtDesc(studentId);
 
         if (studentModalityOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -1251,7 +1255,7 @@ public class ModalityService {
 
         AcademicProgram documentProgram = document.getStudentModality().getAcademicProgram();
 
-        boolean authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(reviewer.getId(), documentProgram.getId(), ProgramRole.PROGRAM_HEAD);
+        boolean authorized = programAuthorityCache.hasRole(reviewer.getId(), documentProgram.getId(), ProgramRole.PROGRAM_HEAD);
 
         if (!authorized) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -1347,7 +1351,7 @@ public class ModalityService {
         Long academicProgramId = studentModality.getAcademicProgram().getId();
 
         boolean isAuthorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache.hasRole(
                                 programHead.getId(),
                                 academicProgramId,
                                 ProgramRole.PROGRAM_HEAD
@@ -1479,8 +1483,8 @@ public class ModalityService {
         Long academicProgramId = studentModality.getAcademicProgram().getId();
 
         boolean isAuthorized =
-                programAuthorityRepository
-                        .existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache
+                        .hasRole(
                                 committeeMember.getId(),
                                 academicProgramId,
                                 ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -2882,7 +2886,7 @@ public class ModalityService {
         Long academicProgramId = studentModality.getAcademicProgram().getId();
 
         boolean isAuthorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache.hasRole(
                         examiner.getId(),
                         academicProgramId,
                         ProgramRole.EXAMINER
@@ -3063,8 +3067,8 @@ public class ModalityService {
 
 
         boolean isAuthorized =
-                programAuthorityRepository
-                        .existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache
+                        .hasRole(
                                 committeeMember.getId(),
                                 academicProgramId,
                                 ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -3776,374 +3780,236 @@ public class ModalityService {
         );
     }
 
-    public ResponseEntity<?> getAllStudentModalitiesForProgramHead(List<ModalityProcessStatus> statuses, String name) {
+    public ResponseEntity<?> getAllStudentModalitiesForProgramHead(List<ModalityProcessStatus> statuses, String name, Integer size, String cursor) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
+        ModalityListCursor pageCursor;
+        try {
+            pageCursor = ModalityListCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        Integer pageSize = resolvePageSize(size, pageCursor);
+        ModalityListCursor seek = pageCursor != null ? pageCursor : ModalityListCursor.FIRST_PAGE;
 
-        User programHead = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long programHeadId = authenticatedUserResolver.currentUserId();
 
-        List<Long> programIds = programAuthorityRepository
-                        .findByUser_Id(programHead.getId())
-                        .stream()
-                        .filter(pa -> pa.getRole() == ProgramRole.PROGRAM_HEAD)
-                        .map(pa -> pa.getAcademicProgram().getId())
-                        .toList();
+        List<Long> programIds = programAuthorityCache.programIds(programHeadId, ProgramRole.PROGRAM_HEAD);
 
         if (programIds.isEmpty()) {
             return ResponseEntity.ok(List.of());
         }
 
-        boolean hasStatusFilter = statuses != null && !statuses.isEmpty();
-        boolean hasNameFilter = name != null && !name.isBlank();
-
-        List<StudentModality> modalities;
-
-        if (hasStatusFilter && hasNameFilter) {
-
-            modalities =
-                    studentModalityRepository.findForProgramHeadWithStatusAndName(programIds, statuses, name);
-
-        } else if (hasStatusFilter) {
-
-            modalities =
-                    studentModalityRepository
-                            .findForProgramHeadWithStatus(programIds, statuses);
-
-        } else if (hasNameFilter) {
-
-            modalities =
-                    studentModalityRepository
-                            .findForProgramHeadWithName(programIds, name);
-
-        } else {
+        List<ModalityListView> rows = studentModalityRepository.findListViewForPrograms(
+                programIds,
+                statusesOrAll(statuses),
+                nameFilterOrEmpty(name),
+                seek.updatedAt(),
+                seek.id(),
+                pageSize != null ? Limit.of(pageSize + 1) : Limit.unlimited()
+        );
 
-            modalities =
-                    studentModalityRepository
-                            .findForProgramHead(programIds);
-        }
-
-        List<ModalityListDTO> response =
-                modalities.stream()
-                        .map(sm -> {
-
-                            ModalityProcessStatus status = sm.getStatus();
-
-                            boolean pending =
-                                    status == ModalityProcessStatus.MODALITY_SELECTED ||
-                                            status == ModalityProcessStatus.CORRECTIONS_REQUESTED_PROGRAM_HEAD;
-
-                            // Obtener todos los miembros activos de la modalidad
-                            List<StudentModalityMember> activeMembers =
-                                studentModalityMemberRepository.findByStudentModalityIdAndStatus(
-                                    sm.getId(),
-                                    MemberStatus.ACTIVE
-                                );
-
-                            // Concatenar nombres de los miembros (solo nombres, no apellidos)
-                            String studentNames = activeMembers.stream()
-                                    .map(member -> member.getStudent().getName() + " " + member.getStudent().getLastName())
-                                    .collect(Collectors.joining(", "));
-
-                            // Concatenar emails de los miembros
-                            String studentEmails = activeMembers.stream()
-                                    .map(member -> member.getStudent().getEmail())
-                                    .collect(Collectors.joining(", "));
-
-                            return ModalityListDTO.builder()
-                                    .studentModalityId(sm.getId())
-                                    .studentName(studentNames)
-                                    .studentEmail(studentEmails)
-                                    .modalityName(
-                                            sm.getProgramDegreeModality()
-                                                    .getDegreeModality()
-                                                    .getName()
-                                    )
-                                    .currentStatus(status.name())
-                                    .currentStatusDescription(describeModalityStatus(status))
-                                    .lastUpdatedAt(sm.getUpdatedAt())
-                                    .hasPendingActions(pending)
-                                    .build();
-                        })
-                        .sorted(Comparator.comparing(ModalityListDTO::getLastUpdatedAt).reversed())
-                        .toList();
+        Set<ModalityProcessStatus> pendingStatuses = EnumSet.of(
+                ModalityProcessStatus.MODALITY_SELECTED,
+                ModalityProcessStatus.CORRECTIONS_REQUESTED_PROGRAM_HEAD
+        );
 
-        return ResponseEntity.ok(response);
+        return buildModalityPage(rows, pendingStatuses, pageSize);
     }
 
-    public ResponseEntity<?> getAllStudentModalitiesForProgramCurriculumCommittee(List<ModalityProcessStatus> statuses, String name) {
+    public ResponseEntity<?> getAllStudentModalitiesForProgramCurriculumCommittee(List<ModalityProcessStatus> statuses, String name, Integer size, String cursor) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
+        ModalityListCursor pageCursor;
+        try {
+            pageCursor = ModalityListCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        Integer pageSize = resolvePageSize(size, pageCursor);
+        ModalityListCursor seek = pageCursor != null ? pageCursor : ModalityListCursor.FIRST_PAGE;
 
-        User committeeMember = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long committeeMemberId = authenticatedUserResolver.currentUserId();
 
-        List<Long> programIds = programAuthorityRepository
-                .findByUser_Id(committeeMember.getId())
-                .stream()
-                .filter(pa -> pa.getRole() == ProgramRole.PROGRAM_CURRICULUM_COMMITTEE)
-                .map(pa -> pa.getAcademicProgram().getId())
-                .toList();
+        List<Long> programIds = programAuthorityCache.programIds(committeeMemberId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
         if (programIds.isEmpty()) {
             return ResponseEntity.ok(List.of());
         }
 
+        List<ModalityListView> rows = studentModalityRepository.findListViewForPrograms(
+                programIds,
+                statusesOrAll(statuses),
+                nameFilterOrEmpty(name),
+                seek.updatedAt(),
+                seek.id(),
+                pageSize != null ? Limit.of(pageSize + 1) : Limit.unlimited()
+        );
 
-        List<ModalityProcessStatus> committeeRelevantStatuses = Arrays.asList(ModalityProcessStatus.values());
-
-
-        List<ModalityProcessStatus> finalStatuses;
-        if (statuses != null && !statuses.isEmpty()) {
-
-            finalStatuses = statuses.stream()
-                    .filter(committeeRelevantStatuses::contains)
-                    .toList();
+        Set<ModalityProcessStatus> pendingStatuses = EnumSet.of(
+                ModalityProcessStatus.READY_FOR_PROGRAM_CURRICULUM_COMMITTEE,
+                ModalityProcessStatus.UNDER_REVIEW_PROGRAM_CURRICULUM_COMMITTEE,
+                ModalityProcessStatus.DEFENSE_REQUESTED_BY_PROJECT_DIRECTOR
+        );
 
+        return buildModalityPage(rows, pendingStatuses, pageSize);
+    }
 
-            if (finalStatuses.isEmpty()) {
-                return ResponseEntity.ok(List.of());
-            }
-        } else {
+    public ResponseEntity<?> getAllStudentModalitiesForProjectDirector(List<ModalityProcessStatus> statuses, String name, Integer size, String cursor) {
 
-            finalStatuses = committeeRelevantStatuses;
+        ModalityListCursor pageCursor;
+        try {
+            pageCursor = ModalityListCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
+        Integer pageSize = resolvePageSize(size, pageCursor);
+        ModalityListCursor seek = pageCursor != null ? pageCursor : ModalityListCursor.FIRST_PAGE;
 
-        boolean hasNameFilter = name != null && !name.isBlank();
+        Long projectDirectorId = authenticatedUserResolver.currentUserId();
 
-        List<StudentModality> modalities;
 
-        if (hasNameFilter) {
-            modalities = studentModalityRepository
-                    .findForProgramHeadWithStatusAndName(programIds, finalStatuses, name);
-        } else {
-            modalities = studentModalityRepository
-                    .findForProgramHeadWithStatus(programIds, finalStatuses);
-        }
-
-        List<ModalityListDTO> response =
-                modalities.stream()
-                        .map(sm -> {
-
-                            ModalityProcessStatus status = sm.getStatus();
-
-                            boolean pending =
-                                    status == ModalityProcessStatus.READY_FOR_PROGRAM_CURRICULUM_COMMITTEE ||
-                                            status == ModalityProcessStatus.UNDER_REVIEW_PROGRAM_CURRICULUM_COMMITTEE ||
-                                            status == ModalityProcessStatus.DEFENSE_REQUESTED_BY_PROJECT_DIRECTOR;
-
-                            // Obtener todos los miembros activos de la modalidad
-                            List<StudentModalityMember> activeMembers =
-                                    studentModalityMemberRepository.findByStudentModalityIdAndStatus(
-                                            sm.getId(),
-                                            MemberStatus.ACTIVE
-                                    );
-
-                            // Concatenar nombres de los miembros (solo nombres, no apellidos)
-                            String studentNames = activeMembers.stream()
-                                    .map(member -> member.getStudent().getName() + " " + member.getStudent().getLastName())
-                                    .collect(Collectors.joining(", "));
-
-                            // Concatenar emails de los miembros
-                            String studentEmails = activeMembers.stream()
-                                    .map(member -> member.getStudent().getEmail())
-                                    .collect(Collectors.joining(", "));
-
-                            return ModalityListDTO.builder()
-                                    .studentModalityId(sm.getId())
-                                    .studentName(studentNames)
-                                    .studentEmail(studentEmails)
-                                    .modalityName(
-                                            sm.getProgramDegreeModality()
-                                                    .getDegreeModality()
-                                                    .getName()
-                                    )
-                                    .currentStatus(status.name())
-                                    .currentStatusDescription(describeModalityStatus(status))
-                                    .lastUpdatedAt(sm.getUpdatedAt())
-                                    .hasPendingActions(pending)
-                                    .build();
-                        })
-                        .sorted(Comparator.comparing(ModalityListDTO::getLastUpdatedAt).reversed())
-                        .toList();
+        if (programAuthorityCache.programIds(projectDirectorId, ProgramRole.PROJECT_DIRECTOR).isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("El usuario no tiene el rol de PROJECT_DIRECTOR");
+        }
 
+        List<ModalityListView> rows = studentModalityRepository.findListViewForProjectDirector(
+                projectDirectorId,
+                statusesOrAll(statuses),
+                nameFilterOrEmpty(name),
+                seek.updatedAt(),
+                seek.id(),
+                pageSize != null ? Limit.of(pageSize + 1) : Limit.unlimited()
+        );
 
+        Set<ModalityProcessStatus> pendingStatuses = EnumSet.of(
+                ModalityProcessStatus.PROPOSAL_APPROVED,
+                ModalityProcessStatus.CANCELLATION_REQUESTED
+        );
 
-        return ResponseEntity.ok(response);
+        return buildModalityPage(rows, pendingStatuses, pageSize);
     }
 
-    public ResponseEntity<?> getAllStudentModalitiesForProjectDirector(List<ModalityProcessStatus> statuses, String name) {
+    public ResponseEntity<?> getAllStudentModalitiesForExaminer(List<ModalityProcessStatus> statuses, String name, Integer size, String cursor) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
+        ModalityListCursor pageCursor;
+        try {
+            pageCursor = ModalityListCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        Integer pageSize = resolvePageSize(size, pageCursor);
+        ModalityListCursor seek = pageCursor != null ? pageCursor : ModalityListCursor.FIRST_PAGE;
 
-        User projectDirector = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long examinerId = authenticatedUserResolver.currentUserId();
 
+        List<ModalityListView> rows = studentModalityRepository.findListViewForExaminer(
+                examinerId,
+                statusesOrAll(statuses),
+                nameFilterOrEmpty(name),
+                seek.updatedAt(),
+                seek.id(),
+                pageSize != null ? Limit.of(pageSize + 1) : Limit.unlimited()
+        );
 
-        List<ProgramAuthority> directorAuthorities = programAuthorityRepository
-                .findByUser_Id(projectDirector.getId())
-                .stream()
-                .filter(pa -> pa.getRole() == ProgramRole.PROJECT_DIRECTOR)
-                .toList();
+        Set<ModalityProcessStatus> pendingStatuses = EnumSet.of(
+                ModalityProcessStatus.DEFENSE_SCHEDULED
+        );
 
-        if (directorAuthorities.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                    .body("El usuario no tiene el rol de PROJECT_DIRECTOR");
-        }
+        return buildModalityPage(rows, pendingStatuses, pageSize);
+    }
 
-        boolean hasStatusFilter = statuses != null && !statuses.isEmpty();
-        boolean hasNameFilter = name != null && !name.isBlank();
+    /**
+     * Arma una página del listado de modalidades a partir de las filas proyectadas.
+     * Las filas llegan ordenadas desde la consulta y, si se pidió una página, con una fila
+     * extra que solo indica si hay más resultados; en ese caso el token de la página
+     * siguiente va en el encabezado PageCursor.NEXT_CURSOR_HEADER. Sin página se devuelven todas.
+     * Los miembros activos de todas las modalidades se cargan con una sola consulta
+     * en lugar de una consulta por modalidad.
+     */
+    private ResponseEntity<List<ModalityListDTO>> buildModalityPage(List<ModalityListView> rows,
+                                                                    Set<ModalityProcessStatus> pendingStatuses,
+                                                                    Integer pageSize) {
 
-        List<StudentModality> modalities;
+        boolean hasMore = pageSize != null && rows.size() > pageSize;
+        List<ModalityListView> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
 
-        if (hasStatusFilter && hasNameFilter) {
-            modalities = studentModalityRepository
-                    .findForProjectDirectorWithStatusAndName(projectDirector.getId(), statuses, name);
-        } else if (hasStatusFilter) {
-            modalities = studentModalityRepository
-                    .findForProjectDirectorWithStatus(projectDirector.getId(), statuses);
-        } else if (hasNameFilter) {
-            modalities = studentModalityRepository
-                    .findForProjectDirectorWithName(projectDirector.getId(), name);
-        } else {
-            modalities = studentModalityRepository
-                    .findForProjectDirector(projectDirector.getId());
+        if (pageRows.isEmpty()) {
+            return ResponseEntity.ok(List.of());
         }
 
-        List<ModalityListDTO> response = modalities.stream()
-                .map(sm -> {
-                    ModalityProcessStatus status = sm.getStatus();
+        List<Long> modalityIds = pageRows.stream().map(ModalityListView::getId).toList();
 
+        Map<Long, List<ModalityMemberView>> membersByModality = new HashMap<>();
+        studentModalityMemberRepository.findActiveMemberViewsByModalityIds(modalityIds)
+                .forEach(member -> membersByModality
+                        .computeIfAbsent(member.getStudentModalityId(), id -> new ArrayList<>())
+                        .add(member));
 
-                    boolean pending =
-                            status == ModalityProcessStatus.PROPOSAL_APPROVED ||
-                            status == ModalityProcessStatus.CANCELLATION_REQUESTED;
+        List<ModalityListDTO> response = pageRows.stream()
+                .map(row -> {
 
+                    List<ModalityMemberView> activeMembers =
+                            membersByModality.getOrDefault(row.getId(), List.of());
 
-                    // Obtener todos los miembros activos de la modalidad
-                    List<StudentModalityMember> activeMembers =
-                            studentModalityMemberRepository.findByStudentModalityIdAndStatus(
-                                    sm.getId(),
-                                    MemberStatus.ACTIVE
-                            );
-
-                    // Concatenar nombres de los miembros (solo nombres, no apellidos)
                     String studentNames = activeMembers.stream()
-                            .map(member -> member.getStudent().getName() + " " + member.getStudent().getLastName())
+                            .map(member -> member.getName() + " " + member.getLastName())
                             .collect(Collectors.joining(", "));
 
-                    // Concatenar emails de los miembros
                     String studentEmails = activeMembers.stream()
-                            .map(member -> member.getStudent().getEmail())
+                            .map(ModalityMemberView::getEmail)
                             .collect(Collectors.joining(", "));
 
-
                     return ModalityListDTO.builder()
-                            .studentModalityId(sm.getId())
+                            .studentModalityId(row.getId())
                             .studentName(studentNames)
                             .studentEmail(studentEmails)
-                            .modalityName(sm.getProgramDegreeModality().getDegreeModality().getName())
-                            .currentStatus(status.name())
-                            .currentStatusDescription(describeModalityStatus(status))
-                            .lastUpdatedAt(sm.getUpdatedAt())
-                            .hasPendingActions(pending)
+                            .modalityName(row.getModalityName())
+                            .currentStatus(row.getStatus().name())
+                            .currentStatusDescription(describeModalityStatus(row.getStatus()))
+                            .lastUpdatedAt(row.getUpdatedAt())
+                            .hasPendingActions(pendingStatuses.contains(row.getStatus()))
                             .build();
                 })
-                .sorted(Comparator.comparing(ModalityListDTO::getLastUpdatedAt).reversed())
                 .toList();
 
-        return ResponseEntity.ok(response);
-    }
-
-    public ResponseEntity<?> getAllStudentModalitiesForExaminer(List<ModalityProcessStatus> statuses, String name) {
-
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User examiner = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
-
-
-        List<DefenseExaminer> examinerAssignments = defenseExaminerRepository
-                .findByExaminerId(examiner.getId());
-
-        if (examinerAssignments.isEmpty()) {
-            return ResponseEntity.ok(List.of());
+        if (!hasMore) {
+            return ResponseEntity.ok(response);
         }
 
-        boolean hasStatusFilter = statuses != null && !statuses.isEmpty();
-        boolean hasNameFilter = name != null && !name.isBlank();
+        ModalityListView last = pageRows.get(pageRows.size() - 1);
 
-        List<StudentModality> modalities;
+        return ResponseEntity.ok()
+                .header(PageCursor.NEXT_CURSOR_HEADER, new ModalityListCursor(last.getUpdatedAt(), last.getId()).encode())
+                .body(response);
+    }
 
-        if (hasStatusFilter && hasNameFilter) {
-            modalities = studentModalityRepository
-                    .findForExaminerWithStatusAndName(examiner.getId(), statuses, name);
-        } else if (hasStatusFilter) {
-            modalities = studentModalityRepository
-                    .findForExaminerWithStatus(examiner.getId(), statuses);
-        } else if (hasNameFilter) {
-            modalities = studentModalityRepository
-                    .findForExaminerWithName(examiner.getId(), name);
-        } else {
-            modalities = studentModalityRepository
-                    .findForExaminer(examiner.getId());
+    /**
+     * Tamaño de la página pedida, o null si no se envió tamaño ni cursor (listado completo,
+     * como antes de la paginación).
+     */
+    private Integer resolvePageSize(Integer size, ModalityListCursor cursor) {
+        if (size == null && cursor == null) {
+            return null;
         }
+        if (size == null || size <= 0) {
+            return DEFAULT_MODALITY_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_MODALITY_PAGE_SIZE);
+    }
 
-        List<ModalityListDTO> response = modalities.stream()
-                .map(sm -> {
-                    ModalityProcessStatus status = sm.getStatus();
-
-
-                    boolean pending =
-                            status == ModalityProcessStatus.DEFENSE_SCHEDULED;
-
-                    // Obtener todos los miembros activos de la modalidad
-                    List<StudentModalityMember> activeMembers =
-                            studentModalityMemberRepository.findByStudentModalityIdAndStatus(
-                                    sm.getId(),
-                                    MemberStatus.ACTIVE
-                            );
-
-                    // Concatenar nombres de los miembros (solo nombres, no apellidos)
-                    String studentNames = activeMembers.stream()
-                            .map(member -> member.getStudent().getName() + " " + member.getStudent().getLastName())
-                            .collect(Collectors.joining(", "));
-
-                    // Concatenar emails de los miembros
-                    String studentEmails = activeMembers.stream()
-                            .map(member -> member.getStudent().getEmail())
-                            .collect(Collectors.joining(", "));
-
-
-
-                    return ModalityListDTO.builder()
-                            .studentModalityId(sm.getId())
-                            .studentName(studentNames)
-                            .studentEmail(studentEmails)
-                            .modalityName(sm.getProgramDegreeModality().getDegreeModality().getName())
-                            .currentStatus(status.name())
-                            .currentStatusDescription(describeModalityStatus(status))
-                            .lastUpdatedAt(sm.getUpdatedAt())
-                            .hasPendingActions(pending)
-                            .build();
-                })
-                .sorted(Comparator.comparing(ModalityListDTO::getLastUpdatedAt).reversed())
-                .toList();
+    private List<ModalityProcessStatus> statusesOrAll(List<ModalityProcessStatus> statuses) {
+        return statuses != null && !statuses.isEmpty()
+                ? statuses
+                : Arrays.asList(ModalityProcessStatus.values());
+    }
 
-        return ResponseEntity.ok(response);
+    private String nameFilterOrEmpty(String name) {
+        return name != null && !name.isBlank() ? name : "";
     }
 
     public ResponseEntity<?> getStudentModalityDetailForProgramHead(Long studentModalityId) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User programHead = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        Long programHeadId = authenticatedUserResolver.currentUserId();
 
         StudentModality studentModality = studentModalityRepository.findById(studentModalityId)
                 .orElseThrow(() -> new RuntimeException("Modality not found"));
@@ -4151,8 +4017,8 @@ public class ModalityService {
         AcademicProgram academicProgram = studentModality.getProgramDegreeModality().getAcademicProgram();
 
         boolean authorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
-                        programHead.getId(),
+                programAuthorityCache.hasRole(
+                        programHeadId,
                         academicProgram.getId(),
                         ProgramRole.PROGRAM_HEAD
                 );
@@ -4402,11 +4268,8 @@ public class ModalityService {
     }
 
     public ResponseEntity<?> getStudentModalityDetailForCommittee(Long studentModalityId) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
 
-        User committeeMember = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        Long committeeMemberId = authenticatedUserResolver.currentUserId();
 
         StudentModality studentModality = studentModalityRepository.findById(studentModalityId)
                 .orElseThrow(() -> new RuntimeException("Modality not found"));
@@ -4414,8 +4277,8 @@ public class ModalityService {
         AcademicProgram academicProgram = studentModality.getProgramDegreeModality().getAcademicProgram();
 
         boolean authorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
-                        committeeMember.getId(),
+                programAuthorityCache.hasRole(
+                        committeeMemberId,
                         academicProgram.getId(),
                         ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
                 );
@@ -5454,7 +5317,7 @@ public class ModalityService {
         AcademicProgram academicProgram = modality.getProgramDegreeModality().getAcademicProgram();
 
         boolean authorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache.hasRole(
                         committeeMember.getId(),
                         academicProgram.getId(),
                         ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -5530,7 +5393,7 @@ public class ModalityService {
                         .getAcademicProgram();
 
         boolean authorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache.hasRole(
                         committeeMember.getId(),
                         academicProgram.getId(),
                         ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -5630,22 +5493,11 @@ public class ModalityService {
 
     public List<CancellationList> getPendingCancellations() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User committeeMember = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        Long committeeMemberId = authenticatedUserResolver.currentUserId();
 
 
         List<Long> academicProgramIds =
-                programAuthorityRepository
-                        .findByUser_IdAndRole(
-                                committeeMember.getId(),
-                                ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
-                        )
-                        .stream()
-                        .map(pa -> pa.getAcademicProgram().getId())
-                        .toList();
+                programAuthorityCache.programIds(committeeMemberId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
         if (academicProgramIds.isEmpty()) {
             return List.of();
@@ -5703,7 +5555,7 @@ public class ModalityService {
 
 
         boolean committeeAuthorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache.hasRole(
                         committeeMember.getId(),
                         academicProgramId,
                         ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -5730,7 +5582,7 @@ public class ModalityService {
 
 
         boolean directorAuthorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache.hasRole(
                         director.getId(),
                         academicProgramId,
                         ProgramRole.PROJECT_DIRECTOR
@@ -5856,7 +5708,7 @@ public class ModalityService {
         Long academicProgramId = studentModality.getProgramDegreeModality().getAcademicProgram().getId();
 
 
-        boolean committeeAuthorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(committeeMember.getId(), academicProgramId,
+        boolean committeeAuthorized = programAuthorityCache.hasRole(committeeMember.getId(), academicProgramId,
                 ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
         if (!committeeAuthorized) {
@@ -5881,7 +5733,7 @@ public class ModalityService {
         }
 
 
-        boolean newDirectorAuthorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean newDirectorAuthorized = programAuthorityCache.hasRole(
                 newDirector.getId(),
                 academicProgramId,
                 ProgramRole.PROJECT_DIRECTOR
@@ -6085,19 +5937,10 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> getPendingDefenseProposals() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User committeeMember = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long committeeMemberId = authenticatedUserResolver.currentUserId();
 
 
-        List<Long> academicProgramIds = programAuthorityRepository
-                .findByUser_Id(committeeMember.getId())
-                .stream()
-                .filter(pa -> pa.getRole() == ProgramRole.PROGRAM_CURRICULUM_COMMITTEE)
-                .map(pa -> pa.getAcademicProgram().getId())
-                .toList();
+        List<Long> academicProgramIds = programAuthorityCache.programIds(committeeMemberId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
         if (academicProgramIds.isEmpty()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -6171,7 +6014,7 @@ public class ModalityService {
                 .getId();
 
 
-        boolean authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean authorized = programAuthorityCache.hasRole(
                 committeeMember.getId(),
                 academicProgramId,
                 ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -6273,7 +6116,7 @@ public class ModalityService {
                 .getId();
 
 
-        boolean authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean authorized = programAuthorityCache.hasRole(
                 committeeMember.getId(),
                 academicProgramId,
                 ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -6394,7 +6237,7 @@ public class ModalityService {
                 .getId();
 
 
-        boolean authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean authorized = programAuthorityCache.hasRole(
                 committeeMember.getId(),
                 academicProgramId,
                 ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -6805,16 +6648,13 @@ public class ModalityService {
 
     @Transactional
     public ResponseEntity<?> getFinalDefenseEvaluationForExaminer(Long studentModalityId) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        User examiner = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long examinerId = authenticatedUserResolver.currentUserId();
 
         StudentModality studentModality = studentModalityRepository.findById(studentModalityId)
                 .orElseThrow(() -> new RuntimeException("Modalidad no encontrada"));
 
         DefenseExaminer defenseExaminer = defenseExaminerRepository
-                .findByStudentModalityIdAndExaminerId(studentModalityId, examiner.getId())
+                .findByStudentModalityIdAndExaminerId(studentModalityId, examinerId)
                 .orElseThrow(() -> new RuntimeException(
                         "No está asignado como jurado de esta sustentación"
                 ));
@@ -7158,11 +6998,7 @@ public class ModalityService {
 
     public ResponseEntity<?> getFinalDefenseResult(Long studentModalityId) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long userId = authenticatedUserResolver.currentUserId();
 
         StudentModality studentModality = studentModalityRepository.findById(studentModalityId)
                 .orElseThrow(() -> new RuntimeException("Modalidad no encontrada"));
@@ -7176,9 +7012,9 @@ public class ModalityService {
 
 
         boolean authorized =
-                programAuthorityRepository
-                        .existsByUser_IdAndAcademicProgram_IdAndRoleIn(
-                                user.getId(),
+                programAuthorityCache
+                        .hasAnyRole(
+                                userId,
                                 academicProgramId,
                                 List.of(
                                         ProgramRole.PROGRAM_HEAD,
@@ -7459,18 +7295,10 @@ public class ModalityService {
      * Solo el comité del programa académico correspondiente puede ver estas modalidades.
      */
     public ResponseEntity<?> getPendingDistinctionProposals() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
 
-        User committeeMember = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long committeeMemberId = authenticatedUserResolver.currentUserId();
 
-        List<Long> programIds = programAuthorityRepository
-                .findByUser_Id(committeeMember.getId())
-                .stream()
-                .filter(pa -> pa.getRole() == ProgramRole.PROGRAM_CURRICULUM_COMMITTEE)
-                .map(pa -> pa.getAcademicProgram().getId())
-                .toList();
+        List<Long> programIds = programAuthorityCache.programIds(committeeMemberId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
         if (programIds.isEmpty()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
@@ -7561,7 +7389,7 @@ public class ModalityService {
 
         Long academicProgramId = studentModality.getProgramDegreeModality().getAcademicProgram().getId();
 
-        boolean authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean authorized = programAuthorityCache.hasRole(
                 committeeMember.getId(), academicProgramId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
         if (!authorized) {
@@ -7657,7 +7485,7 @@ public class ModalityService {
 
         Long academicProgramId = studentModality.getProgramDegreeModality().getAcademicProgram().getId();
 
-        boolean authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean authorized = programAuthorityCache.hasRole(
                 committeeMember.getId(), academicProgramId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
         if (!authorized) {
@@ -7788,221 +7616,69 @@ public class ModalityService {
 
     public List<ProjectDirectorResponse> getProjectDirectors() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long currentUserId = authenticatedUserResolver.currentUserId();
 
 
-        List<ProgramAuthority> committeeAuthorities = programAuthorityRepository
-                .findByUser_IdAndRole(currentUser.getId(), ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
+        Set<Long> userProgramIds = new LinkedHashSet<>(
+                programAuthorityCache.programIds(currentUserId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE));
 
-        if (committeeAuthorities.isEmpty()) {
+        if (userProgramIds.isEmpty()) {
             throw new RuntimeException("El usuario no tiene el rol de PROGRAM_CURRICULUM_COMMITTEE");
         }
 
 
-        Set<Long> userProgramIds = committeeAuthorities.stream()
-                .map(authority -> authority.getAcademicProgram().getId())
-                .collect(Collectors.toSet());
-
-
-        List<com.SIGMA.USCO.Users.Entity.ProgramAuthority> projectDirectorAuthorities = programAuthorityRepository
-                .findByAcademicProgram_IdAndRole(userProgramIds.iterator().next(),
-                        ProgramRole.PROJECT_DIRECTOR
-                );
-
-
-        return projectDirectorAuthorities.stream()
-                .map(authority -> new ProjectDirectorResponse(
-                        authority.getUser().getId(),
-                        authority.getUser().getName(),
-                        authority.getUser().getLastName(),
-                        authority.getUser().getEmail()
-                ))
-                .distinct()
-                .collect(Collectors.toList());
+        return programAuthorityRepository.findDirectoryByRole(
+                ProgramRole.PROJECT_DIRECTOR, userProgramIds.iterator().next(), null);
     }
 
     public List<ProjectDirectorResponse> getProgramHeads() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long currentUserId = authenticatedUserResolver.currentUserId();
 
 
-        List<ProgramAuthority> committeeAuthorities = programAuthorityRepository
-                .findByUser_IdAndRole(currentUser.getId(), ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
+        Set<Long> userProgramIds = new LinkedHashSet<>(
+                programAuthorityCache.programIds(currentUserId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE));
 
-        if (committeeAuthorities.isEmpty()) {
+        if (userProgramIds.isEmpty()) {
             throw new RuntimeException("El usuario no tiene el rol de PROGRAM_CURRICULUM_COMMITTEE");
         }
 
 
-        Set<Long> userProgramIds = committeeAuthorities.stream()
-                .map(authority -> authority.getAcademicProgram().getId())
-                .collect(Collectors.toSet());
-
-
-        List<com.SIGMA.USCO.Users.Entity.ProgramAuthority> programHeadAuthorities = programAuthorityRepository
-                .findByAcademicProgram_IdAndRole(userProgramIds.iterator().next(),
-                        ProgramRole.PROGRAM_HEAD
-                );
-
-
-        return programHeadAuthorities.stream()
-                .map(authority -> new ProjectDirectorResponse(
-                        authority.getUser().getId(),
-                        authority.getUser().getName(),
-                        authority.getUser().getLastName(),
-                        authority.getUser().getEmail()
-                ))
-                .distinct()
-                .collect(Collectors.toList());
+        return programAuthorityRepository.findDirectoryByRole(
+                ProgramRole.PROGRAM_HEAD, userProgramIds.iterator().next(), null);
     }
 
     public List<ProjectDirectorResponse> getProgramCurriculumCommittee(Long academicProgramId, Long facultyId) {
 
-
-        List<ProgramAuthority> committeeAuthorities = programAuthorityRepository.findAll()
-                .stream()
-                .filter(authority -> authority.getRole() == ProgramRole.PROGRAM_CURRICULUM_COMMITTEE)
-                .toList();
-
-
-        if (academicProgramId != null) {
-            committeeAuthorities = committeeAuthorities.stream()
-                    .filter(authority -> authority.getAcademicProgram().getId().equals(academicProgramId))
-                    .toList();
-        }
-
-        if (facultyId != null) {
-            committeeAuthorities = committeeAuthorities.stream()
-                    .filter(authority -> authority.getAcademicProgram().getFaculty().getId().equals(facultyId))
-                    .toList();
-        }
-
-
-        return committeeAuthorities.stream()
-                .map(authority -> new ProjectDirectorResponse(
-                        authority.getUser().getId(),
-                        authority.getUser().getName(),
-                        authority.getUser().getLastName(),
-                        authority.getUser().getEmail()
-                ))
-                .distinct()
-                .collect(Collectors.toList());
+        return programAuthorityRepository.findDirectoryByRole(
+                ProgramRole.PROGRAM_CURRICULUM_COMMITTEE, academicProgramId, facultyId);
     }
 
 
     public List<ProjectDirectorResponse> getExaminers(Long academicProgramId, Long facultyId) {
 
-
-        List<User> examiners = userRepository.findAll()
-                .stream()
-                .filter(user -> user.getRoles().stream()
-                        .anyMatch(role -> role.getName().equals("EXAMINER")))
-                .toList();
-
-
         if (academicProgramId != null || facultyId != null) {
-            List<ProgramAuthority> examinerAuthorities = programAuthorityRepository.findAll()
-                    .stream()
-                    .filter(authority -> examiners.stream()
-                            .anyMatch(examiner -> examiner.getId().equals(authority.getUser().getId())))
-                    .toList();
-
-            if (academicProgramId != null) {
-                examinerAuthorities = examinerAuthorities.stream()
-                        .filter(authority -> authority.getAcademicProgram().getId().equals(academicProgramId))
-                        .toList();
-            }
-
-            if (facultyId != null) {
-                examinerAuthorities = examinerAuthorities.stream()
-                        .filter(authority -> authority.getAcademicProgram().getFaculty().getId().equals(facultyId))
-                        .toList();
-            }
-
-            return examinerAuthorities.stream()
-                    .map(authority -> new ProjectDirectorResponse(
-                            authority.getUser().getId(),
-                            authority.getUser().getName(),
-                            authority.getUser().getLastName(),
-                            authority.getUser().getEmail()
-                    ))
-                    .distinct()
-                    .collect(Collectors.toList());
+            return programAuthorityRepository.findDirectoryByUserRole("EXAMINER", academicProgramId, facultyId);
         }
 
-
-        return examiners.stream()
-                .map(examiner -> new ProjectDirectorResponse(
-                        examiner.getId(),
-                        examiner.getName(),
-                        examiner.getLastName(),
-                        examiner.getEmail()
-                ))
-                .distinct()
-                .collect(Collectors.toList());
+        return userRepository.findDirectoryByRoleName("EXAMINER");
     }
 
 
     public List<ProjectDirectorResponse> getExaminersForCommittee() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long currentUserId = authenticatedUserResolver.currentUserId();
 
 
-        List<ProgramAuthority> committeeAuthorities = programAuthorityRepository
-                .findByUser_IdAndRole(currentUser.getId(), ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
+        Set<Long> userProgramIds = new LinkedHashSet<>(
+                programAuthorityCache.programIds(currentUserId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE));
 
-        if (committeeAuthorities.isEmpty()) {
+        if (userProgramIds.isEmpty()) {
             throw new RuntimeException("El usuario no tiene el rol de PROGRAM_CURRICULUM_COMMITTEE");
         }
 
 
-        Set<Long> userProgramIds = committeeAuthorities.stream()
-                .map(authority -> authority.getAcademicProgram().getId())
-                .collect(Collectors.toSet());
-
-
-        List<User> allExaminers = userRepository.findAll()
-                .stream()
-                .filter(user -> user.getRoles().stream()
-                        .anyMatch(role -> role.getName().equals("EXAMINER")))
-                .toList();
-
-
-        List<ProgramAuthority> examinerAuthorities = new ArrayList<>();
-
-        for (Long programId : userProgramIds) {
-            List<ProgramAuthority> programExaminers = programAuthorityRepository.findAll()
-                    .stream()
-                    .filter(authority -> authority.getAcademicProgram().getId().equals(programId))
-                    .filter(authority -> allExaminers.stream()
-                            .anyMatch(examiner -> examiner.getId().equals(authority.getUser().getId())))
-                    .toList();
-
-            examinerAuthorities.addAll(programExaminers);
-        }
-
-
-        return examinerAuthorities.stream()
-                .map(authority -> new ProjectDirectorResponse(
-                        authority.getUser().getId(),
-                        authority.getUser().getName(),
-                        authority.getUser().getLastName(),
-                        authority.getUser().getEmail()
-                ))
-                .distinct()
-                .collect(Collectors.toList());
+        return programAuthorityRepository.findDirectoryByUserRoleInPrograms("EXAMINER", userProgramIds);
     }
 
 
@@ -8187,18 +7863,18 @@ public class ModalityService {
                             .anyMatch(h -> h.getStatus() == DocumentStatus.CORRECTIONS_REQUESTED_BY_PROGRAM_HEAD);
 
                     if (wasRequestedByProgramHead || currentStatus == ModalityProcessStatus.CORRECTIONS_SUBMITTED_TO_PROGRAM_HEAD) {
-                        authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                        authorized = programAuthorityCache.hasRole(
                                 reviewer.getId(), academicProgramId, ProgramRole.PROGRAM_HEAD);
                         newModalityStatus = ModalityProcessStatus.CORRECTIONS_APPROVED;
                         newDocumentStatus = DocumentStatus.ACCEPTED_FOR_PROGRAM_HEAD_REVIEW;
                     } else {
-                        authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                        authorized = programAuthorityCache.hasRole(
                                 reviewer.getId(), academicProgramId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
                         newModalityStatus = ModalityProcessStatus.CORRECTIONS_APPROVED;
                         newDocumentStatus = DocumentStatus.ACCEPTED_FOR_PROGRAM_CURRICULUM_COMMITTEE_REVIEW;
                     }
                 } else if (currentStatus == ModalityProcessStatus.CORRECTIONS_SUBMITTED_TO_COMMITTEE) {
-                    authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                    authorized = programAuthorityCache.hasRole(
                             reviewer.getId(), academicProgramId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
                     newModalityStatus = ModalityProcessStatus.CORRECTIONS_APPROVED;
                     newDocumentStatus = DocumentStatus.ACCEPTED_FOR_PROGRAM_CURRICULUM_COMMITTEE_REVIEW;
@@ -8315,10 +7991,10 @@ public class ModalityService {
 
         if (isCorrectionsSubmitted) {
             if (currentStatus == ModalityProcessStatus.CORRECTIONS_SUBMITTED_TO_PROGRAM_HEAD) {
-                authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                authorized = programAuthorityCache.hasRole(
                         reviewer.getId(), academicProgramId, ProgramRole.PROGRAM_HEAD);
             } else if (currentStatus == ModalityProcessStatus.CORRECTIONS_SUBMITTED_TO_COMMITTEE) {
-                authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                authorized = programAuthorityCache.hasRole(
                         reviewer.getId(), academicProgramId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
             } else if (currentStatus == ModalityProcessStatus.CORRECTIONS_SUBMITTED_TO_EXAMINERS) {
                 authorized = defenseExaminerRepository
@@ -8331,10 +8007,10 @@ public class ModalityService {
                 boolean wasRequestedByProgramHead = history.stream()
                         .anyMatch(h -> h.getStatus() == DocumentStatus.CORRECTIONS_REQUESTED_BY_PROGRAM_HEAD);
                 if (wasRequestedByProgramHead) {
-                    authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                    authorized = programAuthorityCache.hasRole(
                             reviewer.getId(), academicProgramId, ProgramRole.PROGRAM_HEAD);
                 } else {
-                    authorized = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                    authorized = programAuthorityCache.hasRole(
                             reviewer.getId(), academicProgramId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
                 }
             }
@@ -8403,11 +8079,7 @@ public class ModalityService {
 
     public ResponseEntity<?> getCorrectionDeadlineStatus(Long studentModalityId) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long userId = authenticatedUserResolver.currentUserId();
 
         StudentModality studentModality = studentModalityRepository.findById(studentModalityId)
                 .orElseThrow(() -> new RuntimeException("Modalidad no encontrada"));
@@ -8415,10 +8087,10 @@ public class ModalityService {
         // Validar que el usuario sea miembro activo de la modalidad o un revisor autorizado
         boolean isStudent = studentModalityMemberRepository.isActiveMember(
                 studentModalityId,
-                user.getId()
+                userId
         );
-        boolean isAuthorizedReviewer = programAuthorityRepository.existsByUser_IdAndAcademicProgram_Id(
-                user.getId(),
+        boolean isAuthorizedReviewer = programAuthorityCache.hasAnyRole(
+                userId,
                 studentModality.getAcademicProgram().getId()
         );
 
@@ -8487,8 +8159,8 @@ public class ModalityService {
 
         Long academicProgramId = studentModality.getAcademicProgram().getId();
 
-        boolean isAuthorized = programAuthorityRepository
-                .existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean isAuthorized = programAuthorityCache
+                .hasRole(
                         committeeMember.getId(),
                         academicProgramId,
                         ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -8575,8 +8247,8 @@ public class ModalityService {
 
         Long academicProgramId = studentModality.getAcademicProgram().getId();
 
-        boolean isAuthorized = programAuthorityRepository
-                .existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean isAuthorized = programAuthorityCache
+                .hasRole(
                         committeeMember.getId(),
                         academicProgramId,
                         ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -8727,8 +8399,8 @@ public class ModalityService {
 
         Long academicProgramId = studentModality.getAcademicProgram().getId();
 
-        boolean isAuthorized = programAuthorityRepository
-                .existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean isAuthorized = programAuthorityCache
+                .hasRole(
                         committeeMember.getId(),
                         academicProgramId,
                         ProgramRole.PROGRAM_CURRICULUM_COMMITTEE
@@ -8862,14 +8534,11 @@ public class ModalityService {
     public ResponseEntity<?> createSeminar(SeminarDTO request) {
         try {
 
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
 
             ProgramAuthority programAuthority = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+                    .findByUser_IdAndRole(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
                     .orElseThrow(() -> new IllegalArgumentException(
@@ -8921,7 +8590,7 @@ public class ModalityService {
                     .updatedAt(LocalDateTime.now())
                     .build();
 
-            seminar = seminarRepository.save(seminar);
+            seminar = saveSeminar(seminar);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     Map.of(
@@ -8950,68 +8619,36 @@ public class ModalityService {
         }
     }
 
-    public ResponseEntity<?> listActiveSeminarsWithSeats() {
+    /**
+     * Seminarios activos con cupos del programa del estudiante, desde {@link SeminarAvailabilityCache}.
+     * Responde 304 sin cuerpo si el cliente envía la versión vigente en If-None-Match.
+     */
+    public ResponseEntity<?> listActiveSeminarsWithSeats(String ifNoneMatch) {
         try {
 
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
+            Long userId = authenticatedUserResolver.currentUserId();
 
-            StudentProfile studentProfile = studentProfileRepository.findById(user.getId())
+            Long studentProgramId = studentProfileRepository.findAcademicProgramIdByUserId(userId)
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No se encontró el perfil de estudiante para este usuario"
                     ));
 
-            AcademicProgram studentProgram = studentProfile.getAcademicProgram();
+            SeminarAvailabilityCache.Listing listing = seminarAvailabilityCache.listing(studentProgramId);
 
-            List<Seminar> seminars = seminarRepository.findActiveWithAvailableSeatsByProgram(
-                    studentProgram.getId()
-            );
-
-
-            List<SeminarResponseDTO> seminarDTOs = seminars.stream()
-                    .map(seminar -> {
-                        int availableSeats = seminar.getMaxParticipants() - seminar.getCurrentParticipants();
-
-                        String statusDescription;
-                        if (availableSeats > 0) {
-                            statusDescription = "Cupos disponibles: " + availableSeats;
-                        } else {
-                            statusDescription = "Sin cupos disponibles";
-                        }
-
-                        return SeminarResponseDTO.builder()
-                                .id(seminar.getId())
-                                .name(seminar.getName())
-                                .description(seminar.getDescription())
-                                .totalCost(seminar.getTotalCost())
-                                .minParticipants(seminar.getMinParticipants())
-                                .maxParticipants(seminar.getMaxParticipants())
-                                .currentParticipants(seminar.getCurrentParticipants())
-                                .availableSpots(availableSeats)
-                                .totalHours(seminar.getTotalHours())
-                                .status(seminar.getStatus() != null ? seminar.getStatus().name() : null)
-                                .statusDescription(statusDescription)
-                                .academicProgramId(seminar.getAcademicProgram().getId())
-                                .academicProgramName(seminar.getAcademicProgram().getName())
-                                .facultyName(seminar.getAcademicProgram().getFaculty().getName())
-                                .startDate(seminar.getStartDate())
-                                .endDate(seminar.getEndDate())
-                                .createdAt(seminar.getCreatedAt())
-                                .updatedAt(seminar.getUpdatedAt())
-                                .canEnroll(null)
-                                .build();
-                    })
-                    .toList();
+            if (matchesEtag(ifNoneMatch, listing.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(listing.etag())
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .build();
+            }
 
-            return ResponseEntity.ok(
-                    Map.of(
+            return ResponseEntity.ok()
+                    .eTag(listing.etag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(Map.of(
                             "success", true,
-                            "seminars", seminarDTOs
-                    )
-            );
+                            "seminars", listing.seminars()
+                    ));
 
         } catch (IllegalArgumentException e) {
             log.error("Error de validación al listar seminarios: {}", e.getMessage());
@@ -9036,31 +8673,20 @@ public class ModalityService {
     public ResponseEntity<?> enrollInSeminar(Long seminarId) {
         try {
 
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
 
-            StudentProfile studentProfile = studentProfileRepository.findById(user.getId())
+            StudentProfile studentProfile = studentProfileRepository.findById(userId)
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No se encontró el perfil de estudiante para este usuario"
                     ));
 
 
-            List<StudentModality> leaderModalities = studentModalityRepository
-                    .findByLeaderId(studentProfile.getId());
-
-            boolean hasSeminarioGradoModality = leaderModalities.stream()
-                    .anyMatch(sm -> {
-                        ProgramDegreeModality pdm = sm.getProgramDegreeModality();
-                        String modalityName = pdm.getDegreeModality().getName();
-                        ModalityProcessStatus status = sm.getStatus();
-
-                        return modalityName.equalsIgnoreCase("SEMINARIO DE GRADO") &&
-                               (status == ModalityProcessStatus.MODALITY_SELECTED ||
-                               status == ModalityProcessStatus.UNDER_REVIEW_PROGRAM_HEAD);
-                    });
+            boolean hasSeminarioGradoModality = studentModalityRepository.existsByLeaderIdAndModalityNameAndStatusIn(
+                    studentProfile.getId(),
+                    "SEMINARIO DE GRADO",
+                    List.of(ModalityProcessStatus.MODALITY_SELECTED, ModalityProcessStatus.UNDER_REVIEW_PROGRAM_HEAD)
+            );
 
             if (!hasSeminarioGradoModality) {
                 throw new IllegalArgumentException(
@@ -9101,25 +8727,21 @@ public class ModalityService {
             }
 
 
-            if (seminar.getCurrentParticipants() >= seminar.getMaxParticipants()) {
+            // El cupo se reserva en la base de datos: con inscripciones simultáneas, el conteo
+            // leído con el seminario puede estar desactualizado
+            if (seminarRepository.reserveSeat(seminarId, LocalDateTime.now()) == 0) {
                 throw new IllegalArgumentException(
                         "No hay cupos disponibles. El seminario ha alcanzado el máximo de " +
                         seminar.getMaxParticipants() + " participantes"
                 );
             }
 
-
-
             seminarRepository.enrollStudent(seminarId, studentProfile.getId());
+            applicationEventPublisher.publishEvent(new SeminarChangedEvent(seminarId, seminar.getAcademicProgram().getId()));
 
 
-            seminar.setCurrentParticipants(seminar.getCurrentParticipants() + 1);
-            seminar.setUpdatedAt(LocalDateTime.now());
-            seminarRepository.save(seminar);
-
-
-
-            int availableSeats = seminar.getMaxParticipants() - seminar.getCurrentParticipants();
+            int currentParticipants = seminarRepository.findCurrentParticipants(seminarId);
+            int availableSeats = seminar.getMaxParticipants() - currentParticipants;
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     Map.of(
@@ -9127,12 +8749,22 @@ public class ModalityService {
                             "message", "Te has inscrito exitosamente en el seminario",
                             "seminarName", seminar.getName(),
                             "enrollmentDate", LocalDateTime.now(),
-                            "currentParticipants", seminar.getCurrentParticipants(),
+                            "currentParticipants", currentParticipants,
                             "maxParticipants", seminar.getMaxParticipants(),
                             "availableSeats", availableSeats
                     )
             );
 
+        } catch (DataIntegrityViolationException e) {
+            // Doble envío simultáneo del mismo estudiante: la llave de seminar_students rechaza
+            // la segunda inscripción y se deshace su reserva de cupo
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseEntity.badRequest().body(
+                    Map.of(
+                            "success", false,
+                            "error", "Ya estás inscrito en este seminario"
+                    )
+            );
         } catch (IllegalArgumentException e) {
 
             return ResponseEntity.badRequest().body(
@@ -9156,10 +8788,7 @@ public class ModalityService {
     public ResponseEntity<?> FgetSeminarDetailForProgramHead(Long seminarId) {
         try {
 
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
 
             Seminar seminar = seminarRepository.findById(seminarId)
@@ -9168,11 +8797,10 @@ public class ModalityService {
                     ));
 
 
-            Long userProgramId = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+            Long userProgramId = programAuthorityCache
+                    .programIds(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
-                    .map(pa -> pa.getAcademicProgram().getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No tienes permisos de jefe de programa"
                     ));
@@ -9292,16 +8920,12 @@ public class ModalityService {
 
     public ResponseEntity<?> listSeminarsForProgramHead(String status, Boolean active) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
-            Long userProgramId = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+            Long userProgramId = programAuthorityCache
+                    .programIds(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
-                    .map(pa -> pa.getAcademicProgram().getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No tienes permisos de jefe de programa"
                     ));
@@ -9385,16 +9009,12 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> startSeminar(Long seminarId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
-            Long userProgramId = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+            Long userProgramId = programAuthorityCache
+                    .programIds(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
-                    .map(pa -> pa.getAcademicProgram().getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No tienes permisos de jefe de programa"
                     ));
@@ -9433,29 +9053,27 @@ public class ModalityService {
             seminar.setStatus(SeminarStatus.IN_PROGRESS);
             seminar.setStartDate(LocalDateTime.now());
             seminar.setUpdatedAt(LocalDateTime.now());
-            seminarRepository.save(seminar);
+            saveSeminar(seminar);
 
-            List<StudentProfile> enrolledStudents = seminarRepository.findEnrolledStudentsBySeminarId(seminarId);
+            List<Long> enrolledStudentIds = seminarRepository.findEnrolledStudentIds(seminarId);
 
+            // Un solo evento para todos los inscritos: sus notificaciones se guardan en lote
+            List<Long> recipientIds = seminarRepository.findEnrolledRecipientIds(seminarId);
             int emailsSent = 0;
-            for (StudentProfile studentProfile : enrolledStudents) {
-                User student = userRepository.findById(studentProfile.getId()).orElse(null);
-                if (student != null && student.getEmail() != null) {
-                    try {
-                        SeminarStartedEvent event = SeminarStartedEvent.builder()
-                                .recipientEmail(student.getEmail())
-                                .recipientName(student.getName() + " " + student.getLastName())
-                                .seminarName(seminar.getName())
-                                .startDate(seminar.getStartDate())
-                                .totalHours(seminar.getTotalHours())
-                                .programName(seminar.getAcademicProgram().getName())
-                                .build();
+            if (!recipientIds.isEmpty()) {
+                try {
+                    SeminarStartedEvent event = SeminarStartedEvent.builder()
+                            .recipientIds(recipientIds)
+                            .seminarName(seminar.getName())
+                            .startDate(seminar.getStartDate())
+                            .totalHours(seminar.getTotalHours())
+                            .programName(seminar.getAcademicProgram().getName())
+                            .build();
 
-                        notificationEventPublisher.publishSeminarStartedEvent(event);
-                        emailsSent++;
-                    } catch (Exception e) {
-                        // Continuar con el siguiente estudiante si falla el envío
-                    }
+                    notificationEventPublisher.publishSeminarStartedEvent(event);
+                    emailsSent = recipientIds.size();
+                } catch (Exception e) {
+                    log.error("Error notificando el inicio del seminario {}: {}", seminar.getId(), e.getMessage());
                 }
             }
 
@@ -9467,7 +9085,7 @@ public class ModalityService {
                             "seminarName", seminar.getName(),
                             "status", seminar.getStatus().name(),
                             "startDate", seminar.getStartDate(),
-                            "enrolledStudents", enrolledStudents.size(),
+                            "enrolledStudents", enrolledStudentIds.size(),
                             "emailsSent", emailsSent
                     )
             );
@@ -9493,16 +9111,12 @@ public class ModalityService {
 
     public ResponseEntity<?> cancelSeminar(Long seminarId, String reason) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
-            Long userProgramId = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+            Long userProgramId = programAuthorityCache
+                    .programIds(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
-                    .map(pa -> pa.getAcademicProgram().getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No tienes permisos de jefe de programa"
                     ));
@@ -9526,11 +9140,13 @@ public class ModalityService {
                 );
             }
 
-            List<StudentProfile> enrolledStudents = seminarRepository.findEnrolledStudentsBySeminarId(seminarId);
+            List<Long> enrolledStudentIds = seminarRepository.findEnrolledStudentIds(seminarId);
+            // Antes de vaciar la inscripción, que elimina las filas de seminar_students
+            List<Long> recipientIds = seminarRepository.findEnrolledRecipientIds(seminarId);
 
             // Cambiar el status de la modalidad de cada estudiante a SEMINAR_CANCELED
-            for (StudentProfile studentProfile : enrolledStudents) {
-                List<StudentModality> modalities = studentModalityRepository.findByLeaderId(studentProfile.getId());
+            for (Long studentId : enrolledStudentIds) {
+                List<StudentModality> modalities = studentModalityRepository.findByLeaderId(studentId);
                 for (StudentModality modality : modalities) {
                     modality.setStatus(ModalityProcessStatus.MODALITY_CANCELLED);
                     studentModalityRepository.save(modality);
@@ -9541,27 +9157,23 @@ public class ModalityService {
             seminar.setActive(false);
             seminar.setUpdatedAt(LocalDateTime.now());
             seminar.getEnrolledStudents().clear();
-            seminarRepository.save(seminar);
+            saveSeminar(seminar);
 
             int emailsSent = 0;
-            for (StudentProfile studentProfile : enrolledStudents) {
-                User student = userRepository.findById(studentProfile.getId()).orElse(null);
-                if (student != null && student.getEmail() != null) {
-                    try {
-                        SeminarCancelledEvent event = SeminarCancelledEvent.builder()
-                                .recipientEmail(student.getEmail())
-                                .recipientName(student.getName() + " " + student.getLastName())
-                                .seminarName(seminar.getName())
-                                .cancelledDate(LocalDateTime.now())
-                                .programName(seminar.getAcademicProgram().getName())
-                                .reason(reason)
-                                .build();
+            if (!recipientIds.isEmpty()) {
+                try {
+                    SeminarCancelledEvent event = SeminarCancelledEvent.builder()
+                            .recipientIds(recipientIds)
+                            .seminarName(seminar.getName())
+                            .cancelledDate(LocalDateTime.now())
+                            .programName(seminar.getAcademicProgram().getName())
+                            .reason(reason)
+                            .build();
 
-                        notificationEventPublisher.publishSeminarCancelledEvent(event);
-                        emailsSent++;
-                    } catch (Exception e) {
-                        // Continuar con el siguiente estudiante si falla el envío
-                    }
+                    notificationEventPublisher.publishSeminarCancelledEvent(event);
+                    emailsSent = recipientIds.size();
+                } catch (Exception e) {
+                    log.error("Error notificando la cancelación del seminario {}: {}", seminar.getId(), e.getMessage());
                 }
             }
 
@@ -9572,7 +9184,7 @@ public class ModalityService {
                             "seminarId", seminar.getId(),
                             "seminarName", seminar.getName(),
                             "status", seminar.getStatus().name(),
-                            "previouslyEnrolledStudents", enrolledStudents.size(),
+                            "previouslyEnrolledStudents", enrolledStudentIds.size(),
                             "emailsSent", emailsSent
                     )
             );
@@ -9597,16 +9209,12 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> updateSeminar(Long seminarId, SeminarDTO request) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
-            Long userProgramId = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+            Long userProgramId = programAuthorityCache
+                    .programIds(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
-                    .map(pa -> pa.getAcademicProgram().getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No tienes permisos de jefe de programa"
                     ));
@@ -9674,7 +9282,7 @@ public class ModalityService {
             }
 
             seminar.setUpdatedAt(LocalDateTime.now());
-            seminarRepository.save(seminar);
+            saveSeminar(seminar);
 
             Map<String, Object> seminarData = new HashMap<>();
             seminarData.put("id", seminar.getId());
@@ -9717,16 +9325,12 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> closeRegistrations(Long seminarId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
-            Long userProgramId = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+            Long userProgramId = programAuthorityCache
+                    .programIds(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
-                    .map(pa -> pa.getAcademicProgram().getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No tienes permisos de jefe de programa"
                     ));
@@ -9762,7 +9366,7 @@ public class ModalityService {
 
             seminar.setStatus(SeminarStatus.REGISTRATION_CLOSED);
             seminar.setUpdatedAt(LocalDateTime.now());
-            seminarRepository.save(seminar);
+            saveSeminar(seminar);
 
             return ResponseEntity.ok(
                     Map.of(
@@ -9797,16 +9401,12 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> completeSeminar(Long seminarId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            Long userId = authenticatedUserResolver.currentUserId();
 
-            Long userProgramId = programAuthorityRepository
-                    .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+            Long userProgramId = programAuthorityCache
+                    .programIds(userId, ProgramRole.PROGRAM_HEAD)
                     .stream()
                     .findFirst()
-                    .map(pa -> pa.getAcademicProgram().getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "No tienes permisos de jefe de programa"
                     ));
@@ -9833,7 +9433,7 @@ public class ModalityService {
             seminar.setActive(false);
             seminar.setEndDate(LocalDateTime.now());
             seminar.setUpdatedAt(LocalDateTime.now());
-            seminarRepository.save(seminar);
+            saveSeminar(seminar);
 
             return ResponseEntity.ok(
                     Map.of(
@@ -9974,7 +9574,7 @@ public class ModalityService {
 
         // Validar que sea jefatura de programa
         Long academicProgramId = studentModality.getAcademicProgram().getId();
-        boolean isProgramHead = programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+        boolean isProgramHead = programAuthorityCache.hasRole(
                 programHead.getId(), academicProgramId, ProgramRole.PROGRAM_HEAD);
         if (!isProgramHead) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
@@ -10108,7 +9708,7 @@ public class ModalityService {
         Long academicProgramId = studentModality.getAcademicProgram().getId();
 
         boolean isAuthorized =
-                programAuthorityRepository.existsByUser_IdAndAcademicProgram_IdAndRole(
+                programAuthorityCache.hasRole(
                         examiner.getId(),
                         academicProgramId,
                         ProgramRole.EXAMINER
@@ -10235,14 +9835,11 @@ public class ModalityService {
      * Solo incluye modalidades en estado DEFENSE_SCHEDULED, ordenadas por fecha de defensa ascendente.
      */
     public ResponseEntity<?> getExaminerDefenseCalendar() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        User examiner = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long examinerId = authenticatedUserResolver.currentUserId();
 
         // Buscar todas las modalidades asignadas al jurado en estado DEFENSE_SCHEDULED
         List<StudentModality> modalities = studentModalityRepository.findForExaminerWithStatus(
-                examiner.getId(),
+                examinerId,
                 List.of(ModalityProcessStatus.DEFENSE_SCHEDULED)
         );
 
@@ -10278,13 +9875,10 @@ public class ModalityService {
 
     @Transactional
     public ResponseEntity<?> getExaminerTypeForModality(Long studentModalityId) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        User examiner = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long examinerId = authenticatedUserResolver.currentUserId();
 
         DefenseExaminer defenseExaminer = defenseExaminerRepository
-                .findByStudentModalityIdAndExaminerId(studentModalityId, examiner.getId())
+                .findByStudentModalityIdAndExaminerId(studentModalityId, examinerId)
                 .orElse(null);
 
         if (defenseExaminer == null) {
@@ -10303,13 +9897,10 @@ public class ModalityService {
 
     @Transactional
     public ResponseEntity<?> getExaminerEvaluationForModality(Long studentModalityId) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        User examiner = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long examinerId = authenticatedUserResolver.currentUserId();
 
         DefenseExaminer defenseExaminer = defenseExaminerRepository
-                .findByStudentModalityIdAndExaminerId(studentModalityId, examiner.getId())
+                .findByStudentModalityIdAndExaminerId(studentModalityId, examinerId)
                 .orElse(null);
 
         if (defenseExaminer == null) {
@@ -11312,13 +10903,9 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> getMyDocumentEditRequests() {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
+        Long studentId = authenticatedUserResolver.currentUserId();
 
-        User student = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
-
-        List<DocumentEditRequest> requests = documentEditRequestRepository.findByRequesterId(student.getId());
+        List<DocumentEditRequest> requests = documentEditRequestRepository.findByRequesterId(studentId);
 
         List<DocumentEditRequestResponseDTO> result = requests.stream()
                 .map(req -> buildEditRequestResponseDTO(req))
@@ -11339,14 +10926,10 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> getMyDocumentEditRequestsByModality(Long studentModalityId) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User student = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long studentId = authenticatedUserResolver.currentUserId();
 
         // Validar que el estudiante sea miembro activo de la modalidad
-        boolean isActiveMember = studentModalityMemberRepository.isActiveMember(studentModalityId, student.getId());
+        boolean isActiveMember = studentModalityMemberRepository.isActiveMember(studentModalityId, studentId);
         if (!isActiveMember) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
                     "success", false,
@@ -11375,11 +10958,7 @@ public class ModalityService {
     @Transactional
     public ResponseEntity<?> getDocumentEditRequestDetail(Long editRequestId) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User student = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long studentId = authenticatedUserResolver.currentUserId();
 
         DocumentEditRequest request = documentEditRequestRepository.findById(editRequestId)
                 .orElseThrow(() -> new RuntimeException("Solicitud de edición no encontrada"));
@@ -11388,8 +10967,8 @@ public class ModalityService {
 
         // Validar que el estudiante sea miembro activo de la modalidad o el solicitante
         boolean isActiveMember = studentModalityMemberRepository.isActiveMember(
-                studentModality.getId(), student.getId());
-        if (!isActiveMember && !request.getRequester().getId().equals(student.getId())) {
+                studentModality.getId(), studentId);
+        if (!isActiveMember && !request.getRequester().getId().equals(studentId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
                     "success", false,
                     "message", "No tienes permiso para ver esta solicitud de edición"
@@ -11546,15 +11125,11 @@ public class ModalityService {
     public ResponseEntity<?> getProgramStudentsForCommittee(String studentName) {
         try {
             // 1. Resolver usuario autenticado desde el contexto de seguridad
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            String email = auth.getName();
-
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("Usuario autenticado no encontrado"));
+            Long currentUserId = authenticatedUserResolver.currentUserId();
 
             // 2. Verificar que tiene rol COMMITTEE en al menos un programa
             List<ProgramAuthority> authorities = programAuthorityRepository
-                    .findByUser_IdAndRole(currentUser.getId(), ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
+                    .findByUser_IdAndRole(currentUserId, ProgramRole.PROGRAM_CURRICULUM_COMMITTEE);
 
             if (authorities.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
@@ -11734,7 +11309,26 @@ public class ModalityService {
         }
     }
 
-}
-
 
+    /**
+     * Guarda el seminario y avisa a la caché de cupos disponibles.
+     */
+    private Seminar saveSeminar(Seminar seminar) {
+        Seminar saved = seminarRepository.save(seminar);
+        applicationEventPublisher.publishEvent(new SeminarChangedEvent(saved.getId(), saved.getAcademicProgram().getId()));
+        return saved;
+    }
 
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
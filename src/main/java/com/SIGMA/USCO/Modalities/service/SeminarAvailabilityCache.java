@@ -0,0 +1,191 @@
+package com.SIGMA.USCO.Modalities.service;
+
+import com.SIGMA.USCO.Modalities.Entity.Seminar;
+import com.SIGMA.USCO.Modalities.Repository.SeminarRepository;
+import com.SIGMA.USCO.Modalities.dto.SeminarResponseDTO;
+import com.SIGMA.USCO.Modalities.event.SeminarChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Seminarios activos con cupos de cada programa académico, en memoria, para el listado que
+ * consultan los estudiantes mientras están abiertas las inscripciones.
+ *
+ * Cada listado tiene una versión (ETag) calculada a partir de su contenido: es la misma en
+ * todas las instancias y no cambia al recargar un listado que sigue igual.
+ * Un cambio en un seminario descarta el listado de su programa después del commit; los
+ * cambios hechos desde otra instancia se ven al vencer el tiempo de vida.
+ */
+@Component
+@Slf4j
+public class SeminarAvailabilityCache {
+
+    private final SeminarRepository seminarRepository;
+    private final long ttlNanos;
+
+    private final Map<Long, Listing> listingsByProgram = new ConcurrentHashMap<>();
+
+    /** Lock de carga y generación de cada programa; hay uno por programa académico */
+    private final Map<Long, ProgramState> statesByProgram = new ConcurrentHashMap<>();
+
+    public SeminarAvailabilityCache(SeminarRepository seminarRepository,
+                                    @Value("${seminars.availability.cache.ttl-seconds:5}") long ttlSeconds) {
+        this.seminarRepository = seminarRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Seminarios activos con cupos del programa académico y la versión del listado.
+     */
+    public Listing listing(Long academicProgramId) {
+        Listing current = listingsByProgram.get(academicProgramId);
+        if (current != null && System.nanoTime() - current.loadedAt() < ttlNanos) {
+            return current;
+        }
+        return load(academicProgramId);
+    }
+
+    public void invalidate(Long academicProgramId) {
+        state(academicProgramId).generation().incrementAndGet();
+        listingsByProgram.remove(academicProgramId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        log.debug("Seminario {} modificado; se descarta el listado del programa {}",
+                event.seminarId(), event.academicProgramId());
+        invalidate(event.academicProgramId());
+    }
+
+    // Una sola carga a la vez por programa: durante la apertura de inscripciones muchas
+    // consultas llegan juntas después de cada invalidación
+    private Listing load(Long academicProgramId) {
+        ProgramState state = state(academicProgramId);
+        state.loadLock().lock();
+        try {
+            Listing current = listingsByProgram.get(academicProgramId);
+            if (current != null && System.nanoTime() - current.loadedAt() < ttlNanos) {
+                return current;
+            }
+
+            long before = state.generation().get();
+            List<SeminarResponseDTO> seminars = seminarRepository
+                    .findActiveWithAvailableSeatsByProgramFetchingProgram(academicProgramId)
+                    .stream()
+                    .map(SeminarAvailabilityCache::toResponse)
+                    .toList();
+
+            Listing loaded = new Listing(seminars, etag(seminars), System.nanoTime());
+            // Si hubo una invalidación durante la carga, se usa solo para esta consulta
+            if (state.generation().get() == before) {
+                listingsByProgram.put(academicProgramId, loaded);
+            }
+            return loaded;
+        } finally {
+            state.loadLock().unlock();
+        }
+    }
+
+    private ProgramState state(Long academicProgramId) {
+        return statesByProgram.computeIfAbsent(academicProgramId, id -> new ProgramState());
+    }
+
+    /**
+     * Resumen SHA-256 de los campos de cada seminario que se envían en la respuesta.
+     */
+    private static String etag(List<SeminarResponseDTO> seminars) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+        for (SeminarResponseDTO seminar : seminars) {
+            String fields = String.join("\u001F",
+                    String.valueOf(seminar.getId()),
+                    String.valueOf(seminar.getName()),
+                    String.valueOf(seminar.getDescription()),
+                    String.valueOf(seminar.getTotalCost()),
+                    String.valueOf(seminar.getMinParticipants()),
+                    String.valueOf(seminar.getMaxParticipants()),
+                    String.valueOf(seminar.getCurrentParticipants()),
+                    String.valueOf(seminar.getTotalHours()),
+                    String.valueOf(seminar.getStatus()),
+                    String.valueOf(seminar.getAcademicProgramName()),
+                    String.valueOf(seminar.getFacultyName()),
+                    String.valueOf(seminar.getStartDate()),
+                    String.valueOf(seminar.getEndDate()),
+                    String.valueOf(seminar.getCreatedAt()),
+                    String.valueOf(seminar.getUpdatedAt()));
+            digest.update(fields.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0x1E);
+        }
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static SeminarResponseDTO toResponse(Seminar seminar) {
+        int availableSeats = seminar.getMaxParticipants() - seminar.getCurrentParticipants();
+
+        String statusDescription;
+        if (availableSeats > 0) {
+            statusDescription = "Cupos disponibles: " + availableSeats;
+        } else {
+            statusDescription = "Sin cupos disponibles";
+        }
+
+        return SeminarResponseDTO.builder()
+                .id(seminar.getId())
+                .name(seminar.getName())
+                .description(seminar.getDescription())
+                .totalCost(seminar.getTotalCost())
+                .minParticipants(seminar.getMinParticipants())
+                .maxParticipants(seminar.getMaxParticipants())
+                .currentParticipants(seminar.getCurrentParticipants())
+                .availableSpots(availableSeats)
+                .totalHours(seminar.getTotalHours())
+                .status(seminar.getStatus() != null ? seminar.getStatus().name() : null)
+                .statusDescription(statusDescription)
+                .academicProgramId(seminar.getAcademicProgram().getId())
+                .academicProgramName(seminar.getAcademicProgram().getName())
+                .facultyName(seminar.getAcademicProgram().getFaculty().getName())
+                .startDate(seminar.getStartDate())
+                .endDate(seminar.getEndDate())
+                .createdAt(seminar.getCreatedAt())
+                .updatedAt(seminar.getUpdatedAt())
+                .canEnroll(null)
+                .build();
+    }
+
+    /**
+     * Listado de seminarios de un programa. Los DTO se comparten entre solicitudes y no
+     * deben modificarse.
+     *
+     * @param etag versión del listado, para respuestas condicionales
+     */
+    public record Listing(List<SeminarResponseDTO> seminars, String etag, long loadedAt) {
+    }
+
+    /**
+     * @param generation cambia en cada invalidación del programa, para no guardar una carga
+     *                   que empezó antes del cambio
+     */
+    private record ProgramState(ReentrantLock loadLock, AtomicLong generation) {
+        ProgramState() {
+            this(new ReentrantLock(), new AtomicLong());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.SIGMA.USCO.Modalities.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * Completa student_modalities.updated_at y lo declara NOT NULL.
+ *
+ * Los listados de modalidades se paginan con (updated_at, id) &lt; cursor sobre índices que
+ * incluyen esas columnas; una fila con updated_at nulo no entraría en ninguna página. Las filas
+ * anteriores sin fecha toman la de selección de la modalidad. Hibernate no cambia la nulabilidad
+ * de una columna existente al actualizar el esquema, por eso se ajusta aquí, una vez que
+ * Hibernate actualizó el esquema y antes de que arranque el servidor web.
+ */
+@Component
+@Slf4j
+public class StudentModalityUpdatedAtInitializer implements SmartInitializingSingleton {
+
+    private static final String TABLE = "student_modalities";
+    private static final String COLUMN = "updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+
+    // EntityManagerFactory solo para inicializar después de que Hibernate creó la tabla
+    public StudentModalityUpdatedAtInitializer(JdbcTemplate jdbcTemplate,
+                                               EntityManagerFactory entityManagerFactory,
+                                               @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            String schemaPattern = schema == null || schema.isBlank() ? null : schema;
+            ColumnState column = jdbcTemplate.execute((ConnectionCallback<ColumnState>) connection -> {
+                DatabaseMetaData metaData = connection.getMetaData();
+                for (String[] name : new String[][]{{TABLE, COLUMN}, {TABLE.toUpperCase(), COLUMN.toUpperCase()}}) {
+                    try (ResultSet columns = metaData.getColumns(connection.getCatalog(), schemaPattern, name[0], name[1])) {
+                        if (columns.next()) {
+                            return new ColumnState(metaData.getDatabaseProductName(),
+                                    columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls);
+                        }
+                    }
+                }
+                return null;
+            });
+            if (column == null || !column.nullable()) {
+                return;
+            }
+
+            String table = schemaPattern == null ? TABLE : schemaPattern + "." + TABLE;
+            int filled = jdbcTemplate.update("UPDATE " + table + " SET " + COLUMN
+                    + " = COALESCE(selection_date, CURRENT_TIMESTAMP) WHERE " + COLUMN + " IS NULL");
+            if ("PostgreSQL".equalsIgnoreCase(column.database())) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + COLUMN + " SET NOT NULL");
+            } else if ("MySQL".equalsIgnoreCase(column.database())) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + COLUMN + " DATETIME(6) NOT NULL");
+            }
+            log.info("Columna {}.{} completada en {} filas y declarada NOT NULL", TABLE, COLUMN, filled);
+        } catch (DataAccessException e) {
+            log.warn("No se pudo declarar NOT NULL la columna {}.{}: {}", TABLE, COLUMN, e.getMessage());
+        }
+    }
+
+    private record ColumnState(String database, boolean nullable) {
+    }
+}
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "program_authorities",
         uniqueConstraints = @UniqueConstraint(
                 columnNames = {"user_id", "academic_program_id", "role"}
-        ))
+        ),
+        indexes = @Index(name = "idx_program_authorities_role_program", columnList = "role, academic_program_id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,8 +12,10 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -47,7 +49,8 @@ public class User implements UserDetails {
     @JoinTable(
             name = "users_roles",
             joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "role_id")
+            inverseJoinColumns = @JoinColumn(name = "role_id"),
+            indexes = @Index(name = "idx_users_roles_role", columnList = "role_id")
     )
     private Set<Role> roles;
 
@@ -59,6 +62,52 @@ public class User implements UserDetails {
 
     private LocalDateTime lastUpdateDate;
 
+    /** Nombre, apellido y correo en minúsculas y sin tildes, para la búsqueda de usuarios */
+    @Column(name = "name_search")
+    private String nameSearch;
+
+    @Column(name = "last_name_search")
+    private String lastNameSearch;
+
+    @Column(name = "email_search")
+    private String emailSearch;
+
+    @PrePersist
+    @PreUpdate
+    public void updateSearchColumns() {
+        this.nameSearch = toSearchKey(name);
+        this.lastNameSearch = toSearchKey(lastName);
+        this.emailSearch = toSearchKey(email);
+    }
+
+    /**
+     * Forma de búsqueda de un texto: sin tildes, en minúsculas y con espacios simples.
+     */
+    public static String toSearchKey(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Patrón LIKE "contiene" sobre la forma de búsqueda del texto, con '!' como carácter de escape.
+     */
+    public static String toSearchPattern(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String escaped = toSearchKey(value)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return roles.stream()
@@ -126,9 +126,11 @@ public class AdminController {
             @Parameter(description = "Filtrar por ID de facultad") @RequestParam(required = false) Long facultyId,
             @Parameter(description = "Filtrar por nombre (búsqueda parcial)") @RequestParam(required = false) String name,
             @Parameter(description = "Filtrar por apellido (búsqueda parcial)") @RequestParam(required = false) String lastName,
-            @Parameter(description = "Filtrar por email (búsqueda parcial)") @RequestParam(required = false) String email
+            @Parameter(description = "Filtrar por email (búsqueda parcial)") @RequestParam(required = false) String email,
+            @Parameter(description = "Cantidad de usuarios por página (máximo 200); sin tamaño ni cursor se devuelven todos") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Cursor de la página siguiente (encabezado X-Next-Cursor)") @RequestParam(required = false) String cursor
     ) {
-        return adminService.getUsers(status, role, academicProgramId, facultyId, name, lastName, email);
+        return adminService.getUsers(status, role, academicProgramId, facultyId, name, lastName, email, size, cursor);
     }
 
     @Operation(summary = "Desactivar usuario", description = "Desactiva un usuario específico por su ID")
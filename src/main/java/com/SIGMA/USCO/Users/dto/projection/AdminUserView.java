@@ -0,0 +1,29 @@
+package com.SIGMA.USCO.Users.dto.projection;
+
+import com.SIGMA.USCO.Users.Entity.enums.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de un usuario para la búsqueda de administración, con el programa y la
+ * facultad de su perfil de estudiante (null si no es estudiante).
+ */
+public interface AdminUserView {
+
+    Long getId();
+
+    String getName();
+
+    String getLastName();
+
+    String getEmail();
+
+    Status getStatus();
+
+    LocalDateTime getCreationDate();
+
+    String getStudentProgramName();
+
+    String getStudentFacultyName();
+
+}
@@ -0,0 +1,21 @@
+package com.SIGMA.USCO.Users.dto.projection;
+
+import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
+
+/**
+ * Proyección de una autoridad de programa con solo los identificadores, sin cargar
+ * el usuario ni el programa académico.
+ */
+public interface ProgramAuthorityView {
+
+    Long getId();
+
+    Long getUserId();
+
+    Long getAcademicProgramId();
+
+    Long getFacultyId();
+
+    ProgramRole getRole();
+
+}
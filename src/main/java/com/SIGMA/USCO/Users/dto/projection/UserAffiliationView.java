@@ -0,0 +1,14 @@
+package com.SIGMA.USCO.Users.dto.projection;
+
+/**
+ * Proyección de un programa académico (y su facultad) en el que un usuario tiene autoridad.
+ */
+public interface UserAffiliationView {
+
+    Long getUserId();
+
+    String getAcademicProgramName();
+
+    String getFacultyName();
+
+}
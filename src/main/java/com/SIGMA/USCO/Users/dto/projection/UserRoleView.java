@@ -0,0 +1,12 @@
+package com.SIGMA.USCO.Users.dto.projection;
+
+/**
+ * Proyección con el nombre de uno de los roles de un usuario.
+ */
+public interface UserRoleView {
+
+    Long getUserId();
+
+    String getRoleName();
+
+}
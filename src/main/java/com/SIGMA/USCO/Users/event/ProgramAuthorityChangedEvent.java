@@ -0,0 +1,11 @@
+package com.SIGMA.USCO.Users.event;
+
+/**
+ * Evento publicado cuando se asigna o se retira una autoridad de programa
+ * (director de programa, comité, director de proyecto o jurado).
+ *
+ * @param userId ID del usuario afectado
+ * @param academicProgramId ID del programa académico afectado
+ */
+public record ProgramAuthorityChangedEvent(Long userId, Long academicProgramId) {
+}
@@ -3,10 +3,35 @@ package com.SIGMA.USCO.Users.repository;
 
 import com.SIGMA.USCO.Users.Entity.BlackListedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BlackListedTokenRepository extends JpaRepository<BlackListedToken, Long> {
-    boolean existsByToken(String token);
-    Optional<BlackListedToken> findByToken(String token);
+
+    boolean existsByTokenHash(String tokenHash);
+
+    /**
+     * Tokens revocados que todavía no han expirado
+     */
+    List<BlackListedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * Tokens vigentes revocados después de la fecha indicada, por esta u otra instancia
+     */
+    List<BlackListedToken> findByRevokedAtAfterAndExpiresAtAfter(LocalDateTime revokedAfter, LocalDateTime now);
+
+    /**
+     * Elimina los tokens revocados que ya expiraron
+     *
+     * @return Cantidad de registros eliminados
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BlackListedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
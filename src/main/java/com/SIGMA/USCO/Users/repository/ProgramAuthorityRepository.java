@@ -1,12 +1,18 @@
 package com.SIGMA.USCO.Users.repository;
 
 import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.Modalities.dto.response.ProjectDirectorResponse;
 import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
 import com.SIGMA.USCO.Users.Entity.ProgramAuthority;
 import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
+import com.SIGMA.USCO.Users.dto.projection.ProgramAuthorityView;
+import com.SIGMA.USCO.Users.dto.projection.UserAffiliationView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +47,100 @@ public interface ProgramAuthorityRepository extends JpaRepository<ProgramAuthori
     boolean existsByUser_IdAndAcademicProgram_Id(Long userId, Long academicProgramId);
 
     boolean existsByUser_IdAndAcademicProgram_IdAndRoleIn(Long id, Long academicProgramId, List<ProgramRole> programHead);
+
+    /**
+     * Todas las autoridades de programa como identificadores, para la caché de autoridades.
+     */
+    @Query("""
+        SELECT pa.id AS id,
+            pa.user.id AS userId,
+            pa.academicProgram.id AS academicProgramId,
+            pa.academicProgram.faculty.id AS facultyId,
+            pa.role AS role
+        FROM ProgramAuthority pa
+        ORDER BY pa.id
+        """)
+    List<ProgramAuthorityView> findAllViews();
+
+    /**
+     * Usuarios con el rol de programa indicado, opcionalmente filtrados por programa
+     * académico y facultad.
+     */
+    @Query("""
+        SELECT DISTINCT new com.SIGMA.USCO.Modalities.dto.response.ProjectDirectorResponse(
+            u.id, u.name, u.lastName, u.email)
+        FROM ProgramAuthority pa
+        JOIN pa.user u
+        JOIN pa.academicProgram ap
+        WHERE pa.role = :role
+        AND (:academicProgramId IS NULL OR ap.id = :academicProgramId)
+        AND (:facultyId IS NULL OR ap.faculty.id = :facultyId)
+        ORDER BY u.lastName, u.name
+        """)
+    List<ProjectDirectorResponse> findDirectoryByRole(
+            @Param("role") ProgramRole role,
+            @Param("academicProgramId") Long academicProgramId,
+            @Param("facultyId") Long facultyId
+    );
+
+    /**
+     * Usuarios con el rol de sistema indicado (por ejemplo EXAMINER) que tienen alguna
+     * autoridad en el programa académico o la facultad indicados.
+     */
+    @Query("""
+        SELECT DISTINCT new com.SIGMA.USCO.Modalities.dto.response.ProjectDirectorResponse(
+            u.id, u.name, u.lastName, u.email)
+        FROM ProgramAuthority pa
+        JOIN pa.user u
+        JOIN u.roles r
+        JOIN pa.academicProgram ap
+        WHERE r.name = :roleName
+        AND (:academicProgramId IS NULL OR ap.id = :academicProgramId)
+        AND (:facultyId IS NULL OR ap.faculty.id = :facultyId)
+        ORDER BY u.lastName, u.name
+        """)
+    List<ProjectDirectorResponse> findDirectoryByUserRole(
+            @Param("roleName") String roleName,
+            @Param("academicProgramId") Long academicProgramId,
+            @Param("facultyId") Long facultyId
+    );
+
+    /**
+     * Usuarios con el rol de sistema indicado que tienen alguna autoridad en cualquiera
+     * de los programas académicos indicados.
+     */
+    @Query("""
+        SELECT DISTINCT new com.SIGMA.USCO.Modalities.dto.response.ProjectDirectorResponse(
+            u.id, u.name, u.lastName, u.email)
+        FROM ProgramAuthority pa
+        JOIN pa.user u
+        JOIN u.roles r
+        WHERE r.name = :roleName
+        AND pa.academicProgram.id IN :academicProgramIds
+        ORDER BY u.lastName, u.name
+        """)
+    List<ProjectDirectorResponse> findDirectoryByUserRoleInPrograms(
+            @Param("roleName") String roleName,
+            @Param("academicProgramIds") Collection<Long> academicProgramIds
+    );
+
+    /**
+     * Programas académicos (y facultades) en los que los usuarios tienen autoridad,
+     * opcionalmente filtrados por programa y facultad.
+     */
+    @Query("""
+        SELECT pa.user.id AS userId, ap.name AS academicProgramName, f.name AS facultyName
+        FROM ProgramAuthority pa
+        JOIN pa.academicProgram ap
+        JOIN ap.faculty f
+        WHERE pa.user.id IN :userIds
+        AND (:academicProgramId IS NULL OR ap.id = :academicProgramId)
+        AND (:facultyId IS NULL OR f.id = :facultyId)
+        ORDER BY pa.id
+        """)
+    List<UserAffiliationView> findAffiliationsByUserIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("academicProgramId") Long academicProgramId,
+            @Param("facultyId") Long facultyId
+    );
 }
@@ -1,12 +1,16 @@
 package com.SIGMA.USCO.Users.repository;
 
-
+import com.SIGMA.USCO.Modalities.dto.response.ProjectDirectorResponse;
 import com.SIGMA.USCO.Users.Entity.enums.Status;
 import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.dto.projection.AdminUserView;
+import com.SIGMA.USCO.Users.dto.projection.UserRoleView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +20,84 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     List<User> findAllByRoles_Name(String roleName);
 
+    /**
+     * Datos de contacto de los usuarios con el rol indicado, sin cargar las entidades.
+     */
+    @Query("""
+        SELECT DISTINCT new com.SIGMA.USCO.Modalities.dto.response.ProjectDirectorResponse(
+            u.id, u.name, u.lastName, u.email)
+        FROM User u
+        JOIN u.roles r
+        WHERE r.name = :roleName
+        ORDER BY u.lastName, u.name
+        """)
+    List<ProjectDirectorResponse> findDirectoryByRoleName(@Param("roleName") String roleName);
+
 
     List<User> findByStatus(Status status);
 
+    /**
+     * Búsqueda de usuarios para administración, ordenada por ID para paginar por cursor.
+     *
+     * Los textos se comparan contra las columnas normalizadas (minúsculas y sin tildes) y
+     * deben llegar como patrón LIKE con '!' como carácter de escape. El filtro por programa
+     * o facultad usa el perfil de estudiante y, si el usuario no es estudiante, sus
+     * autoridades de programa.
+     */
+    @Query("""
+        SELECT u.id AS id, u.name AS name, u.lastName AS lastName, u.email AS email,
+            u.status AS status, u.creationDate AS creationDate,
+            ap.name AS studentProgramName, f.name AS studentFacultyName
+        FROM User u
+        LEFT JOIN StudentProfile sp ON sp.user = u
+        LEFT JOIN sp.academicProgram ap
+        LEFT JOIN sp.faculty f
+        WHERE (:status IS NULL OR u.status = :status)
+        AND (:roleName IS NULL OR EXISTS (
+            SELECT 1 FROM User ru JOIN ru.roles r
+            WHERE ru.id = u.id AND r.name = :roleName))
+        AND (:namePattern IS NULL OR u.nameSearch LIKE :namePattern ESCAPE '!')
+        AND (:lastNamePattern IS NULL OR u.lastNameSearch LIKE :lastNamePattern ESCAPE '!')
+        AND (:emailPattern IS NULL OR u.emailSearch LIKE :emailPattern ESCAPE '!')
+        AND (
+            (:academicProgramId IS NULL AND :facultyId IS NULL)
+            OR (sp.id IS NOT NULL
+                AND (:academicProgramId IS NULL OR ap.id = :academicProgramId)
+                AND (:facultyId IS NULL OR f.id = :facultyId))
+            OR (sp.id IS NULL AND EXISTS (
+                SELECT 1 FROM ProgramAuthority pa
+                WHERE pa.user.id = u.id
+                AND (:academicProgramId IS NULL OR pa.academicProgram.id = :academicProgramId)
+                AND (:facultyId IS NULL OR pa.academicProgram.faculty.id = :facultyId)))
+        )
+        AND (:afterId IS NULL OR u.id > :afterId)
+        ORDER BY u.id
+        """)
+    List<AdminUserView> searchForAdmin(
+            @Param("status") Status status,
+            @Param("roleName") String roleName,
+            @Param("namePattern") String namePattern,
+            @Param("lastNamePattern") String lastNamePattern,
+            @Param("emailPattern") String emailPattern,
+            @Param("academicProgramId") Long academicProgramId,
+            @Param("facultyId") Long facultyId,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Query("""
+        SELECT u.id AS userId, r.name AS roleName
+        FROM User u
+        JOIN u.roles r
+        WHERE u.id IN :userIds
+        """)
+    List<UserRoleView> findRoleNamesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Usuarios cuyas columnas de búsqueda aún no se han calculado (registros anteriores a ellas).
+     */
+    List<User> findByNameSearchIsNullAndNameIsNotNull(Limit limit);
+
     // ==================== NUEVOS MÉTODOS PARA MODALIDADES GRUPALES ====================
 
     /**
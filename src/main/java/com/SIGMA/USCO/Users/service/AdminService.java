@@ -12,6 +12,9 @@ import com.SIGMA.USCO.Users.Entity.Role;
 import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
 import com.SIGMA.USCO.Users.Entity.enums.Status;
 import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.dto.projection.AdminUserView;
+import com.SIGMA.USCO.Users.dto.projection.UserAffiliationView;
+import com.SIGMA.USCO.Users.dto.projection.UserRoleView;
 import com.SIGMA.USCO.Users.dto.request.AssignExaminerMultipleProgramsRequest;
 import com.SIGMA.USCO.Users.dto.request.assignAuthorityProgram;
 import com.SIGMA.USCO.Users.dto.request.PermissionDTO;
@@ -19,18 +22,20 @@ import com.SIGMA.USCO.Users.dto.request.RegisterUserByAdminRequest;
 import com.SIGMA.USCO.Users.dto.request.RoleRequest;
 import com.SIGMA.USCO.Users.dto.request.UpdateUserRequest;
 import com.SIGMA.USCO.Users.dto.response.UserResponse;
+import com.SIGMA.USCO.Users.event.ProgramAuthorityChangedEvent;
 import com.SIGMA.USCO.Users.repository.PermissionRepository;
 import com.SIGMA.USCO.Users.repository.ProgramAuthorityRepository;
 import com.SIGMA.USCO.Users.repository.RoleRepository;
 import com.SIGMA.USCO.Users.repository.UserRepository;
 import com.SIGMA.USCO.academic.entity.AcademicProgram;
-import com.SIGMA.USCO.academic.entity.StudentProfile;
 import com.SIGMA.USCO.academic.repository.AcademicProgramRepository;
-import com.SIGMA.USCO.academic.repository.StudentProfileRepository;
+import com.SIGMA.USCO.config.PageCursor;
 import com.SIGMA.USCO.documents.dto.RequiredDocumentDTO;
 import com.SIGMA.USCO.documents.repository.RequiredDocumentRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -55,8 +60,11 @@ public class AdminService {
     private final RequiredDocumentRepository requiredDocumentRepository;
     private final AcademicProgramRepository academicProgramRepository;
     private final ProgramAuthorityRepository programAuthorityRepository;
-    private final StudentProfileRepository studentProfileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private static final int DEFAULT_USER_PAGE_SIZE = 50;
+    private static final int MAX_USER_PAGE_SIZE = 200;
 
 
     public ResponseEntity<?> getRoles() {
@@ -201,153 +209,118 @@ public class AdminService {
         );
     }
 
-    public ResponseEntity<?> getUsers(String status, String role, Long academicProgramId, Long facultyId, 
-                                       String name, String lastName, String email) {
-
-        List<User> users;
+    /**
+     * Búsqueda paginada de usuarios, resuelta en la base de datos.
+     *
+     * Nombre, apellido y correo se comparan sin distinguir mayúsculas ni tildes. Se retorna
+     * una fila por cada programa del usuario (su programa de estudiante o cada programa en el
+     * que tiene autoridad). Si hay más resultados, el cursor de la siguiente página se envía
+     * en el encabezado {@link PageCursor#NEXT_CURSOR_HEADER}.
+     */
+    public ResponseEntity<?> getUsers(String status, String role, Long academicProgramId, Long facultyId,
+                                       String name, String lastName, String email, Integer size, String cursor) {
 
-        if (status == null || status.isBlank()) {
-            users = userRepository.findAll();
-        } else {
-            Status userStatus;
+        Status userStatus = null;
+        if (status != null && !status.isBlank()) {
             try {
                 userStatus = Status.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 return ResponseEntity.badRequest()
                         .body("Estado inválido. Use ACTIVE o INACTIVE");
             }
-            users = userRepository.findByStatus(userStatus);
         }
 
-        if (role != null && !role.isBlank()) {
-            final String roleNameUpper = role.toUpperCase();
-            users = users.stream()
-                    .filter(user -> user.getRoles().stream()
-                            .anyMatch(r -> r.getName().equalsIgnoreCase(roleNameUpper)))
-                    .toList();
+        Long afterId;
+        try {
+            afterId = PageCursor.decodeId(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
 
-        // Aplicar filtros de búsqueda por nombre, apellido y email
-        if (name != null && !name.isBlank()) {
-            final String searchName = name.toLowerCase();
-            users = users.stream()
-                    .filter(user -> user.getName().toLowerCase().contains(searchName))
-                    .toList();
+        // Sin tamaño ni cursor se devuelve el listado completo, como antes de la paginación
+        Integer pageSize = null;
+        if (size != null || afterId != null) {
+            pageSize = size == null || size <= 0 ? DEFAULT_USER_PAGE_SIZE : Math.min(size, MAX_USER_PAGE_SIZE);
         }
 
-        if (lastName != null && !lastName.isBlank()) {
-            final String searchLastName = lastName.toLowerCase();
-            users = users.stream()
-                    .filter(user -> user.getLastName().toLowerCase().contains(searchLastName))
-                    .toList();
-        }
+        List<AdminUserView> rows = userRepository.searchForAdmin(
+                userStatus,
+                role != null && !role.isBlank() ? role.toUpperCase() : null,
+                User.toSearchPattern(name),
+                User.toSearchPattern(lastName),
+                User.toSearchPattern(email),
+                academicProgramId,
+                facultyId,
+                afterId,
+                pageSize != null ? Limit.of(pageSize + 1) : Limit.unlimited()
+        );
 
-        if (email != null && !email.isBlank()) {
-            final String searchEmail = email.toLowerCase();
-            users = users.stream()
-                    .filter(user -> user.getEmail().toLowerCase().contains(searchEmail))
-                    .toList();
+        boolean hasMore = pageSize != null && rows.size() > pageSize;
+        List<AdminUserView> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        if (pageRows.isEmpty()) {
+            return ResponseEntity.ok(List.of());
         }
 
+        List<Long> userIds = pageRows.stream().map(AdminUserView::getId).toList();
+
+        Map<Long, Set<String>> rolesByUser = userRepository.findRoleNamesByUserIds(userIds).stream()
+                .collect(Collectors.groupingBy(UserRoleView::getUserId,
+                        Collectors.mapping(UserRoleView::getRoleName, Collectors.toSet())));
+
+        List<Long> nonStudentIds = pageRows.stream()
+                .filter(row -> row.getStudentProgramName() == null)
+                .map(AdminUserView::getId)
+                .toList();
+        Map<Long, List<UserAffiliationView>> affiliationsByUser = nonStudentIds.isEmpty()
+                ? Map.of()
+                : programAuthorityRepository.findAffiliationsByUserIds(nonStudentIds, academicProgramId, facultyId)
+                        .stream()
+                        .collect(Collectors.groupingBy(UserAffiliationView::getUserId));
+
         List<UserResponse> userResponses = new ArrayList<>();
 
-        for (User user : users) {
-            // Obtener todos los perfiles de autoridad del usuario
-            Optional<StudentProfile> studentProfile = studentProfileRepository.findByUserId(user.getId());
-            
-            if (studentProfile.isPresent()) {
-                // Si es estudiante, usar su programa académico
-                StudentProfile sp = studentProfile.get();
-                Long userFacultyId = sp.getFaculty().getId();
-                Long userAcademicProgramId = sp.getAcademicProgram().getId();
+        for (AdminUserView row : pageRows) {
+            Set<String> roles = rolesByUser.getOrDefault(row.getId(), Set.of());
 
-                // Aplicar filtros
-                if (facultyId != null && !userFacultyId.equals(facultyId)) {
-                    continue;
-                }
-                if (academicProgramId != null && !userAcademicProgramId.equals(academicProgramId)) {
-                    continue;
-                }
+            if (row.getStudentProgramName() != null) {
+                // Si es estudiante, usar su programa académico
+                userResponses.add(toUserResponse(row, roles, row.getStudentFacultyName(), row.getStudentProgramName()));
+                continue;
+            }
 
-                userResponses.add(
-                    UserResponse.builder()
-                            .id(user.getId())
-                            .name(user.getName())
-                            .lastname(user.getLastName())
-                            .email(user.getEmail())
-                            .status(user.getStatus())
-                            .roles(
-                                    user.getRoles().stream()
-                                            .map(Role::getName)
-                                            .collect(Collectors.toSet())
-                            )
-                            .faculty(sp.getFaculty().getName())
-                            .academicProgram(sp.getAcademicProgram().getName())
-                            .createdDate(user.getCreationDate())
-                            .build()
-                );
-            } else {
-                // Si no es estudiante, usar sus ProgramAuthority
-                List<ProgramAuthority> authorities = programAuthorityRepository.findByUser_Id(user.getId());
-                
-                if (authorities.isEmpty()) {
-                    // Usuario sin perfil de estudiante ni autoridades: mostrar sin facultad/programa
-                    if (facultyId == null && academicProgramId == null) {
-                        userResponses.add(
-                            UserResponse.builder()
-                                    .id(user.getId())
-                                    .name(user.getName())
-                                    .lastname(user.getLastName())
-                                    .email(user.getEmail())
-                                    .status(user.getStatus())
-                                    .roles(
-                                            user.getRoles().stream()
-                                                    .map(Role::getName)
-                                                    .collect(Collectors.toSet())
-                                    )
-                                    .faculty(null)
-                                    .academicProgram(null)
-                                    .createdDate(user.getCreationDate())
-                                    .build()
-                        );
-                    }
-                } else {
-                    // Crear un UserResponse para CADA autoridad que coincida con los filtros
-                    for (ProgramAuthority authority : authorities) {
-                        Long userFacultyId = authority.getAcademicProgram().getFaculty().getId();
-                        Long userAcademicProgramId = authority.getAcademicProgram().getId();
-
-                        // Aplicar filtros
-                        if (facultyId != null && !userFacultyId.equals(facultyId)) {
-                            continue;
-                        }
-                        if (academicProgramId != null && !userAcademicProgramId.equals(academicProgramId)) {
-                            continue;
-                        }
-
-                        userResponses.add(
-                            UserResponse.builder()
-                                    .id(user.getId())
-                                    .name(user.getName())
-                                    .lastname(user.getLastName())
-                                    .email(user.getEmail())
-                                    .status(user.getStatus())
-                                    .roles(
-                                            user.getRoles().stream()
-                                                    .map(Role::getName)
-                                                    .collect(Collectors.toSet())
-                                    )
-                                    .faculty(authority.getAcademicProgram().getFaculty().getName())
-                                    .academicProgram(authority.getAcademicProgram().getName())
-                                    .createdDate(user.getCreationDate())
-                                    .build()
-                        );
-                    }
-                }
+            // Si no es estudiante, una fila por cada autoridad que coincida con los filtros
+            List<UserAffiliationView> affiliations = affiliationsByUser.getOrDefault(row.getId(), List.of());
+            if (affiliations.isEmpty()) {
+                // Usuario sin perfil de estudiante ni autoridades: mostrar sin facultad/programa
+                userResponses.add(toUserResponse(row, roles, null, null));
+            }
+            for (UserAffiliationView affiliation : affiliations) {
+                userResponses.add(toUserResponse(row, roles,
+                        affiliation.getFacultyName(), affiliation.getAcademicProgramName()));
             }
         }
 
-        return ResponseEntity.ok(userResponses);
+        if (!hasMore) {
+            return ResponseEntity.ok(userResponses);
+        }
+
+        return ResponseEntity.ok()
+                .header(PageCursor.NEXT_CURSOR_HEADER, PageCursor.encodeId(pageRows.get(pageRows.size() - 1).getId()))
+                .body(userResponses);
+    }
+
+    private UserResponse toUserResponse(AdminUserView row, Set<String> roles, String faculty, String academicProgram) {
+        return UserResponse.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .lastname(row.getLastName())
+                .email(row.getEmail())
+                .status(row.getStatus())
+                .roles(roles)
+                .faculty(faculty)
+                .academicProgram(academicProgram)
+                .createdDate(row.getCreationDate())
+                .build();
     }
 
     public ResponseEntity<?> desactiveUser(Long userId) {
@@ -388,7 +361,7 @@ public class AdminService {
                 .role(ProgramRole.PROGRAM_HEAD)
                 .build();
 
-        programAuthorityRepository.save(authority);
+        saveAuthority(authority);
         return authority;
     }
 
@@ -415,7 +388,7 @@ public class AdminService {
                 .role(ProgramRole.PROJECT_DIRECTOR)
                 .build();
 
-        programAuthorityRepository.save(authority);
+        saveAuthority(authority);
         return authority;
     }
 
@@ -442,7 +415,7 @@ public class AdminService {
                 .role(ProgramRole.PROGRAM_CURRICULUM_COMMITTEE)
                 .build();
 
-        programAuthorityRepository.save(authority);
+        saveAuthority(authority);
         return authority;
     }
 
@@ -477,7 +450,7 @@ public class AdminService {
                 .role(ProgramRole.EXAMINER)
                 .build();
 
-        programAuthorityRepository.save(authority);
+        saveAuthority(authority);
         return authority;
     }
 
@@ -518,7 +491,7 @@ public class AdminService {
                 .role(ProgramRole.EXAMINER)
                 .build();
 
-        programAuthorityRepository.save(authority);
+        saveAuthority(authority);
 
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -554,6 +527,7 @@ public class AdminService {
         }
 
         programAuthorityRepository.deleteAll(authorities);
+        applicationEventPublisher.publishEvent(new ProgramAuthorityChangedEvent(userId, academicProgramId));
 
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -629,7 +603,7 @@ public class AdminService {
                     .role(ProgramRole.EXAMINER)
                     .build();
 
-            programAuthorityRepository.save(authority);
+            saveAuthority(authority);
 
             assigned.add(Map.of(
                     "academicProgramId", program.getId(),
@@ -856,7 +830,7 @@ public class AdminService {
                         .role(ProgramRole.EXAMINER)
                         .build();
 
-                programAuthorityRepository.save(authority);
+                saveAuthority(authority);
 
                 assigned.add(Map.of(
                         "academicProgramId", program.getId(),
@@ -896,7 +870,7 @@ public class AdminService {
                     .role(programRole)
                     .build();
 
-            programAuthorityRepository.save(authority);
+            saveAuthority(authority);
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -913,4 +887,12 @@ public class AdminService {
         ));
     }
 
+    /**
+     * Guarda la autoridad de programa y avisa a la caché de autoridades.
+     */
+    private void saveAuthority(ProgramAuthority authority) {
+        programAuthorityRepository.save(authority);
+        applicationEventPublisher.publishEvent(new ProgramAuthorityChangedEvent(
+                authority.getUser().getId(), authority.getAcademicProgram().getId()));
+    }
 }
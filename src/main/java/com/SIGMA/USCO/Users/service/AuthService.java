@@ -8,6 +8,7 @@ import com.SIGMA.USCO.Users.repository.*;
 import com.SIGMA.USCO.academic.repository.StudentProfileRepository;
 import com.SIGMA.USCO.config.EmailService;
 import com.SIGMA.USCO.security.JwtService;
+import com.SIGMA.USCO.security.TokenRevocationStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -31,7 +32,7 @@ public class AuthService {
     private final PasswordResetTokenRepository tokenRepository;
     private final EmailService emailService;
     private final RoleRepository roleRepository;
-    private final BlackListedTokenRepository blackListedTokenRepository;
+    private final TokenRevocationStore tokenRevocationStore;
     private final StudentProfileRepository studentProfileRepository;
 
     public ResponseEntity<?> register(AuthRequest request) {
@@ -171,11 +172,7 @@ public class AuthService {
             return ResponseEntity.badRequest().body("Token no proporcionado.");
         }
 
-        if (!blackListedTokenRepository.existsByToken(token)) {
-            BlackListedToken blackListedToken = BlackListedToken.builder()
-                    .token(token)
-                    .build();
-            blackListedTokenRepository.save(blackListedToken);
+        if (tokenRevocationStore.revoke(token)) {
             return ResponseEntity.ok("Cierre de sesión exitoso.");
         } else {
             return ResponseEntity.badRequest().body("El token ya ha sido invalidado.");
@@ -0,0 +1,169 @@
+package com.SIGMA.USCO.Users.service;
+
+import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
+import com.SIGMA.USCO.Users.dto.projection.ProgramAuthorityView;
+import com.SIGMA.USCO.Users.event.ProgramAuthorityChangedEvent;
+import com.SIGMA.USCO.Users.repository.ProgramAuthorityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Autoridades de programa (usuario, programa académico y rol) en memoria, indexadas por
+ * usuario y por programa y rol.
+ *
+ * Casi todas las solicitudes de directores, comité y jurados consultan estas asignaciones
+ * para autorizar o filtrar por programa, y cambian pocas veces por semestre. La tabla se
+ * carga completa y se vuelve a cargar cuando se asigna o retira una autoridad, o cuando
+ * vence el tiempo de vida (cambios hechos desde otra instancia).
+ */
+@Component
+@Slf4j
+public class ProgramAuthorityCache {
+
+    private final ProgramAuthorityRepository programAuthorityRepository;
+    private final long ttlNanos;
+
+    /** null hasta la primera consulta o después de una invalidación */
+    private volatile Snapshot snapshot;
+
+    /** Cambia en cada invalidación para no guardar una carga que empezó antes del cambio */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** Una sola carga a la vez; un lock y no synchronized, para no fijar un hilo virtual durante la consulta */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public ProgramAuthorityCache(ProgramAuthorityRepository programAuthorityRepository,
+                                 @Value("${security.program-authorities.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.programAuthorityRepository = programAuthorityRepository;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+    }
+
+    /**
+     * Autoridades del usuario en todos sus programas.
+     */
+    public List<Authority> findByUser(Long userId) {
+        return snapshot().byUser().getOrDefault(userId, List.of());
+    }
+
+    /**
+     * Autoridades con el rol indicado en un programa académico.
+     */
+    public List<Authority> findByProgramAndRole(Long academicProgramId, ProgramRole role) {
+        return snapshot().byProgramAndRole().getOrDefault(new ProgramRoleKey(academicProgramId, role), List.of());
+    }
+
+    /**
+     * IDs de los programas académicos en los que el usuario tiene el rol indicado.
+     */
+    public List<Long> programIds(Long userId, ProgramRole role) {
+        return findByUser(userId).stream()
+                .filter(authority -> authority.role() == role)
+                .map(Authority::academicProgramId)
+                .toList();
+    }
+
+    public boolean hasRole(Long userId, Long academicProgramId, ProgramRole role) {
+        return findByUser(userId).stream()
+                .anyMatch(authority -> authority.role() == role
+                        && authority.academicProgramId().equals(academicProgramId));
+    }
+
+    public boolean hasAnyRole(Long userId, Long academicProgramId, Collection<ProgramRole> roles) {
+        return findByUser(userId).stream()
+                .anyMatch(authority -> roles.contains(authority.role())
+                        && authority.academicProgramId().equals(academicProgramId));
+    }
+
+    /**
+     * Indica si el usuario tiene cualquier rol en el programa académico.
+     */
+    public boolean hasAnyRole(Long userId, Long academicProgramId) {
+        return findByUser(userId).stream()
+                .anyMatch(authority -> authority.academicProgramId().equals(academicProgramId));
+    }
+
+    /**
+     * Descarta las autoridades en memoria; la siguiente consulta las vuelve a cargar.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProgramAuthorityChanged(ProgramAuthorityChangedEvent event) {
+        log.debug("Autoridad de programa modificada (usuario {}, programa {}); recargando caché",
+                event.userId(), event.academicProgramId());
+        invalidate();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAt() < ttlNanos) {
+            return current;
+        }
+        return reload();
+    }
+
+    private Snapshot reload() {
+        reloadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && System.nanoTime() - current.loadedAt() < ttlNanos) {
+                return current;
+            }
+
+            long before = generation.get();
+            Map<Long, List<Authority>> byUser = new HashMap<>();
+            Map<ProgramRoleKey, List<Authority>> byProgramAndRole = new HashMap<>();
+            for (ProgramAuthorityView view : programAuthorityRepository.findAllViews()) {
+                Authority authority = new Authority(view.getId(), view.getUserId(),
+                        view.getAcademicProgramId(), view.getFacultyId(), view.getRole());
+                byUser.computeIfAbsent(authority.userId(), id -> new ArrayList<>()).add(authority);
+                byProgramAndRole.computeIfAbsent(new ProgramRoleKey(authority.academicProgramId(), authority.role()),
+                        key -> new ArrayList<>()).add(authority);
+            }
+
+            Snapshot loaded = new Snapshot(immutable(byUser), immutable(byProgramAndRole), System.nanoTime());
+            // Si hubo una invalidación durante la carga, se usa solo para esta consulta
+            if (generation.get() == before) {
+                snapshot = loaded;
+            }
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static <K> Map<K, List<Authority>> immutable(Map<K, List<Authority>> index) {
+        Map<K, List<Authority>> copy = new HashMap<>(index.size());
+        index.forEach((key, authorities) -> copy.put(key, List.copyOf(authorities)));
+        return Map.copyOf(copy);
+    }
+
+    /**
+     * Autoridad de programa en memoria, solo con identificadores.
+     */
+    public record Authority(Long id, Long userId, Long academicProgramId, Long facultyId, ProgramRole role) {
+    }
+
+    private record ProgramRoleKey(Long academicProgramId, ProgramRole role) {
+    }
+
+    private record Snapshot(Map<Long, List<Authority>> byUser,
+                            Map<ProgramRoleKey, List<Authority>> byProgramAndRole,
+                            long loadedAt) {
+    }
+}
@@ -21,6 +21,7 @@ import com.SIGMA.USCO.documents.entity.enums.DocumentStatus;
 import com.SIGMA.USCO.documents.repository.StudentDocumentRepository;
 import com.SIGMA.USCO.academic.entity.AcademicHistoryPdf;
 import com.SIGMA.USCO.academic.repository.AcademicHistoryPdfRepository;
+import com.SIGMA.USCO.security.AuthenticatedUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
@@ -60,6 +61,7 @@ public class StudentService {
     private String uploadDir;
 
     private final UserRepository userRepository;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
     private final StudentProfileRepository studentProfileRepository;
     private final StudentModalityRepository studentModalityRepository;
     private final StudentModalityMemberRepository studentModalityMemberRepository;
@@ -499,11 +501,7 @@ public class StudentService {
 
     public ResponseEntity<?> viewMyDocument(Long studentDocumentId) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        Long currentUserId = authenticatedUserResolver.currentUserId();
 
         StudentDocument document = studentDocumentRepository.findById(studentDocumentId)
                 .orElseThrow(() -> new RuntimeException("Documento no encontrado"));
@@ -512,7 +510,7 @@ public class StudentService {
         Long studentModalityId = document.getStudentModality().getId();
         boolean isActiveMember = studentModalityMemberRepository.isActiveMember(
                 studentModalityId,
-                currentUser.getId()
+                currentUserId
         );
 
         if (!isActiveMember) {
@@ -0,0 +1,86 @@
+package com.SIGMA.USCO.Users.service;
+
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Prepara la búsqueda de usuarios del administrador al iniciar la aplicación.
+ *
+ * Calcula las columnas de búsqueda de los usuarios creados antes de que existieran y, en
+ * PostgreSQL, crea índices de trigramas para que las búsquedas "contiene" no recorran toda
+ * la tabla. Un índice B-tree no sirve para LIKE '%texto%', así que en los demás motores
+ * esas búsquedas recorren la tabla.
+ */
+@Component
+@Slf4j
+public class UserSearchIndexer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] TRIGRAM_COLUMNS = {"name_search", "last_name_search", "email_search"};
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+
+    public UserSearchIndexer(UserRepository userRepository,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareSearch() {
+        backfillSearchColumns();
+        createTrigramIndexes();
+    }
+
+    void backfillSearchColumns() {
+        int updated = 0;
+        List<User> pending;
+        while (!(pending = userRepository.findByNameSearchIsNullAndNameIsNotNull(Limit.of(BATCH_SIZE))).isEmpty()) {
+            pending.forEach(User::updateSearchColumns);
+            userRepository.saveAll(pending);
+            updated += pending.size();
+            if (pending.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        if (updated > 0) {
+            log.info("Columnas de búsqueda calculadas para {} usuarios", updated);
+        }
+    }
+
+    void createTrigramIndexes() {
+        try {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(database)) {
+                return;
+            }
+
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            String table = schema == null || schema.isBlank() ? "users" : schema + ".users";
+            for (String column : TRIGRAM_COLUMNS) {
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_" + column + "_trgm ON " + table
+                        + " USING gin (" + column + " gin_trgm_ops)");
+            }
+        } catch (DataAccessException e) {
+            // Sin permisos para la extensión las búsquedas recorren la tabla
+            log.warn("No se pudieron crear los índices de trigramas de usuarios: {}", e.getMessage());
+        }
+    }
+}
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "student_profiles")
+@Table(name = "student_profiles",
+        indexes = @Index(name = "idx_student_profiles_program", columnList = "academic_program_id"))
 public class StudentProfile {
     @Id
     @Column(name = "user_id")
@@ -1,8 +1,12 @@
 package com.SIGMA.USCO.academic.repository;
 
 
+import com.SIGMA.USCO.Modalities.dto.groups.EligibleStudentDTO;
 import com.SIGMA.USCO.academic.entity.StudentProfile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +17,43 @@ public interface StudentProfileRepository extends JpaRepository<StudentProfile,
     boolean existsByUserId(Long userId);
 
     List<StudentProfile> findByAcademicProgramId(Long academicProgramId);
+
+    @Query("SELECT sp.academicProgram.id FROM StudentProfile sp WHERE sp.id = :userId")
+    Optional<Long> findAcademicProgramIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * Estudiantes activos del programa que se pueden invitar a una modalidad grupal: con rol
+     * STUDENT y sin ser líderes ni miembros de ninguna modalidad. El nombre se compara contra
+     * "nombre apellido" en su forma de búsqueda.
+     */
+    @Query("""
+        SELECT new com.SIGMA.USCO.Modalities.dto.groups.EligibleStudentDTO(
+            u.id, CONCAT(u.name, ' ', u.lastName), ap.name, sp.semester, sp.studentCode)
+        FROM StudentProfile sp
+        JOIN sp.user u
+        JOIN sp.academicProgram ap
+        WHERE ap.id = :academicProgramId
+        AND u.id <> :excludedUserId
+        AND u.status = com.SIGMA.USCO.Users.Entity.enums.Status.ACTIVE
+        AND EXISTS (
+            SELECT 1 FROM User ru JOIN ru.roles r
+            WHERE ru.id = u.id AND r.name = 'STUDENT')
+        AND NOT EXISTS (
+            SELECT 1 FROM StudentModality sm
+            WHERE sm.leader.id = u.id)
+        AND NOT EXISTS (
+            SELECT 1 FROM StudentModalityMember m
+            WHERE m.student.id = u.id)
+        AND (:namePattern IS NULL
+            OR CONCAT(u.nameSearch, ' ', u.lastNameSearch) LIKE :namePattern ESCAPE '!')
+        AND (:afterId IS NULL OR u.id > :afterId)
+        ORDER BY u.id
+        """)
+    List<EligibleStudentDTO> findEligibleForInvitation(
+            @Param("academicProgramId") Long academicProgramId,
+            @Param("excludedUserId") Long excludedUserId,
+            @Param("namePattern") String namePattern,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
 }
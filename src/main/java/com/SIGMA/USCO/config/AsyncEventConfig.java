@@ -1,39 +1,143 @@
 package com.SIGMA.USCO.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * Ejecutores de los eventos y tareas asíncronas.
+ *
+ * Con {@code spring.threads.virtual.enabled=true} los eventos y las conexiones SMTP usan hilos
+ * virtuales, como Tomcat. Cada ejecutor virtual tiene un límite de tareas simultáneas acorde
+ * al recurso que usa: los eventos, el pool de conexiones a la base de datos; el envío de
+ * correos, las conexiones SMTP permitidas. Al alcanzar el límite, quien envía la tarea espera.
+ * Los ejecutores de reportes y del outbox mantienen sus hilos fijos, porque su tamaño define
+ * el orden y la cantidad de trabajos en paralelo.
+ */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncEventConfig {
 
+    private final boolean virtualThreads;
+
+    public AsyncEventConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     @Bean(name = "notificationTaskExecutor")
-    public Executor notificationTaskExecutor() {
+    public Executor notificationTaskExecutor(
+            @Value("${async.events.virtual-concurrency-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int virtualConcurrencyLimit) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("sigma-notif-", virtualConcurrencyLimit);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(8);
         executor.setMaxPoolSize(24);
         executor.setQueueCapacity(500);
         executor.setThreadNamePrefix("sigma-notif-");
+        // Con la cola llena el evento lo procesa quien lo publica, en vez de perderlo
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(15);
         executor.initialize();
         return executor;
     }
 
+    /**
+     * Un solo hilo para mantener las tablas precalculadas de reportes: los cambios de estado
+     * se aplican en orden y nunca se recalcula el mismo bucket en paralelo
+     */
+    @Bean(name = "reportSnapshotTaskExecutor")
+    public Executor reportSnapshotTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("sigma-report-snapshot-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(15);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool de los trabajos de reportes PDF: pocos hilos para que una ráfaga de exportaciones
+     * no compita con el tráfico interactivo; con la cola llena se rechazan nuevas solicitudes
+     */
+    @Bean(name = "reportJobTaskExecutor")
+    public Executor reportJobTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("sigma-report-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Hilo del envío de correos del outbox. Cada ejecución vacía el outbox, así que basta una
+     * en curso y una en espera; los demás avisos se descartan
+     */
+    @Bean(name = "notificationOutboxExecutor")
+    public Executor notificationOutboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("sigma-mail-outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Conexiones SMTP simultáneas del envío de correos. Sin cola: si todas están ocupadas, el
+     * lote lo envía el hilo del outbox
+     */
+    @Bean(name = "mailConnectionExecutor")
+    public Executor mailConnectionExecutor(@Value("${notifications.mail.max-connections:2}") int maxConnections) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("sigma-mail-conn-", maxConnections);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConnections);
+        executor.setMaxPoolSize(maxConnections);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("sigma-mail-conn-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
     @Bean(name = "applicationEventMulticaster")
-    public ApplicationEventMulticaster applicationEventMulticaster(Executor notificationTaskExecutor) {
+    public ApplicationEventMulticaster applicationEventMulticaster(@Qualifier("notificationTaskExecutor") Executor notificationTaskExecutor) {
         SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster();
         multicaster.setTaskExecutor(notificationTaskExecutor);
         multicaster.setErrorHandler(ex -> log.error("Error procesando evento asíncrono", ex));
         return multicaster;
     }
-}
 
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(15000);
+        return executor;
+    }
+}
@@ -31,7 +31,7 @@ public class CorsConfig {
 
         config.setAllowedHeaders(List.of("*"));
 
-        config.setExposedHeaders(List.of("Authorization"));
+        config.setExposedHeaders(List.of("Authorization", PageCursor.NEXT_CURSOR_HEADER, "ETag"));
 
         config.setAllowCredentials(true);
 
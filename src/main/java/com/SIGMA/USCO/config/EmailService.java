@@ -5,12 +5,17 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -51,4 +56,56 @@ public class EmailService {
             throw new RuntimeException("Error al enviar correo con adjunto", e);
         }
     }
+
+    /**
+     * Arma un correo de texto, con adjunto si el archivo existe, sin enviarlo.
+     */
+    public MimeMessage createMessage(String to, String subject, String message, File attachment, String attachmentName)
+            throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        boolean multipart = attachment != null && attachment.exists();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, multipart, "UTF-8");
+
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(message);
+
+        if (multipart) {
+            helper.addAttachment(attachmentName, new FileSystemResource(attachment));
+        } else if (attachment != null) {
+            log.warn("Archivo adjunto no encontrado, se envía el correo sin él: {}", attachment);
+        }
+        return mimeMessage;
+    }
+
+    /**
+     * Envía los correos por una sola conexión SMTP.
+     *
+     * @return Correos que no se pudieron enviar, con su error; vacío si se enviaron todos
+     */
+    public Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            return Map.of();
+        } catch (MailSendException e) {
+            Map<MimeMessage, Exception> failed = new HashMap<>();
+            e.getFailedMessages().forEach((message, cause) -> {
+                if (message instanceof MimeMessage mimeMessage) {
+                    failed.put(mimeMessage, cause);
+                }
+            });
+            // Sin detalle por correo (p. ej. error al conectar) se considera fallido todo el lote
+            if (failed.isEmpty()) {
+                messages.forEach(message -> failed.put(message, e));
+            }
+            return failed;
+        } catch (MailException e) {
+            Map<MimeMessage, Exception> failed = new HashMap<>();
+            messages.forEach(message -> failed.put(message, e));
+            return failed;
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.SIGMA.USCO.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursores de los listados paginados por llave.
+ *
+ * El cursor de la página siguiente se envía en el encabezado {@link #NEXT_CURSOR_HEADER} como
+ * un token opaco en Base64 URL-safe, y el cliente lo devuelve sin cambios en el parámetro
+ * "cursor". El contenido del token no forma parte del contrato del API.
+ */
+public final class PageCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final String INVALID_CURSOR_MESSAGE = "Cursor de paginación inválido";
+
+    private PageCursor() {
+    }
+
+    public static String encode(String raw) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token Token recibido del cliente, no vacío
+     * @return El contenido del token
+     * @throws IllegalArgumentException si el token no es Base64 URL-safe
+     */
+    public static String decode(String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    /**
+     * Cursor de los listados ordenados solo por ID.
+     */
+    public static String encodeId(Long id) {
+        if (id == null) {
+            throw new IllegalStateException("El cursor de paginación requiere el ID de la fila");
+        }
+        return encode(id.toString());
+    }
+
+    /**
+     * @param token Token recibido del cliente
+     * @return El ID de la última fila de la página anterior, o null si no se envió token
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static Long decodeId(String token) {
+
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(decode(token));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
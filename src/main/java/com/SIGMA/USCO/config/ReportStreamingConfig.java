@@ -0,0 +1,46 @@
+package com.SIGMA.USCO.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Ejecutor de las descargas PDF que se escriben directamente en la respuesta
+ * (StreamingResponseBody). El pool acotado limita cuántos documentos se generan
+ * a la vez, y el timeout cubre los reportes grandes de cierre de semestre.
+ */
+@Configuration
+public class ReportStreamingConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor reportStreamingTaskExecutor;
+    private final long streamTimeoutMs;
+
+    public ReportStreamingConfig(@Qualifier("reportStreamingTaskExecutor") ThreadPoolTaskExecutor reportStreamingTaskExecutor,
+                                 @Value("${reports.pdf.stream-timeout-ms:300000}") long streamTimeoutMs) {
+        this.reportStreamingTaskExecutor = reportStreamingTaskExecutor;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    @Bean(name = "reportStreamingTaskExecutor")
+    public static ThreadPoolTaskExecutor reportStreamingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("sigma-report-pdf-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(reportStreamingTaskExecutor);
+        configurer.setDefaultTimeout(streamTimeoutMs);
+    }
+}
@@ -3,7 +3,6 @@ package com.SIGMA.USCO.documents.service;
 import com.SIGMA.USCO.Modalities.Entity.StudentModality;
 import com.SIGMA.USCO.Modalities.Repository.DegreeModalityRepository;
 import com.SIGMA.USCO.Modalities.Repository.StudentModalityRepository;
-import com.SIGMA.USCO.Users.Entity.User;
 import com.SIGMA.USCO.Users.repository.UserRepository;
 
 import com.SIGMA.USCO.documents.dto.StatusHistoryDTO;
@@ -14,6 +13,7 @@ import com.SIGMA.USCO.documents.entity.enums.DocumentType;
 import com.SIGMA.USCO.documents.repository.RequiredDocumentRepository;
 import com.SIGMA.USCO.documents.repository.StudentDocumentRepository;
 import com.SIGMA.USCO.documents.repository.StudentDocumentStatusHistoryRepository;
+import com.SIGMA.USCO.security.AuthenticatedUserResolver;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.FilenameUtils;
@@ -43,6 +43,7 @@ public class DocumentService {
     private final RequiredDocumentRepository requiredDocumentRepository;
     private final DegreeModalityRepository degreeModalityRepository;
     private final UserRepository userRepository;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
     private final StudentDocumentRepository studentDocumentRepository;
     private final StudentDocumentStatusHistoryRepository documentHistoryRepository;
     private final StudentModalityRepository studentModalityRepository;
@@ -207,16 +208,12 @@ public class DocumentService {
 
     public ResponseEntity<?> getDocumentHistory(Long studentDocumentId) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        User student = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        Long studentId = authenticatedUserResolver.currentUserId();
 
         StudentDocument document = studentDocumentRepository.findById(studentDocumentId)
                 .orElseThrow(() -> new RuntimeException("Document not found"));
 
-        if (!document.getStudentModality().getLeader().getId().equals(student.getId())) {
+        if (!document.getStudentModality().getLeader().getId().equals(studentId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("No authorized access to document history.");
         }
 
@@ -0,0 +1,47 @@
+package com.SIGMA.USCO.notifications.controller;
+
+import com.SIGMA.USCO.notifications.dto.NotificationTemplateDTO;
+import com.SIGMA.USCO.notifications.service.NotificationTemplateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Plantillas de notificación", description = "Textos editables de las notificaciones y correos")
+@RestController
+@RequestMapping("/notification-templates")
+@RequiredArgsConstructor
+public class NotificationTemplateController {
+
+    private final NotificationTemplateService notificationTemplateService;
+
+    @Operation(summary = "Listar plantillas", description = "Obtiene las plantillas de notificación registradas")
+    @ApiResponse(responseCode = "200", description = "Lista de plantillas")
+    @GetMapping
+    @PreAuthorize("hasAuthority('PERM_MANAGE_NOTIFICATION_TEMPLATES')")
+    public ResponseEntity<?> getTemplates() {
+        return notificationTemplateService.getTemplates();
+    }
+
+    @Operation(summary = "Crear plantilla", description = "Crea una plantilla para un tipo de notificación y destinatario. "
+            + "El asunto y el mensaje usan variables {{nombre}}; si la notificación no tiene alguna, se envía el texto incorporado")
+    @ApiResponse(responseCode = "201", description = "Plantilla creada")
+    @PostMapping
+    @PreAuthorize("hasAuthority('PERM_MANAGE_NOTIFICATION_TEMPLATES')")
+    public ResponseEntity<?> createTemplate(@RequestBody NotificationTemplateDTO request) {
+        return notificationTemplateService.createTemplate(request);
+    }
+
+    @Operation(summary = "Actualizar plantilla", description = "Modifica o activa/desactiva una plantilla de notificación")
+    @ApiResponse(responseCode = "200", description = "Plantilla actualizada")
+    @PutMapping("/{templateId}")
+    @PreAuthorize("hasAuthority('PERM_MANAGE_NOTIFICATION_TEMPLATES')")
+    public ResponseEntity<?> updateTemplate(@Parameter(description = "ID de la plantilla") @PathVariable Long templateId,
+                                            @RequestBody NotificationTemplateDTO request) {
+        return notificationTemplateService.updateTemplate(templateId, request);
+    }
+}
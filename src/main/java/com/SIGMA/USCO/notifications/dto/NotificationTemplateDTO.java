@@ -0,0 +1,25 @@
+package com.SIGMA.USCO.notifications.dto;
+
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationTemplateDTO {
+
+    private Long id;
+    private NotificationType type;
+    private NotificationRecipientType recipientType;
+    /** Asunto, con variables {{nombre}} */
+    private String subject;
+    /** Mensaje, con variables {{nombre}} */
+    private String bodyTemplate;
+    private boolean active;
+
+}
@@ -2,6 +2,7 @@ package com.SIGMA.USCO.notifications.entity;
 
 import com.SIGMA.USCO.Modalities.Entity.StudentModality;
 import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus;
 import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
 import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
 import jakarta.persistence.*;
@@ -10,13 +11,19 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_notification_email_outbox", columnList = "email_delivery_status, email_next_attempt_at"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notification {
+    /**
+     * Id de secuencia y no de identidad, para que Hibernate pueda insertar en lotes las
+     * notificaciones de un mismo evento; cada consulta a la secuencia reserva 50 ids.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -56,6 +63,35 @@ public class Notification {
     private boolean emailSent = false;
     private boolean inAppDelivered = false;
 
+    /**
+     * Estado en el outbox de correos. Las notificaciones anteriores al outbox quedan en null
+     * y no se reenvían.
+     */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "email_delivery_status", length = 20)
+    private EmailDeliveryStatus emailDeliveryStatus = EmailDeliveryStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "email_attempts")
+    private Integer emailAttempts = 0;
+
+    /** Próximo intento de envío; mientras la notificación no se despacha queda en null */
+    @Column(name = "email_next_attempt_at")
+    private LocalDateTime emailNextAttemptAt;
+
+    /** Identifica el lote del proceso de envío que tomó la notificación */
+    @Column(name = "email_claim", length = 36)
+    private String emailClaim;
+
+    @Column(name = "email_last_error", length = 1000)
+    private String emailLastError;
+
+    @Column(name = "attachment_path", length = 500)
+    private String attachmentPath;
+
+    private String attachmentName;
+
     @Column(name = "is_read", nullable = false)
     private boolean read = false;
     private LocalDateTime readAt;
@@ -0,0 +1,16 @@
+package com.SIGMA.USCO.notifications.entity.enums;
+
+/**
+ * Estado del envío por correo de una notificación (outbox de correos).
+ */
+public enum EmailDeliveryStatus {
+    /** En espera de envío o de un nuevo intento */
+    PENDING,
+    /** Tomada por el proceso de envío */
+    SENDING,
+    SENT,
+    /** El tipo de destinatario no recibe correos */
+    NOT_REQUIRED,
+    /** Se agotaron los intentos; no se vuelve a intentar */
+    DEAD
+}
@@ -0,0 +1,10 @@
+package com.SIGMA.USCO.notifications.event;
+
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
+
+/**
+ * Se creó, modificó o desactivó una plantilla de notificación.
+ */
+public record NotificationTemplateChangedEvent(Long templateId, NotificationType type, NotificationRecipientType recipientType) {
+}
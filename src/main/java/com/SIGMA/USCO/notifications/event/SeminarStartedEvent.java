@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -13,8 +14,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class SeminarStartedEvent {
 
-    private String recipientEmail;
-    private String recipientName;
+    /** Estudiantes inscritos a notificar */
+    private List<Long> recipientIds;
     private String seminarName;
     private LocalDateTime startDate;
     private Integer totalHours;
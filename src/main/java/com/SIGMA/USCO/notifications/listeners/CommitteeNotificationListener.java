@@ -14,23 +14,27 @@ import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
 import com.SIGMA.USCO.notifications.event.CancellationRequestedEvent;
 import com.SIGMA.USCO.notifications.event.ModalityApprovedByProgramHead;
 import com.SIGMA.USCO.notifications.event.StudentDocumentUpdatedEvent;
-import com.SIGMA.USCO.notifications.repository.NotificationRepository;
 import com.SIGMA.USCO.notifications.service.NotificationDispatcherService;
+import com.SIGMA.USCO.notifications.service.NotificationTemplateEngine;
+import com.SIGMA.USCO.notifications.service.RenderedNotification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.EnumSet;
+import java.util.ArrayList;
 import java.util.List;
 
+import static com.SIGMA.USCO.notifications.service.NotificationTemplateEngine.variables;
+
 @RequiredArgsConstructor
 @Component
 public class CommitteeNotificationListener {
 
     private final StudentModalityRepository studentModalityRepository;
-    private final NotificationRepository notificationRepository;
     private final NotificationDispatcherService dispatcher;
+    private final NotificationTemplateEngine templateEngine;
     private final UserRepository userRepository;
     private final StudentDocumentRepository studentDocumentRepository;
 
@@ -68,10 +72,16 @@ public class CommitteeNotificationListener {
                 Sistema SIGMA
                 Plataforma de Gestión de Modalidades de Grado
                 
-                """.formatted(
-                modalidadInfo
-        );
-
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_CANCELLATION_REQUESTED,
+                NotificationRecipientType.PROGRAM_CURRICULUM_COMMITTEE,
+                subject,
+                message,
+                variables(
+                        "modalidad", modalidadInfo));
+
+        List<Notification> notifications = new ArrayList<>();
         for (User committeeMember : committeeMembers) {
 
             Notification notification = Notification.builder()
@@ -80,14 +90,14 @@ public class CommitteeNotificationListener {
                     .recipient(committeeMember)
                     .triggeredBy(studentModality.getLeader())
                     .studentModality(studentModality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
 
     }
 
@@ -116,10 +126,16 @@ public class CommitteeNotificationListener {
                 proceda con las siguientes etapas del proceso.
 
                 Sistema SIGMA
-                """.formatted(
-                modalidadInfo
-        );
-
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_APPROVED_BY_PROGRAM_HEAD,
+                NotificationRecipientType.PROGRAM_CURRICULUM_COMMITTEE,
+                subject,
+                message,
+                variables(
+                        "modalidad", modalidadInfo));
+
+        List<Notification> notifications = new ArrayList<>();
         for (User committeMember : committeeMembers) {
 
             Notification notification = Notification.builder()
@@ -128,14 +144,14 @@ public class CommitteeNotificationListener {
                     .recipient(committeMember)
                     .triggeredBy(modality.getLeader())
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
 
 
 
@@ -205,16 +221,22 @@ public class CommitteeNotificationListener {
                 por favor ingrese al sistema.
                 
                 Plataforma de Gestión de Modalidades de Grado
-                """.formatted(
-                student.getName() + " " + student.getLastName(),
-                modalidadInfo,
-                document.getDocumentConfig().getDocumentName(),
-                translateDocumentStatus(document.getStatus())
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DOCUMENT_UPLOADED,
+                NotificationRecipientType.PROGRAM_CURRICULUM_COMMITTEE,
+                subject,
+                message,
+                variables(
+                        "estudiante", student.getName() + " " + student.getLastName(),
+                        "modalidad", modalidadInfo,
+                        "documento", document.getDocumentConfig().getDocumentName(),
+                        "estadoDocumento", translateDocumentStatus(document.getStatus())));
 
         List<User> committeeMembers =
                 userRepository.findAllByRoles_Name("PROGRAM_CURRICULUM_COMMITTEE");
 
+        List<Notification> notifications = new ArrayList<>();
         for (User committee : committeeMembers) {
 
             Notification notification = Notification.builder()
@@ -223,14 +245,14 @@ public class CommitteeNotificationListener {
                     .recipient(committee)
                     .triggeredBy(student)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     private String translateDocumentStatus(DocumentStatus status) {
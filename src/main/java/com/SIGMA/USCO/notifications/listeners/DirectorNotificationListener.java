@@ -16,6 +16,8 @@ import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
 import com.SIGMA.USCO.notifications.event.*;
 import com.SIGMA.USCO.notifications.repository.NotificationRepository;
 import com.SIGMA.USCO.notifications.service.NotificationDispatcherService;
+import com.SIGMA.USCO.notifications.service.NotificationTemplateEngine;
+import com.SIGMA.USCO.notifications.service.RenderedNotification;
 import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
 import com.SIGMA.USCO.Modalities.Entity.enums.AcademicDistinction;
 import com.SIGMA.USCO.Modalities.Entity.enums.MemberStatus;
@@ -27,6 +29,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.SIGMA.USCO.notifications.service.NotificationTemplateEngine.variables;
+
 @RequiredArgsConstructor
 @Component
 public class DirectorNotificationListener {
@@ -34,6 +38,7 @@ public class DirectorNotificationListener {
     private final StudentModalityRepository studentModalityRepository;
     private final NotificationRepository notificationRepository;
     private final NotificationDispatcherService dispatcher;
+    private final NotificationTemplateEngine templateEngine;
     private final UserRepository userRepository;
     private final StudentDocumentRepository studentDocumentRepository;
     private final StudentModalityMemberRepository studentModalityMemberRepository;
@@ -93,11 +98,16 @@ public class DirectorNotificationListener {
                          Universidad Surcolombiana
                 
                 
-                 """.formatted(
-                 sm.getProjectDirector().getName(),
-                 modalidadInfo,
-                 miembros
-        );
+                 """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_CANCELLATION_APPROVED,
+                NotificationRecipientType.PROJECT_DIRECTOR,
+                subject,
+                message,
+                variables(
+                        "director", sm.getProjectDirector().getName(),
+                        "modalidad", modalidadInfo,
+                        "miembros", miembros));
 
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_CANCELLATION_APPROVED)
@@ -105,8 +115,8 @@ public class DirectorNotificationListener {
                 .recipient(sm.getProjectDirector())
                 .triggeredBy(null)
                 .studentModality(sm)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -169,19 +179,24 @@ public class DirectorNotificationListener {
                         Universidad Surcolombiana
                 
                 
-                """.formatted(
-                sm.getProjectDirector().getName(),
-                modalidadInfo,
-                miembros
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_CANCELLATION_REJECTED,
+                NotificationRecipientType.PROJECT_DIRECTOR,
+                subject,
+                message,
+                variables(
+                        "director", sm.getProjectDirector().getName(),
+                        "modalidad", modalidadInfo,
+                        "miembros", miembros));
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_CANCELLATION_REJECTED)
                 .recipientType(NotificationRecipientType.PROJECT_DIRECTOR)
                 .recipient(sm.getProjectDirector())
                 .triggeredBy(null)
                 .studentModality(sm)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
         notificationRepository.save(notification);
@@ -237,20 +252,24 @@ public class DirectorNotificationListener {
                 Sistema de Gestión de Modalidades de Grado
                 Universidad Surcolombiana
                 
-                """.formatted(
-                sm.getProjectDirector().getName(),
-                modalidadInfo,
-                miembros
-
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_CANCELLATION_REQUESTED,
+                NotificationRecipientType.PROJECT_DIRECTOR,
+                subject,
+                message,
+                variables(
+                        "director", sm.getProjectDirector().getName(),
+                        "modalidad", modalidadInfo,
+                        "miembros", miembros));
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_CANCELLATION_REQUESTED)
                 .recipientType(NotificationRecipientType.PROJECT_DIRECTOR)
                 .recipient(sm.getProjectDirector())
                 .triggeredBy(null)
                 .studentModality(sm)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
         notificationRepository.save(notification);
@@ -321,13 +340,18 @@ public class DirectorNotificationListener {
                 Sistema de Gestión de Modalidades de Grado
                 Universidad Surcolombiana
                 
-                """.formatted(
-                director.getName(),
-                modalidadInfo,
-                modality.getProgramDegreeModality().getAcademicProgram().getName(),
-                miembros,
-                modality.getUpdatedAt()
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DIRECTOR_ASSIGNED,
+                NotificationRecipientType.PROJECT_DIRECTOR,
+                directorSubject,
+                directorMessage,
+                variables(
+                        "director", director.getName(),
+                        "modalidad", modalidadInfo,
+                        "programa", modality.getProgramDegreeModality().getAcademicProgram().getName(),
+                        "miembros", miembros,
+                        "fechaActualizacion", modality.getUpdatedAt()));
 
 
 
@@ -337,8 +361,8 @@ public class DirectorNotificationListener {
                 .recipient(director)
                 .triggeredBy(null)
                 .studentModality(modality)
-                .subject(directorSubject)
-                .message(directorMessage)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
         notificationRepository.save(notification);
@@ -406,22 +430,27 @@ public class DirectorNotificationListener {
                 Sistema SIGMA
                 Sistema de Gestión de Modalidades de Grado
                 Universidad Surcolombiana
-                """.formatted(
-                director.getName(),
-                modalidadInfo,
-                miembros,
-                translateModalityProcessStatus(event.getFinalStatus()),
-                translateAcademicDistinction(event.getAcademicDistinction()),
-                event.getObservations() != null ? event.getObservations() : "N/A"
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DEFENSE_COMPLETED,
+                NotificationRecipientType.PROJECT_DIRECTOR,
+                subject,
+                message,
+                variables(
+                        "director", director.getName(),
+                        "modalidad", modalidadInfo,
+                        "miembros", miembros,
+                        "estadoFinal", translateModalityProcessStatus(event.getFinalStatus()),
+                        "distincion", translateAcademicDistinction(event.getAcademicDistinction()),
+                        "observaciones", event.getObservations() != null ? event.getObservations() : "N/A"));
         Notification notification = Notification.builder()
                 .type(NotificationType.DEFENSE_COMPLETED)
                 .recipientType(NotificationRecipientType.PROJECT_DIRECTOR)
                 .recipient(director)
                 .triggeredBy(null)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
         notificationRepository.save(notification);
@@ -477,13 +506,18 @@ public class DirectorNotificationListener {
                 
                 Cordialmente,
                 Sistema de Gestión Académica
-            """.formatted(
-                director.getName(),
-                student.getName() + " " + student.getLastName(),
-                modalidadInfo,
-                document.getDocumentConfig().getDocumentName(),
-                translateDocumentStatus(document.getStatus())
-        );
+            """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DOCUMENT_UPLOADED,
+                NotificationRecipientType.PROJECT_DIRECTOR,
+                subject,
+                message,
+                variables(
+                        "director", director.getName(),
+                        "estudiante", student.getName() + " " + student.getLastName(),
+                        "modalidad", modalidadInfo,
+                        "documento", document.getDocumentConfig().getDocumentName(),
+                        "estadoDocumento", translateDocumentStatus(document.getStatus())));
 
         Notification notification = Notification.builder()
                 .type(NotificationType.DOCUMENT_UPLOADED)
@@ -491,8 +525,8 @@ public class DirectorNotificationListener {
                 .recipient(director)
                 .triggeredBy(student)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
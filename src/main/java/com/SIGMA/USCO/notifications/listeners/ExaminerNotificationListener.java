@@ -11,6 +11,8 @@ import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
 import com.SIGMA.USCO.notifications.event.DefenseReadyByDirectorEvent;
 import com.SIGMA.USCO.notifications.event.DefenseScheduledEvent;
 import com.SIGMA.USCO.notifications.service.NotificationDispatcherService;
+import com.SIGMA.USCO.notifications.service.NotificationTemplateEngine;
+import com.SIGMA.USCO.notifications.service.RenderedNotification;
 import com.SIGMA.USCO.notifications.repository.NotificationRepository;
 import com.SIGMA.USCO.Modalities.Entity.DefenseExaminer;
 import com.SIGMA.USCO.Modalities.Repository.DefenseExaminerRepository;
@@ -25,6 +27,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import com.SIGMA.USCO.Modalities.Entity.StudentModalityMember;
@@ -37,6 +40,8 @@ import com.SIGMA.USCO.Modalities.Entity.enums.CertificateStatus;
 import com.SIGMA.USCO.Modalities.Repository.ExaminerCertificateRepository;
 import java.nio.file.Path;
 
+import static com.SIGMA.USCO.notifications.service.NotificationTemplateEngine.variables;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -45,6 +50,7 @@ public class ExaminerNotificationListener {
     private final DefenseExaminerRepository defenseExaminerRepository;
     private final NotificationRepository notificationRepository;
     private final NotificationDispatcherService dispatcher;
+    private final NotificationTemplateEngine templateEngine;
     private final UserRepository userRepository;
     private final StudentModalityRepository studentModalityRepository;
     private final StudentModalityMemberRepository studentModalityMemberRepository;
@@ -88,6 +94,7 @@ public class ExaminerNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
 
+        List<Notification> notifications = new ArrayList<>();
         for (DefenseExaminer examinerAssignment : examiners) {
             User examiner = examinerAssignment.getExaminer();
 
@@ -124,17 +131,22 @@ public class ExaminerNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                    examiner.getName(),
-                    examiner.getLastName(),
-                    examinerRoleLabel,
-                    modalidadInfo,
-                    programName,
-                    facultyName,
-                    studentsString,
-                    directorName,
-                    LocalDateTime.now().toLocalDate().toString()
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.EXAMINER_ASSIGNED,
+                    NotificationRecipientType.EXAMINER,
+                    subject,
+                    message,
+                    variables(
+                            "nombreJurado", examiner.getName(),
+                            "apellidoJurado", examiner.getLastName(),
+                            "rolJurado", examinerRoleLabel,
+                            "modalidad", modalidadInfo,
+                            "programa", programName,
+                            "facultad", facultyName,
+                            "estudiantes", studentsString,
+                            "director", directorName,
+                            "fecha", LocalDateTime.now().toLocalDate().toString()));
 
             Notification notification = Notification.builder()
                     .type(NotificationType.EXAMINER_ASSIGNED)
@@ -142,12 +154,11 @@ public class ExaminerNotificationListener {
                     .recipient(examiner)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
 
         // ── Construir resumen de jurados asignados para el mensaje de estudiantes y director ──
@@ -195,17 +206,20 @@ public class ExaminerNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    programName,
-                    facultyName,
-                    directorName,
-                    examinersListForOthers != null && !examinersListForOthers.isBlank()
-                            ? examinersListForOthers
-                            : "Pendiente de asignación",
-                    LocalDateTime.now().toLocalDate().toString()
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.EXAMINER_ASSIGNED,
+                    NotificationRecipientType.STUDENT,
+                    studentSubject,
+                    studentMessage,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "programa", programName,
+                            "facultad", facultyName,
+                            "director", directorName,
+                            "jurados", examinersListForOthers != null && !examinersListForOthers.isBlank() ? examinersListForOthers : "Pendiente de asignación",
+                            "fecha", LocalDateTime.now().toLocalDate().toString()));
 
             Notification studentNotification = Notification.builder()
                     .type(NotificationType.EXAMINER_ASSIGNED)
@@ -213,13 +227,13 @@ public class ExaminerNotificationListener {
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(studentSubject)
-                    .message(studentMessage)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(studentNotification);
-            dispatcher.dispatch(studentNotification);
+            notifications.add(studentNotification);
         }
+        dispatcher.dispatchAll(notifications);
 
         // ── Notificar al director de proyecto si está asignado ──
         User director = modality.getProjectDirector();
@@ -253,17 +267,20 @@ public class ExaminerNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                    director.getName() + " " + director.getLastName(),
-                    modalidadInfo,
-                    programName,
-                    facultyName,
-                    studentsString,
-                    (examinersListForOthers != null && !examinersListForOthers.isBlank())
-                            ? examinersListForOthers
-                            : "Pendiente de asignación",
-                    LocalDateTime.now().toLocalDate().toString()
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.EXAMINER_ASSIGNED,
+                    NotificationRecipientType.PROJECT_DIRECTOR,
+                    directorSubject,
+                    directorMessage,
+                    variables(
+                            "director", director.getName() + " " + director.getLastName(),
+                            "modalidad", modalidadInfo,
+                            "programa", programName,
+                            "facultad", facultyName,
+                            "estudiantes", studentsString,
+                            "jurados", (examinersListForOthers != null && !examinersListForOthers.isBlank()) ? examinersListForOthers : "Pendiente de asignación",
+                            "fecha", LocalDateTime.now().toLocalDate().toString()));
 
             Notification directorNotification = Notification.builder()
                     .type(NotificationType.EXAMINER_ASSIGNED)
@@ -271,8 +288,8 @@ public class ExaminerNotificationListener {
                     .recipient(director)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(directorSubject)
-                    .message(directorMessage)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
             notificationRepository.save(directorNotification);
@@ -325,20 +342,25 @@ public class ExaminerNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                examiner.getName(),
-                examiner.getLastName(),
-                miembros,
-                modalidadInfo
-        );
+        """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.READY_FOR_DEFENSE_REQUESTED,
+                NotificationRecipientType.EXAMINER,
+                subject,
+                message,
+                variables(
+                        "nombreJurado", examiner.getName(),
+                        "apellidoJurado", examiner.getLastName(),
+                        "miembros", miembros,
+                        "modalidad", modalidadInfo));
         Notification notification = Notification.builder()
                 .type(NotificationType.READY_FOR_DEFENSE_REQUESTED)
                 .recipientType(NotificationRecipientType.EXAMINER)
                 .recipient(examiner)
                 .triggeredBy(null)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -395,12 +417,17 @@ public class ExaminerNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                director.getName(),
-                director.getLastName(),
-                miembros,
-                modalidadInfo
-        );
+        """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.FINAL_APPROVED,
+                NotificationRecipientType.PROJECT_DIRECTOR,
+                subject,
+                message,
+                variables(
+                        "nombreDirector", director.getName(),
+                        "apellidoDirector", director.getLastName(),
+                        "miembros", miembros,
+                        "modalidad", modalidadInfo));
 
         Notification notification = Notification.builder()
                 .type(NotificationType.FINAL_APPROVED)
@@ -408,8 +435,8 @@ public class ExaminerNotificationListener {
                 .recipient(director)
                 .triggeredBy(null)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -431,11 +458,11 @@ public class ExaminerNotificationListener {
         }
 
         List<DefenseExaminer> examiners = defenseExaminerRepository.findByStudentModalityId(event.getStudentModalityId());
+        List<Notification> notifications = new ArrayList<>();
         for (DefenseExaminer examinerAssignment : examiners) {
             User examiner = examinerAssignment.getExaminer();
             String subject = "Sustentación programada – Modalidad de Grado";
-            String message = String.format(
-                    """
+            String message = """
                     Estimado(a) %s %s:
             
                     Reciba un cordial saludo.
@@ -460,22 +487,20 @@ public class ExaminerNotificationListener {
             
                     Sistema de Gestión Académica
                     Universidad Surcolombiana
-                    """,
-                    examiner.getName(),
-                    examiner.getLastName(),
-                    modalidadInfo,
-                    event.getDefenseDate(),
-                    event.getDefenseLocation(),
-                    modality.getProjectDirector() != null
-                            ? modality.getProjectDirector().getName() + " " + modality.getProjectDirector().getLastName()
-                            : "Pendiente de asignación",
-                    modality.getMembers() != null && !modality.getMembers().isEmpty()
-                            ? modality.getMembers().stream()
-                            .map(member -> member.getStudent().getName() + " " + member.getStudent().getLastName())
-                            .reduce((a, b) -> a + ", " + b)
-                            .orElse("")
-                            : modality.getLeader().getName() + " " + modality.getLeader().getLastName()
-            );
+                    """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.DEFENSE_SCHEDULED,
+                    NotificationRecipientType.EXAMINER,
+                    subject,
+                    message,
+                    variables(
+                            "nombreJurado", examiner.getName(),
+                            "apellidoJurado", examiner.getLastName(),
+                            "modalidad", modalidadInfo,
+                            "fechaSustentacion", event.getDefenseDate(),
+                            "lugarSustentacion", event.getDefenseLocation(),
+                            "director", modality.getProjectDirector() != null ? modality.getProjectDirector().getName() + " " + modality.getProjectDirector().getLastName() : "Pendiente de asignación",
+                            "estudiantes", modality.getMembers() != null && !modality.getMembers().isEmpty() ? modality.getMembers().stream() .map(member -> member.getStudent().getName() + " " + member.getStudent().getLastName()) .reduce((a, b) -> a + ", " + b) .orElse("") : modality.getLeader().getName() + " " + modality.getLeader().getLastName()));
 
             Notification notification = Notification.builder()
                     .type(NotificationType.DEFENSE_SCHEDULED)
@@ -483,12 +508,11 @@ public class ExaminerNotificationListener {
                     .recipient(examiner)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
 
         // Notificar a todos los estudiantes asociados
@@ -500,8 +524,7 @@ public class ExaminerNotificationListener {
         }
         for (User student : students) {
             String subject = "Sustentación programada – Modalidad de Grado";
-            String message = String.format(
-                    """
+            String message = """
                     Estimado(a) %s:
             
                     Reciba un cordial saludo.
@@ -525,15 +548,18 @@ public class ExaminerNotificationListener {
             
                     Sistema de Gestión Académica
                     Universidad Surcolombiana
-                    """,
-                    student.getName(),
-                    modalidadInfo,
-                    event.getDefenseDate(),
-                    event.getDefenseLocation(),
-                    modality.getProjectDirector() != null
-                            ? modality.getProjectDirector().getName() + " " + modality.getProjectDirector().getLastName()
-                            : "Pendiente de asignación"
-            );
+                    """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.DEFENSE_SCHEDULED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "fechaSustentacion", event.getDefenseDate(),
+                            "lugarSustentacion", event.getDefenseLocation(),
+                            "director", modality.getProjectDirector() != null ? modality.getProjectDirector().getName() + " " + modality.getProjectDirector().getLastName() : "Pendiente de asignación"));
 
             Notification notification = Notification.builder()
                     .type(NotificationType.DEFENSE_SCHEDULED)
@@ -541,13 +567,13 @@ public class ExaminerNotificationListener {
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     /**
@@ -576,6 +602,7 @@ public class ExaminerNotificationListener {
 
         String subject = "Solicitud de edición de documento aprobado – Modalidad de grado";
 
+        List<Notification> notifications = new ArrayList<>();
         for (DefenseExaminer examinerAssignment : examiners) {
             User examiner = examinerAssignment.getExaminer();
             String message = """
@@ -604,18 +631,21 @@ public class ExaminerNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                    examiner.getName(),
-                    examiner.getLastName(),
-                    modalidadInfo,
-                    modality.getProgramDegreeModality().getAcademicProgram().getName(),
-                    (studentNames != null && !studentNames.isBlank()) ? studentNames : "No registrado",
-                    event.getDocumentName(),
-                    event.getEditRequestId(),
-                    event.getReason() != null && !event.getReason().isBlank()
-                            ? event.getReason()
-                            : "No se registra motivo"
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.DOCUMENT_EDIT_REQUESTED,
+                    NotificationRecipientType.EXAMINER,
+                    subject,
+                    message,
+                    variables(
+                            "nombreJurado", examiner.getName(),
+                            "apellidoJurado", examiner.getLastName(),
+                            "modalidad", modalidadInfo,
+                            "programa", modality.getProgramDegreeModality().getAcademicProgram().getName(),
+                            "estudiantes", (studentNames != null && !studentNames.isBlank()) ? studentNames : "No registrado",
+                            "documento", event.getDocumentName(),
+                            "solicitud", event.getEditRequestId(),
+                            "motivo", event.getReason() != null && !event.getReason().isBlank() ? event.getReason() : "No se registra motivo"));
 
             Notification notification = Notification.builder()
                     .type(NotificationType.DOCUMENT_EDIT_REQUESTED)
@@ -623,13 +653,13 @@ public class ExaminerNotificationListener {
                     .recipient(examiner)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     /**
@@ -679,7 +709,7 @@ public class ExaminerNotificationListener {
                 User examinerUser = examiner.getExaminer();
                 String subject = "Acta de Participación – Modalidad de Grado Completada";
                 
-                String message = buildExaminerParticipationMessage(examinerUser, modality, examiner);
+                RenderedNotification rendered = renderExaminerParticipationMessage(subject, examinerUser, modality, examiner);
                 
                 Notification notification = Notification.builder()
                         .type(NotificationType.DEFENSE_COMPLETED)
@@ -687,8 +717,8 @@ public class ExaminerNotificationListener {
                         .recipient(examinerUser)
                         .triggeredBy(null)
                         .studentModality(modality)
-                        .subject(subject)
-                        .message(message)
+                        .subject(rendered.subject())
+                        .message(rendered.message())
                         .createdAt(LocalDateTime.now())
                         .build();
 
@@ -730,7 +760,7 @@ public class ExaminerNotificationListener {
     /**
      * Construye el mensaje para el jurado sobre su participación
      */
-    private String buildExaminerParticipationMessage(User examiner, StudentModality modality, DefenseExaminer defenseExaminer) {
+    private RenderedNotification renderExaminerParticipationMessage(String subject, User examiner, StudentModality modality, DefenseExaminer defenseExaminer) {
         String examinerRole = switch (defenseExaminer.getExaminerType()) {
             case PRIMARY_EXAMINER_1, PRIMARY_EXAMINER_2 -> "Jurado Principal";
             case TIEBREAKER_EXAMINER -> "Jurado de Desempate";
@@ -756,22 +786,22 @@ public class ExaminerNotificationListener {
                     : "No registrado";
         }
 
-        return """
-        Estimado(a) %s:
+        String message = """
+        Estimado(a) %1$s:
 
         Reciba un cordial saludo.
 
-        Nos permitimos informarle que la sustentación correspondiente a la modalidad de grado en la cual usted participó en calidad de %s ha finalizado y su resultado ha sido registrado oficialmente en el sistema.
+        Nos permitimos informarle que la sustentación correspondiente a la modalidad de grado en la cual usted participó en calidad de %2$s ha finalizado y su resultado ha sido registrado oficialmente en el sistema.
 
         A continuación, se relaciona la información pertinente:
 
-        Modalidad de grado: "%s".
-        Programa académico: %s.
-        Facultad: %s.
+        Modalidad de grado: "%3$s".
+        Programa académico: %4$s.
+        Facultad: %5$s.
         Resultado: APROBADA.
-        Estudiantes asociados: %s.
+        Estudiantes asociados: %6$s.
 
-        En el marco de este proceso, su participación como %s quedó registrada en las diferentes etapas de evaluación académica, conforme a los lineamientos institucionales vigentes.
+        En el marco de este proceso, su participación como %2$s quedó registrada en las diferentes etapas de evaluación académica, conforme a los lineamientos institucionales vigentes.
 
         Se adjunta a la presente comunicación el acta de participación en formato PDF, documento oficial que certifica su intervención en el proceso evaluativo y que forma parte del registro institucional de control y trazabilidad académica.
 
@@ -781,15 +811,19 @@ public class ExaminerNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                examiner.getName(),
-                examinerRole,
-                modalidadInfo,
-                modality.getProgramDegreeModality().getAcademicProgram().getName(),
-                modality.getProgramDegreeModality().getAcademicProgram().getFaculty().getName(),
-                studentNames,
-                examinerRole
-        );
+        """;
+        return templateEngine.render(
+                NotificationType.DEFENSE_COMPLETED,
+                NotificationRecipientType.EXAMINER,
+                subject,
+                message,
+                variables(
+                        "jurado", examiner.getName(),
+                        "rolJurado", examinerRole,
+                        "modalidad", modalidadInfo,
+                        "programa", modality.getProgramDegreeModality().getAcademicProgram().getName(),
+                        "facultad", modality.getProgramDegreeModality().getAcademicProgram().getFaculty().getName(),
+                        "estudiantes", studentNames));
     }
 
 }
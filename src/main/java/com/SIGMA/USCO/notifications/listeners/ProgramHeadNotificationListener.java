@@ -13,8 +13,9 @@ import com.SIGMA.USCO.notifications.entity.Notification;
 import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
 import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
 import com.SIGMA.USCO.notifications.event.*;
-import com.SIGMA.USCO.notifications.repository.NotificationRepository;
 import com.SIGMA.USCO.notifications.service.NotificationDispatcherService;
+import com.SIGMA.USCO.notifications.service.NotificationTemplateEngine;
+import com.SIGMA.USCO.notifications.service.RenderedNotification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -22,17 +23,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.SIGMA.USCO.notifications.service.NotificationTemplateEngine.variables;
+
 
 @RequiredArgsConstructor
 @Component
 public class ProgramHeadNotificationListener {
 
     private final StudentModalityRepository studentModalityRepository;
-    private final NotificationRepository notificationRepository;
     private final NotificationDispatcherService dispatcher;
+    private final NotificationTemplateEngine templateEngine;
     private final UserRepository userRepository;
     private final StudentDocumentRepository studentDocumentRepository;
 
@@ -69,10 +73,16 @@ public class ProgramHeadNotificationListener {
         
         Cordialmente,
         Sistema de Gestión Académica
-    """.formatted(
-        modalidadInfo,
-        getStudentList(studentModality)
-    );
+    """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_STARTED,
+                NotificationRecipientType.PROGRAM_HEAD,
+                subject,
+                message,
+                variables(
+                        "modalidad", modalidadInfo,
+                        "estudiantes", getStudentList(studentModality)));
+    List<Notification> notifications = new ArrayList<>();
     for (User programHead : programHeads) {
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_STARTED)
@@ -80,14 +90,14 @@ public class ProgramHeadNotificationListener {
                 .recipient(programHead)
                 .triggeredBy(null)
                 .studentModality(studentModality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        notificationRepository.save(notification);
-        dispatcher.dispatch(notification);
+        notifications.add(notification);
     }
+    dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -128,13 +138,19 @@ public class ProgramHeadNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-    """.formatted(
-                student.getName() + " " + student.getLastName(),
-                student.getEmail(),
-                modalidadInfo,
-                document.getDocumentConfig().getDocumentName(),
-                translateDocumentStatus(document.getStatus())
-        );
+    """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DOCUMENT_UPLOADED,
+                NotificationRecipientType.PROGRAM_HEAD,
+                subject,
+                message,
+                variables(
+                        "estudiante", student.getName() + " " + student.getLastName(),
+                        "correoEstudiante", student.getEmail(),
+                        "modalidad", modalidadInfo,
+                        "documento", document.getDocumentConfig().getDocumentName(),
+                        "estadoDocumento", translateDocumentStatus(document.getStatus())));
+    List<Notification> notifications = new ArrayList<>();
     for (User programHead : programHeads) {
         Notification notification = Notification.builder()
                 .type(NotificationType.DOCUMENT_UPLOADED)
@@ -142,14 +158,14 @@ public class ProgramHeadNotificationListener {
                 .recipient(programHead)
                 .triggeredBy(student)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        notificationRepository.save(notification);
-        dispatcher.dispatch(notification);
+        notifications.add(notification);
     }
+    dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -187,12 +203,18 @@ public class ProgramHeadNotificationListener {
 
                 Sistema de Gestión Académica
                 Universidad Surcolombiana
-                """.formatted(
-                modalidadInfo,
-                getStudentList(studentModality),
-                event.getDefenseDate().toString(),
-                event.getDefenseLocation()
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DEFENSE_SCHEDULED,
+                NotificationRecipientType.PROGRAM_HEAD,
+                subject,
+                message,
+                variables(
+                        "modalidad", modalidadInfo,
+                        "estudiantes", getStudentList(studentModality),
+                        "fechaSustentacion", event.getDefenseDate().toString(),
+                        "lugarSustentacion", event.getDefenseLocation()));
+        List<Notification> notifications = new ArrayList<>();
         for (User programHead : programHeads) {
 
             Notification notification = Notification.builder()
@@ -201,14 +223,14 @@ public class ProgramHeadNotificationListener {
                     .recipient(programHead)
                     .triggeredBy(null)
                     .studentModality(studentModality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -251,11 +273,17 @@ public class ProgramHeadNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-    """.formatted(
-                modalidadInfo,
-                getStudentList(studentModality),
-                studentModality.getProjectDirector()
-        );
+    """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DIRECTOR_ASSIGNED,
+                NotificationRecipientType.PROGRAM_HEAD,
+                subject,
+                message,
+                variables(
+                        "modalidad", modalidadInfo,
+                        "estudiantes", getStudentList(studentModality),
+                        "director", studentModality.getProjectDirector()));
+        List<Notification> notifications = new ArrayList<>();
         for (User programHead : programHeads) {
 
             Notification notification = Notification.builder()
@@ -264,14 +292,14 @@ public class ProgramHeadNotificationListener {
                     .recipient(programHead)
                     .triggeredBy(null)
                     .studentModality(studentModality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
 
     }
 
@@ -314,16 +342,20 @@ public class ProgramHeadNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                director.getName(),
-                getStudentList(modality),
-                modalidadInfo,
-                translateModalityProcessStatus(event.getFinalStatus()),
-                translateAcademicDistinction(event.getAcademicDistinction()),
-                event.getObservations() != null && !event.getObservations().isBlank()
-                        ? event.getObservations()
-                        : "No se registran observaciones."
-        );
+        """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DEFENSE_COMPLETED,
+                NotificationRecipientType.PROGRAM_HEAD,
+                subject,
+                message,
+                variables(
+                        "director", director.getName(),
+                        "estudiantes", getStudentList(modality),
+                        "modalidad", modalidadInfo,
+                        "estadoFinal", translateModalityProcessStatus(event.getFinalStatus()),
+                        "distincion", translateAcademicDistinction(event.getAcademicDistinction()),
+                        "observaciones", event.getObservations() != null && !event.getObservations().isBlank() ? event.getObservations() : "No se registran observaciones."));
+        List<Notification> notifications = new ArrayList<>();
         for (User programHead : programHeads) {
 
             Notification notification = Notification.builder()
@@ -332,14 +364,14 @@ public class ProgramHeadNotificationListener {
                     .recipient(programHead)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
 
     }
 
@@ -384,12 +416,18 @@ public class ProgramHeadNotificationListener {
 
         Sistema de Gestión Académica – SIGMA
         Universidad Surcolombiana
-        """.formatted(
-                modality.getLeader().getName(),
-                modality.getLeader().getEmail(),
-                modalidadInfo,
-                modality.getSelectionDate()
-        );
+        """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_APPROVED_BY_PROGRAM_CURRICULUM_COMMITTEE,
+                NotificationRecipientType.PROGRAM_HEAD,
+                subject,
+                message,
+                variables(
+                        "estudiante", modality.getLeader().getName(),
+                        "correoEstudiante", modality.getLeader().getEmail(),
+                        "modalidad", modalidadInfo,
+                        "fechaSeleccion", modality.getSelectionDate()));
+        List<Notification> notifications = new ArrayList<>();
         for (User programHead : programHeads) {
 
             Notification notification = Notification.builder()
@@ -398,14 +436,14 @@ public class ProgramHeadNotificationListener {
                     .recipient(programHead)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -449,12 +487,18 @@ public class ProgramHeadNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                directorNombre,
-                modalidadInfo,
-                getStudentList(modality)
-        );
-
+        """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.DIRECTOR_NOTIFIES_PROGRAM_HEAD_FINAL_REVIEW,
+                NotificationRecipientType.PROGRAM_HEAD,
+                subject,
+                message,
+                variables(
+                        "director", directorNombre,
+                        "modalidad", modalidadInfo,
+                        "estudiantes", getStudentList(modality)));
+
+        List<Notification> notifications = new ArrayList<>();
         for (User programHead : programHeads) {
             Notification notification = Notification.builder()
                     .type(NotificationType.DIRECTOR_NOTIFIES_PROGRAM_HEAD_FINAL_REVIEW)
@@ -462,14 +506,14 @@ public class ProgramHeadNotificationListener {
                     .recipient(programHead)
                     .triggeredBy(director)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     private String getStudentList(StudentModality modality) {
@@ -46,6 +46,8 @@ import com.SIGMA.USCO.notifications.event.StudentModalityStarted;
 import com.SIGMA.USCO.notifications.repository.NotificationRepository;
 import com.SIGMA.USCO.notifications.service.AcademicCertificatePdfService;
 import com.SIGMA.USCO.notifications.service.NotificationDispatcherService;
+import com.SIGMA.USCO.notifications.service.NotificationTemplateEngine;
+import com.SIGMA.USCO.notifications.service.RenderedNotification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -58,8 +60,11 @@ import org.springframework.transaction.event.TransactionalEventListener;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import static com.SIGMA.USCO.notifications.service.NotificationTemplateEngine.variables;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -69,6 +74,7 @@ public class StudentNotificationListener {
     private final StudentModalityMemberRepository studentModalityMemberRepository;
     private final NotificationRepository notificationRepository;
     private final NotificationDispatcherService dispatcher;
+    private final NotificationTemplateEngine templateEngine;
     private final UserRepository userRepository;
     private final StudentDocumentRepository studentDocumentRepository;
     private final AcademicCertificatePdfService certificatePdfService;
@@ -96,19 +102,24 @@ public class StudentNotificationListener {
                 Atentamente,
 
                 Sistema de Gestión Académica
-        """.formatted(
-                student.getName(),
-                modality.getProgramDegreeModality().getDegreeModality().getName(),
-                translateModalityProcessStatus(modality.getStatus())
-        );
+        """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_STARTED,
+                NotificationRecipientType.STUDENT,
+                subject,
+                message,
+                variables(
+                        "estudiante", student.getName(),
+                        "modalidad", modality.getProgramDegreeModality().getDegreeModality().getName(),
+                        "estado", translateModalityProcessStatus(modality.getStatus())));
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_STARTED)
                 .recipientType(NotificationRecipientType.STUDENT)
                 .recipient(student)
                 .triggeredBy(null)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
         notificationRepository.save(notification);
@@ -125,6 +136,7 @@ public class StudentNotificationListener {
             MemberStatus.ACTIVE
         );
         String subject = "Correcciones solicitadas en documento académico – Acción requerida";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             
@@ -157,27 +169,30 @@ public class StudentNotificationListener {
         Atentamente,
 
         Sistema de Gestión Académica
-        """.formatted(
-                    student.getName(),
-                    requestedByText,
-                    document.getDocumentConfig().getDocumentName(),
-                    event.getObservations() != null && !event.getObservations().isBlank()
-                            ? event.getObservations()
-                            : "No se registraron observaciones adicionales."
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.DOCUMENT_CORRECTIONS_REQUESTED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "solicitante", requestedByText,
+                            "documento", document.getDocumentConfig().getDocumentName(),
+                            "observaciones", event.getObservations() != null && !event.getObservations().isBlank() ? event.getObservations() : "No se registraron observaciones adicionales."));
             Notification notification = Notification.builder()
                     .type(NotificationType.DOCUMENT_CORRECTIONS_REQUESTED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -195,6 +210,7 @@ public class StudentNotificationListener {
         if (projectTitle != null && !projectTitle.isBlank()) {
             modalidadInfo += " – " + projectTitle;
         }
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -217,23 +233,28 @@ public class StudentNotificationListener {
         Atentamente,
 
         Sistema de Gestión Académica
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_CANCELLATION_REQUESTED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo));
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_CANCELLATION_REQUESTED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(sm)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -251,6 +272,7 @@ public class StudentNotificationListener {
         if (projectTitle != null && !projectTitle.isBlank()) {
             modalidadInfo += " – " + projectTitle;
         }
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -273,23 +295,28 @@ public class StudentNotificationListener {
         Atentamente,
 
         Sistema de Gestión Académica – SIGMA
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_CANCELLATION_APPROVED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo));
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_CANCELLATION_APPROVED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(sm)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -307,6 +334,7 @@ public class StudentNotificationListener {
         if (projectTitle != null && !projectTitle.isBlank()) {
             modalidadInfo += " – " + projectTitle;
         }
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -330,26 +358,29 @@ public class StudentNotificationListener {
         Atentamente,
 
         Sistema de Gestión Académica
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    event.getReason() != null && !event.getReason().isBlank()
-                            ? event.getReason()
-                            : "No se especifican motivos adicionales."
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_CANCELLATION_REJECTED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "motivo", event.getReason() != null && !event.getReason().isBlank() ? event.getReason() : "No se especifican motivos adicionales."));
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_CANCELLATION_REJECTED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(sm)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -371,6 +402,7 @@ public class StudentNotificationListener {
         String studentSubject =
                 "Sustentación programada – Modalidad de Grado";
 
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String studentMessage = """
@@ -396,28 +428,31 @@ public class StudentNotificationListener {
         Atentamente,
 
         Sistema de Gestión Académica
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    event.getDefenseDate(),
-                    event.getDefenseLocation(),
-                    director != null
-                            ? director.getName() + " " + director.getLastName()
-                            : "No asignado"
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.DEFENSE_SCHEDULED,
+                    NotificationRecipientType.STUDENT,
+                    studentSubject,
+                    studentMessage,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "fechaSustentacion", event.getDefenseDate(),
+                            "lugarSustentacion", event.getDefenseLocation(),
+                            "director", director != null ? director.getName() + " " + director.getLastName() : "No asignado"));
             Notification notification = Notification.builder()
                     .type(NotificationType.DEFENSE_SCHEDULED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(studentSubject)
-                    .message(studentMessage)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -440,6 +475,7 @@ public class StudentNotificationListener {
         }
         String studentSubject =
                 "Director de proyecto asignado – Modalidad de grado";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String studentMessage = """
@@ -464,25 +500,30 @@ public class StudentNotificationListener {
         Atentamente,
 
         Sistema de Gestión Académica
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    director.getName() + " " + director.getLastName(),
-                    director.getEmail()
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.DIRECTOR_ASSIGNED,
+                    NotificationRecipientType.STUDENT,
+                    studentSubject,
+                    studentMessage,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "director", director.getName() + " " + director.getLastName(),
+                            "correoDirector", director.getEmail()));
             Notification notification = Notification.builder()
                     .type(NotificationType.DIRECTOR_ASSIGNED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(studentSubject)
-                    .message(studentMessage)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -541,9 +582,9 @@ public class StudentNotificationListener {
         // ENVIAR CORREO CON ACTA SOLO AL LÍDER (evita múltiples adjuntos)
         User leader = modality.getLeader();
         if (leader != null) {
-            String leaderMessage = shouldSendCertificate
-                    ? buildApprovedStudentMessage(leader, modality, event)
-                    : buildRejectedStudentMessage(leader, modality, event);
+            RenderedNotification leaderMessage = shouldSendCertificate
+                    ? renderApprovedStudentMessage(studentSubject, leader, modality, event)
+                    : renderRejectedStudentMessage(studentSubject, leader, modality, event);
 
             Notification leaderNotification = Notification.builder()
                     .type(NotificationType.DEFENSE_COMPLETED)
@@ -551,8 +592,8 @@ public class StudentNotificationListener {
                     .recipient(leader)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(studentSubject)
-                    .message(leaderMessage)
+                    .subject(leaderMessage.subject())
+                    .message(leaderMessage.message())
                     .createdAt(LocalDateTime.now())
                     .build();
             notificationRepository.save(leaderNotification);
@@ -582,9 +623,9 @@ public class StudentNotificationListener {
             }
 
             User student = member.getStudent();
-            String studentMessage = shouldSendCertificate
-                    ? buildApprovedStudentMessage(student, modality, event)
-                    : buildRejectedStudentMessage(student, modality, event);
+            RenderedNotification studentMessage = shouldSendCertificate
+                    ? renderApprovedStudentMessage(studentSubject, student, modality, event)
+                    : renderRejectedStudentMessage(studentSubject, student, modality, event);
 
             Notification notification = Notification.builder()
                     .type(NotificationType.DEFENSE_COMPLETED)
@@ -592,8 +633,8 @@ public class StudentNotificationListener {
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(studentSubject)
-                    .message(studentMessage)
+                    .subject(studentMessage.subject())
+                    .message(studentMessage.message())
                     .createdAt(LocalDateTime.now())
                     .build();
             notificationRepository.save(notification);
@@ -614,7 +655,7 @@ public class StudentNotificationListener {
         }
     }
 
-    private String buildApprovedStudentMessage(User student, StudentModality modality, FinalDefenseResultEvent event) {
+    private RenderedNotification renderApprovedStudentMessage(String subject, User student, StudentModality modality, FinalDefenseResultEvent event) {
         String observaciones = localizeObservations(event.getObservations());
         String degreeModalityName = modality.getProgramDegreeModality().getDegreeModality().getName();
         String projectTitle = modality.getModalityTitle();
@@ -622,7 +663,7 @@ public class StudentNotificationListener {
         if (projectTitle != null && !projectTitle.isBlank()) {
             modalidadInfo += " – " + projectTitle;
         }
-        return """
+        String message = """
             Estimado(a) %s:
 
             Reciba un cordial saludo.
@@ -647,22 +688,28 @@ public class StudentNotificationListener {
 
             Sistema de Gestión Académica
             Universidad Surcolombiana
-            """.formatted(
-                student.getName(),
-                modalidadInfo,
-                translateAcademicDistinction(event.getAcademicDistinction()),
-                observaciones != null && !observaciones.isBlank() ? observaciones : "No se registran observaciones."
-        );
+            """;
+        return templateEngine.render(
+                NotificationType.DEFENSE_COMPLETED,
+                NotificationRecipientType.STUDENT,
+                subject,
+                message,
+                variables(
+                        "estudiante", student.getName(),
+                        "modalidad", modalidadInfo,
+                        "distincion", translateAcademicDistinction(event.getAcademicDistinction()),
+                        "observaciones", observaciones != null && !observaciones.isBlank() ? observaciones : "No se registran observaciones.",
+                        "resultado", "APROBADA"));
     }
 
-    private String buildRejectedStudentMessage(User student, StudentModality modality, FinalDefenseResultEvent event) {
+    private RenderedNotification renderRejectedStudentMessage(String subject, User student, StudentModality modality, FinalDefenseResultEvent event) {
         String degreeModalityName = modality.getProgramDegreeModality().getDegreeModality().getName();
         String projectTitle = modality.getModalityTitle();
         String modalidadInfo = degreeModalityName;
         if (projectTitle != null && !projectTitle.isBlank()) {
             modalidadInfo += " – " + projectTitle;
         }
-        return """
+        String message = """
             Estimado(a) %s:
 
             Reciba un cordial saludo.
@@ -682,13 +729,19 @@ public class StudentNotificationListener {
 
             Sistema de Gestión Académica – SIGMA
             Universidad Surcolombiana
-            """.formatted(
-                student.getName(),
-                modalidadInfo,
-                event.getObservations() != null && !event.getObservations().isBlank()
-                        ? event.getObservations()
-                        : "No se registran observaciones adicionales."
-        );
+            """;
+        return templateEngine.render(
+                NotificationType.DEFENSE_COMPLETED,
+                NotificationRecipientType.STUDENT,
+                subject,
+                message,
+                variables(
+                        "estudiante", student.getName(),
+                        "modalidad", modalidadInfo,
+                        "observaciones", event.getObservations() != null && !event.getObservations().isBlank()
+                                ? event.getObservations()
+                                : "No se registran observaciones adicionales.",
+                        "resultado", "NO APROBADA"));
     }
 
     @EventListener
@@ -705,6 +758,7 @@ public class StudentNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
         String subject = "Modalidad de grado aprobada – Comité de Currículo";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -731,28 +785,30 @@ public class StudentNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    modality.getProjectDirector() != null
-                            ? modality.getProjectDirector().getName() + " " +
-                            modality.getProjectDirector().getLastName()
-                            : "No se registra director asignado.",
-                    modality.getUpdatedAt()
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_APPROVED_BY_PROGRAM_CURRICULUM_COMMITTEE,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "director", modality.getProjectDirector() != null ? modality.getProjectDirector().getName() + " " + modality.getProjectDirector().getLastName() : "No se registra director asignado.",
+                            "fechaActualizacion", modality.getUpdatedAt()));
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_APPROVED_BY_PROGRAM_CURRICULUM_COMMITTEE)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -770,6 +826,7 @@ public class StudentNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
         String subject = "Modalidad de grado aprobada – Jefatura de Programa y/o Coordinación de Modalidades";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -794,23 +851,28 @@ public class StudentNotificationListener {
 
         Sistema de Gestión Académica
         Universidad Surcolombiana
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_APPROVED_BY_PROGRAM_HEAD,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo));
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_APPROVED_BY_PROGRAM_HEAD)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
 
@@ -831,6 +893,7 @@ public class StudentNotificationListener {
         }
         String subject = "Recordatorio oficial – Plazo de correcciones (%d días restantes)"
                 .formatted(event.getDaysRemaining());
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -863,26 +926,31 @@ public class StudentNotificationListener {
 
         Sistema de Gestión Académica – SIGMA
         Universidad Surcolombiana
-        """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    event.getDaysRemaining(),
-                    event.getDeadline().toLocalDate()
-            );
+        """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.CORRECTION_DEADLINE_REMINDER,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "diasRestantes", event.getDaysRemaining(),
+                            "fechaLimite", event.getDeadline().toLocalDate()));
             Notification notification = Notification.builder()
                     .type(NotificationType.CORRECTION_DEADLINE_REMINDER)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
             log.info("Recordatorio de plazo de corrección enviado al estudiante {}", student.getId());
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -900,6 +968,7 @@ public class StudentNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
         String subject = "Notificación oficial – Cancelación automática de modalidad por vencimiento de plazo";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -928,25 +997,30 @@ public class StudentNotificationListener {
 
             Sistema de Gestión Académica
             Universidad Surcolombiana
-            """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    event.getRequestDate().toLocalDate()
-            );
+            """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.CORRECTION_DEADLINE_EXPIRED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "fechaSolicitud", event.getRequestDate().toLocalDate()));
             Notification notification = Notification.builder()
                     .type(NotificationType.CORRECTION_DEADLINE_EXPIRED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
             log.info("Notificación de cancelación por vencimiento enviada al estudiante {}", student.getId());
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -964,6 +1038,7 @@ public class StudentNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
         String subject = "Notificación oficial – Documento corregido recibido";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -990,26 +1065,31 @@ public class StudentNotificationListener {
 
             Sistema de Gestión Académica
             Universidad Surcolombiana
-            """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    event.getDocumentName(),
-                    LocalDateTime.now().toLocalDate()
-            );
+            """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.CORRECTION_RESUBMITTED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "documento", event.getDocumentName(),
+                            "fecha", LocalDateTime.now().toLocalDate()));
             Notification notification = Notification.builder()
                     .type(NotificationType.CORRECTION_RESUBMITTED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
             log.info("Notificación de resubmisión de corrección enviada al estudiante {}", student.getId());
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -1027,6 +1107,7 @@ public class StudentNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
         String subject = "Notificación oficial – Correcciones aprobadas";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -1052,25 +1133,30 @@ public class StudentNotificationListener {
 
             Sistema de Gestión Académica
             Universidad Surcolombiana
-            """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    event.getDocumentName()
-            );
+            """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.CORRECTION_APPROVED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "documento", event.getDocumentName()));
             Notification notification = Notification.builder()
                     .type(NotificationType.CORRECTION_APPROVED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
             log.info("Notificación de aprobación de corrección enviada al estudiante {}", student.getId());
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -1088,6 +1174,7 @@ public class StudentNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
         String subject = "Notificación oficial – Cancelación de modalidad por rechazo definitivo de correcciones";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -1116,28 +1203,31 @@ public class StudentNotificationListener {
 
             Sistema de Gestión Académica – SIGMA
             Universidad Surcolombiana
-            """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    event.getDocumentName(),
-                    event.getReason() != null && !event.getReason().isBlank()
-                            ? event.getReason()
-                            : "No se registran motivos adicionales."
-            );
+            """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.CORRECTION_REJECTED_FINAL,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "documento", event.getDocumentName(),
+                            "motivo", event.getReason() != null && !event.getReason().isBlank() ? event.getReason() : "No se registran motivos adicionales."));
             Notification notification = Notification.builder()
                     .type(NotificationType.CORRECTION_REJECTED_FINAL)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
             log.info("Notificación de rechazo final de corrección enviada al estudiante {}", student.getId());
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -1158,6 +1248,7 @@ public class StudentNotificationListener {
             modalidadInfo += " – " + projectTitle;
         }
         String subject = "Notificación oficial – Cierre de modalidad por decisión del Comité de Currículo";
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
             User student = member.getStudent();
             String message = """
@@ -1186,31 +1277,34 @@ public class StudentNotificationListener {
 
             Sistema de Gestión Académica
             Universidad Surcolombiana
-                """.formatted(
-                    student.getName(),
-                    modalidadInfo,
-                    modality.getAcademicProgram().getName(),
-                    committeeMember.getName(),
-                    committeeMember.getLastName(),
-                    LocalDateTime.now().toString(),
-                    event.getReason() != null && !event.getReason().isBlank()
-                            ? event.getReason()
-                            : "No se registran motivos adicionales."
-            );
+                """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_CLOSED_BY_COMMITTEE,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modalidadInfo,
+                            "programa", modality.getAcademicProgram().getName(),
+                            "nombreMiembroComite", committeeMember.getName(),
+                            "apellidoMiembroComite", committeeMember.getLastName(),
+                            "fecha", LocalDateTime.now().toString(),
+                            "motivo", event.getReason() != null && !event.getReason().isBlank() ? event.getReason() : "No se registran motivos adicionales."));
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_CLOSED_BY_COMMITTEE)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(committeeMember)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
             log.info("Notificación de cierre de modalidad por comité enviada al estudiante {}", student.getId());
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -1262,14 +1356,19 @@ public class StudentNotificationListener {
 
                 Sistema de Gestión Académica – SIGMA
                 Universidad Surcolombiana
-                """.formatted(
-                invitee.getName(),
-                modalidadInfo,
-                modality.getAcademicProgram().getName(),
-                inviter.getName() + " " + inviter.getLastName(),
-                LocalDateTime.now().toString(),
-                inviter.getName()
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_INVITATION_RECEIVED,
+                NotificationRecipientType.STUDENT,
+                subject,
+                message,
+                variables(
+                        "estudiante", invitee.getName(),
+                        "modalidad", modalidadInfo,
+                        "programa", modality.getAcademicProgram().getName(),
+                        "invitadoPor", inviter.getName() + " " + inviter.getLastName(),
+                        "fecha", LocalDateTime.now().toString(),
+                        "nombreInvitador", inviter.getName()));
 
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_INVITATION_RECEIVED)
@@ -1278,8 +1377,8 @@ public class StudentNotificationListener {
                 .triggeredBy(inviter)
                 .studentModality(modality)
                 .invitationId(event.getInvitationId())
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -1338,13 +1437,18 @@ public class StudentNotificationListener {
 
                 Sistema de Gestión Académica – SIGMA
                 Universidad Surcolombiana
-                """.formatted(
-                leader.getName(),
-                acceptedBy.getName() + " " + acceptedBy.getLastName(),
-                modalidadInfo,
-                modality.getAcademicProgram().getName(),
-                LocalDateTime.now().toString()
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_INVITATION_ACCEPTED,
+                NotificationRecipientType.STUDENT,
+                subject,
+                message,
+                variables(
+                        "lider", leader.getName(),
+                        "estudiante", acceptedBy.getName() + " " + acceptedBy.getLastName(),
+                        "modalidad", modalidadInfo,
+                        "programa", modality.getAcademicProgram().getName(),
+                        "fecha", LocalDateTime.now().toString()));
 
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_INVITATION_ACCEPTED)
@@ -1352,8 +1456,8 @@ public class StudentNotificationListener {
                 .recipient(leader)
                 .triggeredBy(acceptedBy)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -1414,18 +1518,23 @@ public class StudentNotificationListener {
 
                 Sistema de Gestión Académica – SIGMA
                 Universidad Surcolombiana
-                """.formatted(
-                leader.getName(),
-                rejectedBy.getName() + " " + rejectedBy.getLastName(),
-                modalidadInfo,
-                modality.getAcademicProgram().getName(),
-                LocalDateTime.now().toString(),
-                3, // MAX_GROUP_SIZE
-                studentModalityMemberRepository.countByStudentModalityIdAndStatus(
-                        modality.getId(),
-                        MemberStatus.ACTIVE
-                )
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_INVITATION_REJECTED,
+                NotificationRecipientType.STUDENT,
+                subject,
+                message,
+                variables(
+                        "lider", leader.getName(),
+                        "estudiante", rejectedBy.getName() + " " + rejectedBy.getLastName(),
+                        "modalidad", modalidadInfo,
+                        "programa", modality.getAcademicProgram().getName(),
+                        "fecha", LocalDateTime.now().toString(),
+                        "maximoIntegrantes", 3, // MAX_GROUP_SIZE
+                        "integrantesActivos", studentModalityMemberRepository.countByStudentModalityIdAndStatus(
+                                modality.getId(),
+                                MemberStatus.ACTIVE
+                        )));
 
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_INVITATION_REJECTED)
@@ -1433,8 +1542,8 @@ public class StudentNotificationListener {
                 .recipient(leader)
                 .triggeredBy(rejectedBy)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -1511,20 +1620,22 @@ public class StudentNotificationListener {
                     Comité de Currículo del Programa Académico
                     Sistema de Gestión Académica
                     Universidad Surcolombiana
-                    """.formatted(
-                    student.getName(),
-                    student.getLastName(),
-                    modalidadInfo,
-                    modality.getProgramDegreeModality().getAcademicProgram().getName(),
-                    modality.getProgramDegreeModality().getAcademicProgram().getFaculty().getName(),
-                    committeeMember.getName(),
-                    committeeMember.getLastName(),
-                    LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern(
-                            "d 'de' MMMM 'de' yyyy", java.util.Locale.forLanguageTag("es-CO"))),
-                    event.getObservations() != null && !event.getObservations().isBlank()
-                            ? "Observaciones del Comité: " + event.getObservations() + ".\n\n"
-                            : ""
-            );
+                    """;
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_FINAL_APPROVED_BY_COMMITTEE,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "nombreEstudiante", student.getName(),
+                            "apellidoEstudiante", student.getLastName(),
+                            "modalidad", modalidadInfo,
+                            "programa", modality.getProgramDegreeModality().getAcademicProgram().getName(),
+                            "facultad", modality.getProgramDegreeModality().getAcademicProgram().getFaculty().getName(),
+                            "nombreMiembroComite", committeeMember.getName(),
+                            "apellidoMiembroComite", committeeMember.getLastName(),
+                            "fecha", LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern( "d 'de' MMMM 'de' yyyy", java.util.Locale.forLanguageTag("es-CO"))),
+                            "observaciones", event.getObservations() != null && !event.getObservations().isBlank() ? "Observaciones del Comité: " + event.getObservations() + ".\n\n" : ""));
 
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_FINAL_APPROVED_BY_COMMITTEE)
@@ -1532,8 +1643,8 @@ public class StudentNotificationListener {
                     .recipient(student)
                     .triggeredBy(committeeMember)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
@@ -1615,23 +1726,26 @@ public class StudentNotificationListener {
                 Comité de Currículo del Programa Académico
                 Sistema de Gestión Académica
                 Universidad Surcolombiana
-                """.formatted(
-                student.getName(),
-                modalidadInfo,
-                modality.getAcademicProgram().getName(),
-                LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")),
-                event.getReason() != null && !event.getReason().isBlank()
-                        ? event.getReason()
-                        : "No se registran motivos adicionales."
-        );
+                """;
+        RenderedNotification rendered = templateEngine.render(
+                NotificationType.MODALITY_REJECTED_BY_COMMITTEE,
+                NotificationRecipientType.STUDENT,
+                subject,
+                message,
+                variables(
+                        "estudiante", student.getName(),
+                        "modalidad", modalidadInfo,
+                        "programa", modality.getAcademicProgram().getName(),
+                        "fecha", LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")),
+                        "motivo", event.getReason() != null && !event.getReason().isBlank() ? event.getReason() : "No se registran motivos adicionales."));
         Notification notification = Notification.builder()
                 .type(NotificationType.MODALITY_REJECTED_BY_COMMITTEE)
                 .recipientType(NotificationRecipientType.STUDENT)
                 .recipient(student)
                 .triggeredBy(committeeMember)
                 .studentModality(modality)
-                .subject(subject)
-                .message(message)
+                .subject(rendered.subject())
+                .message(rendered.message())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -1643,16 +1757,16 @@ public class StudentNotificationListener {
     public void onSeminarStarted(SeminarStartedEvent event) {
         String subject = "Inicio de Seminario: " + event.getSeminarName();
 
-        String body = String.format("""
-                Estimado/a %s,
+        String body = """
+                Estimado/a %1$s,
                 
-                Le informamos que el seminario "%s" ha iniciado oficialmente.
+                Le informamos que el seminario "%2$s" ha iniciado oficialmente.
                 
                 Detalles del seminario:
-                - Nombre: %s
-                - Programa: %s
-                - Fecha de inicio: %s
-                - Intensidad horaria: %d horas
+                - Nombre: %2$s
+                - Programa: %3$s
+                - Fecha de inicio: %4$s
+                - Intensidad horaria: %5$d horas
                 
                 Es importante que esté atento/a a las indicaciones y horarios del seminario.
                 Le recordamos que la asistencia es obligatoria (mínimo 80%% de la intensidad horaria).
@@ -1661,47 +1775,49 @@ public class StudentNotificationListener {
                 
                 Cordialmente,
                 Sistema de Gestión de Modalidades de Grado - SIGMA
-                %s
+                %3$s
                 Universidad Surcolombiana
-                """,
-                event.getRecipientName(),
-                event.getSeminarName(),
-                event.getSeminarName(),
-                event.getProgramName(),
-                event.getStartDate(),
-                event.getTotalHours(),
-                event.getProgramName()
-        );
-
-        User recipient = userRepository.findByEmail(event.getRecipientEmail()).orElse(null);
-
-        Notification notification = Notification.builder()
-                .recipient(recipient)
-                .subject(subject)
-                .message(body)
-                .type(NotificationType.SEMINAR_STARTED)
-                .recipientType(NotificationRecipientType.STUDENT)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        notificationRepository.save(notification);
-        dispatcher.dispatch(notification);
+                """;
+        List<Notification> notifications = new ArrayList<>();
+        for (User recipient : userRepository.findAllById(event.getRecipientIds())) {
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.SEMINAR_STARTED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    body,
+                    variables(
+                            "estudiante", recipient.getName() + " " + recipient.getLastName(),
+                            "seminario", event.getSeminarName(),
+                            "programa", event.getProgramName(),
+                            "fechaInicio", event.getStartDate(),
+                            "horas", event.getTotalHours()));
+
+            notifications.add(Notification.builder()
+                    .recipient(recipient)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
+                    .type(NotificationType.SEMINAR_STARTED)
+                    .recipientType(NotificationRecipientType.STUDENT)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
     public void onSeminarCancelled(SeminarCancelledEvent event) {
         String subject = "Cancelación de Seminario: " + event.getSeminarName();
 
-        String body = String.format("""
-                Estimado/a %s,
+        String body = """
+                Estimado/a %1$s,
                 
-                Le informamos que el seminario "%s" ha sido CANCELADO.
+                Le informamos que el seminario "%2$s" ha sido CANCELADO.
                 
                 Detalles del seminario:
-                - Nombre: %s
-                - Programa: %s
-                - Fecha de cancelación: %s
-                %s
+                - Nombre: %2$s
+                - Programa: %3$s
+                - Fecha de cancelación: %4$s
+                %5$s
                 
                 La inscripción al seminario ha sido suspendida automáticamente.
                 Podrá inscribirse a otro seminario disponible cuando lo desee.
@@ -1710,31 +1826,33 @@ public class StudentNotificationListener {
                 
                 Cordialmente,
                 Sistema de Gestión de Modalidades de Grado - SIGMA
-                %s
+                %3$s
                 Universidad Surcolombiana
-                """,
-                event.getRecipientName(),
-                event.getSeminarName(),
-                event.getSeminarName(),
-                event.getProgramName(),
-                event.getCancelledDate(),
-                event.getReason() != null ? "\nMotivo: " + event.getReason() : "",
-                event.getProgramName()
-        );
-
-        User recipient = userRepository.findByEmail(event.getRecipientEmail()).orElse(null);
-
-        Notification notification = Notification.builder()
-                .recipient(recipient)
-                .subject(subject)
-                .message(body)
-                .type(NotificationType.SEMINAR_CANCELLED)
-                .recipientType(NotificationRecipientType.STUDENT)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        notificationRepository.save(notification);
-        dispatcher.dispatch(notification);
+                """;
+        List<Notification> notifications = new ArrayList<>();
+        for (User recipient : userRepository.findAllById(event.getRecipientIds())) {
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.SEMINAR_CANCELLED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    body,
+                    variables(
+                            "estudiante", recipient.getName() + " " + recipient.getLastName(),
+                            "seminario", event.getSeminarName(),
+                            "programa", event.getProgramName(),
+                            "fechaCancelacion", event.getCancelledDate(),
+                            "motivo", event.getReason() != null ? "\nMotivo: " + event.getReason() : ""));
+
+            notifications.add(Notification.builder()
+                    .recipient(recipient)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
+                    .type(NotificationType.SEMINAR_CANCELLED)
+                    .recipientType(NotificationRecipientType.STUDENT)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -1790,18 +1908,21 @@ public class StudentNotificationListener {
             Universidad Surcolombiana
             """;
 
+        List<Notification> notifications = new ArrayList<>();
         for (var member : members) {
 
             User student = member.getStudent();
 
-            String personalizedMessage = String.format(
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.MODALITY_APPROVED_BY_EXAMINERS,
+                    NotificationRecipientType.STUDENT,
+                    subject,
                     messageTemplate,
-                    student.getName(),
-                    modality.getProgramDegreeModality().getDegreeModality().getName(),
-                    modality.getAcademicProgram().getName(),
-                    LocalDateTime.now()
-
-            );
+                    variables(
+                            "estudiante", student.getName(),
+                            "modalidad", modality.getProgramDegreeModality().getDegreeModality().getName(),
+                            "programa", modality.getAcademicProgram().getName(),
+                            "fecha", LocalDateTime.now()));
 
             Notification notification = Notification.builder()
                     .type(NotificationType.MODALITY_APPROVED_BY_EXAMINERS)
@@ -1809,14 +1930,14 @@ public class StudentNotificationListener {
                     .recipient(student)
                     .triggeredBy(examiner)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(personalizedMessage)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     @EventListener
@@ -1864,15 +1985,20 @@ public class StudentNotificationListener {
             Universidad Surcolombiana
             """;
 
+        List<Notification> notifications = new ArrayList<>();
         for (StudentModalityMember member : members) {
             User student = member.getStudent();
-            String message = String.format(messageTemplate,
-                    student.getName() + " " + student.getLastName(),
-                    modalidadInfo,
-                    modality.getProgramDegreeModality().getAcademicProgram().getName(),
-                    jurados,
-                    LocalDateTime.now()
-            );
+            RenderedNotification rendered = templateEngine.render(
+                    NotificationType.EXAMINER_ASSIGNED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    messageTemplate,
+                    variables(
+                            "estudiante", student.getName() + " " + student.getLastName(),
+                            "modalidad", modalidadInfo,
+                            "programa", modality.getProgramDegreeModality().getAcademicProgram().getName(),
+                            "jurados", jurados,
+                            "fecha", LocalDateTime.now()));
 
             Notification notification = Notification.builder()
                     .type(NotificationType.EXAMINER_ASSIGNED)
@@ -1880,13 +2006,13 @@ public class StudentNotificationListener {
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     private String translateModalityProcessStatus(ModalityProcessStatus status) {
@@ -1990,6 +2116,7 @@ public class StudentNotificationListener {
                 ? "Solicitud de edición de documento aprobada"
                 : "Solicitud de edición de documento rechazada";
 
+        List<Notification> notifications = new ArrayList<>();
         for (StudentModalityMember member : members) {
             User student = member.getStudent();
             String message;
@@ -2014,13 +2141,7 @@ public class StudentNotificationListener {
 
         Sistema de Gestión Académica – SIGMA
         Universidad Surcolombiana
-        """.formatted(
-                        student.getName(),
-                        event.getDocumentName(),
-                        event.getResolutionNotes() != null && !event.getResolutionNotes().isBlank()
-                                ? event.getResolutionNotes()
-                                : "No se registran observaciones adicionales."
-                );
+        """;
             } else {
                 message = """
         Estimado(a) %s:
@@ -2042,28 +2163,34 @@ public class StudentNotificationListener {
 
         Sistema de Gestión Académica – SIGMA
         Universidad Surcolombiana
-        """.formatted(
-                        student.getName(),
-                        event.getDocumentName(),
-                        event.getResolutionNotes() != null && !event.getResolutionNotes().isBlank()
-                                ? event.getResolutionNotes()
-                                : "No se registran motivos adicionales."
-                );
+        """;
             }
 
+            RenderedNotification rendered = templateEngine.render(
+                    approved ? NotificationType.DOCUMENT_EDIT_APPROVED : NotificationType.DOCUMENT_EDIT_REJECTED,
+                    NotificationRecipientType.STUDENT,
+                    subject,
+                    message,
+                    variables(
+                            "estudiante", student.getName(),
+                            "documento", event.getDocumentName(),
+                            "observaciones", event.getResolutionNotes() != null && !event.getResolutionNotes().isBlank()
+                                    ? event.getResolutionNotes()
+                                    : approved ? "No se registran observaciones adicionales." : "No se registran motivos adicionales."));
+
             Notification notification = Notification.builder()
                     .type(approved ? NotificationType.DOCUMENT_EDIT_APPROVED : NotificationType.DOCUMENT_EDIT_REJECTED)
                     .recipientType(NotificationRecipientType.STUDENT)
                     .recipient(student)
                     .triggeredBy(null)
                     .studentModality(modality)
-                    .subject(subject)
-                    .message(message)
+                    .subject(rendered.subject())
+                    .message(rendered.message())
                     .createdAt(LocalDateTime.now())
                     .build();
-            notificationRepository.save(notification);
-            dispatcher.dispatch(notification);
+            notifications.add(notification);
         }
+        dispatcher.dispatchAll(notifications);
     }
 
     private String translateExaminerType(com.SIGMA.USCO.Modalities.Entity.enums.ExaminerType type) {
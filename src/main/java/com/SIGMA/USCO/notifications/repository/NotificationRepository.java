@@ -1,8 +1,16 @@
 package com.SIGMA.USCO.notifications.repository;
 
 import com.SIGMA.USCO.notifications.entity.Notification;
+import com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +24,121 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Optional<Notification> findByIdAndRecipient_Id(Long id, Long recipientId);
 
+    // ==================== OUTBOX DE CORREOS ====================
+
+    /**
+     * Marca la notificación como entregada en la aplicación y la deja lista para el envío
+     * por correo, con su adjunto si lo tiene. Solo aplica a notificaciones aún no despachadas.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Notification n
+        SET n.inAppDelivered = true,
+            n.emailNextAttemptAt = :now,
+            n.attachmentPath = :attachmentPath,
+            n.attachmentName = :attachmentName
+        WHERE n.id = :id
+        AND n.emailDeliveryStatus = com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus.PENDING
+        AND n.emailNextAttemptAt IS NULL
+        """)
+    int enqueueEmail(@Param("id") Long id,
+                     @Param("now") LocalDateTime now,
+                     @Param("attachmentPath") String attachmentPath,
+                     @Param("attachmentName") String attachmentName);
+
+    /**
+     * Notificaciones cuyo correo debe enviarse: pendientes con el intento vencido, tomadas por
+     * un proceso que no terminó (lote vencido) o guardadas y nunca despachadas.
+     */
+    @Query("""
+        SELECT n.id FROM Notification n
+        WHERE (n.emailDeliveryStatus IN (
+                com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus.PENDING,
+                com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus.SENDING)
+            AND n.emailNextAttemptAt <= :now)
+        OR (n.emailDeliveryStatus = com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus.PENDING
+            AND n.emailNextAttemptAt IS NULL
+            AND n.createdAt <= :orphanedBefore)
+        ORDER BY n.id
+        """)
+    List<Long> findDueEmailIds(@Param("now") LocalDateTime now,
+                               @Param("orphanedBefore") LocalDateTime orphanedBefore,
+                               Limit limit);
+
+    /**
+     * Toma las notificaciones para un lote de envío. Solo se toman las que siguen pendientes,
+     * así dos instancias nunca envían la misma notificación a la vez.
+     *
+     * @return Cantidad de notificaciones tomadas
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Notification n
+        SET n.emailDeliveryStatus = com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus.SENDING,
+            n.emailClaim = :claim,
+            n.emailNextAttemptAt = :leaseUntil
+        WHERE n.id IN :ids
+        AND n.emailDeliveryStatus IN (
+            com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus.PENDING,
+            com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus.SENDING)
+        AND (n.emailNextAttemptAt IS NULL OR n.emailNextAttemptAt <= :now)
+        """)
+    int claimEmails(@Param("ids") Collection<Long> ids,
+                    @Param("claim") String claim,
+                    @Param("now") LocalDateTime now,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    long countByEmailDeliveryStatus(EmailDeliveryStatus status);
+
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.recipient WHERE n.emailClaim = :claim ORDER BY n.id")
+    List<Notification> findByEmailClaim(@Param("claim") String claim);
+
+    /**
+     * Cierra el envío de las notificaciones del lote con el estado indicado (SENT o NOT_REQUIRED).
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Notification n
+        SET n.emailDeliveryStatus = :status,
+            n.inAppDelivered = true,
+            n.emailSent = :emailSent,
+            n.sentAt = :sentAt,
+            n.emailClaim = null,
+            n.emailNextAttemptAt = null,
+            n.emailLastError = null
+        WHERE n.id IN :ids
+        AND n.emailClaim = :claim
+        """)
+    int completeEmails(@Param("ids") Collection<Long> ids,
+                       @Param("claim") String claim,
+                       @Param("status") EmailDeliveryStatus status,
+                       @Param("emailSent") boolean emailSent,
+                       @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Registra un intento fallido: queda pendiente para un nuevo intento o descartada (DEAD).
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Notification n
+        SET n.emailDeliveryStatus = :status,
+            n.emailAttempts = :attempts,
+            n.emailNextAttemptAt = :nextAttemptAt,
+            n.emailLastError = :error,
+            n.emailClaim = null
+        WHERE n.id = :id
+        AND n.emailClaim = :claim
+        """)
+    int recordEmailFailure(@Param("id") Long id,
+                           @Param("claim") String claim,
+                           @Param("status") EmailDeliveryStatus status,
+                           @Param("attempts") int attempts,
+                           @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                           @Param("error") String error);
+
 
 }
@@ -0,0 +1,17 @@
+package com.SIGMA.USCO.notifications.repository;
+
+import com.SIGMA.USCO.notifications.entity.NotificationTemplate;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface NotificationTemplateRepository extends JpaRepository<NotificationTemplate, Long> {
+
+    List<NotificationTemplate> findByActiveTrue();
+
+    List<NotificationTemplate> findAllByOrderByTypeAscRecipientTypeAsc();
+
+    boolean existsByTypeAndRecipientTypeAndActiveTrueAndIdNot(NotificationType type, NotificationRecipientType recipientType, Long id);
+}
@@ -0,0 +1,183 @@
+package com.SIGMA.USCO.notifications.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.Set;
+
+/**
+ * Texto de notificación separado una sola vez en fragmentos fijos y variables, para generarlo
+ * sin volver a analizarlo en cada evento.
+ *
+ * Admite dos sintaxis:
+ * <ul>
+ *   <li>Variables con nombre {@code {{nombre}}}, usadas por las plantillas editables.</li>
+ *   <li>Posiciones {@code %s}, {@code %d} y {@code %%}, como los textos incorporados en los
+ *       listeners; se llenan con los valores de las variables en el orden en que se agregaron.
+ *       Como en {@link String#format}, {@code %2$s} repite el segundo valor.</li>
+ * </ul>
+ * Un valor nulo se muestra vacío.
+ */
+public final class CompiledTemplate {
+
+    private final String[] literals;
+    /** null en los textos posicionales */
+    private final String[] names;
+    /** Índice del valor de cada posición; null en los textos con variables con nombre */
+    private final int[] positions;
+    /** Valores que necesita un texto posicional */
+    private final int valuesNeeded;
+    private final int literalLength;
+
+    private CompiledTemplate(List<String> literals, List<String> names, int[] positions) {
+        this.literals = literals.toArray(new String[0]);
+        this.names = names != null ? names.toArray(new String[0]) : null;
+        this.positions = positions;
+        int needed = 0;
+        if (positions != null) {
+            for (int position : positions) {
+                needed = Math.max(needed, position + 1);
+            }
+        }
+        this.valuesNeeded = needed;
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compila un texto con variables {@code {{nombre}}}.
+     *
+     * @throws IllegalArgumentException si una variable no está cerrada o no tiene nombre
+     */
+    public static CompiledTemplate named(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        int open;
+        while ((open = source.indexOf("{{", from)) >= 0) {
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Variable sin cerrar en la posición " + open);
+            }
+            String name = source.substring(open + 2, close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Variable sin nombre en la posición " + open);
+            }
+            literals.add(source.substring(from, open));
+            names.add(name);
+            from = close + 2;
+        }
+        literals.add(source.substring(from));
+        return new CompiledTemplate(literals, names, null);
+    }
+
+    /**
+     * Compila un texto con posiciones {@code %s}, {@code %d}, {@code %1$s} y {@code %%}.
+     *
+     * @throws IllegalArgumentException si el texto usa otro especificador de formato
+     */
+    public static CompiledTemplate positional(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int ordinary = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            int j = i + 1;
+            while (j < source.length() && Character.isDigit(source.charAt(j))) {
+                j++;
+            }
+            int explicit = -1;
+            if (j > i + 1) {
+                if (j >= source.length() || source.charAt(j) != '$') {
+                    throw new IllegalArgumentException("Especificador de formato no soportado en la posición " + i);
+                }
+                explicit = Integer.parseInt(source.substring(i + 1, j)) - 1;
+                j++;
+            }
+            char specifier = j < source.length() ? source.charAt(j) : ' ';
+            if (specifier == 's' || specifier == 'd') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                positions.add(explicit >= 0 ? explicit : ordinary++);
+            } else if (explicit >= 0) {
+                throw new IllegalArgumentException("Especificador de formato no soportado en la posición " + i);
+            } else if (specifier == '%') {
+                literal.append('%');
+            } else if (specifier == 'n') {
+                literal.append(System.lineSeparator());
+            } else {
+                throw new IllegalArgumentException("Especificador de formato no soportado: %" + specifier);
+            }
+            i = j;
+        }
+        literals.add(literal.toString());
+        return new CompiledTemplate(literals, null, positions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Nombres de las variables; vacío en los textos posicionales.
+     */
+    public Set<String> variableNames() {
+        // Una variable puede aparecer varias veces en el texto
+        return names != null ? Set.copyOf(Arrays.asList(names)) : Set.of();
+    }
+
+    /**
+     * Indica si las variables alcanzan para generar el texto.
+     */
+    public boolean accepts(Map<String, ?> variables) {
+        if (names == null) {
+            return variables.size() >= valuesNeeded;
+        }
+        for (String name : names) {
+            if (!variables.containsKey(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Genera el texto. En los textos posicionales se usan los valores de las variables en orden.
+     *
+     * @throws IllegalFormatException si faltan valores para las posiciones del texto
+     */
+    public String render(Map<String, ?> variables) {
+        StringBuilder out = new StringBuilder(literalLength + 32 * (literals.length - 1));
+        out.append(literals[0]);
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                append(out, variables.get(names[i]));
+                out.append(literals[i + 1]);
+            }
+            return out.toString();
+        }
+
+        Object[] values = variables.values().toArray();
+        if (values.length < valuesNeeded) {
+            throw new MissingFormatArgumentException("%s");
+        }
+        for (int i = 0; i < positions.length; i++) {
+            append(out, values[positions[i]]);
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    private static void append(StringBuilder out, Object value) {
+        if (value != null) {
+            out.append(value);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.SIGMA.USCO.notifications.service;
+
+import com.SIGMA.USCO.config.EmailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSenderFailedException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Envío de los correos del outbox con límites acordes a la cuota del proveedor SMTP.
+ *
+ * Los envíos se reparten en pocas conexiones simultáneas (pool "mailConnectionExecutor") y un
+ * token bucket limita cuántos correos se envían por minuto. Lo que no cabe en la cuota no se
+ * encola en memoria: sigue pendiente en el outbox hasta el siguiente ciclo. Si falla una conexión
+ * completa por un error de conexión, autenticación o un rechazo temporal del servidor (4xx, p. ej.
+ * el proveedor limita la cuenta), se pausan los envíos por un tiempo. Un rechazo por cuota
+ * (p. ej. "550 5.4.5" de Gmail al agotar el cupo diario) pausa los envíos por más tiempo. Una
+ * dirección inválida no pausa los envíos: es un error del correo, no del servidor.
+ */
+@Component
+@Slf4j
+public class EmailDeliveryEngine {
+
+    /** Código de estado extendido de una respuesta SMTP, p. ej. 5.4.5 */
+    private static final Pattern ENHANCED_STATUS = Pattern.compile("(?<![\\d.])([245])\\.(\\d{1,3})\\.(\\d{1,3})(?![\\d.])");
+
+    private final EmailService emailService;
+    private final Executor mailConnectionExecutor;
+    private final int maxConnections;
+    private final int messagesPerConnection;
+    private final long failurePauseNanos;
+    private final long quotaPauseNanos;
+    private final TokenBucket rateLimit;
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final Timer connectionTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter throttledCounter;
+
+    public EmailDeliveryEngine(EmailService emailService,
+                               @Qualifier("mailConnectionExecutor") Executor mailConnectionExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${notifications.mail.max-connections:2}") int maxConnections,
+                               @Value("${notifications.mail.messages-per-connection:25}") int messagesPerConnection,
+                               @Value("${notifications.mail.rate-per-minute:60}") double ratePerMinute,
+                               @Value("${notifications.mail.burst:20}") int burst,
+                               @Value("${notifications.mail.failure-pause-seconds:60}") long failurePauseSeconds,
+                               @Value("${notifications.mail.quota-pause-seconds:900}") long quotaPauseSeconds) {
+        this.emailService = emailService;
+        this.mailConnectionExecutor = mailConnectionExecutor;
+        this.maxConnections = maxConnections;
+        this.messagesPerConnection = messagesPerConnection;
+        this.failurePauseNanos = TimeUnit.SECONDS.toNanos(failurePauseSeconds);
+        this.quotaPauseNanos = TimeUnit.SECONDS.toNanos(quotaPauseSeconds);
+        this.rateLimit = new TokenBucket(burst, ratePerMinute / 60.0);
+
+        this.connectionTimer = Timer.builder("sigma.mail.connection.duration")
+                .description("Duración del envío de un lote por una conexión SMTP")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("sigma.mail.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("sigma.mail.failed").register(meterRegistry);
+        this.throttledCounter = Counter.builder("sigma.mail.throttled")
+                .description("Ciclos del outbox detenidos por el límite de envío")
+                .register(meterRegistry);
+        Gauge.builder("sigma.mail.connections.active", activeConnections, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("sigma.mail.rate.tokens", rateLimit, TokenBucket::available).register(meterRegistry);
+    }
+
+    /**
+     * Reserva cupo para enviar hasta {@code wanted} correos.
+     *
+     * @return Correos que se pueden enviar ahora; 0 si se agotó la cuota o los envíos están pausados
+     */
+    public int reserve(int wanted) {
+        int granted = rateLimit.tryAcquire(wanted);
+        if (granted == 0) {
+            throttledCounter.increment();
+        }
+        return granted;
+    }
+
+    /**
+     * Devuelve el cupo reservado que no se usó.
+     */
+    public void release(int unused) {
+        rateLimit.refund(unused);
+    }
+
+    /**
+     * Tiempo que se pausan los envíos cuando el proveedor rechaza por cuota; el outbox vuelve
+     * a intentar esos correos pasado este tiempo.
+     */
+    public Duration quotaPause() {
+        return Duration.ofNanos(quotaPauseNanos);
+    }
+
+    /**
+     * Envía los correos repartidos en conexiones SMTP, sin superar el máximo de conexiones
+     * simultáneas. Si el pool de conexiones está ocupado, el lote lo envía el hilo que llama.
+     *
+     * @return Correos que no se pudieron enviar, con su error
+     */
+    public Map<MimeMessage, Exception> send(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+
+        int connections = Math.min(maxConnections, (messages.size() + messagesPerConnection - 1) / messagesPerConnection);
+        int perConnection = (messages.size() + connections - 1) / connections;
+        List<CompletableFuture<Map<MimeMessage, Exception>>> pending = new ArrayList<>(connections);
+        for (int from = 0; from < messages.size(); from += perConnection) {
+            List<MimeMessage> chunk = messages.subList(from, Math.min(from + perConnection, messages.size()));
+            pending.add(CompletableFuture.supplyAsync(() -> sendOverConnection(chunk), mailConnectionExecutor));
+        }
+
+        Map<MimeMessage, Exception> failed = new HashMap<>();
+        pending.forEach(future -> failed.putAll(future.join()));
+        return failed;
+    }
+
+    private Map<MimeMessage, Exception> sendOverConnection(List<MimeMessage> chunk) {
+        activeConnections.incrementAndGet();
+        long start = System.nanoTime();
+        Map<MimeMessage, Exception> failed;
+        try {
+            failed = emailService.sendAll(chunk);
+        } finally {
+            connectionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            activeConnections.decrementAndGet();
+        }
+
+        sentCounter.increment(chunk.size() - failed.size());
+        failedCounter.increment(failed.size());
+        if (failed.values().stream().anyMatch(EmailDeliveryEngine::isQuotaRejection)) {
+            // Cuota del proveedor agotada: reintentar antes solo gasta intentos
+            rateLimit.pause(quotaPauseNanos);
+            log.warn("El servidor SMTP rechazó correos por cuota; envíos pausados {} s",
+                    TimeUnit.NANOSECONDS.toSeconds(quotaPauseNanos));
+            return failed;
+        }
+        long transientFailures = failed.values().stream().filter(EmailDeliveryEngine::isTransientFailure).count();
+        if (transientFailures > 0 && transientFailures == failed.size()) {
+            // Conexión rechazada o cuenta limitada por el proveedor: se espera antes de reintentar
+            rateLimit.pause(failurePauseNanos);
+            log.warn("Falló el envío de {} correos por la misma conexión SMTP; envíos pausados {} s",
+                    failed.size(), TimeUnit.NANOSECONDS.toSeconds(failurePauseNanos));
+        }
+        return failed;
+    }
+
+    /**
+     * Indica si el error es de la conexión o del servidor y no del correo: no se pudo conectar
+     * o autenticar, se cortó la conexión, el servidor respondió con un código 4xx o rechazó
+     * por cuota. Las direcciones inválidas y los demás rechazos definitivos (5xx) no cuentan.
+     */
+    static boolean isTransientFailure(Throwable failure) {
+        if (isQuotaRejection(failure)) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SMTPAddressFailedException e) {
+                return e.getReturnCode() / 100 == 4;
+            }
+            if (cause instanceof SMTPSenderFailedException e) {
+                return e.getReturnCode() / 100 == 4;
+            }
+            if (cause instanceof SMTPSendFailedException e) {
+                return e.getReturnCode() / 100 == 4;
+            }
+            if (cause instanceof MailAuthenticationException
+                    || cause instanceof AuthenticationFailedException
+                    || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica si el servidor rechazó el correo por cuota o congestión, según el código de estado
+     * extendido (RFC 3463) de la respuesta: X.4.5 (p. ej. "550 5.4.5 Daily user sending quota
+     * exceeded") o 4.7.X (p. ej. "421 4.7.0 Try again later"). Estos rechazos no dependen del
+     * correo y se resuelven esperando, aunque el código sea 5xx.
+     */
+    public static boolean isQuotaRejection(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() == null) {
+                continue;
+            }
+            Matcher status = ENHANCED_STATUS.matcher(cause.getMessage());
+            while (status.find()) {
+                String statusClass = status.group(1);
+                String subject = status.group(2);
+                String detail = status.group(3);
+                if (("4".equals(subject) && "5".equals(detail)) || ("4".equals(statusClass) && "7".equals(subject))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Token bucket: hasta {@code capacity} correos seguidos y luego {@code tokensPerSecond}.
+     */
+    static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private long pausedUntil = refilledAt;
+
+        TokenBucket(int capacity, double tokensPerSecond) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = capacity;
+        }
+
+        synchronized int tryAcquire(int wanted) {
+            refill();
+            if (System.nanoTime() - pausedUntil < 0) {
+                return 0;
+            }
+            int granted = (int) Math.min(wanted, Math.floor(tokens));
+            tokens -= granted;
+            return granted;
+        }
+
+        synchronized void refund(int unused) {
+            tokens = Math.min(capacity, tokens + unused);
+        }
+
+        synchronized void pause(long nanos) {
+            pausedUntil = System.nanoTime() + nanos;
+            tokens = 0;
+        }
+
+        synchronized double available() {
+            refill();
+            return tokens;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.SIGMA.USCO.Modalities.Repository.ExaminerCertificateRepository;
 import com.SIGMA.USCO.Modalities.Repository.DefenseExaminerRepository;
 import com.SIGMA.USCO.Modalities.Repository.StudentModalityRepository;
 import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.report.service.PdfResources;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
@@ -14,13 +15,11 @@ import com.itextpdf.text.pdf.PdfWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -59,19 +58,19 @@ public class ExaminerCertificatePdfService {
     private static final BaseColor BLUE_DARK   = new BaseColor(25, 75, 140);
 
     // ── Fuentes ───────────────────────────────────────────────────────────────
-    private static final Font FONT_UNIV_NAME   = FontFactory.getFont(FontFactory.HELVETICA_BOLD,   13f, INST_RED);
-    private static final Font FONT_FACULTY     = FontFactory.getFont(FontFactory.HELVETICA_BOLD,   11f, GRAY_DARK);
-    private static final Font FONT_PROGRAM     = FontFactory.getFont(FontFactory.HELVETICA,         10f, GRAY_DARK);
-    private static final Font FONT_TITLE       = FontFactory.getFont(FontFactory.HELVETICA_BOLD,   15f, INST_RED);
-    private static final Font FONT_ACTA_NUM    = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE,  9f, GRAY_MID);
-    private static final Font FONT_SECTION_HDR = FontFactory.getFont(FontFactory.HELVETICA_BOLD,   11f, BaseColor.WHITE);
-    private static final Font FONT_LABEL       = FontFactory.getFont(FontFactory.HELVETICA_BOLD,    9f, GRAY_DARK);
-    private static final Font FONT_VALUE       = FontFactory.getFont(FontFactory.HELVETICA,          9f, BaseColor.BLACK);
-    private static final Font FONT_BODY        = FontFactory.getFont(FontFactory.HELVETICA,          9f, GRAY_DARK);
-    private static final Font FONT_FOOTER      = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE,  7f, GRAY_MID);
-    private static final Font FONT_SIGN_NAME   = FontFactory.getFont(FontFactory.HELVETICA_BOLD,    8f, BaseColor.BLACK);
-    private static final Font FONT_SIGN_ROLE   = FontFactory.getFont(FontFactory.HELVETICA,          7f, GRAY_MID);
-    private static final Font FONT_HIGHLIGHT  = FontFactory.getFont(FontFactory.HELVETICA_BOLD,    9f, BLUE_DARK);
+    private static final Font FONT_UNIV_NAME   = PdfResources.font(FontFactory.HELVETICA_BOLD,   13f, INST_RED);
+    private static final Font FONT_FACULTY     = PdfResources.font(FontFactory.HELVETICA_BOLD,   11f, GRAY_DARK);
+    private static final Font FONT_PROGRAM     = PdfResources.font(FontFactory.HELVETICA,         10f, GRAY_DARK);
+    private static final Font FONT_TITLE       = PdfResources.font(FontFactory.HELVETICA_BOLD,   15f, INST_RED);
+    private static final Font FONT_ACTA_NUM    = PdfResources.font(FontFactory.HELVETICA_OBLIQUE,  9f, GRAY_MID);
+    private static final Font FONT_SECTION_HDR = PdfResources.font(FontFactory.HELVETICA_BOLD,   11f, BaseColor.WHITE);
+    private static final Font FONT_LABEL       = PdfResources.font(FontFactory.HELVETICA_BOLD,    9f, GRAY_DARK);
+    private static final Font FONT_VALUE       = PdfResources.font(FontFactory.HELVETICA,          9f, BaseColor.BLACK);
+    private static final Font FONT_BODY        = PdfResources.font(FontFactory.HELVETICA,          9f, GRAY_DARK);
+    private static final Font FONT_FOOTER      = PdfResources.font(FontFactory.HELVETICA_OBLIQUE,  7f, GRAY_MID);
+    private static final Font FONT_SIGN_NAME   = PdfResources.font(FontFactory.HELVETICA_BOLD,    8f, BaseColor.BLACK);
+    private static final Font FONT_SIGN_ROLE   = PdfResources.font(FontFactory.HELVETICA,          7f, GRAY_MID);
+    private static final Font FONT_HIGHLIGHT  = PdfResources.font(FontFactory.HELVETICA_BOLD,    9f, BLUE_DARK);
 
     private static final DateTimeFormatter DATE_FMT =
             DateTimeFormatter.ofPattern("d 'de' MMMM 'de' yyyy", Locale.forLanguageTag("es-CO"));
@@ -258,17 +257,12 @@ public class ExaminerCertificatePdfService {
         logoCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
         logoCell.setPadding(2f);
 
-        try {
-            ClassPathResource logoResource = new ClassPathResource("templates/logo ingenieria.png");
-            try (InputStream logoStream = logoResource.getInputStream()) {
-                byte[] logoBytes = logoStream.readAllBytes();
-                Image logo = Image.getInstance(logoBytes);
-                logo.scaleToFit(90f, 70f);
-                logo.setAlignment(Element.ALIGN_CENTER);
-                logoCell.addElement(logo);
-            }
-        } catch (Exception e) {
-            log.warn("No se pudo cargar el logo institucional: {}", e.getMessage());
+        Image logo = PdfResources.institutionalLogo();
+        if (logo != null) {
+            logo.scaleToFit(90f, 70f);
+            logo.setAlignment(Element.ALIGN_CENTER);
+            logoCell.addElement(logo);
+        } else {
             logoCell.addElement(new Paragraph(" ", FONT_BODY));
         }
 
@@ -417,7 +411,7 @@ public class ExaminerCertificatePdfService {
     private void addComplianceDeclaration(Document doc, DefenseExaminer examiner) throws DocumentException {
         Paragraph declaration = new Paragraph(
             "DECLARACIÓN DE CUMPLIMIENTO\n\n",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11f, INST_RED)
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 11f, INST_RED)
         );
         doc.add(declaration);
 
@@ -543,7 +537,7 @@ public class ExaminerCertificatePdfService {
     }
 
     private void addSpacing(Document doc, float spacingPt) throws DocumentException {
-        Paragraph sp = new Paragraph(" ", FontFactory.getFont(FontFactory.HELVETICA, spacingPt));
+        Paragraph sp = new Paragraph(" ", PdfResources.font(FontFactory.HELVETICA, spacingPt));
         sp.setLeading(spacingPt);
         doc.add(sp);
     }
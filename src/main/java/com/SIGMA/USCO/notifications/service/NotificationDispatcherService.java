@@ -1,95 +1,81 @@
 package com.SIGMA.USCO.notifications.service;
 
-import com.SIGMA.USCO.config.EmailService;
 import com.SIGMA.USCO.notifications.entity.Notification;
 import com.SIGMA.USCO.notifications.repository.NotificationRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
+/**
+ * Despacha las notificaciones guardadas: quedan entregadas en la aplicación y su correo pasa
+ * al outbox, que envía {@link NotificationOutboxWorker}.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationDispatcherService {
 
     private final NotificationRepository notificationRepository;
-    private final EmailService emailService;
-    
-    // Set para deduplicación: evita que el mismo adjunto se envíe múltiples veces
-    // para la misma notificación en procesamiento asincrónico
-    private final Set<Long> processingNotificationsWithAttachment = ConcurrentHashMap.newKeySet();
+    private final NotificationOutboxWorker notificationOutboxWorker;
 
-    private boolean shouldSendEmail(Notification notification) {
-        return switch (notification.getRecipientType()) {
-            case STUDENT, PROJECT_DIRECTOR, EXAMINER -> true;
-            case PROGRAM_HEAD -> false; // ESTO SIRVE PARA QUE NO SE ENVÍEN CORREOS A LOS JEFES DE PROGRAMA
-            case PROGRAM_CURRICULUM_COMMITTEE -> false; //  ESTO SIRVE PARA QUE NO SE ENVÍEN CORREOS A LOS COMITÉS DE CURRÍCULO DE PROGRAMA
-            default -> false;
-        };
+    public void dispatch(Notification notification) {
+        enqueue(notification, null, null);
     }
 
-    @Transactional
-    @Async("notificationTaskExecutor")
-    public void dispatch(Notification notification) {
-        try {
-            if (shouldSendEmail(notification)) {
-                emailService.sendEmail(
-                        notification.getRecipient().getEmail(),
-                        notification.getSubject(),
-                        notification.getMessage()
-                );
+    public void dispatchWithAttachment(Notification notification, Path attachmentPath, String attachmentName) {
+        enqueue(notification,
+                attachmentPath != null ? attachmentPath.toAbsolutePath().toString() : null,
+                attachmentName);
+    }
 
-                notification.setEmailSent(true);
-                notification.setSentAt(LocalDateTime.now());
-            }
-        } catch (Exception ex) {
-            log.error("Error enviando correo para notificación id={}", notification.getId(), ex);
-            notification.setEmailSent(false);
+    /**
+     * Guarda y despacha varias notificaciones nuevas como una unidad, por ejemplo una por cada
+     * miembro de una modalidad o estudiante inscrito en un seminario. Se insertan ya encoladas,
+     * en lotes JDBC y en una sola transacción, y el envío se activa una vez para todas.
+     */
+    @Transactional
+    public List<Notification> dispatchAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return notifications;
         }
-
-        notification.setInAppDelivered(true);
-        notificationRepository.save(notification);
+        LocalDateTime now = LocalDateTime.now();
+        for (Notification notification : notifications) {
+            notification.setInAppDelivered(true);
+            notification.setEmailNextAttemptAt(now);
+        }
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        wakeOutbox();
+        return saved;
     }
 
-    @Transactional
-    @Async("notificationTaskExecutor")
-    public void dispatchWithAttachment(Notification notification, Path attachmentPath, String attachmentName) {
-        // Deduplicación: Si esta notificación ya está siendo procesada con adjunto, ignora
-        if (!processingNotificationsWithAttachment.add(notification.getId())) {
-            log.warn("Notificación ID {} ya está siendo procesada con adjunto, ignorando duplicado", notification.getId());
+    private void enqueue(Notification notification, String attachmentPath, String attachmentName) {
+        int updated = notificationRepository.enqueueEmail(
+                notification.getId(), LocalDateTime.now(), attachmentPath, attachmentName);
+        if (updated == 0) {
+            log.warn("Notificación id={} ya despachada, se ignora", notification.getId());
             return;
         }
+        wakeOutbox();
+    }
 
-        try {
-            if (shouldSendEmail(notification)) {
-                emailService.sendEmailWithAttachment(
-                        notification.getRecipient().getEmail(),
-                        notification.getSubject(),
-                        notification.getMessage(),
-                        attachmentPath.toFile(),
-                        attachmentName
-                );
-
-                notification.setEmailSent(true);
-                notification.setSentAt(LocalDateTime.now());
-            }
-        } catch (Exception ex) {
-            log.error("Error enviando correo con adjunto para notificación id={}", notification.getId(), ex);
-            notification.setEmailSent(false);
-        } finally {
-            // Remover de la cola de procesamiento cuando termina
-            processingNotificationsWithAttachment.remove(notification.getId());
+    private void wakeOutbox() {
+        // Dentro de una transacción, el envío solo ve la notificación después del commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationOutboxWorker.drain();
+                }
+            });
+        } else {
+            notificationOutboxWorker.drain();
         }
-
-        notification.setInAppDelivered(true);
-
-        notificationRepository.save(notification);
     }
 }
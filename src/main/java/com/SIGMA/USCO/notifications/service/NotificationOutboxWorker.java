@@ -0,0 +1,230 @@
+package com.SIGMA.USCO.notifications.service;
+
+import com.SIGMA.USCO.config.EmailService;
+import com.SIGMA.USCO.notifications.entity.Notification;
+import com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus;
+import com.SIGMA.USCO.notifications.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envía los correos del outbox de notificaciones.
+ *
+ * Toma las notificaciones pendientes por lotes, del tamaño que permite la cuota de envío, y
+ * las envía con {@link EmailDeliveryEngine}.
+ * Un correo que falla se reintenta con espera exponencial y, al agotar los intentos, queda
+ * descartado (DEAD). Un rechazo por cuota del proveedor no cuenta como intento: el correo se
+ * reintenta cuando termina la pausa de envíos. Las notificaciones tomadas por un proceso que se detuvo se vuelven a
+ * tomar cuando vence su plazo, así que un correo puede enviarse más de una vez pero no se pierde.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxWorker {
+
+    private final NotificationRepository notificationRepository;
+    private final EmailService emailService;
+    private final EmailDeliveryEngine emailDeliveryEngine;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration orphanGrace;
+
+    /** Correos pendientes al terminar el último ciclo */
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter deadCounter;
+
+    public NotificationOutboxWorker(NotificationRepository notificationRepository,
+                                    EmailService emailService,
+                                    EmailDeliveryEngine emailDeliveryEngine,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notifications.outbox.batch-size:50}") int batchSize,
+                                    @Value("${notifications.outbox.max-attempts:6}") int maxAttempts,
+                                    @Value("${notifications.outbox.initial-backoff-seconds:60}") long initialBackoffSeconds,
+                                    @Value("${notifications.outbox.max-backoff-seconds:21600}") long maxBackoffSeconds,
+                                    @Value("${notifications.outbox.lease-seconds:600}") long leaseSeconds,
+                                    @Value("${notifications.outbox.orphan-grace-seconds:600}") long orphanGraceSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.emailService = emailService;
+        this.emailDeliveryEngine = emailDeliveryEngine;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.orphanGrace = Duration.ofSeconds(orphanGraceSeconds);
+
+        Gauge.builder("sigma.mail.outbox.pending", backlog, AtomicLong::get)
+                .description("Correos pendientes en el outbox")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("sigma.mail.dead").register(meterRegistry);
+    }
+
+    /**
+     * Envía lotes hasta vaciar el outbox. Se ejecuta periódicamente y cada vez que se despacha
+     * una notificación; si ya hay un envío en curso y otro en espera, el aviso se descarta.
+     */
+    @Async("notificationOutboxExecutor")
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-interval-ms:5000}",
+            initialDelayString = "${notifications.outbox.poll-interval-ms:5000}")
+    public void drain() {
+        try {
+            while (deliverBatch() == batchSize) {
+                // Lote completo: puede haber más pendientes
+            }
+            backlog.set(notificationRepository.countByEmailDeliveryStatus(EmailDeliveryStatus.PENDING));
+        } catch (RuntimeException e) {
+            log.error("Error procesando el outbox de correos", e);
+        }
+    }
+
+    /**
+     * Envía un lote de correos pendientes.
+     *
+     * @return Cantidad de notificaciones tomadas en el lote; menos que el tamaño del lote si se
+     *         agotó el outbox o la cuota de envío
+     */
+    int deliverBatch() {
+        // Sin cupo, los correos siguen pendientes en el outbox hasta el siguiente ciclo
+        int permits = emailDeliveryEngine.reserve(batchSize);
+        if (permits == 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = notificationRepository.findDueEmailIds(now, now.minus(orphanGrace), Limit.of(permits));
+        String claim = UUID.randomUUID().toString();
+        if (dueIds.isEmpty() || notificationRepository.claimEmails(dueIds, claim, now, now.plus(lease)) == 0) {
+            emailDeliveryEngine.release(permits);
+            return 0;
+        }
+        List<Notification> claimed = notificationRepository.findByEmailClaim(claim);
+
+        List<Long> notRequired = new ArrayList<>();
+        Map<MimeMessage, Notification> messages = new LinkedHashMap<>();
+        for (Notification notification : claimed) {
+            if (!shouldSendEmail(notification)) {
+                notRequired.add(notification.getId());
+                continue;
+            }
+            try {
+                messages.put(emailService.createMessage(
+                        notification.getRecipient().getEmail(),
+                        notification.getSubject(),
+                        notification.getMessage(),
+                        notification.getAttachmentPath() != null ? new File(notification.getAttachmentPath()) : null,
+                        notification.getAttachmentName()), notification);
+            } catch (Exception e) {
+                recordFailure(notification, claim, e);
+            }
+        }
+
+        emailDeliveryEngine.release(permits - messages.size());
+
+        if (!notRequired.isEmpty()) {
+            notificationRepository.completeEmails(notRequired, claim, EmailDeliveryStatus.NOT_REQUIRED, false, null);
+        }
+
+        Map<MimeMessage, Exception> failed = emailDeliveryEngine.send(new ArrayList<>(messages.keySet()));
+        List<Long> sent = new ArrayList<>();
+        messages.forEach((message, notification) -> {
+            Exception error = failed.get(message);
+            if (error == null) {
+                sent.add(notification.getId());
+            } else {
+                recordFailure(notification, claim, error);
+            }
+        });
+        if (!sent.isEmpty()) {
+            notificationRepository.completeEmails(sent, claim, EmailDeliveryStatus.SENT, true, LocalDateTime.now());
+            log.info("Correos de notificaciones enviados: {}", sent.size());
+        }
+        return claimed.size();
+    }
+
+    private void recordFailure(Notification notification, String claim, Exception error) {
+        int previousAttempts = notification.getEmailAttempts() != null ? notification.getEmailAttempts() : 0;
+        int attempts = previousAttempts + 1;
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+        if (message.length() > 1000) {
+            message = message.substring(0, 1000);
+        }
+
+        // La cuota del proveedor se renueva sola: el correo espera sin gastar un intento
+        if (EmailDeliveryEngine.isQuotaRejection(error)) {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(emailDeliveryEngine.quotaPause());
+            notificationRepository.recordEmailFailure(notification.getId(), claim,
+                    EmailDeliveryStatus.PENDING, previousAttempts, nextAttemptAt, message);
+            log.warn("Correo de notificación id={} rechazado por cuota, se reintenta a las {}: {}",
+                    notification.getId(), nextAttemptAt, message);
+            return;
+        }
+
+        // Una dirección rechazada por el servidor no se corrige reintentando
+        if (attempts >= maxAttempts || isInvalidAddress(error)) {
+            notificationRepository.recordEmailFailure(notification.getId(), claim,
+                    EmailDeliveryStatus.DEAD, attempts, null, message);
+            deadCounter.increment();
+            log.error("Correo de notificación id={} descartado tras {} intentos: {}",
+                    notification.getId(), attempts, message);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        notificationRepository.recordEmailFailure(notification.getId(), claim,
+                EmailDeliveryStatus.PENDING, attempts, nextAttemptAt, message);
+        log.warn("Error enviando correo de notificación id={} (intento {}), se reintenta a las {}: {}",
+                notification.getId(), attempts, nextAttemptAt, message);
+    }
+
+    /**
+     * Espera antes del siguiente intento: se duplica en cada intento fallido, hasta el máximo.
+     */
+    Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static boolean isInvalidAddress(Exception error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SendFailedException sendFailed
+                    && sendFailed.getInvalidAddresses() != null
+                    && sendFailed.getInvalidAddresses().length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean shouldSendEmail(Notification notification) {
+        if (notification.getRecipient() == null || notification.getRecipient().getEmail() == null) {
+            return false;
+        }
+        return switch (notification.getRecipientType()) {
+            case STUDENT, PROJECT_DIRECTOR, EXAMINER -> true;
+            case PROGRAM_HEAD -> false; // ESTO SIRVE PARA QUE NO SE ENVÍEN CORREOS A LOS JEFES DE PROGRAMA
+            case PROGRAM_CURRICULUM_COMMITTEE -> false; //  ESTO SIRVE PARA QUE NO SE ENVÍEN CORREOS A LOS COMITÉS DE CURRÍCULO DE PROGRAMA
+            default -> false;
+        };
+    }
+}
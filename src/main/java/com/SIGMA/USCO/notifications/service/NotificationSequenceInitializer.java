@@ -0,0 +1,60 @@
+package com.SIGMA.USCO.notifications.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adelanta la secuencia de ids de notificaciones más allá del mayor id existente.
+ *
+ * Las notificaciones se guardaban con ids de identidad; la secuencia que las reemplaza se crea
+ * empezando en 1 y chocaría con las filas anteriores. Se ajusta antes de que arranque el
+ * servidor web, una vez que Hibernate actualizó el esquema, y solo si está atrasada.
+ */
+@Component
+@Slf4j
+public class NotificationSequenceInitializer implements SmartInitializingSingleton {
+
+    /** Debe coincidir con el allocationSize de la secuencia en {@code Notification} */
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+
+    // EntityManagerFactory solo para inicializar después de que Hibernate creó la secuencia
+    public NotificationSequenceInitializer(JdbcTemplate jdbcTemplate,
+                                           EntityManagerFactory entityManagerFactory,
+                                           @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String prefix = schema == null || schema.isBlank() ? "" : schema + ".";
+            String table = prefix + "notification";
+            String sequence = prefix + "notification_seq";
+
+            // Con la asignación agrupada, cada valor de la secuencia es el último id de su bloque
+            if ("PostgreSQL".equalsIgnoreCase(database)) {
+                jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', GREATEST("
+                        + "(SELECT COALESCE(MAX(id), 0) FROM " + table + ") + " + ALLOCATION_SIZE + ", "
+                        + "(SELECT last_value FROM " + sequence + ")))", Long.class);
+            } else if ("MySQL".equalsIgnoreCase(database)) {
+                // MySQL no tiene secuencias; Hibernate las emula con una tabla de una fila
+                jdbcTemplate.update("UPDATE " + sequence + " SET next_val = GREATEST(next_val, "
+                        + "(SELECT COALESCE(MAX(id), 0) + " + ALLOCATION_SIZE + " FROM " + table + "))");
+            }
+        } catch (DataAccessException e) {
+            log.warn("No se pudo ajustar la secuencia de ids de notificaciones: {}", e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,12 @@
 package com.SIGMA.USCO.notifications.service;
 
-import com.SIGMA.USCO.Users.Entity.User;
-import com.SIGMA.USCO.Users.repository.UserRepository;
 import com.SIGMA.USCO.Users.service.AuthService;
 import com.SIGMA.USCO.notifications.dto.NotificationDTO;
 import com.SIGMA.USCO.notifications.entity.Notification;
 import com.SIGMA.USCO.notifications.repository.NotificationRepository;
+import com.SIGMA.USCO.security.AuthenticatedUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.io.Serializable;
@@ -23,20 +20,14 @@ import java.util.Map;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
-
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new RuntimeException("Usuario no autenticado"));
-    }
+    private final AuthenticatedUserResolver authenticatedUserResolver;
 
     public ResponseEntity<?> getMyNotifications() {
 
-        User user = getCurrentUser();
+        Long userId = authenticatedUserResolver.currentUserId();
 
         List<Notification> notifications =
-                notificationRepository.findByRecipient_IdOrderByCreatedAtDesc(user.getId());
+                notificationRepository.findByRecipient_IdOrderByCreatedAtDesc(userId);
 
         List<Map<String, Object>> response = notifications.stream()
                 .map(n -> {
@@ -63,9 +54,9 @@ public class NotificationService {
 
     public ResponseEntity<?> getUnreadCount() {
 
-        User user = getCurrentUser();
+        Long userId = authenticatedUserResolver.currentUserId();
 
-        long count = notificationRepository.countByRecipient_IdAndReadFalse(user.getId());
+        long count = notificationRepository.countByRecipient_IdAndReadFalse(userId);
 
         return ResponseEntity.ok(
                 Map.of("unreadCount", count)
@@ -74,8 +65,8 @@ public class NotificationService {
 
     public ResponseEntity<?> getNotificationDetail(Long notificationId) {
 
-        User user = getCurrentUser();
-        Notification notification = notificationRepository.findByIdAndRecipient_Id(notificationId, user.getId())
+        Long userId = authenticatedUserResolver.currentUserId();
+        Notification notification = notificationRepository.findByIdAndRecipient_Id(notificationId, userId)
                         .orElseThrow(() ->
                                 new RuntimeException("Notificación no encontrada")
                         );
@@ -103,9 +94,9 @@ public class NotificationService {
 
     public ResponseEntity<?> markAsRead(Long notificationId) {
 
-        User user = getCurrentUser();
+        Long userId = authenticatedUserResolver.currentUserId();
 
-        Notification notification = notificationRepository.findByIdAndRecipient_Id(notificationId, user.getId())
+        Notification notification = notificationRepository.findByIdAndRecipient_Id(notificationId, userId)
                         .orElseThrow(() ->
                                 new RuntimeException("Notificación no encontrada")
                         );
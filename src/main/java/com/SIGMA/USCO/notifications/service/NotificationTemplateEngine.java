@@ -0,0 +1,173 @@
+package com.SIGMA.USCO.notifications.service;
+
+import com.SIGMA.USCO.notifications.entity.NotificationTemplate;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
+import com.SIGMA.USCO.notifications.event.NotificationTemplateChangedEvent;
+import com.SIGMA.USCO.notifications.repository.NotificationTemplateRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Genera el asunto y el mensaje de las notificaciones.
+ *
+ * Si hay una plantilla activa para el tipo de notificación y de destinatario, se usa esa
+ * plantilla; si no, o si la plantilla usa variables que el evento no tiene, se usa el texto
+ * incorporado en el listener. Las plantillas activas se cargan y compilan una vez y se vuelven
+ * a cargar al modificarse una plantilla o al vencer el tiempo de vida; los textos incorporados
+ * se compilan la primera vez que se usan.
+ */
+@Component
+@Slf4j
+public class NotificationTemplateEngine {
+
+    private final NotificationTemplateRepository notificationTemplateRepository;
+    private final long ttlNanos;
+
+    /** null hasta la primera notificación o después de una invalidación */
+    private volatile Snapshot snapshot;
+
+    /** Cambia en cada invalidación para no guardar una carga que empezó antes del cambio */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /** Textos incorporados compilados; acotado por si un listener arma el texto con datos del evento */
+    private final Cache<String, CompiledTemplate> builtInTexts = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .build();
+
+    /** Plantillas con variables que el evento no tiene, para advertirlo una sola vez */
+    private final Set<TemplateKey> incompatibleTemplates = ConcurrentHashMap.newKeySet();
+
+    public NotificationTemplateEngine(NotificationTemplateRepository notificationTemplateRepository,
+                                      @Value("${notifications.templates.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.notificationTemplateRepository = notificationTemplateRepository;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+    }
+
+    /**
+     * Variables de una notificación a partir de pares nombre, valor. Conserva el orden, que es
+     * el de las posiciones {@code %s} del texto incorporado, y admite valores nulos.
+     */
+    public static Map<String, Object> variables(Object... namesAndValues) {
+        if (namesAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Las variables deben indicarse en pares nombre, valor");
+        }
+        Map<String, Object> variables = new LinkedHashMap<>(namesAndValues.length);
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            variables.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return variables;
+    }
+
+    /**
+     * Genera el asunto y el mensaje de una notificación.
+     *
+     * @param defaultSubject asunto incorporado, ya compuesto; no se interpreta como formato
+     * @param defaultMessage mensaje incorporado, con posiciones {@code %s}
+     * @param variables      variables de la notificación; ver {@link #variables(Object...)}
+     */
+    public RenderedNotification render(NotificationType type,
+                                       NotificationRecipientType recipientType,
+                                       String defaultSubject,
+                                       String defaultMessage,
+                                       Map<String, ?> variables) {
+        TemplateKey key = new TemplateKey(type, recipientType);
+        CompiledNotificationTemplate template = snapshot().templates().get(key);
+        if (template != null) {
+            if (template.subject().accepts(variables) && template.message().accepts(variables)) {
+                return new RenderedNotification(template.subject().render(variables), template.message().render(variables));
+            }
+            if (incompatibleTemplates.add(key)) {
+                log.warn("La plantilla {} ({} / {}) usa variables que la notificación no tiene {}; se usa el texto incorporado",
+                        template.id(), type, recipientType, variables.keySet());
+            }
+        }
+        return new RenderedNotification(defaultSubject, builtIn(defaultMessage).render(variables));
+    }
+
+    /**
+     * Descarta las plantillas en memoria; la siguiente notificación las vuelve a cargar.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+        incompatibleTemplates.clear();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTemplateChanged(NotificationTemplateChangedEvent event) {
+        log.debug("Plantilla de notificación {} modificada ({} / {}); recargando plantillas",
+                event.templateId(), event.type(), event.recipientType());
+        invalidate();
+    }
+
+    private CompiledTemplate builtIn(String text) {
+        return builtInTexts.get(text, CompiledTemplate::positional);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAt() < ttlNanos) {
+            return current;
+        }
+        return reload();
+    }
+
+    private Snapshot reload() {
+        reloadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && System.nanoTime() - current.loadedAt() < ttlNanos) {
+                return current;
+            }
+
+            long before = generation.get();
+            Map<TemplateKey, CompiledNotificationTemplate> templates = new HashMap<>();
+            for (NotificationTemplate template : notificationTemplateRepository.findByActiveTrue()) {
+                try {
+                    templates.put(new TemplateKey(template.getType(), template.getRecipientType()),
+                            new CompiledNotificationTemplate(template.getId(),
+                                    CompiledTemplate.named(template.getSubject()),
+                                    CompiledTemplate.named(template.getBodyTemplate())));
+                } catch (RuntimeException e) {
+                    log.warn("Plantilla de notificación {} inválida, se usa el texto incorporado: {}",
+                            template.getId(), e.getMessage());
+                }
+            }
+
+            Snapshot loaded = new Snapshot(Map.copyOf(templates), System.nanoTime());
+            // Si hubo una invalidación durante la carga, se usa solo para esta notificación
+            if (generation.get() == before) {
+                snapshot = loaded;
+            }
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private record TemplateKey(NotificationType type, NotificationRecipientType recipientType) {
+    }
+
+    private record CompiledNotificationTemplate(Long id, CompiledTemplate subject, CompiledTemplate message) {
+    }
+
+    private record Snapshot(Map<TemplateKey, CompiledNotificationTemplate> templates, long loadedAt) {
+    }
+}
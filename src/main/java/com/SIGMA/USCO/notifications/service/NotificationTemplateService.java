@@ -0,0 +1,108 @@
+package com.SIGMA.USCO.notifications.service;
+
+import com.SIGMA.USCO.notifications.dto.NotificationTemplateDTO;
+import com.SIGMA.USCO.notifications.entity.NotificationTemplate;
+import com.SIGMA.USCO.notifications.event.NotificationTemplateChangedEvent;
+import com.SIGMA.USCO.notifications.repository.NotificationTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Administración de las plantillas de notificación. Cada cambio recarga las plantillas de
+ * {@link NotificationTemplateEngine} después del commit.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationTemplateService {
+
+    private final NotificationTemplateRepository notificationTemplateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ResponseEntity<?> getTemplates() {
+        List<NotificationTemplateDTO> templates = notificationTemplateRepository.findAllByOrderByTypeAscRecipientTypeAsc()
+                .stream()
+                .map(NotificationTemplateService::toDTO)
+                .toList();
+        return ResponseEntity.ok(templates);
+    }
+
+    @Transactional
+    public ResponseEntity<?> createTemplate(NotificationTemplateDTO request) {
+        String error = validate(request, null);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        NotificationTemplate template = NotificationTemplate.builder()
+                .type(request.getType())
+                .recipientType(request.getRecipientType())
+                .subject(request.getSubject())
+                .bodyTemplate(request.getBodyTemplate())
+                .active(request.isActive())
+                .build();
+        return ResponseEntity.status(HttpStatus.CREATED).body(toDTO(saveTemplate(template)));
+    }
+
+    @Transactional
+    public ResponseEntity<?> updateTemplate(Long templateId, NotificationTemplateDTO request) {
+        NotificationTemplate template = notificationTemplateRepository.findById(templateId).orElse(null);
+        if (template == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Plantilla no encontrada");
+        }
+        String error = validate(request, templateId);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        template.setType(request.getType());
+        template.setRecipientType(request.getRecipientType());
+        template.setSubject(request.getSubject());
+        template.setBodyTemplate(request.getBodyTemplate());
+        template.setActive(request.isActive());
+        return ResponseEntity.ok(toDTO(saveTemplate(template)));
+    }
+
+    private NotificationTemplate saveTemplate(NotificationTemplate template) {
+        NotificationTemplate saved = notificationTemplateRepository.save(template);
+        eventPublisher.publishEvent(new NotificationTemplateChangedEvent(saved.getId(), saved.getType(), saved.getRecipientType()));
+        return saved;
+    }
+
+    private String validate(NotificationTemplateDTO request, Long templateId) {
+        if (request.getType() == null || request.getRecipientType() == null) {
+            return "Debe indicar el tipo de notificación y el tipo de destinatario";
+        }
+        if (request.getSubject() == null || request.getSubject().isBlank()
+                || request.getBodyTemplate() == null || request.getBodyTemplate().isBlank()) {
+            return "El asunto y el mensaje son obligatorios";
+        }
+        try {
+            CompiledTemplate.named(request.getSubject());
+            CompiledTemplate.named(request.getBodyTemplate());
+        } catch (IllegalArgumentException e) {
+            return "Plantilla inválida: " + e.getMessage();
+        }
+        if (request.isActive() && notificationTemplateRepository.existsByTypeAndRecipientTypeAndActiveTrueAndIdNot(
+                request.getType(), request.getRecipientType(), templateId != null ? templateId : -1L)) {
+            return "Ya existe una plantilla activa para este tipo de notificación y destinatario";
+        }
+        return null;
+    }
+
+    private static NotificationTemplateDTO toDTO(NotificationTemplate template) {
+        return NotificationTemplateDTO.builder()
+                .id(template.getId())
+                .type(template.getType())
+                .recipientType(template.getRecipientType())
+                .subject(template.getSubject())
+                .bodyTemplate(template.getBodyTemplate())
+                .active(template.isActive())
+                .build();
+    }
+}
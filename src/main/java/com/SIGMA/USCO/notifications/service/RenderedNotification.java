@@ -0,0 +1,7 @@
+package com.SIGMA.USCO.notifications.service;
+
+/**
+ * Asunto y mensaje generados para una notificación.
+ */
+public record RenderedNotification(String subject, String message) {
+}
@@ -41,14 +41,15 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
@@ -113,18 +114,14 @@ public class GlobalModalityReportController {
             @ApiResponse(responseCode = "403", description = "Permiso denegado: necesita PERM_VIEW_REPORT"),
             @ApiResponse(responseCode = "500", description = "Error al generar el PDF")
     })
-    public ResponseEntity<Resource> exportGlobalModalityReportToPDF() {
+    public ResponseEntity<?> exportGlobalModalityReportToPDF() {
         try {
             GlobalModalityReportDTO report = reportService.generateGlobalReport();
-            ByteArrayOutputStream pdfStream = pdfGeneratorService.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String fileName = generateFileName("Reporte_Global_Modalidades");
 
-            return buildPdfResponse(resource, fileName, report.getMetadata().getTotalRecords());
+            return buildPdfResponse(outputStream -> pdfGeneratorService.generatePDF(report, outputStream), fileName, report.getMetadata().getTotalRecords());
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
@@ -271,18 +268,14 @@ public class GlobalModalityReportController {
      */
     @PostMapping("/directors/assigned-modalities/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportDirectorAssignedModalitiesReportToPDF(@RequestBody(required = false) DirectorReportFilterDTO filters) {
+    public ResponseEntity<?> exportDirectorAssignedModalitiesReportToPDF(@RequestBody(required = false) DirectorReportFilterDTO filters) {
         try {
             DirectorAssignedModalitiesReportDTO report = reportService.generateDirectorAssignedModalitiesReport(filters);
-            ByteArrayOutputStream pdfStream = directorPdfGenerator.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String fileName = generateFileName("Reporte_Directores_Modalidades");
 
-            return buildPdfResponse(resource, fileName, report.getMetadata().getTotalRecords());
+            return buildPdfResponse(outputStream -> directorPdfGenerator.generatePDF(report, outputStream), fileName, report.getMetadata().getTotalRecords());
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
@@ -338,7 +331,7 @@ public class GlobalModalityReportController {
      */
     @GetMapping("/directors/{directorId}/modalities/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportSpecificDirectorReportToPDF(@PathVariable Long directorId) {
+    public ResponseEntity<?> exportSpecificDirectorReportToPDF(@PathVariable Long directorId) {
         try {
             DirectorReportFilterDTO filters = DirectorReportFilterDTO.builder()
                     .directorId(directorId)
@@ -346,15 +339,11 @@ public class GlobalModalityReportController {
                     .build();
 
             DirectorAssignedModalitiesReportDTO report = reportService.generateDirectorAssignedModalitiesReport(filters);
-            ByteArrayOutputStream pdfStream = directorPdfGenerator.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String fileName = generateFileName("Reporte_Director_" + directorId);
 
-            return buildPdfResponse(resource, fileName, report.getMetadata().getTotalRecords());
+            return buildPdfResponse(outputStream -> directorPdfGenerator.generatePDF(report, outputStream), fileName, report.getMetadata().getTotalRecords());
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
@@ -508,18 +497,14 @@ public class GlobalModalityReportController {
      */
     @PostMapping("/modalities/filtered/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportFilteredModalityReportToPDF(@RequestBody ModalityReportFilterDTO filters) {
+    public ResponseEntity<?> exportFilteredModalityReportToPDF(@RequestBody ModalityReportFilterDTO filters) {
         try {
             GlobalModalityReportDTO report = reportService.generateFilteredReport(filters);
-            ByteArrayOutputStream pdfStream = pdfGeneratorService.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String fileName = generateFileName("Reporte_Modalidades_Filtrado");
 
-            return buildPdfResponse(resource, fileName, report.getMetadata().getTotalRecords());
+            return buildPdfResponse(outputStream -> pdfGeneratorService.generatePDF(report, outputStream), fileName, report.getMetadata().getTotalRecords());
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
@@ -572,18 +557,14 @@ public class GlobalModalityReportController {
      */
     @PostMapping("/modalities/comparison/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportModalityTypeComparisonToPDF(@RequestBody(required = false) ModalityComparisonFilterDTO filters) {
+    public ResponseEntity<?> exportModalityTypeComparisonToPDF(@RequestBody(required = false) ModalityComparisonFilterDTO filters) {
         try {
             ModalityTypeComparisonReportDTO report = reportService.generateModalityTypeComparison(filters);
-            ByteArrayOutputStream pdfStream = comparisonPdfGenerator.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String fileName = generateFileName("Reporte_Comparativa_Modalidades");
 
-            return buildPdfResponse(resource, fileName, report.getMetadata().getTotalRecords());
+            return buildPdfResponse(outputStream -> comparisonPdfGenerator.generatePDF(report, outputStream), fileName, report.getMetadata().getTotalRecords());
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
@@ -637,22 +618,18 @@ public class GlobalModalityReportController {
      */
     @GetMapping("/modalities/{modalityTypeId}/historical/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportModalityHistoricalReportToPDF(@PathVariable Long modalityTypeId, @RequestParam(required = false, defaultValue = "8") Integer periods) {
+    public ResponseEntity<?> exportModalityHistoricalReportToPDF(@PathVariable Long modalityTypeId, @RequestParam(required = false, defaultValue = "8") Integer periods) {
         try {
             ModalityHistoricalReportDTO report = reportService.generateModalityHistoricalReport(modalityTypeId, periods);
-            ByteArrayOutputStream pdfStream = modalityHistoricalPdfGenerator.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String modalityName = report.getModalityInfo() != null ?
                 report.getModalityInfo().getModalityName().replaceAll("[^a-zA-Z0-9]", "_") :
                 "Modalidad";
             String fileName = generateFileName("Reporte_Historico_" + modalityName);
 
-            return buildPdfResponse(resource, fileName,
+            return buildPdfResponse(outputStream -> modalityHistoricalPdfGenerator.generatePDF(report, outputStream), fileName,
                 report.getHistoricalAnalysis() != null ? report.getHistoricalAnalysis().size() : 0);
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (IllegalArgumentException e) {
             return buildErrorResponse("Datos inválidos: " + e.getMessage());
         } catch (Exception e) {
@@ -707,19 +684,15 @@ public class GlobalModalityReportController {
      */
     @PostMapping("/students/listing/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportStudentListingReportToPDF(@RequestBody(required = false) StudentListingFilterDTO filters) {
+    public ResponseEntity<?> exportStudentListingReportToPDF(@RequestBody(required = false) StudentListingFilterDTO filters) {
         try {
             StudentListingReportDTO report = reportService.generateStudentListingReport(filters);
-            ByteArrayOutputStream pdfStream = studentListingPdfGenerator.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String fileName = generateFileName("Reporte_Listado_Estudiantes");
 
-            return buildPdfResponse(resource, fileName,
+            return buildPdfResponse(outputStream -> studentListingPdfGenerator.generatePDF(report, outputStream), fileName,
                 report.getStudents() != null ? report.getStudents().size() : 0);
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (IllegalArgumentException e) {
             return buildErrorResponse("Datos inválidos: " + e.getMessage());
         } catch (Exception e) {
@@ -774,19 +747,15 @@ public class GlobalModalityReportController {
      */
     @PostMapping("/modalities/completed/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportCompletedModalitiesReportToPDF(@RequestBody(required = false) CompletedModalitiesFilterDTO filters) {
+    public ResponseEntity<?> exportCompletedModalitiesReportToPDF(@RequestBody(required = false) CompletedModalitiesFilterDTO filters) {
         try {
             CompletedModalitiesReportDTO report = reportService.generateCompletedModalitiesReport(filters);
-            ByteArrayOutputStream pdfStream = completedModalitiesPdfGenerator.generatePDF(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfStream.toByteArray());
 
             String fileName = generateFileName("Reporte_Modalidades_Completadas");
 
-            return buildPdfResponse(resource, fileName,
+            return buildPdfResponse(outputStream -> completedModalitiesPdfGenerator.generatePDF(report, outputStream), fileName,
                 report.getCompletedModalities() != null ? report.getCompletedModalities().size() : 0);
 
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (IllegalArgumentException e) {
             return buildErrorResponse("Datos inválidos: " + e.getMessage());
         } catch (Exception e) {
@@ -905,34 +874,24 @@ public class GlobalModalityReportController {
      */
     @GetMapping("/modality-traceability/{studentModalityId}/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportModalityTraceabilityToPdf(
+    public ResponseEntity<?> exportModalityTraceabilityToPdf(
             @PathVariable Long studentModalityId) {
         try {
             ModalityTraceabilityReportDTO report =
                     modalityTraceabilityReportService.generateReport(studentModalityId);
 
-            byte[] pdfBytes = modalityTraceabilityPdfGenerator.generatePdf(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfBytes);
-
             String fileName = generateFileName("Trazabilidad_Modalidad_" + studentModalityId);
 
             HttpHeaders headers = new HttpHeaders();
             headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
-            headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE);
             headers.add("X-Report-Generated-At", LocalDateTime.now().toString());
             headers.add("X-Report-Type", "MODALITY_TRACEABILITY");
             headers.add("X-Modality-Id", String.valueOf(studentModalityId));
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .contentLength(resource.contentLength())
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .body(resource);
+            return streamPdf(headers, outputStream -> modalityTraceabilityPdfGenerator.generatePdf(report, outputStream));
 
         } catch (RuntimeException e) {
             return buildErrorResponse("No se pudo generar el reporte: " + e.getMessage());
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
@@ -943,55 +902,65 @@ public class GlobalModalityReportController {
      */
     @GetMapping("/modality-traceability/by-student/{studentId}/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportModalityTraceabilityByStudentToPdf(
+    public ResponseEntity<?> exportModalityTraceabilityByStudentToPdf(
             @PathVariable Long studentId) {
         try {
             ModalityTraceabilityReportDTO report =
                     modalityTraceabilityReportService.generateReportByStudentId(studentId);
 
-            byte[] pdfBytes = modalityTraceabilityPdfGenerator.generatePdf(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfBytes);
-
             String fileName = generateFileName("Trazabilidad_Estudiante_" + studentId);
 
             HttpHeaders headers = new HttpHeaders();
             headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
-            headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE);
             headers.add("X-Report-Generated-At", LocalDateTime.now().toString());
             headers.add("X-Report-Type", "MODALITY_TRACEABILITY");
             headers.add("X-Student-Id", String.valueOf(studentId));
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .contentLength(resource.contentLength())
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .body(resource);
+            return streamPdf(headers, outputStream -> modalityTraceabilityPdfGenerator.generatePdf(report, outputStream));
 
         } catch (RuntimeException e) {
             return buildErrorResponse("No se pudo generar el reporte: " + e.getMessage());
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
     }
 
-    private ResponseEntity<Resource> buildPdfResponse(
-            ByteArrayResource resource,
+    private ResponseEntity<StreamingResponseBody> buildPdfResponse(
+            PdfContent content,
             String fileName,
             Integer totalRecords
     ) {
         HttpHeaders headers = new HttpHeaders();
         headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
-        headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE);
         headers.add("X-Report-Generated-At", LocalDateTime.now().toString());
         headers.add("X-Total-Records", String.valueOf(totalRecords));
 
+        return streamPdf(headers, content);
+    }
+
+    /**
+     * El PDF se escribe directamente en la respuesta a medida que se genera. El reporte ya
+     * está calculado en este punto, así que los errores de datos se responden como JSON;
+     * un error de iText durante la escritura solo puede cortar la descarga.
+     */
+    private ResponseEntity<StreamingResponseBody> streamPdf(HttpHeaders headers, PdfContent content) {
+        StreamingResponseBody body = outputStream -> {
+            try {
+                content.writeTo(outputStream);
+            } catch (DocumentException e) {
+                throw new IOException("Error al generar el PDF: " + e.getMessage(), e);
+            }
+        };
+
         return ResponseEntity.ok()
                 .headers(headers)
-                .contentLength(resource.contentLength())
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(resource);
+                .body(body);
+    }
+
+    @FunctionalInterface
+    private interface PdfContent {
+        void writeTo(OutputStream outputStream) throws DocumentException, IOException;
     }
 
     private ResponseEntity<Resource> buildErrorResponse(String errorMessage) {
@@ -1063,7 +1032,7 @@ public class GlobalModalityReportController {
      */
     @GetMapping("/defense-calendar/pdf")
     @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
-    public ResponseEntity<Resource> exportDefenseCalendarToPdf(
+    public ResponseEntity<?> exportDefenseCalendarToPdf(
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
             @RequestParam(required = false, defaultValue = "false") Boolean includeCompleted
@@ -1079,27 +1048,17 @@ public class GlobalModalityReportController {
             DefenseCalendarReportDTO report = defenseCalendarReportService
                     .generateDefenseCalendarReport(start, end, includeCompleted);
 
-            byte[] pdfBytes = defenseCalendarPdfGenerator.generatePdf(report);
-            ByteArrayResource resource = new ByteArrayResource(pdfBytes);
-
             String fileName = generateFileName("Calendario_Sustentaciones");
 
             HttpHeaders headers = new HttpHeaders();
             headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
-            headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE);
             headers.add("X-Report-Generated-At", LocalDateTime.now().toString());
             headers.add("X-Report-Type", "DEFENSE_CALENDAR");
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .contentLength(resource.contentLength())
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .body(resource);
+            return streamPdf(headers, outputStream -> defenseCalendarPdfGenerator.generatePdf(report, outputStream));
 
         } catch (IllegalArgumentException e) {
             return buildErrorResponse("Parámetros inválidos: " + e.getMessage());
-        } catch (DocumentException | IOException e) {
-            return buildErrorResponse("Error al generar el PDF: " + e.getMessage());
         } catch (Exception e) {
             return buildErrorResponse("Error inesperado: " + e.getMessage());
         }
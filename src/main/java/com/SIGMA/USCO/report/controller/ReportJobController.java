@@ -0,0 +1,110 @@
+package com.SIGMA.USCO.report.controller;
+
+import com.SIGMA.USCO.report.dto.ReportJobDTO;
+import com.SIGMA.USCO.report.dto.ReportJobRequestDTO;
+import com.SIGMA.USCO.report.entity.ReportJob;
+import com.SIGMA.USCO.report.service.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Trabajos de reportes", description = "Generación de reportes PDF en segundo plano: solicitud, consulta de estado y descarga")
+@RestController
+@RequestMapping("/reports/jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@SecurityRequirement(name = "bearer-jwt")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
+    @Operation(summary = "Solicitar un reporte PDF", description = "Encola la generación del reporte y retorna el trabajo para consultar su estado. Si ya existe un trabajo idéntico en curso, se retorna ese trabajo.")
+    public ResponseEntity<?> submitJob(@RequestBody ReportJobRequestDTO request) {
+        try {
+            ReportJobDTO job = reportJobService.submit(request);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of(
+                            "success", true,
+                            "data", job,
+                            "timestamp", LocalDateTime.now()
+                    ));
+
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return errorResponse(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
+    @Operation(summary = "Listar mis trabajos de reportes", description = "Retorna los últimos trabajos de reportes del usuario autenticado.")
+    public ResponseEntity<?> getMyJobs() {
+        List<ReportJobDTO> jobs = reportJobService.getMyJobs();
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", jobs,
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
+    @Operation(summary = "Consultar estado de un trabajo de reporte")
+    public ResponseEntity<?> getJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "data", reportJobService.getJob(jobId),
+                    "timestamp", LocalDateTime.now()
+            ));
+
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @GetMapping("/{jobId}/download")
+    @PreAuthorize("hasAuthority('PERM_VIEW_REPORT')")
+    @Operation(summary = "Descargar el PDF de un trabajo completado")
+    public ResponseEntity<?> downloadJob(@PathVariable Long jobId) {
+        try {
+            ReportJob job = reportJobService.getDownloadableJob(jobId);
+
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.getFileName())
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .body(new FileSystemResource(job.getFilePath()));
+
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            return errorResponse(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> errorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .body(Map.of(
+                        "success", false,
+                        "error", message,
+                        "timestamp", LocalDateTime.now()
+                ));
+    }
+}
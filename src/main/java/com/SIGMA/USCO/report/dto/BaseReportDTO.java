@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
  * Contiene información común a todos los tipos de reportes
  */
 @Data
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public abstract class BaseReportDTO {
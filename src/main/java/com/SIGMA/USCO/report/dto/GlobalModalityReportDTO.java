@@ -16,7 +16,7 @@ import java.util.List;
  * incluyendo estadísticas generales y detalles por modalidad.
  */
 @Data
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
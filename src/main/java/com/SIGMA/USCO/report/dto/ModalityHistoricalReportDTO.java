@@ -14,7 +14,7 @@ import java.util.Map;
  * Análisis completo de evolución temporal de una modalidad de grado
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ModalityHistoricalReportDTO {
@@ -282,6 +282,7 @@ public class ModalityHistoricalReportDTO {
         private Integer slowestCompletionDays;
         private Map<String, Double> completionRateByYear;
         private Map<String, Double> successRateByYear;
+        private Map<String, Double> averageDaysByStatus; // Días promedio de permanencia en cada estado
         private String performanceVerdict; // EXCELLENT, GOOD, REGULAR, NEEDS_IMPROVEMENT
         private List<String> strengthPoints;
         private List<String> improvementAreas;
@@ -14,7 +14,7 @@ import java.util.Map;
  * RF-48 - Comparativa de Modalidades por Tipo de Grado
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ModalityTypeComparisonReportDTO {
@@ -0,0 +1,36 @@
+package com.SIGMA.USCO.report.dto;
+
+import com.SIGMA.USCO.report.enums.ReportJobStatus;
+import com.SIGMA.USCO.report.enums.ReportJobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de un trabajo de generación de reportes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDTO {
+
+    private Long id;
+    private ReportJobType reportType;
+    private ReportJobStatus status;
+    private String fileName;
+    private Long fileSize;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;
+
+    /**
+     * Ruta de descarga, disponible cuando el trabajo está COMPLETED
+     */
+    private String downloadUrl;
+}
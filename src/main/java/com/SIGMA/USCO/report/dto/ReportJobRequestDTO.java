@@ -0,0 +1,29 @@
+package com.SIGMA.USCO.report.dto;
+
+import com.SIGMA.USCO.report.enums.ReportJobType;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Solicitud de generación de un reporte PDF en segundo plano
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequestDTO {
+
+    /**
+     * Reporte a generar
+     */
+    private ReportJobType reportType;
+
+    /**
+     * Filtros del reporte, con los mismos campos que el endpoint PDF correspondiente.
+     * Para MODALITY_HISTORICAL: {"modalityTypeId": 3, "periods": 8}
+     */
+    private JsonNode parameters;
+}
@@ -0,0 +1,29 @@
+package com.SIGMA.USCO.report.dto.projection;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+
+/**
+ * Contadores de un bucket de {@code ModalityReportSnapshot} calculados
+ * directamente desde las modalidades.
+ */
+public interface ModalitySnapshotSourceView {
+
+    Long getAcademicProgramId();
+
+    Long getDegreeModalityId();
+
+    Integer getPeriodYear();
+
+    Integer getPeriodSemester();
+
+    ModalityProcessStatus getStatus();
+
+    Long getModalityCount();
+
+    Long getGroupModalityCount();
+
+    Long getGradedCount();
+
+    Double getGradeSum();
+
+}
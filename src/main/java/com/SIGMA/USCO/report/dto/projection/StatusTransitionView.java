@@ -0,0 +1,23 @@
+package com.SIGMA.USCO.report.dto.projection;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro del historial de estados con el programa y el tipo de modalidad
+ * a los que pertenece, usado para reconstruir los tiempos por estado.
+ */
+public interface StatusTransitionView {
+
+    Long getStudentModalityId();
+
+    Long getAcademicProgramId();
+
+    Long getDegreeModalityId();
+
+    ModalityProcessStatus getStatus();
+
+    LocalDateTime getChangeDate();
+
+}
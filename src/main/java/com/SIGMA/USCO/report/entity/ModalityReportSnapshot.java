@@ -0,0 +1,64 @@
+package com.SIGMA.USCO.report.entity;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contadores precalculados de modalidades para los reportes.
+ * Cada fila acumula las modalidades de un programa, tipo de modalidad de grado,
+ * periodo de selección y estado del proceso. Se recalcula por bucket cada vez
+ * que una modalidad de ese bucket cambia de estado.
+ *
+ * Las modalidades sin fecha de selección se agrupan en el periodo 0-0.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "modality_report_snapshots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_modality_report_snapshots_bucket",
+                columnNames = {"academic_program_id", "degree_modality_id", "period_year", "period_semester", "status"}),
+        indexes = @Index(
+                name = "idx_modality_report_snapshots_program_period",
+                columnList = "academic_program_id, period_year, period_semester"))
+public class ModalityReportSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "academic_program_id", nullable = false)
+    private Long academicProgramId;
+
+    @Column(name = "degree_modality_id", nullable = false)
+    private Long degreeModalityId;
+
+    @Column(name = "period_year", nullable = false)
+    private Integer periodYear;
+
+    @Column(name = "period_semester", nullable = false)
+    private Integer periodSemester;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 100, nullable = false)
+    private ModalityProcessStatus status;
+
+    private long modalityCount;
+
+    private long groupModalityCount;
+
+    private long gradedCount;
+
+    private double gradeSum;
+
+    private LocalDateTime updatedAt;
+
+}
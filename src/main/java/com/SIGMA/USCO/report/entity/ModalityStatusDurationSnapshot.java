@@ -0,0 +1,50 @@
+package com.SIGMA.USCO.report.entity;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tiempo acumulado que las modalidades de un programa y tipo de modalidad
+ * permanecieron en cada estado del proceso. Se incrementa cada vez que una
+ * modalidad sale de un estado, a partir del historial de estados.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "modality_status_duration_snapshots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_modality_status_duration_snapshots_bucket",
+                columnNames = {"academic_program_id", "degree_modality_id", "status"}))
+public class ModalityStatusDurationSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "academic_program_id", nullable = false)
+    private Long academicProgramId;
+
+    @Column(name = "degree_modality_id", nullable = false)
+    private Long degreeModalityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 100, nullable = false)
+    private ModalityProcessStatus status;
+
+    /** Cantidad de veces que una modalidad salió de este estado */
+    private long completedStays;
+
+    /** Segundos acumulados en este estado por todas las permanencias completadas */
+    private long totalSeconds;
+
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,70 @@
+package com.SIGMA.USCO.report.entity;
+
+import com.SIGMA.USCO.report.enums.ReportJobStatus;
+import com.SIGMA.USCO.report.enums.ReportJobType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Trabajo de generación de un reporte PDF en segundo plano.
+ * El PDF terminado se guarda en disco y se puede descargar hasta {@code expiresAt}.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_jobs",
+        indexes = {
+                @Index(name = "idx_report_jobs_requested_by_status", columnList = "requested_by, status"),
+                @Index(name = "idx_report_jobs_status_expires_at", columnList = "status, expires_at"),
+                @Index(name = "idx_report_jobs_status_completed_at", columnList = "status, completed_at")
+        })
+public class ReportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50, nullable = false)
+    private ReportJobType reportType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ReportJobStatus status;
+
+    @Column(name = "requested_by", nullable = false)
+    private String requestedBy;
+
+    /** Parámetros del reporte en JSON normalizado */
+    @Column(columnDefinition = "TEXT")
+    private String parameters;
+
+    /** Hash del tipo de reporte y sus parámetros, para reutilizar trabajos idénticos en curso */
+    @Column(length = 32, nullable = false)
+    private String dedupKey;
+
+    private String fileName;
+
+    private String filePath;
+
+    private Long fileSize;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,12 @@
+package com.SIGMA.USCO.report.enums;
+
+/**
+ * Estados de un trabajo de generación de reportes
+ */
+public enum ReportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    EXPIRED
+}
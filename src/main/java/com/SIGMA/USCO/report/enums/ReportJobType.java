@@ -0,0 +1,25 @@
+package com.SIGMA.USCO.report.enums;
+
+/**
+ * Reportes PDF que se pueden generar como trabajo en segundo plano
+ */
+public enum ReportJobType {
+
+    GLOBAL_MODALITIES("Reporte_Global_Modalidades"),
+    FILTERED_MODALITIES("Reporte_Modalidades_Filtrado"),
+    MODALITY_TYPE_COMPARISON("Reporte_Comparativa_Modalidades"),
+    MODALITY_HISTORICAL("Reporte_Historico_Modalidad"),
+    STUDENT_LISTING("Reporte_Listado_Estudiantes"),
+    COMPLETED_MODALITIES("Reporte_Modalidades_Completadas"),
+    DIRECTOR_ASSIGNED_MODALITIES("Reporte_Directores_Modalidades");
+
+    private final String fileNamePrefix;
+
+    ReportJobType(String fileNamePrefix) {
+        this.fileNamePrefix = fileNamePrefix;
+    }
+
+    public String getFileNamePrefix() {
+        return fileNamePrefix;
+    }
+}
@@ -0,0 +1,12 @@
+package com.SIGMA.USCO.report.event;
+
+/**
+ * Evento publicado cada vez que se registra un cambio de estado en el
+ * historial de una modalidad. Alimenta los contadores precalculados de reportes.
+ *
+ * @param historyId ID del registro de historial creado
+ * @param studentModalityId ID de la modalidad que cambió de estado
+ * @param academicProgramId ID del programa académico de la modalidad
+ */
+public record ModalityStatusChangedEvent(Long historyId, Long studentModalityId, Long academicProgramId) {
+}
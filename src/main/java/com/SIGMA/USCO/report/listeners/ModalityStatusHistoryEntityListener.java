@@ -0,0 +1,27 @@
+package com.SIGMA.USCO.report.listeners;
+
+import com.SIGMA.USCO.Modalities.Entity.ModalityProcessStatusHistory;
+import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.report.event.ModalityStatusChangedEvent;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica un {@link ModalityStatusChangedEvent} por cada registro nuevo del historial
+ * de estados, sin importar desde qué servicio se haya realizado la transición.
+ */
+@Component
+@RequiredArgsConstructor
+public class ModalityStatusHistoryEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    public void onHistoryCreated(ModalityProcessStatusHistory history) {
+        StudentModality modality = history.getStudentModality();
+        publisher.publishEvent(new ModalityStatusChangedEvent(
+                history.getId(), modality.getId(), modality.getAcademicProgram().getId()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.SIGMA.USCO.report.repository;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityTypeCountView;
+import com.SIGMA.USCO.report.entity.ModalityReportSnapshot;
+import com.SIGMA.USCO.report.dto.projection.ModalitySnapshotSourceView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ModalityReportSnapshotRepository extends JpaRepository<ModalityReportSnapshot, Long> {
+
+    List<ModalityReportSnapshot> findByAcademicProgramIdAndDegreeModalityId(Long academicProgramId, Long degreeModalityId);
+
+    /**
+     * Suma los contadores de un periodo agrupados por tipo de modalidad de grado
+     * @param programId ID del programa académico
+     * @param year Año del periodo
+     * @param semester Semestre del periodo (1 o 2)
+     * @param statuses Estados a considerar
+     * @return Cantidad de modalidades por nombre de la modalidad de grado
+     */
+    @Query("""
+        SELECT dm.name AS modalityName, SUM(s.modalityCount) AS total
+        FROM ModalityReportSnapshot s, DegreeModality dm
+        WHERE dm.id = s.degreeModalityId
+        AND s.academicProgramId = :programId
+        AND s.periodYear = :year
+        AND s.periodSemester = :semester
+        AND s.status IN :statuses
+        GROUP BY dm.name
+        """)
+    List<ModalityTypeCountView> sumPeriodByModalityType(
+            @Param("programId") Long programId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester,
+            @Param("statuses") Collection<ModalityProcessStatus> statuses
+    );
+
+    @Modifying
+    @Query("""
+        DELETE FROM ModalityReportSnapshot s
+        WHERE s.academicProgramId = :programId
+        AND s.degreeModalityId = :degreeModalityId
+        AND s.periodYear = :year
+        AND s.periodSemester = :semester
+        """)
+    void deleteBucket(
+            @Param("programId") Long programId,
+            @Param("degreeModalityId") Long degreeModalityId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    @Modifying
+    @Query("DELETE FROM ModalityReportSnapshot s")
+    void deleteAllSnapshots();
+
+    /**
+     * Calcula desde las modalidades los contadores de un bucket (programa, tipo y periodo)
+     */
+    @Query("""
+        SELECT sm.academicProgram.id AS academicProgramId,
+               pdm.degreeModality.id AS degreeModalityId,
+               COALESCE(YEAR(sm.selectionDate), 0) AS periodYear,
+               CASE WHEN sm.selectionDate IS NULL THEN 0
+                    WHEN MONTH(sm.selectionDate) <= 6 THEN 1 ELSE 2 END AS periodSemester,
+               sm.status AS status,
+               COUNT(sm) AS modalityCount,
+               SUM(CASE WHEN sm.modalityType = 'GROUP' THEN 1 ELSE 0 END) AS groupModalityCount,
+               COUNT(sm.finalGrade) AS gradedCount,
+               COALESCE(SUM(sm.finalGrade), 0) AS gradeSum
+        FROM StudentModality sm
+        JOIN sm.programDegreeModality pdm
+        WHERE sm.academicProgram.id = :programId
+        AND pdm.degreeModality.id = :degreeModalityId
+        AND COALESCE(YEAR(sm.selectionDate), 0) = :year
+        AND (CASE WHEN sm.selectionDate IS NULL THEN 0
+                  WHEN MONTH(sm.selectionDate) <= 6 THEN 1 ELSE 2 END) = :semester
+        GROUP BY sm.academicProgram.id, pdm.degreeModality.id,
+                 COALESCE(YEAR(sm.selectionDate), 0),
+                 CASE WHEN sm.selectionDate IS NULL THEN 0
+                      WHEN MONTH(sm.selectionDate) <= 6 THEN 1 ELSE 2 END,
+                 sm.status
+        """)
+    List<ModalitySnapshotSourceView> aggregateBucketSource(
+            @Param("programId") Long programId,
+            @Param("degreeModalityId") Long degreeModalityId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    /**
+     * Calcula desde las modalidades los contadores de todos los buckets, para la reconstrucción completa
+     */
+    @Query("""
+        SELECT sm.academicProgram.id AS academicProgramId,
+               pdm.degreeModality.id AS degreeModalityId,
+               COALESCE(YEAR(sm.selectionDate), 0) AS periodYear,
+               CASE WHEN sm.selectionDate IS NULL THEN 0
+                    WHEN MONTH(sm.selectionDate) <= 6 THEN 1 ELSE 2 END AS periodSemester,
+               sm.status AS status,
+               COUNT(sm) AS modalityCount,
+               SUM(CASE WHEN sm.modalityType = 'GROUP' THEN 1 ELSE 0 END) AS groupModalityCount,
+               COUNT(sm.finalGrade) AS gradedCount,
+               COALESCE(SUM(sm.finalGrade), 0) AS gradeSum
+        FROM StudentModality sm
+        JOIN sm.programDegreeModality pdm
+        GROUP BY sm.academicProgram.id, pdm.degreeModality.id,
+                 COALESCE(YEAR(sm.selectionDate), 0),
+                 CASE WHEN sm.selectionDate IS NULL THEN 0
+                      WHEN MONTH(sm.selectionDate) <= 6 THEN 1 ELSE 2 END,
+                 sm.status
+        """)
+    List<ModalitySnapshotSourceView> aggregateAllSources();
+}
@@ -0,0 +1,60 @@
+package com.SIGMA.USCO.report.repository;
+
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import com.SIGMA.USCO.report.dto.projection.StatusTransitionView;
+import com.SIGMA.USCO.report.entity.ModalityStatusDurationSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ModalityStatusDurationSnapshotRepository extends JpaRepository<ModalityStatusDurationSnapshot, Long> {
+
+    List<ModalityStatusDurationSnapshot> findByAcademicProgramIdAndDegreeModalityId(Long academicProgramId, Long degreeModalityId);
+
+    /**
+     * Suma una permanencia completada al bucket del estado, en una sola sentencia
+     * @return Cantidad de filas actualizadas (0 si el bucket todavía no existe)
+     */
+    @Modifying
+    @Query("""
+        UPDATE ModalityStatusDurationSnapshot s
+        SET s.completedStays = s.completedStays + 1,
+            s.totalSeconds = s.totalSeconds + :seconds,
+            s.updatedAt = :now
+        WHERE s.academicProgramId = :programId
+        AND s.degreeModalityId = :degreeModalityId
+        AND s.status = :status
+        """)
+    int addCompletedStay(
+            @Param("programId") Long programId,
+            @Param("degreeModalityId") Long degreeModalityId,
+            @Param("status") ModalityProcessStatus status,
+            @Param("seconds") long seconds,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("DELETE FROM ModalityStatusDurationSnapshot s")
+    void deleteAllSnapshots();
+
+    /**
+     * Obtiene todo el historial de estados en orden de registro por modalidad,
+     * para la reconstrucción completa de los tiempos por estado
+     */
+    @Query("""
+        SELECT sm.id AS studentModalityId,
+               sm.academicProgram.id AS academicProgramId,
+               pdm.degreeModality.id AS degreeModalityId,
+               h.status AS status,
+               h.changeDate AS changeDate
+        FROM ModalityProcessStatusHistory h
+        JOIN h.studentModality sm
+        JOIN sm.programDegreeModality pdm
+        ORDER BY sm.id ASC, h.id ASC
+        """)
+    List<StatusTransitionView> findAllTransitionsInOrder();
+}
@@ -0,0 +1,54 @@
+package com.SIGMA.USCO.report.repository;
+
+import com.SIGMA.USCO.report.entity.ReportJob;
+import com.SIGMA.USCO.report.enums.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    Optional<ReportJob> findFirstByRequestedByAndDedupKeyAndStatusInOrderByIdDesc(
+            String requestedBy, String dedupKey, Collection<ReportJobStatus> statuses);
+
+    long countByRequestedByAndStatusIn(String requestedBy, Collection<ReportJobStatus> statuses);
+
+    List<ReportJob> findTop20ByRequestedByOrderByIdDesc(String requestedBy);
+
+    List<ReportJob> findByStatusAndExpiresAtBefore(ReportJobStatus status, LocalDateTime now);
+
+    /**
+     * Marca como fallidos los trabajos que quedaron en curso (por ejemplo, tras un reinicio)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ReportJob j
+               SET j.status = com.SIGMA.USCO.report.enums.ReportJobStatus.FAILED,
+                   j.errorMessage = :reason,
+                   j.completedAt = :now
+             WHERE j.status IN :statuses
+            """)
+    int failAll(@Param("statuses") Collection<ReportJobStatus> statuses,
+                @Param("reason") String reason,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * Elimina los trabajos terminados en alguno de los estados indicados antes del corte
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM ReportJob j
+             WHERE j.status IN :statuses
+               AND j.completedAt < :cutoff
+            """)
+    int deleteFinishedBefore(@Param("statuses") Collection<ReportJobStatus> statuses,
+                             @Param("cutoff") LocalDateTime cutoff);
+}
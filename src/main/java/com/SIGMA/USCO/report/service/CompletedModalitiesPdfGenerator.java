@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
@@ -27,25 +28,31 @@ public class CompletedModalitiesPdfGenerator {
     private static final BaseColor TEXT_GRAY = new BaseColor(80, 80, 80); // Texto secundario
 
     // Fuentes con colores institucionales
-    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 24, INSTITUTIONAL_RED);
-    private static final Font SUBTITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, INSTITUTIONAL_RED);
-    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED);
-    private static final Font SUBHEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13, INSTITUTIONAL_RED);
-    private static final Font BOLD_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
-    private static final Font NORMAL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_BLACK);
-    private static final Font SMALL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY);
-    private static final Font TINY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY);
-    private static final Font TABLE_HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, WHITE);
-    private static final Font TABLE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_BLACK);
+    private static final Font TITLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 24, INSTITUTIONAL_RED);
+    private static final Font SUBTITLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 18, INSTITUTIONAL_RED);
+    private static final Font HEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED);
+    private static final Font SUBHEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 13, INSTITUTIONAL_RED);
+    private static final Font BOLD_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
+    private static final Font NORMAL_FONT = PdfResources.font(FontFactory.HELVETICA, 10, TEXT_BLACK);
+    private static final Font SMALL_FONT = PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY);
+    private static final Font TINY_FONT = PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY);
+    private static final Font TABLE_HEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 8, WHITE);
+    private static final Font TABLE_FONT = PdfResources.font(FontFactory.HELVETICA, 7, TEXT_BLACK);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
     public ByteArrayOutputStream generatePDF(CompletedModalitiesReportDTO report) throws DocumentException, IOException {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePDF(report, outputStream);
+        return outputStream;
+    }
+
+    public void generatePDF(CompletedModalitiesReportDTO report, OutputStream outputStream) throws DocumentException, IOException {
         Document document = new Document(PageSize.A4, 50, 50, 50, 50);
         PdfWriter writer = PdfWriter.getInstance(document, outputStream);
-        writer.setPageEvent(new CompletedModalitiesPageEventHelper(report));
+        writer.setCloseStream(false);
+        writer.setPageEvent(new InstitutionalFooterEvent(report != null ? report.getAcademicProgramName() : null));
         // IOException propagada desde addCoverPage (carga del logo institucional)
         document.open();
 
@@ -53,12 +60,12 @@ public class CompletedModalitiesPdfGenerator {
         if (report == null) {
             document.add(new Paragraph("No hay datos para generar el reporte.", NORMAL_FONT));
             document.close();
-            return outputStream;
+            return;
         }
         if (report.getCompletedModalities() == null || report.getCompletedModalities().isEmpty()) {
             document.add(new Paragraph("No hay modalidades completadas para mostrar.", NORMAL_FONT));
             document.close();
-            return outputStream;
+            return;
         }
 
         // 1. Portada
@@ -108,7 +115,6 @@ public class CompletedModalitiesPdfGenerator {
         addInstitutionalClosing(document, report);
 
         document.close();
-        return outputStream;
     }
 
     /**
@@ -137,7 +143,7 @@ public class CompletedModalitiesPdfGenerator {
         titleCell.setBorder(Rectangle.NO_BORDER);
 
         Paragraph titlePara = new Paragraph("REPORTE DE MODALIDADES COMPLETADAS\nAnálisis de Resultados Académicos",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, BaseColor.WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 18, BaseColor.WHITE));
         titlePara.setAlignment(Element.ALIGN_CENTER);
         titleCell.addElement(titlePara);
         titleBox.addCell(titleCell);
@@ -179,7 +185,7 @@ public class CompletedModalitiesPdfGenerator {
             "incluyendo tanto las exitosas como las fallidas. Se incluyen estadísticas de calificaciones, " +
             "tiempos de completitud, distinciones académicas, desempeño de directores y tendencias temporales. " +
             "La información es generada automáticamente por el sistema SIGMA.",
-            FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 9, new BaseColor(80, 80, 80))
+            PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 9, new BaseColor(80, 80, 80))
         );
         disclaimer.setAlignment(Element.ALIGN_JUSTIFIED);
         disclaimer.setIndentationLeft(50);
@@ -193,7 +199,7 @@ public class CompletedModalitiesPdfGenerator {
         Paragraph closing = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n" +
                 "Universidad Surcolombiana | Facultad de Ingeniería | Neiva – Huila",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, new BaseColor(80, 80, 80)));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, new BaseColor(80, 80, 80)));
         closing.setAlignment(Element.ALIGN_CENTER);
         document.add(closing);
     }
@@ -203,14 +209,14 @@ public class CompletedModalitiesPdfGenerator {
      */
     private void addCoverInfoRow(PdfPTable table, String label, String value) {
         PdfPCell labelCell = new PdfPCell(new Phrase(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, new BaseColor(143, 30, 30))));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, new BaseColor(143, 30, 30))));
         labelCell.setBackgroundColor(new BaseColor(245, 242, 235));
         labelCell.setPadding(8f);
         labelCell.setBorderColor(new BaseColor(213, 203, 160));
         table.addCell(labelCell);
 
         PdfPCell valueCell = new PdfPCell(new Phrase(value != null ? value : "—",
-                FontFactory.getFont(FontFactory.HELVETICA, 10, BaseColor.BLACK)));
+                PdfResources.font(FontFactory.HELVETICA, 10, BaseColor.BLACK)));
         valueCell.setPadding(8f);
         valueCell.setBorderColor(new BaseColor(213, 203, 160));
         table.addCell(valueCell);
@@ -438,7 +444,7 @@ public class CompletedModalitiesPdfGenerator {
         successCell.setBorderWidth(2);
 
         Paragraph successTitle = new Paragraph("✓ EXITOSAS",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, INSTITUTIONAL_GOLD));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 14, INSTITUTIONAL_GOLD));
         successTitle.setAlignment(Element.ALIGN_CENTER);
         successCell.addElement(successTitle);
         successCell.addElement(new Paragraph("\n"));
@@ -452,7 +458,7 @@ public class CompletedModalitiesPdfGenerator {
 
         if (analysis.getSuccessFactors() != null && !analysis.getSuccessFactors().isEmpty()) {
             successCell.addElement(new Paragraph("\nFactores de Éxito:",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_GOLD)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_GOLD)));
             for (String factor : analysis.getSuccessFactors()) {
                 successCell.addElement(new Paragraph("• " + factor, SMALL_FONT));
             }
@@ -469,7 +475,7 @@ public class CompletedModalitiesPdfGenerator {
         failedCell.setBorderWidth(2);
 
         Paragraph failedTitle = new Paragraph("✗ FALLIDAS",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, INSTITUTIONAL_RED));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 14, INSTITUTIONAL_RED));
         failedTitle.setAlignment(Element.ALIGN_CENTER);
         failedCell.addElement(failedTitle);
         failedCell.addElement(new Paragraph("\n"));
@@ -483,7 +489,7 @@ public class CompletedModalitiesPdfGenerator {
 
         if (analysis.getFailureReasons() != null && !analysis.getFailureReasons().isEmpty()) {
             failedCell.addElement(new Paragraph("\nRazones de Fallo:",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
             for (String reason : analysis.getFailureReasons()) {
                 failedCell.addElement(new Paragraph("• " + reason, SMALL_FONT));
             }
@@ -508,7 +514,7 @@ public class CompletedModalitiesPdfGenerator {
 
             Paragraph verdictText = new Paragraph(
                 "DESEMPEÑO: " + translateVerdict(analysis.getPerformanceVerdict()),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, WHITE)
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, WHITE)
             );
             verdictText.setAlignment(Element.ALIGN_CENTER);
             verdictCell.addElement(verdictText);
@@ -661,7 +667,7 @@ public class CompletedModalitiesPdfGenerator {
 
             PdfPCell resultCell = new PdfPCell(new Phrase(
                 "SUCCESS".equals(detail.getResult()) ? "✓" : "✗",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9,
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9,
                     "SUCCESS".equals(detail.getResult()) ? INSTITUTIONAL_GOLD : INSTITUTIONAL_RED)
             ));
             resultCell.setBackgroundColor(alternate ? LIGHT_GOLD : WHITE);
@@ -987,14 +993,14 @@ public class CompletedModalitiesPdfGenerator {
 
         // Valor grande (número principal)
         Paragraph valuePara = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 24, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 24, color));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         valuePara.setSpacingAfter(5);
         card.addElement(valuePara);
 
         // Etiqueta descriptiva
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         card.addElement(labelPara);
 
@@ -1047,7 +1053,7 @@ public class CompletedModalitiesPdfGenerator {
 
         // Etiqueta
         PdfPCell labelCell = new PdfPCell(new Phrase(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK)));
         labelCell.setBorder(Rectangle.NO_BORDER);
         labelCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
         labelCell.setPadding(3);
@@ -1066,9 +1072,9 @@ public class CompletedModalitiesPdfGenerator {
 
         Paragraph valueContent = new Paragraph();
         valueContent.add(new Chunk(count + " ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11, color)));
         valueContent.add(new Chunk("(" + String.format("%.1f%%", percentage * 100) + ")",
-                FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY)));
         valueContent.setAlignment(Element.ALIGN_CENTER);
         valueCell.addElement(valueContent);
         innerTable.addCell(valueCell);
@@ -1098,7 +1104,7 @@ public class CompletedModalitiesPdfGenerator {
 
         // Parte coloreada
         PdfPCell filledCell = new PdfPCell(new Phrase(String.valueOf(value),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, WHITE)));
         filledCell.setBackgroundColor(color);
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setPadding(5);
@@ -1184,7 +1190,7 @@ public class CompletedModalitiesPdfGenerator {
 
         // Valor
         PdfPCell valueCell = new PdfPCell(new Phrase(days + " días",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, color)));
         valueCell.setBorder(Rectangle.NO_BORDER);
         valueCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         valueCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
@@ -1258,7 +1264,7 @@ public class CompletedModalitiesPdfGenerator {
 
         // Valor
         PdfPCell valueCell = new PdfPCell(new Phrase(String.format("%.2f", grade),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, color)));
         valueCell.setBorder(Rectangle.NO_BORDER);
         valueCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         valueCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
@@ -1290,7 +1296,7 @@ public class CompletedModalitiesPdfGenerator {
 
         // Parte coloreada
         PdfPCell filledCell = new PdfPCell(new Phrase(String.format("%.2f", grade),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, WHITE)));
         filledCell.setBackgroundColor(color);
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setPadding(5);
@@ -1382,9 +1388,9 @@ public class CompletedModalitiesPdfGenerator {
 
         Paragraph valueContent = new Paragraph();
         valueContent.add(new Chunk(count + " ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, color)));
         valueContent.add(new Chunk("(" + String.format("%.1f%%", percentage * 100) + ")",
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY)));
         valueContent.setAlignment(Element.ALIGN_CENTER);
         valueCell.addElement(valueContent);
         innerTable.addCell(valueCell);
@@ -1473,7 +1479,7 @@ public class CompletedModalitiesPdfGenerator {
 
         String rankIcon = position + "º";
         Paragraph headerText = new Paragraph(rankIcon + " " + truncate(modality.getModalityType(), 40),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, WHITE));
         headerCell.addElement(headerText);
 
         // Información en tabla interna
@@ -1497,7 +1503,12 @@ public class CompletedModalitiesPdfGenerator {
         mainCell.setBorderWidth(1f);
         mainCell.setPadding(0);
 
-        mainCell.addElement(headerCell);
+        // Una celda no puede agregarse directamente a otra: se envuelve en una tabla de una columna
+        PdfPTable headerTable = new PdfPTable(1);
+        headerTable.setWidthPercentage(100);
+        headerTable.addCell(headerCell);
+
+        mainCell.addElement(headerTable);
         mainCell.addElement(infoTable);
 
         table.addCell(mainCell);
@@ -1508,7 +1519,7 @@ public class CompletedModalitiesPdfGenerator {
      */
     private void addModalityInfoCell(PdfPTable table, String text) {
         PdfPCell cell = new PdfPCell(new Phrase(text,
-                FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA, 7, TEXT_BLACK)));
         cell.setBackgroundColor(LIGHT_GOLD);
         cell.setPadding(4);
         cell.setBorder(Rectangle.NO_BORDER);
@@ -1615,7 +1626,7 @@ public class CompletedModalitiesPdfGenerator {
 
         // Periodo
         PdfPCell periodCell = new PdfPCell(new Phrase(period.getPeriod(),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, TEXT_BLACK)));
         periodCell.setBorder(Rectangle.NO_BORDER);
         periodCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
         periodCell.setPadding(3);
@@ -1635,9 +1646,9 @@ public class CompletedModalitiesPdfGenerator {
 
         Paragraph infoContent = new Paragraph();
         infoContent.add(new Chunk(period.getCompleted() + " total",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 7, barColor)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 7, barColor)));
         infoContent.add(new Chunk(" | " + String.format("%.1f%%", period.getSuccessRate()),
-                FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 7, TEXT_GRAY)));
         infoCell.addElement(infoContent);
         innerTable.addCell(infoCell);
 
@@ -1661,9 +1672,9 @@ public class CompletedModalitiesPdfGenerator {
 
         Paragraph content = new Paragraph();
         content.add(new Chunk(value + "\n",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 16, WHITE)));
         content.add(new Chunk(label,
-            FontFactory.getFont(FontFactory.HELVETICA, 8, new BaseColor(240, 240, 240))));
+            PdfResources.font(FontFactory.HELVETICA, 8, new BaseColor(240, 240, 240))));
         content.setAlignment(Element.ALIGN_CENTER);
 
         cell.addElement(content);
@@ -1682,9 +1693,9 @@ public class CompletedModalitiesPdfGenerator {
 
         Paragraph content = new Paragraph();
         content.add(new Chunk(value + "\n",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 14, WHITE)));
         content.add(new Chunk(label,
-            FontFactory.getFont(FontFactory.HELVETICA, 8, new BaseColor(240, 240, 240))));
+            PdfResources.font(FontFactory.HELVETICA, 8, new BaseColor(240, 240, 240))));
         content.setAlignment(Element.ALIGN_CENTER);
 
         cell.addElement(content);
@@ -1796,7 +1807,7 @@ public class CompletedModalitiesPdfGenerator {
 
         PdfPCell leftCell = new PdfPCell(new Phrase(
                 "UNIVERSIDAD SURCOLOMBIANA — SIGMA",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
         leftCell.setBorder(Rectangle.NO_BORDER);
         leftCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
         leftCell.setPaddingBottom(4f);
@@ -1804,7 +1815,7 @@ public class CompletedModalitiesPdfGenerator {
 
         PdfPCell rightCell = new PdfPCell(new Phrase(
                 report.getAcademicProgramName(),
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
         rightCell.setBorder(Rectangle.NO_BORDER);
         rightCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
         rightCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
@@ -1843,63 +1854,12 @@ public class CompletedModalitiesPdfGenerator {
                 "Documento generado automáticamente por el Sistema SIGMA.\n" +
                 "Universidad Surcolombiana | Facultad de Ingeniería | Neiva – Huila\n" +
                 "www.usco.edu.co  •  NIT: 891180084-2",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         closingText.setAlignment(Element.ALIGN_CENTER);
         closingCell.addElement(closingText);
         closingTable.addCell(closingCell);
         document.add(closingTable);
     }
 
-    // ==================== CLASE INTERNA: PAGE EVENT HELPER ====================
-
-    /**
-     * Helper para eventos de página — pie institucional
-     */
-    private static class CompletedModalitiesPageEventHelper extends PdfPageEventHelper {
-
-        private final CompletedModalitiesReportDTO report;
-        private static final BaseColor GOLD = new BaseColor(213, 203, 160);
-        private static final BaseColor RED  = new BaseColor(143, 30, 30);
-        private static final BaseColor GRAY = new BaseColor(80, 80, 80);
-
-        public CompletedModalitiesPageEventHelper(CompletedModalitiesReportDTO report) {
-            this.report = report;
-        }
-
-        @Override
-        public void onEndPage(PdfWriter writer, Document document) {
-            PdfContentByte cb = writer.getDirectContent();
-            float left   = document.leftMargin();
-            float right  = document.right();
-            float bottom = document.bottom() - 15f;
-
-            // Línea dorada sobre el pie
-            cb.setLineWidth(1f);
-            cb.setColorStroke(GOLD);
-            cb.moveTo(left, bottom + 10f);
-            cb.lineTo(right, bottom + 10f);
-            cb.stroke();
-
-            // Izquierda: sistema
-            ColumnText.showTextAligned(cb, Element.ALIGN_LEFT,
-                    new Phrase("SIGMA — Universidad Surcolombiana",
-                            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, RED)),
-                    left, bottom, 0);
-
-            // Centro: programa
-            String progName = (report != null && report.getAcademicProgramName() != null)
-                    ? report.getAcademicProgramName() : "";
-            ColumnText.showTextAligned(cb, Element.ALIGN_CENTER,
-                    new Phrase(progName,
-                            FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, GRAY)),
-                    (left + right) / 2f, bottom, 0);
-
-            // Derecha: número de página
-            ColumnText.showTextAligned(cb, Element.ALIGN_RIGHT,
-                    new Phrase("Pág. " + writer.getPageNumber(),
-                            FontFactory.getFont(FontFactory.HELVETICA, 8, GRAY)),
-                    right, bottom, 0);
-        }
-    }
 }
 
@@ -5,15 +5,13 @@ import com.SIGMA.USCO.report.dto.DefenseCalendarReportDTO.*;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.ColumnText;
-import com.itextpdf.text.pdf.PdfContentByte;
-import com.itextpdf.text.pdf.PdfPageEventHelper;
 import com.itextpdf.text.pdf.PdfWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -49,10 +47,16 @@ public class DefenseCalendarPdfGenerator {
 
     public byte[] generatePdf(DefenseCalendarReportDTO report) throws DocumentException, IOException {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePdf(report, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    public void generatePdf(DefenseCalendarReportDTO report, OutputStream outputStream) throws DocumentException, IOException {
         Document document = new Document(PageSize.A4, 40, 40, 40, 40);
 
         PdfWriter writer = PdfWriter.getInstance(document, outputStream);
-        writer.setPageEvent(new DefenseCalendarPageEventHelper(report));
+        writer.setCloseStream(false);
+        writer.setPageEvent(new InstitutionalFooterEvent(report.getAcademicProgramName()));
         document.open();
 
         // Portada
@@ -110,7 +114,6 @@ public class DefenseCalendarPdfGenerator {
         addInstitutionalClosing(document, report);
 
         document.close();
-        return outputStream.toByteArray();
     }
 
     private void addCoverPage(Document document, DefenseCalendarReportDTO report) throws DocumentException, IOException {
@@ -1271,52 +1274,6 @@ public class DefenseCalendarPdfGenerator {
         table.addCell(cell);
     }
 
-    // ==================== PAGE EVENT HELPER INSTITUCIONAL ====================
-
-    private static class DefenseCalendarPageEventHelper extends PdfPageEventHelper {
-
-        private final DefenseCalendarReportDTO report;
-        private static final BaseColor GOLD = new BaseColor(213, 203, 160);
-        private static final BaseColor RED  = new BaseColor(143, 30, 30);
-        private static final BaseColor GRAY = new BaseColor(80, 80, 80);
-
-        DefenseCalendarPageEventHelper(DefenseCalendarReportDTO report) {
-            this.report = report;
-        }
-
-        @Override
-        public void onEndPage(PdfWriter writer, Document document) {
-            PdfContentByte cb = writer.getDirectContent();
-            float left   = document.leftMargin();
-            float right  = document.right();
-            float bottom = document.bottom() - 15f;
-
-            // Línea dorada sobre el pie
-            cb.setLineWidth(1f);
-            cb.setColorStroke(GOLD);
-            cb.moveTo(left, bottom + 10f);
-            cb.lineTo(right, bottom + 10f);
-            cb.stroke();
-
-            // Izquierda: sistema
-            ColumnText.showTextAligned(cb, Element.ALIGN_LEFT,
-                    new Phrase("SIGMA — Universidad Surcolombiana",
-                            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, RED)),
-                    left, bottom, 0);
-
-            // Centro: programa
-            ColumnText.showTextAligned(cb, Element.ALIGN_CENTER,
-                    new Phrase(report.getAcademicProgramName(),
-                            FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, GRAY)),
-                    (left + right) / 2f, bottom, 0);
-
-            // Derecha: número de página
-            ColumnText.showTextAligned(cb, Element.ALIGN_RIGHT,
-                    new Phrase("Pág. " + writer.getPageNumber(),
-                            FontFactory.getFont(FontFactory.HELVETICA, 8, GRAY)),
-                    right, bottom, 0);
-        }
-    }
 }
 
 
@@ -8,8 +8,8 @@ import com.SIGMA.USCO.Modalities.Repository.DefenseEvaluationCriteriaRepository;
 import com.SIGMA.USCO.Modalities.Repository.StudentModalityRepository;
 import com.SIGMA.USCO.Users.Entity.User;
 import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
-import com.SIGMA.USCO.Users.repository.ProgramAuthorityRepository;
 import com.SIGMA.USCO.Users.repository.UserRepository;
+import com.SIGMA.USCO.Users.service.ProgramAuthorityCache;
 import com.SIGMA.USCO.academic.entity.AcademicProgram;
 import com.SIGMA.USCO.academic.repository.AcademicProgramRepository;
 import com.SIGMA.USCO.report.dto.DefenseCalendarReportDTO;
@@ -27,6 +27,9 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.SIGMA.USCO.report.specification.StudentModalityReportSpecifications.fetchReportAssociations;
+import static com.SIGMA.USCO.report.specification.StudentModalityReportSpecifications.inProgram;
+
 /**
  * Servicio para generar reportes de calendario de sustentaciones y evaluaciones
  */
@@ -39,7 +42,7 @@ public class DefenseCalendarReportService {
     private final DefenseEvaluationCriteriaRepository defenseEvaluationCriteriaRepository;
     private final UserRepository userRepository;
     private final AcademicProgramRepository academicProgramRepository;
-    private final ProgramAuthorityRepository programAuthorityRepository;
+    private final ProgramAuthorityCache programAuthorityCache;
 
     /**
      * Genera el reporte completo de calendario de sustentaciones
@@ -56,16 +59,15 @@ public class DefenseCalendarReportService {
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
         // Obtener el programa académico del usuario autenticado
-        Long programId = programAuthorityRepository
-                .findByUser_IdAndRole(user.getId(), ProgramRole.PROGRAM_HEAD)
+        Long programId = programAuthorityCache
+                .programIds(user.getId(), ProgramRole.PROGRAM_HEAD)
                 .stream()
                 .findFirst()
-                .map(pa -> pa.getAcademicProgram().getId())
-                .orElseGet(() -> programAuthorityRepository
-                        .findByUser_Id(user.getId())
+                .orElseGet(() -> programAuthorityCache
+                        .findByUser(user.getId())
                         .stream()
                         .findFirst()
-                        .map(pa -> pa.getAcademicProgram().getId())
+                        .map(ProgramAuthorityCache.Authority::academicProgramId)
                         .orElseThrow(() -> new IllegalArgumentException("Usuario sin programa académico asignado")));
 
         AcademicProgram program = academicProgramRepository.findById(programId)
@@ -76,9 +78,8 @@ public class DefenseCalendarReportService {
         LocalDateTime effectiveEndDate = endDate != null ? endDate : LocalDateTime.now().plusMonths(3);
 
         // Obtener todas las modalidades del programa
-        List<StudentModality> allModalities = studentModalityRepository.findAll().stream()
-                .filter(m -> m.getAcademicProgram().getId().equals(programId))
-                .collect(Collectors.toList());
+        List<StudentModality> allModalities = studentModalityRepository.findAll(
+                inProgram(programId).and(fetchReportAssociations()));
 
         // Filtrar modalidades con sustentación programada en el rango
         // NOTA: defenseDate (defense_date en BD) es la fecha de SUSTENTACIÓN/DEFENSA
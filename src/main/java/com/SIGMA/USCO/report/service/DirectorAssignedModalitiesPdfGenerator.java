@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
@@ -28,26 +29,32 @@ public class DirectorAssignedModalitiesPdfGenerator {
     private static final BaseColor TEXT_GRAY = new BaseColor(80, 80, 80); // Texto secundario
 
     // Fuentes con colores institucionales
-    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 20, INSTITUTIONAL_RED);
-    private static final Font SUBTITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 16, INSTITUTIONAL_RED);
-    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15, INSTITUTIONAL_RED);
-    private static final Font SUBHEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED);
-    private static final Font BOLD_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
-    private static final Font NORMAL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_BLACK);
-    private static final Font SMALL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY);
-    private static final Font TINY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY);
-    private static final Font HEADER_TABLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, WHITE);
+    private static final Font TITLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 20, INSTITUTIONAL_RED);
+    private static final Font SUBTITLE_FONT = PdfResources.font(FontFactory.HELVETICA, 16, INSTITUTIONAL_RED);
+    private static final Font HEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 15, INSTITUTIONAL_RED);
+    private static final Font SUBHEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED);
+    private static final Font BOLD_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
+    private static final Font NORMAL_FONT = PdfResources.font(FontFactory.HELVETICA, 10, TEXT_BLACK);
+    private static final Font SMALL_FONT = PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY);
+    private static final Font TINY_FONT = PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY);
+    private static final Font HEADER_TABLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 10, WHITE);
 
     public ByteArrayOutputStream generatePDF(DirectorAssignedModalitiesReportDTO report)
             throws DocumentException, IOException {
-
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePDF(report, outputStream);
+        return outputStream;
+    }
+
+    public void generatePDF(DirectorAssignedModalitiesReportDTO report, OutputStream outputStream)
+            throws DocumentException, IOException {
+
         Document document = new Document(PageSize.A4, 50, 50, 50, 50);
         PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
 
         // Agregar eventos de página (encabezado y pie de página)
-        PageEventHelper pageEvent = new PageEventHelper(report);
-        writer.setPageEvent(pageEvent);
+        writer.setPageEvent(new InstitutionalFooterEvent(report.getAcademicProgramName()));
 
         document.open();
 
@@ -85,7 +92,6 @@ public class DirectorAssignedModalitiesPdfGenerator {
         addFooterSection(document, report);
 
         document.close();
-        return outputStream;
     }
 
     /**
@@ -114,14 +120,14 @@ public class DirectorAssignedModalitiesPdfGenerator {
         titleCell.setBorder(Rectangle.NO_BORDER);
 
         Paragraph titlePara = new Paragraph("REPORTE DE MODALIDADES\nPOR DIRECTOR ASIGNADO",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 20, WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 20, WHITE));
         titlePara.setAlignment(Element.ALIGN_CENTER);
         titleCell.addElement(titlePara);
 
         // Si es reporte de un director específico, mostrarlo
         if (report.getDirectorInfo() != null) {
             Paragraph dirPara = new Paragraph(report.getDirectorInfo().getFullName(),
-                    FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 13, INSTITUTIONAL_GOLD));
+                    PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 13, INSTITUTIONAL_GOLD));
             dirPara.setAlignment(Element.ALIGN_CENTER);
             dirPara.setSpacingBefore(6);
             titleCell.addElement(dirPara);
@@ -161,7 +167,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         Paragraph note = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n" +
                 "Universidad Surcolombiana | Facultad de Ingeniería | Neiva – Huila",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         note.setAlignment(Element.ALIGN_CENTER);
         note.setSpacingBefore(10);
         document.add(note);
@@ -179,7 +185,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         PdfPCell leftCell = new PdfPCell(new Phrase(
                 "UNIVERSIDAD SURCOLOMBIANA — SIGMA",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
         leftCell.setBorder(Rectangle.BOTTOM);
         leftCell.setBorderColorBottom(INSTITUTIONAL_RED);
         leftCell.setBorderWidthBottom(1.5f);
@@ -188,7 +194,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         PdfPCell rightCell = new PdfPCell(new Phrase(
                 "Modalidades por Director — " + report.getAcademicProgramName(),
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
         rightCell.setBorder(Rectangle.BOTTOM);
         rightCell.setBorderColorBottom(INSTITUTIONAL_GOLD);
         rightCell.setBorderWidthBottom(1.5f);
@@ -221,7 +227,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
                 "Este reporte fue generado automáticamente por el sistema SIGMA a partir de los datos académicos " +
                 "registrados para el programa: " + report.getAcademicProgramName() + ". " +
                 "Para consultas o asignaciones de directores, contacte con la coordinación del programa académico.",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         note.setAlignment(Element.ALIGN_JUSTIFIED);
         noteCell.addElement(note);
         noteTable.addCell(noteCell);
@@ -231,7 +237,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         Paragraph closing = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n" +
                 "Universidad Surcolombiana | Facultad de Ingeniería | Neiva – Huila",
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY));
         closing.setAlignment(Element.ALIGN_CENTER);
         document.add(closing);
     }
@@ -250,7 +256,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         if (value == null) value = "—";
 
         PdfPCell labelCell = new PdfPCell(new Phrase(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY)));
         labelCell.setBackgroundColor(LIGHT_GOLD);
         labelCell.setPadding(8f);
         labelCell.setBorder(Rectangle.BOX);
@@ -260,7 +266,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         table.addCell(labelCell);
 
         PdfPCell valueCell = new PdfPCell(new Phrase(value,
-                FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA, 10, TEXT_BLACK)));
         valueCell.setPadding(8f);
         valueCell.setBorder(Rectangle.BOX);
         valueCell.setBorderColor(INSTITUTIONAL_GOLD);
@@ -320,11 +326,11 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
             Paragraph mostText = new Paragraph();
             mostText.add(new Chunk("🏆 DIRECTOR CON MÁS MODALIDADES: ",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED)));
             mostText.add(new Chunk(summary.getDirectorWithMostModalities() + " ",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, TEXT_BLACK)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 11, TEXT_BLACK)));
             mostText.add(new Chunk("(" + summary.getMaxModalitiesCount() + " modalidades)",
-                    FontFactory.getFont(FontFactory.HELVETICA, 10, INSTITUTIONAL_RED)));
+                    PdfResources.font(FontFactory.HELVETICA, 10, INSTITUTIONAL_RED)));
             mostCell.addElement(mostText);
             mostTable.addCell(mostCell);
 
@@ -344,9 +350,9 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         Paragraph avgText = new Paragraph();
         avgText.add(new Chunk("📊 PROMEDIO DE MODALIDADES POR DIRECTOR: ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED)));
         avgText.add(new Chunk(String.valueOf(summary.getAverageModalitiesPerDirector()),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 14, INSTITUTIONAL_RED)));
         avgCell.addElement(avgText);
         avgTable.addCell(avgCell);
 
@@ -385,14 +391,14 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         // Valor grande
         Paragraph valuePara = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 28, cardColor));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 28, cardColor));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         valuePara.setSpacingAfter(5);
         card.addElement(valuePara);
 
         // Etiqueta
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         card.addElement(labelPara);
 
@@ -414,7 +420,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         Paragraph text = new Paragraph();
         text.add(new Chunk(label + ": ", NORMAL_FONT));
-        text.add(new Chunk(value, FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, cardColor)));
+        text.add(new Chunk(value, PdfResources.font(FontFactory.HELVETICA_BOLD, 16, cardColor)));
         text.setAlignment(Element.ALIGN_CENTER);
         card.addElement(text);
 
@@ -447,10 +453,10 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         Paragraph statusText = new Paragraph();
         statusText.add(new Chunk(statusIcon + " ESTADO GENERAL DE CARGA: ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 13, WHITE)));
         statusText.add(new Chunk(
                 "BALANCED".equals(workload.getOverallWorkloadStatus()) ? "EQUILIBRADA" : "DESEQUILIBRADA",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 13, WHITE)));
         statusCell.addElement(statusText);
         overallTable.addCell(statusCell);
 
@@ -523,7 +529,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         table.addCell(labelCell);
 
         PdfPCell valueCell = new PdfPCell(new Phrase(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED)));
         valueCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         valueCell.setPadding(8);
         table.addCell(valueCell);
@@ -576,7 +582,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         // Cantidad y porcentaje
         PdfPCell countCell = new PdfPCell(new Phrase(count + " (" + String.format("%.1f", percentage) + "%)",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, color)));
         countCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         countCell.setPadding(8);
         table.addCell(countCell);
@@ -612,13 +618,13 @@ public class DirectorAssignedModalitiesPdfGenerator {
             headerCell.setBorder(Rectangle.NO_BORDER);
 
             Paragraph directorName = new Paragraph(director.getFullName(),
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, BaseColor.WHITE));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 14, BaseColor.WHITE));
             directorName.setAlignment(Element.ALIGN_CENTER);
             headerCell.addElement(directorName);
 
             if (director.getAcademicTitle() != null) {
                 Paragraph title = new Paragraph(director.getAcademicTitle(),
-                        FontFactory.getFont(FontFactory.HELVETICA, 10, BaseColor.WHITE));
+                        PdfResources.font(FontFactory.HELVETICA, 10, BaseColor.WHITE));
                 title.setAlignment(Element.ALIGN_CENTER);
                 title.setSpacingBefore(3);
                 headerCell.addElement(title);
@@ -660,7 +666,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
                 if (director.getModalities().size() > maxToShow) {
                     Paragraph moreInfo = new Paragraph(
                             "... y " + (director.getModalities().size() - maxToShow) + " modalidades más.",
-                            FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 9, BaseColor.GRAY));
+                            PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 9, BaseColor.GRAY));
                     moreInfo.setAlignment(Element.ALIGN_CENTER);
                     moreInfo.setSpacingBefore(10);
                     document.add(moreInfo);
@@ -700,12 +706,12 @@ public class DirectorAssignedModalitiesPdfGenerator {
         cell.setBackgroundColor(WHITE);
 
         Paragraph valuePara = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 20, statColor));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 20, statColor));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         cell.addElement(valuePara);
 
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         labelPara.setSpacingBefore(3);
         cell.addElement(labelPara);
@@ -731,7 +737,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         // Título
         Paragraph title = new Paragraph(number + ". " + modality.getModalityTypeName(),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK));
         modalityCell.addElement(title);
 
         // Estudiantes
@@ -748,14 +754,14 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         // Estado
         Paragraph status = new Paragraph("Estado: " + modality.getStatusDescription(),
-                FontFactory.getFont(FontFactory.HELVETICA, 9, INSTITUTIONAL_RED));
+                PdfResources.font(FontFactory.HELVETICA, 9, INSTITUTIONAL_RED));
         status.setSpacingBefore(3);
         modalityCell.addElement(status);
 
         // Observaciones si hay
         if (modality.getObservations() != null && !"Sin observaciones".equals(modality.getObservations())) {
             Paragraph obs = new Paragraph("⚡ " + modality.getObservations(),
-                    FontFactory.getFont(FontFactory.HELVETICA, 8, INSTITUTIONAL_RED));
+                    PdfResources.font(FontFactory.HELVETICA, 8, INSTITUTIONAL_RED));
             obs.setSpacingBefore(3);
             modalityCell.addElement(obs);
         }
@@ -833,12 +839,12 @@ public class DirectorAssignedModalitiesPdfGenerator {
         card.setBackgroundColor(WHITE);
 
         Paragraph valuePara = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 26, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 26, color));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         card.addElement(valuePara);
 
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         labelPara.setSpacingBefore(5);
         card.addElement(labelPara);
@@ -863,7 +869,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         headerCell.setBorder(Rectangle.NO_BORDER);
 
         Paragraph headerText = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, BaseColor.WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, BaseColor.WHITE));
         headerCell.addElement(headerText);
         barTable.addCell(headerCell);
 
@@ -896,7 +902,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         filledCell.setPadding(5);
 
         Paragraph filledText = new Paragraph(count + " modalidades",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, BaseColor.WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, BaseColor.WHITE));
         filledCell.addElement(filledText);
         innerTable.addCell(filledCell);
 
@@ -907,7 +913,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         emptyCell.setPadding(5);
 
         Paragraph percentText = new Paragraph(String.format("%.1f%% del total", percentage),
-                FontFactory.getFont(FontFactory.HELVETICA, 8, color));
+                PdfResources.font(FontFactory.HELVETICA, 8, color));
         emptyCell.addElement(percentText);
         innerTable.addCell(emptyCell);
 
@@ -956,7 +962,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
         }
 
         PdfPCell filledCell = new PdfPCell(new Phrase(String.valueOf(count),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, WHITE)));
         filledCell.setBackgroundColor(color);  // Usar el color institucional pasado como parámetro
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setHorizontalAlignment(Element.ALIGN_CENTER);
@@ -973,7 +979,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         // Porcentaje
         PdfPCell percentCell = new PdfPCell(new Phrase(String.format("%.1f%%", percentage),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, color)));
         percentCell.setBorder(Rectangle.NO_BORDER);
         percentCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
         percentCell.setPadding(5);
@@ -1012,13 +1018,13 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         Paragraph footerText = new Paragraph();
         footerText.add(new Chunk("ℹ NOTA: ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
         footerText.add(new Chunk(
                 "Este reporte fue generado automáticamente por el Sistema SIGMA. " +
                         "Los datos presentados corresponden al programa académico " +
                         report.getAcademicProgramName() + ". " +
                         "Para consultas o asignaciones de directores, contacte con la coordinación del programa.",
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY)));
         footerCell.addElement(footerText);
         footerTable.addCell(footerCell);
 
@@ -1123,7 +1129,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
             String position = (i + 1) + "º";
             Paragraph headerText = new Paragraph(position + " - " + director.getFullName(),
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, BaseColor.WHITE));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 10, BaseColor.WHITE));
             headerCell.addElement(headerText);
             directorBar.addCell(headerCell);
 
@@ -1157,7 +1163,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
             Paragraph barText = new Paragraph(director.getTotalAssignedModalities() + " modalidades (" +
                     director.getActiveModalities() + " activas)",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, BaseColor.WHITE));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 9, BaseColor.WHITE));
             filledCell.addElement(barText);
             innerBar.addCell(filledCell);
 
@@ -1198,12 +1204,12 @@ public class DirectorAssignedModalitiesPdfGenerator {
         ratioCell1.setBackgroundColor(WHITE);
 
         Paragraph ratioLabel1 = new Paragraph("👥 Estudiantes por Director",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY));
         ratioLabel1.setAlignment(Element.ALIGN_CENTER);
         ratioCell1.addElement(ratioLabel1);
 
         Paragraph ratioValue1 = new Paragraph(String.format("%.1f", studentsPerDirector),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 24, INSTITUTIONAL_GOLD));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 24, INSTITUTIONAL_GOLD));
         ratioValue1.setAlignment(Element.ALIGN_CENTER);
         ratioValue1.setSpacingBefore(5);
         ratioCell1.addElement(ratioValue1);
@@ -1221,12 +1227,12 @@ public class DirectorAssignedModalitiesPdfGenerator {
         ratioCell2.setBackgroundColor(WHITE);
 
         Paragraph ratioLabel2 = new Paragraph("📑 Modalidades por Estudiante",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY));
         ratioLabel2.setAlignment(Element.ALIGN_CENTER);
         ratioCell2.addElement(ratioLabel2);
 
         Paragraph ratioValue2 = new Paragraph(String.format("%.2f", modalitiesPerStudent),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 24, INSTITUTIONAL_RED));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 24, INSTITUTIONAL_RED));
         ratioValue2.setAlignment(Element.ALIGN_CENTER);
         ratioValue2.setSpacingBefore(5);
         ratioCell2.addElement(ratioValue2);
@@ -1297,13 +1303,13 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         // Etiqueta
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, color));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         box.addElement(labelPara);
 
         // Cantidad grande
         Paragraph countPara = new Paragraph(String.valueOf(count),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 32, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 32, color));
         countPara.setAlignment(Element.ALIGN_CENTER);
         countPara.setSpacingBefore(5);
         countPara.setSpacingAfter(5);
@@ -1312,13 +1318,13 @@ public class DirectorAssignedModalitiesPdfGenerator {
         // Porcentaje
         double percentage = total > 0 ? ((double) count / total * 100) : 0;
         Paragraph percentPara = new Paragraph(String.format("%.1f%%", percentage),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, color));
         percentPara.setAlignment(Element.ALIGN_CENTER);
         box.addElement(percentPara);
 
         // Descripción
         Paragraph descPara = new Paragraph(description,
-                FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 7, TEXT_GRAY));
         descPara.setAlignment(Element.ALIGN_CENTER);
         descPara.setSpacingBefore(3);
         box.addElement(descPara);
@@ -1388,7 +1394,7 @@ public class DirectorAssignedModalitiesPdfGenerator {
 
         // Valor
         PdfPCell valueCell = new PdfPCell(new Phrase(count + " (" + String.format("%.0f", percentage) + "%)",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, color)));
         valueCell.setBorder(Rectangle.NO_BORDER);
         valueCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         valueCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
@@ -1408,51 +1414,5 @@ public class DirectorAssignedModalitiesPdfGenerator {
         addSpacingParagraph(document, 6f);
     }
 
-    /**
-     * Clase para manejar el pie de página institucional.
-     */
-    private static class PageEventHelper extends PdfPageEventHelper {
-        private final DirectorAssignedModalitiesReportDTO report;
-
-        private static final BaseColor INSTITUTIONAL_GOLD = new BaseColor(213, 203, 160);
-        private static final BaseColor INSTITUTIONAL_RED  = new BaseColor(143, 30, 30);
-        private static final BaseColor TEXT_GRAY          = new BaseColor(80, 80, 80);
-
-        public PageEventHelper(DirectorAssignedModalitiesReportDTO report) {
-            this.report = report;
-        }
-
-        @Override
-        public void onEndPage(PdfWriter writer, Document document) {
-            PdfContentByte cb = writer.getDirectContent();
-
-            float left   = document.leftMargin();
-            float right  = document.right();
-            float bottom = document.bottom() - 15f;
-
-            // Línea dorada encima del pie
-            cb.setLineWidth(1f);
-            cb.setColorStroke(INSTITUTIONAL_GOLD);
-            cb.moveTo(left, bottom + 10f);
-            cb.lineTo(right, bottom + 10f);
-            cb.stroke();
-
-            // Sistema — izquierda
-            Phrase systemPhrase = new Phrase("SIGMA — Universidad Surcolombiana",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, INSTITUTIONAL_RED));
-            ColumnText.showTextAligned(cb, Element.ALIGN_LEFT, systemPhrase, left, bottom, 0);
-
-            // Programa — centro
-            Phrase centerPhrase = new Phrase(report.getAcademicProgramName(),
-                    FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
-            ColumnText.showTextAligned(cb, Element.ALIGN_CENTER, centerPhrase,
-                    (left + right) / 2f, bottom, 0);
-
-            // Número de página — derecha
-            Phrase pagePhrase = new Phrase("Pág. " + writer.getPageNumber(),
-                    FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY));
-            ColumnText.showTextAligned(cb, Element.ALIGN_RIGHT, pagePhrase, right, bottom, 0);
-        }
-    }
 }
 
@@ -0,0 +1,56 @@
+package com.SIGMA.USCO.report.service;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.FontFactory;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.ColumnText;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfPageEventHelper;
+import com.itextpdf.text.pdf.PdfWriter;
+
+/**
+ * Pie de página institucional de los reportes PDF:
+ * línea dorada, "SIGMA — Universidad Surcolombiana" a la izquierda,
+ * un texto central (normalmente el programa académico) y el número de página a la derecha.
+ */
+public class InstitutionalFooterEvent extends PdfPageEventHelper {
+
+    private final String centerText;
+
+    public InstitutionalFooterEvent(String centerText) {
+        this.centerText = centerText != null ? centerText : "";
+    }
+
+    @Override
+    public void onEndPage(PdfWriter writer, Document document) {
+        PdfContentByte cb = writer.getDirectContent();
+
+        float left   = document.leftMargin();
+        float right  = document.right();
+        float bottom = document.bottom() - 15f;
+
+        // Línea dorada encima del pie
+        cb.setLineWidth(1f);
+        cb.setColorStroke(InstitutionalPdfHeader.INST_GOLD);
+        cb.moveTo(left, bottom + 10f);
+        cb.lineTo(right, bottom + 10f);
+        cb.stroke();
+
+        // Sistema — izquierda
+        Phrase systemPhrase = new Phrase("SIGMA — Universidad Surcolombiana",
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, InstitutionalPdfHeader.INST_RED));
+        ColumnText.showTextAligned(cb, Element.ALIGN_LEFT, systemPhrase, left, bottom, 0);
+
+        // Texto central
+        Phrase centerPhrase = new Phrase(centerText,
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, InstitutionalPdfHeader.TEXT_GRAY));
+        ColumnText.showTextAligned(cb, Element.ALIGN_CENTER, centerPhrase,
+                (left + right) / 2f, bottom, 0);
+
+        // Número de página — derecha
+        Phrase pagePhrase = new Phrase("Pág. " + writer.getPageNumber(),
+                PdfResources.font(FontFactory.HELVETICA, 8, InstitutionalPdfHeader.TEXT_GRAY));
+        ColumnText.showTextAligned(cb, Element.ALIGN_RIGHT, pagePhrase, right, bottom, 0);
+    }
+}
@@ -3,11 +3,7 @@ package com.SIGMA.USCO.report.service;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
 
-import java.io.InputStream;
 
 /**
  * Utilidad compartida para generar el encabezado institucional USCO
@@ -21,8 +17,6 @@ import java.io.InputStream;
  */
 public class InstitutionalPdfHeader {
 
-    private static final Logger log = LoggerFactory.getLogger(InstitutionalPdfHeader.class);
-
     // ── Paleta institucional ──────────────────────────────────────────────────
     static final BaseColor INST_RED  = new BaseColor(143, 30, 30);
     static final BaseColor INST_GOLD = new BaseColor(213, 203, 160);
@@ -32,10 +26,10 @@ public class InstitutionalPdfHeader {
     static final BaseColor WHITE      = BaseColor.WHITE;
 
     // ── Fuentes reutilizables ─────────────────────────────────────────────────
-    static final Font FONT_UNIV   = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13f, INST_RED);
-    static final Font FONT_FAC    = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11f, new BaseColor(60, 60, 60));
-    static final Font FONT_PROG   = FontFactory.getFont(FontFactory.HELVETICA,       10f, new BaseColor(60, 60, 60));
-    static final Font FONT_SLOGAN = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8f, new BaseColor(110, 110, 110));
+    static final Font FONT_UNIV   = PdfResources.font(FontFactory.HELVETICA_BOLD, 13f, INST_RED);
+    static final Font FONT_FAC    = PdfResources.font(FontFactory.HELVETICA_BOLD, 11f, new BaseColor(60, 60, 60));
+    static final Font FONT_PROG   = PdfResources.font(FontFactory.HELVETICA,       10f, new BaseColor(60, 60, 60));
+    static final Font FONT_SLOGAN = PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8f, new BaseColor(110, 110, 110));
 
     private InstitutionalPdfHeader() {
         // Clase utilitaria - no instanciar
@@ -67,17 +61,12 @@ public class InstitutionalPdfHeader {
         logoCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
         logoCell.setPadding(2f);
 
-        try {
-            ClassPathResource logoResource = new ClassPathResource("templates/logo ingenieria.png");
-            try (InputStream logoStream = logoResource.getInputStream()) {
-                byte[] logoBytes = logoStream.readAllBytes();
-                Image logo = Image.getInstance(logoBytes);
-                logo.scaleToFit(90f, 70f);
-                logo.setAlignment(Element.ALIGN_CENTER);
-                logoCell.addElement(logo);
-            }
-        } catch (Exception e) {
-            log.warn("No se pudo cargar el logo institucional: {}", e.getMessage());
+        Image logo = PdfResources.institutionalLogo();
+        if (logo != null) {
+            logo.scaleToFit(90f, 70f);
+            logo.setAlignment(Element.ALIGN_CENTER);
+            logoCell.addElement(logo);
+        } else {
             logoCell.addElement(new Paragraph(" ", FONT_PROG));
         }
         headerTable.addCell(logoCell);
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
@@ -30,16 +31,16 @@ public class ModalityComparisonPdfGenerator {
     private static final BaseColor WHITE              = BaseColor.WHITE;
 
     // ── Fuentes ───────────────────────────────────────────────────────────────
-    private static final Font TITLE_FONT        = FontFactory.getFont(FontFactory.HELVETICA_BOLD,  20, INSTITUTIONAL_RED);
-    private static final Font SECTION_FONT      = FontFactory.getFont(FontFactory.HELVETICA_BOLD,  12, INSTITUTIONAL_RED);
-    private static final Font SUBHEADER_FONT    = FontFactory.getFont(FontFactory.HELVETICA_BOLD,  11, INSTITUTIONAL_RED);
-    private static final Font BOLD_FONT         = FontFactory.getFont(FontFactory.HELVETICA_BOLD,  10, TEXT_BLACK);
-    private static final Font NORMAL_FONT       = FontFactory.getFont(FontFactory.HELVETICA,        10, TEXT_BLACK);
-    private static final Font SMALL_FONT        = FontFactory.getFont(FontFactory.HELVETICA,         9, TEXT_GRAY);
-    private static final Font TINY_FONT         = FontFactory.getFont(FontFactory.HELVETICA,         8, TEXT_GRAY);
-    private static final Font HEADER_TABLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD,  10, WHITE);
-    private static final Font INFO_LABEL_FONT   = FontFactory.getFont(FontFactory.HELVETICA_BOLD,   9, TEXT_GRAY);
-    private static final Font INFO_VALUE_FONT   = FontFactory.getFont(FontFactory.HELVETICA,         9, TEXT_BLACK);
+    private static final Font TITLE_FONT        = PdfResources.font(FontFactory.HELVETICA_BOLD,  20, INSTITUTIONAL_RED);
+    private static final Font SECTION_FONT      = PdfResources.font(FontFactory.HELVETICA_BOLD,  12, INSTITUTIONAL_RED);
+    private static final Font SUBHEADER_FONT    = PdfResources.font(FontFactory.HELVETICA_BOLD,  11, INSTITUTIONAL_RED);
+    private static final Font BOLD_FONT         = PdfResources.font(FontFactory.HELVETICA_BOLD,  10, TEXT_BLACK);
+    private static final Font NORMAL_FONT       = PdfResources.font(FontFactory.HELVETICA,        10, TEXT_BLACK);
+    private static final Font SMALL_FONT        = PdfResources.font(FontFactory.HELVETICA,         9, TEXT_GRAY);
+    private static final Font TINY_FONT         = PdfResources.font(FontFactory.HELVETICA,         8, TEXT_GRAY);
+    private static final Font HEADER_TABLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD,  10, WHITE);
+    private static final Font INFO_LABEL_FONT   = PdfResources.font(FontFactory.HELVETICA_BOLD,   9, TEXT_GRAY);
+    private static final Font INFO_VALUE_FONT   = PdfResources.font(FontFactory.HELVETICA,         9, TEXT_BLACK);
 
     private static final DateTimeFormatter DATE_FULL    = DateTimeFormatter.ofPattern("dd 'de' MMMM 'de' yyyy, HH:mm");
     private static final DateTimeFormatter DATE_COMPACT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
@@ -50,10 +51,17 @@ public class ModalityComparisonPdfGenerator {
 
     public ByteArrayOutputStream generatePDF(ModalityTypeComparisonReportDTO report)
             throws DocumentException, IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePDF(report, outputStream);
+        return outputStream;
+    }
+
+    public void generatePDF(ModalityTypeComparisonReportDTO report, OutputStream outputStream)
+            throws DocumentException, IOException {
 
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
         Document document = new Document(PageSize.A4, 50, 50, 50, 50);
-        PdfWriter writer = PdfWriter.getInstance(document, out);
+        PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
         writer.setPageEvent(new PageEventHelper(report));
         document.open();
 
@@ -109,7 +117,6 @@ public class ModalityComparisonPdfGenerator {
         addFooterSection(document, report);
 
         document.close();
-        return out;
     }
 
     // =========================================================================
@@ -144,13 +151,13 @@ public class ModalityComparisonPdfGenerator {
 
         Paragraph titlePara = new Paragraph(
                 "REPORTE COMPARATIVO DE\nMODALIDADES POR TIPO DE GRADO",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 18, WHITE));
         titlePara.setAlignment(Element.ALIGN_CENTER);
         titleCell.addElement(titlePara);
 
         Paragraph progPara = new Paragraph(
                 report.getAcademicProgramName().toUpperCase(),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_GOLD));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_GOLD));
         progPara.setAlignment(Element.ALIGN_CENTER);
         progPara.setSpacingBefore(8f);
         titleCell.addElement(progPara);
@@ -160,7 +167,7 @@ public class ModalityComparisonPdfGenerator {
                     + (report.getSemester() != null ? " — Semestre " + report.getSemester() : "");
             Paragraph periodPara = new Paragraph(
                     periodo,
-                    FontFactory.getFont(FontFactory.HELVETICA, 10, INSTITUTIONAL_GOLD));
+                    PdfResources.font(FontFactory.HELVETICA, 10, INSTITUTIONAL_GOLD));
             periodPara.setAlignment(Element.ALIGN_CENTER);
             periodPara.setSpacingBefore(4f);
             titleCell.addElement(periodPara);
@@ -197,7 +204,7 @@ public class ModalityComparisonPdfGenerator {
         Paragraph footer = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n"
                         + "Universidad Surcolombiana",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         footer.setAlignment(Element.ALIGN_CENTER);
         document.add(footer);
 
@@ -241,10 +248,10 @@ public class ModalityComparisonPdfGenerator {
         leftCell.setPaddingBottom(4f);
 
         Paragraph univ = new Paragraph("UNIVERSIDAD SURCOLOMBIANA — SIGMA",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, INSTITUTIONAL_RED));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, INSTITUTIONAL_RED));
         leftCell.addElement(univ);
         Paragraph prog = new Paragraph(report.getAcademicProgramName(),
-                FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 7, TEXT_GRAY));
         leftCell.addElement(prog);
         strip.addCell(leftCell);
 
@@ -257,7 +264,7 @@ public class ModalityComparisonPdfGenerator {
 
         Paragraph dateP = new Paragraph(
                 "Reporte Comparativo — " + report.getGeneratedAt().format(DATE_COMPACT),
-                FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 7, TEXT_GRAY));
         dateP.setAlignment(Element.ALIGN_RIGHT);
         rightCell.addElement(dateP);
         strip.addCell(rightCell);
@@ -383,7 +390,7 @@ public class ModalityComparisonPdfGenerator {
             headerCell.setBorder(Rectangle.NO_BORDER);
             headerCell.addElement(new Paragraph(
                     (i + 1) + ". " + stat.getModalityTypeName(),
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 12, WHITE)));
             typeHeader.addCell(headerCell);
             document.add(typeHeader);
 
@@ -482,9 +489,9 @@ public class ModalityComparisonPdfGenerator {
 
                 Paragraph tPara = new Paragraph();
                 tPara.add(new Chunk(tIcon + " Tendencia: ",
-                        FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, tColor)));
+                        PdfResources.font(FontFactory.HELVETICA_BOLD, 9, tColor)));
                 tPara.add(new Chunk(tText,
-                        FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, tColor)));
+                        PdfResources.font(FontFactory.HELVETICA_BOLD, 9, tColor)));
                 tCell.addElement(tPara);
                 trendBox.addCell(tCell);
                 document.add(trendBox);
@@ -526,7 +533,7 @@ public class ModalityComparisonPdfGenerator {
             hdrCell.setPadding(6f);
             hdrCell.setBorder(Rectangle.NO_BORDER);
             hdrCell.addElement(new Paragraph(entry.getKey(),
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 10, WHITE)));
             barContainer.addCell(hdrCell);
 
             // Barra de distribución
@@ -540,7 +547,7 @@ public class ModalityComparisonPdfGenerator {
 
             PdfPCell filled = new PdfPCell(new Phrase(
                     entry.getValue() + " estudiantes",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 10, WHITE)));
             filled.setBackgroundColor(INSTITUTIONAL_GOLD);
             filled.setBorder(Rectangle.NO_BORDER);
             filled.setPadding(8f);
@@ -549,7 +556,7 @@ public class ModalityComparisonPdfGenerator {
             double pct = (double) entry.getValue() / totalStudents * 100;
             PdfPCell empty = new PdfPCell(new Phrase(
                     String.format("%.1f%% del total", pct),
-                    FontFactory.getFont(FontFactory.HELVETICA, 9, INSTITUTIONAL_RED)));
+                    PdfResources.font(FontFactory.HELVETICA, 9, INSTITUTIONAL_RED)));
             empty.setBackgroundColor(LIGHT_GOLD);
             empty.setBorder(Rectangle.NO_BORDER);
             empty.setPadding(8f);
@@ -576,7 +583,7 @@ public class ModalityComparisonPdfGenerator {
         totalCell.setPadding(10f);
         totalCell.setBorder(Rectangle.NO_BORDER);
         Paragraph totalPara = new Paragraph("TOTAL DE ESTUDIANTES: " + totalStudents,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, WHITE));
         totalPara.setAlignment(Element.ALIGN_CENTER);
         totalCell.addElement(totalPara);
         totalBox.addCell(totalCell);
@@ -639,7 +646,7 @@ public class ModalityComparisonPdfGenerator {
             }
 
             PdfPCell effCell = new PdfPCell(new Phrase(effText,
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, effColor)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 10, effColor)));
             effCell.setHorizontalAlignment(Element.ALIGN_CENTER);
             effCell.setBackgroundColor(rowBg);
             effCell.setPadding(8f);
@@ -664,7 +671,7 @@ public class ModalityComparisonPdfGenerator {
             addSummaryRow(sumEff, "Tipo más eficiente:",
                     mostEfficient.getModalityTypeName()
                             + " (" + String.format("%.2f", mostEfficient.getAverageStudentsPerModality()) + ")",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, new BaseColor(76, 175, 80)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 10, new BaseColor(76, 175, 80)));
         }
         document.add(sumEff);
     }
@@ -696,9 +703,9 @@ public class ModalityComparisonPdfGenerator {
                 int stu = p.getStudentsByType().getOrDefault(typeName, 0);
                 Phrase ph = new Phrase();
                 ph.add(new Chunk(cnt + " modalidades\n",
-                        FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9)));
+                        PdfResources.font(FontFactory.HELVETICA_BOLD, 9)));
                 ph.add(new Chunk(stu + " estudiantes",
-                        FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY)));
+                        PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY)));
                 PdfPCell dc = new PdfPCell(ph);
                 dc.setHorizontalAlignment(Element.ALIGN_CENTER);
                 dc.setPadding(5f);
@@ -716,9 +723,9 @@ public class ModalityComparisonPdfGenerator {
         for (ModalityTypeComparisonReportDTO.PeriodComparisonDTO p : periods) {
             Phrase ph = new Phrase();
             ph.add(new Chunk(p.getTotalModalitiesInPeriod() + " modalidades\n",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 9, WHITE)));
             ph.add(new Chunk(p.getTotalStudentsInPeriod() + " estudiantes",
-                    FontFactory.getFont(FontFactory.HELVETICA, 8, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA, 8, WHITE)));
             PdfPCell tc = new PdfPCell(ph);
             tc.setBackgroundColor(INSTITUTIONAL_RED);
             tc.setHorizontalAlignment(Element.ALIGN_CENTER);
@@ -753,9 +760,9 @@ public class ModalityComparisonPdfGenerator {
         trendCell.setBorder(Rectangle.NO_BORDER);
         Paragraph tP = new Paragraph();
         tP.add(new Chunk(tIcon + " TENDENCIA GENERAL: ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 14, WHITE)));
         tP.add(new Chunk(getTrendLabel(trends.getOverallTrend()),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 14, WHITE)));
         trendCell.addElement(tP);
         overallBox.addCell(trendCell);
         document.add(overallBox);
@@ -826,14 +833,14 @@ public class ModalityComparisonPdfGenerator {
 
         Paragraph noteText = new Paragraph();
         noteText.add(new Chunk("NOTA: ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, TEXT_GRAY)));
         noteText.add(new Chunk(
                 "Este reporte fue generado automáticamente por el Sistema SIGMA. "
                         + "Los datos corresponden al programa académico "
                         + report.getAcademicProgramName()
                         + " y están filtrados según los criterios especificados. "
                         + "Para consultas o análisis adicionales, contacte con la coordinación del programa.",
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY)));
         noteCell.addElement(noteText);
         noteBox.addCell(noteCell);
         document.add(noteBox);
@@ -842,7 +849,7 @@ public class ModalityComparisonPdfGenerator {
         Paragraph pie = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n"
                         + "Universidad Surcolombiana · Facultad de Ingeniería",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         pie.setAlignment(Element.ALIGN_CENTER);
         document.add(pie);
     }
@@ -882,7 +889,7 @@ public class ModalityComparisonPdfGenerator {
         c.setBorderColor(borderColor);
         c.setBorderWidth(borderWidth);
         c.addElement(new Paragraph(text,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, borderColor)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, borderColor)));
         t.addCell(c);
         document.add(t);
     }
@@ -896,13 +903,13 @@ public class ModalityComparisonPdfGenerator {
         card.setBackgroundColor(WHITE);
 
         Paragraph valP = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 26, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 26, color));
         valP.setAlignment(Element.ALIGN_CENTER);
         valP.setSpacingAfter(4f);
         card.addElement(valP);
 
         Paragraph lblP = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY));
         lblP.setAlignment(Element.ALIGN_CENTER);
         card.addElement(lblP);
         table.addCell(card);
@@ -918,13 +925,13 @@ public class ModalityComparisonPdfGenerator {
         card.setBackgroundColor(bgColor);
 
         Paragraph lblP = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY));
         lblP.setAlignment(Element.ALIGN_CENTER);
         lblP.setSpacingAfter(5f);
         card.addElement(lblP);
 
         Paragraph valP = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13, valueColor));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 13, valueColor));
         valP.setAlignment(Element.ALIGN_CENTER);
         card.addElement(valP);
         table.addCell(card);
@@ -975,7 +982,7 @@ public class ModalityComparisonPdfGenerator {
         try { bar.setWidths(new float[]{barW, emptyW}); } catch (DocumentException ignored) {}
 
         PdfPCell filled = new PdfPCell(new Phrase(text,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, WHITE)));
         filled.setBackgroundColor(color);
         filled.setBorder(Rectangle.NO_BORDER);
         filled.setPadding(5f);
@@ -985,7 +992,7 @@ public class ModalityComparisonPdfGenerator {
 
         PdfPCell empty = new PdfPCell(new Phrase(
                 String.format("%.0f%%", percentage),
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY)));
         empty.setBackgroundColor(LIGHT_GOLD);
         empty.setBorder(Rectangle.NO_BORDER);
         empty.setPadding(5f);
@@ -1063,7 +1070,7 @@ public class ModalityComparisonPdfGenerator {
 
         PdfPCell empty = new PdfPCell(new Phrase(
                 " " + String.format("%.1f%%", pct),
-                FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 7, TEXT_GRAY)));
         empty.setBackgroundColor(new BaseColor(240, 240, 240));
         empty.setBorder(Rectangle.NO_BORDER);
         empty.setMinimumHeight(10f);
@@ -1081,7 +1088,7 @@ public class ModalityComparisonPdfGenerator {
         cell.setBorderColor(INSTITUTIONAL_GOLD);
         cell.setBorderWidth(0.5f);
         cell.addElement(new Paragraph(text,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, textColor)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, textColor)));
         if (total > 0) {
             float pct = (float) value / total * 100;
             cell.addElement(createMiniProgressBar(pct, textColor));
@@ -1098,12 +1105,12 @@ public class ModalityComparisonPdfGenerator {
         cell.setBorderWidth(0.5f);
 
         Paragraph lblP = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY));
         lblP.setAlignment(Element.ALIGN_CENTER);
         cell.addElement(lblP);
 
         Paragraph valP = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11, INSTITUTIONAL_RED));
         valP.setAlignment(Element.ALIGN_CENTER);
         valP.setSpacingBefore(2f);
         cell.addElement(valP);
@@ -1221,7 +1228,7 @@ public class ModalityComparisonPdfGenerator {
 
         private final ModalityTypeComparisonReportDTO report;
         private static final Font FOOTER_FONT =
-                FontFactory.getFont(FontFactory.HELVETICA, 7, new BaseColor(80, 80, 80));
+                PdfResources.font(FontFactory.HELVETICA, 7, new BaseColor(80, 80, 80));
 
         PageEventHelper(ModalityTypeComparisonReportDTO report) {
             this.report = report;
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
@@ -27,25 +28,32 @@ public class ModalityHistoricalPdfGenerator {
     private static final BaseColor TEXT_GRAY = new BaseColor(80, 80, 80); // Texto secundario
 
     // Fuentes con colores institucionales
-    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 22, INSTITUTIONAL_RED);
-    private static final Font SUBTITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED);
-    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15, INSTITUTIONAL_RED);
-    private static final Font SUBHEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED);
-    private static final Font BOLD_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
-    private static final Font NORMAL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_BLACK);
-    private static final Font SMALL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY);
-    private static final Font TINY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY);
-    private static final Font HEADER_TABLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, WHITE);
+    private static final Font TITLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 22, INSTITUTIONAL_RED);
+    private static final Font SUBTITLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED);
+    private static final Font HEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 15, INSTITUTIONAL_RED);
+    private static final Font SUBHEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED);
+    private static final Font BOLD_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
+    private static final Font NORMAL_FONT = PdfResources.font(FontFactory.HELVETICA, 10, TEXT_BLACK);
+    private static final Font SMALL_FONT = PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY);
+    private static final Font TINY_FONT = PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY);
+    private static final Font HEADER_TABLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 10, WHITE);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
     private static final DateTimeFormatter SIMPLE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     public ByteArrayOutputStream generatePDF(ModalityHistoricalReportDTO report)
             throws DocumentException, IOException {
-
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePDF(report, outputStream);
+        return outputStream;
+    }
+
+    public void generatePDF(ModalityHistoricalReportDTO report, OutputStream outputStream)
+            throws DocumentException, IOException {
+
         Document document = new Document(PageSize.A4, 50, 50, 50, 50);
         PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
 
         // Agregar eventos de página (encabezado y pie de página)
         HistoricalPageEventHelper pageEvent = new HistoricalPageEventHelper(report);
@@ -108,7 +116,6 @@ public class ModalityHistoricalPdfGenerator {
         addFooterSection(document);
 
         document.close();
-        return outputStream;
     }
 
     /**
@@ -123,7 +130,7 @@ public class ModalityHistoricalPdfGenerator {
 
         PdfPCell leftCell = new PdfPCell(new Phrase(
                 "UNIVERSIDAD SURCOLOMBIANA — SIGMA",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
         leftCell.setBorder(Rectangle.BOTTOM);
         leftCell.setBorderColorBottom(INSTITUTIONAL_RED);
         leftCell.setBorderWidthBottom(1.5f);
@@ -135,7 +142,7 @@ public class ModalityHistoricalPdfGenerator {
                 : "Análisis Histórico";
         PdfPCell rightCell = new PdfPCell(new Phrase(
                 rightText,
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
         rightCell.setBorder(Rectangle.BOTTOM);
         rightCell.setBorderColorBottom(INSTITUTIONAL_GOLD);
         rightCell.setBorderWidthBottom(1.5f);
@@ -169,7 +176,7 @@ public class ModalityHistoricalPdfGenerator {
                 "a partir de los datos académicos registrados. Las proyecciones son estimaciones " +
                 "basadas en tendencias históricas y deben complementarse con juicio profesional " +
                 "y el contexto actual del programa académico.",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         note.setAlignment(Element.ALIGN_JUSTIFIED);
         noteCell.addElement(note);
         noteTable.addCell(noteCell);
@@ -179,7 +186,7 @@ public class ModalityHistoricalPdfGenerator {
         Paragraph closing = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n" +
                 "Universidad Surcolombiana | Facultad de Ingeniería | Neiva – Huila",
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY));
         closing.setAlignment(Element.ALIGN_CENTER);
         document.add(closing);
     }
@@ -214,14 +221,14 @@ public class ModalityHistoricalPdfGenerator {
         titleCell.setBorder(Rectangle.NO_BORDER);
 
         Paragraph titlePara = new Paragraph("ANÁLISIS HISTÓRICO DE MODALIDAD DE GRADO",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 16, WHITE));
         titlePara.setAlignment(Element.ALIGN_CENTER);
         titleCell.addElement(titlePara);
 
         if (report.getModalityInfo() != null) {
             Paragraph modalityPara = new Paragraph(
                     report.getModalityInfo().getModalityName().toUpperCase(),
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_GOLD));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_GOLD));
             modalityPara.setAlignment(Element.ALIGN_CENTER);
             modalityPara.setSpacingBefore(6f);
             titleCell.addElement(modalityPara);
@@ -229,7 +236,7 @@ public class ModalityHistoricalPdfGenerator {
 
         Paragraph programPara = new Paragraph(
                 report.getAcademicProgramName() != null ? report.getAcademicProgramName() : "",
-                FontFactory.getFont(FontFactory.HELVETICA, 10, new BaseColor(220, 220, 220)));
+                PdfResources.font(FontFactory.HELVETICA, 10, new BaseColor(220, 220, 220)));
         programPara.setAlignment(Element.ALIGN_CENTER);
         programPara.setSpacingBefore(4f);
         titleCell.addElement(programPara);
@@ -270,7 +277,7 @@ public class ModalityHistoricalPdfGenerator {
                 "Este reporte presenta un análisis detallado de la evolución histórica de la modalidad,\n" +
                 "incluyendo tendencias, estadísticas comparativas, desempeño y proyecciones futuras.\n" +
                 "La información es generada automáticamente por el sistema SIGMA.",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         footer.setAlignment(Element.ALIGN_CENTER);
         document.add(footer);
     }
@@ -278,7 +285,7 @@ public class ModalityHistoricalPdfGenerator {
     /** Fila de portada con etiqueta en fondo dorado claro y valor en blanco. */
     private void addCoverInfoRow(PdfPTable table, String label, String value) {
         PdfPCell labelCell = new PdfPCell(new Phrase(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, TEXT_GRAY)));
         labelCell.setBackgroundColor(LIGHT_GOLD);
         labelCell.setPadding(7f);
         labelCell.setBorder(Rectangle.BOX);
@@ -287,7 +294,7 @@ public class ModalityHistoricalPdfGenerator {
         table.addCell(labelCell);
 
         PdfPCell valueCell = new PdfPCell(new Phrase(value != null ? value : "—",
-                FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA, 9, TEXT_BLACK)));
         valueCell.setBackgroundColor(WHITE);
         valueCell.setPadding(7f);
         valueCell.setBorder(Rectangle.BOX);
@@ -595,7 +602,7 @@ public class ModalityHistoricalPdfGenerator {
 
         // Parte coloreada
         PdfPCell filledCell = new PdfPCell(new Phrase(String.valueOf(value),
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 8, WHITE)));
         filledCell.setBackgroundColor(INSTITUTIONAL_RED);  // Barra con color institucional rojo
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setPadding(3);
@@ -649,9 +656,9 @@ public class ModalityHistoricalPdfGenerator {
         String trendIcon = getTrendIcon(trends.getOverallTrend());
         Paragraph trendText = new Paragraph();
         trendText.add(new Chunk(trendIcon + " TENDENCIA GENERAL: ",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 14, WHITE)));
         trendText.add(new Chunk(translateTrend(trends.getOverallTrend()),
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 16, WHITE)));
 
         trendText.setAlignment(Element.ALIGN_CENTER);
         trendCell.addElement(trendText);
@@ -778,7 +785,7 @@ public class ModalityHistoricalPdfGenerator {
         if (comparison.getVerdict() != null) {
             Paragraph verdict = new Paragraph(
                 "Veredicto: " + translateVerdict(comparison.getVerdict()),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11,
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11,
                     getVerdictColor(comparison.getVerdict()))
             );
             verdict.setAlignment(Element.ALIGN_CENTER);
@@ -974,9 +981,9 @@ public class ModalityHistoricalPdfGenerator {
 
         Paragraph verdictText = new Paragraph();
         verdictText.add(new Chunk("CALIFICACIÓN DE DESEMPEÑO: ",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 13, WHITE)));
         verdictText.add(new Chunk(translatePerformanceVerdict(perf.getPerformanceVerdict()),
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 15, WHITE)));
         verdictText.setAlignment(Element.ALIGN_CENTER);
 
         verdictCell.addElement(verdictText);
@@ -1020,7 +1027,7 @@ public class ModalityHistoricalPdfGenerator {
             com.itextpdf.text.List strengthList = new com.itextpdf.text.List(com.itextpdf.text.List.UNORDERED);
             strengthList.setIndentationLeft(20);
             strengthList.setListSymbol(new Chunk("✓ ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_GOLD)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_GOLD)));
 
             for (String strength : perf.getStrengthPoints()) {
                 ListItem item = new ListItem(strength, NORMAL_FONT);
@@ -1039,7 +1046,7 @@ public class ModalityHistoricalPdfGenerator {
             com.itextpdf.text.List improvementList = new com.itextpdf.text.List(com.itextpdf.text.List.UNORDERED);
             improvementList.setIndentationLeft(20);
             improvementList.setListSymbol(new Chunk("! ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED)));
 
             for (String improvement : perf.getImprovementAreas()) {
                 ListItem item = new ListItem(improvement, NORMAL_FONT);
@@ -1111,7 +1118,7 @@ public class ModalityHistoricalPdfGenerator {
             com.itextpdf.text.List oppList = new com.itextpdf.text.List(com.itextpdf.text.List.UNORDERED);
             oppList.setIndentationLeft(20);
             oppList.setListSymbol(new Chunk("⚈ ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, INSTITUTIONAL_GOLD)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, INSTITUTIONAL_GOLD)));
 
             for (String opportunity : proj.getOpportunities()) {
                 ListItem item = new ListItem(opportunity, NORMAL_FONT);
@@ -1130,7 +1137,7 @@ public class ModalityHistoricalPdfGenerator {
             com.itextpdf.text.List riskList = new com.itextpdf.text.List(com.itextpdf.text.List.UNORDERED);
             riskList.setIndentationLeft(20);
             riskList.setListSymbol(new Chunk("⚠ ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, INSTITUTIONAL_RED)));
 
             for (String risk : proj.getRisks()) {
                 ListItem item = new ListItem(risk, NORMAL_FONT);
@@ -1189,11 +1196,11 @@ public class ModalityHistoricalPdfGenerator {
 
         Paragraph content = new Paragraph();
         content.add(new Chunk(value + "\n",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 20, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 20, WHITE)));
         content.add(new Chunk(unit + "\n",
-            FontFactory.getFont(FontFactory.HELVETICA, 9, new BaseColor(230, 230, 230))));
+            PdfResources.font(FontFactory.HELVETICA, 9, new BaseColor(230, 230, 230))));
         content.add(new Chunk(label,
-            FontFactory.getFont(FontFactory.HELVETICA, 10, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA, 10, WHITE)));
         content.setAlignment(Element.ALIGN_CENTER);
 
         cell.addElement(content);
@@ -1222,9 +1229,9 @@ public class ModalityHistoricalPdfGenerator {
 
         Paragraph content = new Paragraph();
         content.add(new Chunk(value + "\n",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 14, WHITE)));
         content.add(new Chunk(label,
-            FontFactory.getFont(FontFactory.HELVETICA, 9, new BaseColor(240, 240, 240))));
+            PdfResources.font(FontFactory.HELVETICA, 9, new BaseColor(240, 240, 240))));
         content.setAlignment(Element.ALIGN_CENTER);
 
         cell.addElement(content);
@@ -1304,7 +1311,7 @@ public class ModalityHistoricalPdfGenerator {
         Paragraph content = new Paragraph();
         content.add(new Chunk(title + "\n", SUBHEADER_FONT));
         content.add(new Chunk(value,
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED)));
         content.setAlignment(Element.ALIGN_CENTER);
 
         cell.addElement(content);
@@ -1364,7 +1371,7 @@ public class ModalityHistoricalPdfGenerator {
         cell.setBorder(Rectangle.NO_BORDER);
 
         Paragraph p = new Paragraph(text,
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, WHITE));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 10, WHITE));
         p.setAlignment(Element.ALIGN_CENTER);
         cell.setPhrase(new Phrase(p));
 
@@ -1387,7 +1394,7 @@ public class ModalityHistoricalPdfGenerator {
      */
     private void addTableHeaderCell(PdfPTable table, String text) {
         PdfPCell cell = new PdfPCell(new Phrase(text,
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 9, WHITE)));
         cell.setPadding(8);
         cell.setBackgroundColor(INSTITUTIONAL_GOLD);
         cell.setHorizontalAlignment(Element.ALIGN_CENTER);
@@ -1487,20 +1494,20 @@ public class ModalityHistoricalPdfGenerator {
 
         // Icono
         Paragraph iconPara = new Paragraph(icon,
-                FontFactory.getFont(FontFactory.HELVETICA, 20, color));
+                PdfResources.font(FontFactory.HELVETICA, 20, color));
         iconPara.setAlignment(Element.ALIGN_CENTER);
         card.addElement(iconPara);
 
         // Valor grande
         Paragraph valuePara = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 22, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 22, color));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         valuePara.setSpacingBefore(3);
         card.addElement(valuePara);
 
         // Etiqueta
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         labelPara.setSpacingBefore(3);
         card.addElement(labelPara);
@@ -1574,9 +1581,9 @@ public class ModalityHistoricalPdfGenerator {
 
         Paragraph content = new Paragraph();
         content.add(new Chunk(label + " ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK)));
         content.add(new Chunk(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11, color)));
         content.setAlignment(Element.ALIGN_CENTER);
 
         cell.addElement(content);
@@ -1604,7 +1611,7 @@ public class ModalityHistoricalPdfGenerator {
 
         // Etiqueta del periodo
         PdfPCell labelCell = new PdfPCell(new Phrase(period.getPeriodLabel(),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK)));
         labelCell.setBorder(Rectangle.NO_BORDER);
         labelCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
         labelCell.setPadding(3);
@@ -1625,13 +1632,13 @@ public class ModalityHistoricalPdfGenerator {
 
         Paragraph valueContent = new Paragraph();
         valueContent.add(new Chunk(String.valueOf(period.getTotalInstances()),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, barColor)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, barColor)));
 
         // Indicador visual de comparación con promedio
         String indicator = period.getTotalInstances() > avgValue ? " ▲" :
                           period.getTotalInstances() < avgValue ? " ▼" : " ●";
         valueContent.add(new Chunk(indicator,
-                FontFactory.getFont(FontFactory.HELVETICA, 8, barColor)));
+                PdfResources.font(FontFactory.HELVETICA, 8, barColor)));
 
         valueCell.addElement(valueContent);
         innerTable.addCell(valueCell);
@@ -1665,7 +1672,7 @@ public class ModalityHistoricalPdfGenerator {
 
         // Parte coloreada con valor
         PdfPCell filledCell = new PdfPCell(new Phrase(String.valueOf(value),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, WHITE)));
         filledCell.setBackgroundColor(color);
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setPadding(4);
@@ -1737,11 +1744,11 @@ public class ModalityHistoricalPdfGenerator {
 
         Paragraph trendPara = new Paragraph();
         trendPara.add(new Chunk(trendIcon + " " + trendText + ": ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 11, WHITE)));
         trendPara.add(new Chunk(changeText,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 13, WHITE)));
         trendPara.add(new Chunk(" (de " + firstValue + " a " + lastValue + " instancias)",
-                FontFactory.getFont(FontFactory.HELVETICA, 9, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA, 9, WHITE)));
         trendPara.setAlignment(Element.ALIGN_CENTER);
 
         trendCell.addElement(trendPara);
@@ -1810,12 +1817,12 @@ public class ModalityHistoricalPdfGenerator {
 
             Paragraph peakContent = new Paragraph();
             peakContent.add(new Chunk("🏆 PICO MÁXIMO\n",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, WHITE)));
-            peakContent.add(new Chunk("\n", FontFactory.getFont(FontFactory.HELVETICA, 8, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 12, WHITE)));
+            peakContent.add(new Chunk("\n", PdfResources.font(FontFactory.HELVETICA, 8, WHITE)));
             peakContent.add(new Chunk(trends.getPeakYear() + "-" + trends.getPeakSemester() + "\n",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 14, WHITE)));
             peakContent.add(new Chunk(trends.getPeakInstances() + " instancias",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 16, WHITE)));
             peakContent.setAlignment(Element.ALIGN_CENTER);
 
             peakCell.addElement(peakContent);
@@ -1831,12 +1838,12 @@ public class ModalityHistoricalPdfGenerator {
 
             Paragraph valleyContent = new Paragraph();
             valleyContent.add(new Chunk("⚠ VALLE MÍNIMO\n",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, WHITE)));
-            valleyContent.add(new Chunk("\n", FontFactory.getFont(FontFactory.HELVETICA, 8, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 12, WHITE)));
+            valleyContent.add(new Chunk("\n", PdfResources.font(FontFactory.HELVETICA, 8, WHITE)));
             valleyContent.add(new Chunk(trends.getLowestYear() + "-" + trends.getLowestSemester() + "\n",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 14, WHITE)));
             valleyContent.add(new Chunk(trends.getLowestInstances() + " instancias",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, WHITE)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 16, WHITE)));
             valleyContent.setAlignment(Element.ALIGN_CENTER);
 
             valleyCell.addElement(valleyContent);
@@ -1873,17 +1880,17 @@ public class ModalityHistoricalPdfGenerator {
 
             Paragraph diffText = new Paragraph();
             diffText.add(new Chunk("📊 Variabilidad Histórica: ",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK)));
             diffText.add(new Chunk(difference + " instancias de diferencia ",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED)));
 
             // Mostrar incremento desde el valle si es significativo
             if (trends.getLowestInstances() > 0 && increaseFromLowest > 0) {
                 diffText.add(new Chunk("(" + String.format("+%.1f%%", increaseFromLowest) + " desde el valle)",
-                        FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_GRAY)));
+                        PdfResources.font(FontFactory.HELVETICA, 10, TEXT_GRAY)));
             } else if (trends.getLowestInstances() == 0) {
                 diffText.add(new Chunk("(crecimiento desde 0)",
-                        FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_GRAY)));
+                        PdfResources.font(FontFactory.HELVETICA, 10, TEXT_GRAY)));
             }
 
             diffText.setAlignment(Element.ALIGN_CENTER);
@@ -1904,7 +1911,7 @@ public class ModalityHistoricalPdfGenerator {
 
             for (String pattern : trends.getIdentifiedPatterns()) {
                 ListItem item = new ListItem(pattern,
-                        FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_BLACK));
+                        PdfResources.font(FontFactory.HELVETICA, 10, TEXT_BLACK));
                 item.setSpacingAfter(5);
                 patternList.add(item);
             }
@@ -2031,8 +2038,8 @@ public class ModalityHistoricalPdfGenerator {
     private static class HistoricalPageEventHelper extends PdfPageEventHelper {
 
         private final ModalityHistoricalReportDTO report;
-        private final Font footerFont    = FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY);
-        private final Font footerBold    = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, new BaseColor(143, 30, 30));
+        private final Font footerFont    = PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY);
+        private final Font footerBold    = PdfResources.font(FontFactory.HELVETICA_BOLD, 8, new BaseColor(143, 30, 30));
         private static final BaseColor GOLD_LINE = new BaseColor(213, 203, 160);
 
         public HistoricalPageEventHelper(ModalityHistoricalReportDTO report) {
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -32,25 +33,25 @@ public class ModalityTraceabilityPdfGenerator {
     private static final BaseColor BLUE_DARK      = new BaseColor(30, 60, 130);
 
     // ── Fuentes ───────────────────────────────────────────────────────────────
-    private static final Font FONT_REPORT_TITLE = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16f, INST_RED);
-    private static final Font FONT_SECTION      = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10f, WHITE);
-    private static final Font FONT_SUBSECTION   = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9f, INST_RED);
-    private static final Font FONT_LABEL        = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8f, TEXT_GRAY);
-    private static final Font FONT_VALUE        = FontFactory.getFont(FontFactory.HELVETICA, 8f, TEXT_BLACK);
-    private static final Font FONT_VALUE_GREEN  = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8f, GREEN_DARK);
-    private static final Font FONT_VALUE_RED    = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8f, RED_SOFT);
-    private static final Font FONT_VALUE_AMBER  = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8f, AMBER);
-    private static final Font FONT_TABLE_HDR    = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8f, WHITE);
-    private static final Font FONT_TABLE_CELL   = FontFactory.getFont(FontFactory.HELVETICA, 8f, TEXT_BLACK);
-    private static final Font FONT_FOOTER       = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 7f, TEXT_GRAY_LIGHT);
-    private static final Font FONT_COVER_TITLE  = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 22f, INST_RED);
-    private static final Font FONT_COVER_SUB    = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13f, TEXT_GRAY);
-    private static final Font FONT_COVER_SMALL  = FontFactory.getFont(FontFactory.HELVETICA, 9f, TEXT_GRAY_LIGHT);
-    private static final Font FONT_UNIV         = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13f, INST_RED);
-    private static final Font FONT_FAC          = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11f, TEXT_GRAY);
-    private static final Font FONT_PROG         = FontFactory.getFont(FontFactory.HELVETICA, 10f, TEXT_GRAY);
-    private static final Font FONT_SLOGAN       = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8f, TEXT_GRAY_LIGHT);
-    private static final Font FONT_BADGE        = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 7f, WHITE);
+    private static final Font FONT_REPORT_TITLE = PdfResources.font(FontFactory.HELVETICA_BOLD, 16f, INST_RED);
+    private static final Font FONT_SECTION      = PdfResources.font(FontFactory.HELVETICA_BOLD, 10f, WHITE);
+    private static final Font FONT_SUBSECTION   = PdfResources.font(FontFactory.HELVETICA_BOLD, 9f, INST_RED);
+    private static final Font FONT_LABEL        = PdfResources.font(FontFactory.HELVETICA_BOLD, 8f, TEXT_GRAY);
+    private static final Font FONT_VALUE        = PdfResources.font(FontFactory.HELVETICA, 8f, TEXT_BLACK);
+    private static final Font FONT_VALUE_GREEN  = PdfResources.font(FontFactory.HELVETICA_BOLD, 8f, GREEN_DARK);
+    private static final Font FONT_VALUE_RED    = PdfResources.font(FontFactory.HELVETICA_BOLD, 8f, RED_SOFT);
+    private static final Font FONT_VALUE_AMBER  = PdfResources.font(FontFactory.HELVETICA_BOLD, 8f, AMBER);
+    private static final Font FONT_TABLE_HDR    = PdfResources.font(FontFactory.HELVETICA_BOLD, 8f, WHITE);
+    private static final Font FONT_TABLE_CELL   = PdfResources.font(FontFactory.HELVETICA, 8f, TEXT_BLACK);
+    private static final Font FONT_FOOTER       = PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 7f, TEXT_GRAY_LIGHT);
+    private static final Font FONT_COVER_TITLE  = PdfResources.font(FontFactory.HELVETICA_BOLD, 22f, INST_RED);
+    private static final Font FONT_COVER_SUB    = PdfResources.font(FontFactory.HELVETICA_BOLD, 13f, TEXT_GRAY);
+    private static final Font FONT_COVER_SMALL  = PdfResources.font(FontFactory.HELVETICA, 9f, TEXT_GRAY_LIGHT);
+    private static final Font FONT_UNIV         = PdfResources.font(FontFactory.HELVETICA_BOLD, 13f, INST_RED);
+    private static final Font FONT_FAC          = PdfResources.font(FontFactory.HELVETICA_BOLD, 11f, TEXT_GRAY);
+    private static final Font FONT_PROG         = PdfResources.font(FontFactory.HELVETICA, 10f, TEXT_GRAY);
+    private static final Font FONT_SLOGAN       = PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8f, TEXT_GRAY_LIGHT);
+    private static final Font FONT_BADGE        = PdfResources.font(FontFactory.HELVETICA_BOLD, 7f, WHITE);
 
     private static final DateTimeFormatter DATE_FMT =
             DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
@@ -63,10 +64,17 @@ public class ModalityTraceabilityPdfGenerator {
 
     public byte[] generatePdf(ModalityTraceabilityReportDTO report)
             throws DocumentException, IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePdf(report, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    public void generatePdf(ModalityTraceabilityReportDTO report, OutputStream outputStream)
+            throws DocumentException, IOException {
 
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
         Document doc = new Document(PageSize.A4, 45, 45, 40, 50);
-        PdfWriter writer = PdfWriter.getInstance(doc, out);
+        PdfWriter writer = PdfWriter.getInstance(doc, outputStream);
+        writer.setCloseStream(false);
 
         // Pie de página en cada hoja
         writer.setPageEvent(new FooterEvent(report));
@@ -107,7 +115,6 @@ public class ModalityTraceabilityPdfGenerator {
         addDefenseAndResultSection(doc, report);
 
         doc.close();
-        return out.toByteArray();
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -202,17 +209,12 @@ public class ModalityTraceabilityPdfGenerator {
         logoCell.setBorder(Rectangle.NO_BORDER);
         logoCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
         logoCell.setPadding(2f);
-        try {
-            org.springframework.core.io.ClassPathResource logoRes =
-                    new org.springframework.core.io.ClassPathResource("templates/logo ingenieria.png");
-            try (java.io.InputStream is = logoRes.getInputStream()) {
-                byte[] bytes = is.readAllBytes();
-                Image logo = Image.getInstance(bytes);
-                logo.scaleToFit(80f, 60f);
-                logo.setAlignment(Element.ALIGN_CENTER);
-                logoCell.addElement(logo);
-            }
-        } catch (Exception e) {
+        Image logo = PdfResources.institutionalLogo();
+        if (logo != null) {
+            logo.scaleToFit(80f, 60f);
+            logo.setAlignment(Element.ALIGN_CENTER);
+            logoCell.addElement(logo);
+        } else {
             logoCell.addElement(new Paragraph(" ", FONT_PROG));
         }
         headerTable.addCell(logoCell);
@@ -674,7 +676,7 @@ public class ModalityTraceabilityPdfGenerator {
         hCell.setBorder(Rectangle.NO_BORDER);
         hCell.setPadding(12f);
         hCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-        Font bigResultFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14f, WHITE);
+        Font bigResultFont = PdfResources.font(FontFactory.HELVETICA_BOLD, 14f, WHITE);
         hCell.addElement(new Phrase(approved
                 ? "MODALIDAD APROBADA — " + nvl(res.getAcademicDistinctionLabel())
                 : "MODALIDAD NO APROBADA", bigResultFont));
@@ -762,8 +764,8 @@ public class ModalityTraceabilityPdfGenerator {
         cell.setPadding(8f);
         cell.setHorizontalAlignment(Element.ALIGN_CENTER);
 
-        Font valueFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16f, color);
-        Font labelFont = FontFactory.getFont(FontFactory.HELVETICA, 7f, TEXT_GRAY);
+        Font valueFont = PdfResources.font(FontFactory.HELVETICA_BOLD, 16f, color);
+        Font labelFont = PdfResources.font(FontFactory.HELVETICA, 7f, TEXT_GRAY);
 
         Paragraph valPara = new Paragraph(value, valueFont);
         valPara.setAlignment(Element.ALIGN_CENTER);
@@ -826,7 +828,7 @@ public class ModalityTraceabilityPdfGenerator {
     }
 
     private Paragraph infoNote(String message) {
-        Paragraph p = new Paragraph(message, FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8f, AMBER));
+        Paragraph p = new Paragraph(message, PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8f, AMBER));
         p.setSpacingBefore(4f);
         p.setSpacingAfter(4f);
         return p;
@@ -904,7 +906,7 @@ public class ModalityTraceabilityPdfGenerator {
                 cb.stroke();
 
                 // Texto del pie
-                Font footerFont = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 7f, new BaseColor(130, 130, 130));
+                Font footerFont = PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 7f, new BaseColor(130, 130, 130));
                 String leftText = "SIGMA — Reporte de Trazabilidad | Modalidad #"
                         + (report.getStudentModalityId() != null ? report.getStudentModalityId() : "")
                         + " | " + report.getAcademicProgramName();
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
@@ -45,8 +46,14 @@ public class PdfReport {
 
     public ByteArrayOutputStream generatePDF(GlobalModalityReportDTO report) throws DocumentException, IOException {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePDF(report, outputStream);
+        return outputStream;
+    }
+
+    public void generatePDF(GlobalModalityReportDTO report, OutputStream outputStream) throws DocumentException, IOException {
         Document document = new Document(PageSize.A4, 50, 50, 50, 50);
-        PdfWriter.getInstance(document, outputStream);
+        PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
         document.open();
 
         // 1. Portada con header institucional
@@ -78,7 +85,6 @@ public class PdfReport {
         addFooterSection(document, report);
 
         document.close();
-        return outputStream;
     }
 
 
@@ -0,0 +1,76 @@
+package com.SIGMA.USCO.report.service;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.FontFactory;
+import com.itextpdf.text.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recursos compartidos por todos los generadores PDF (reportes y certificados).
+ *
+ * El logo institucional se decodifica una sola vez y las fuentes se crean una vez por
+ * combinación de familia, tamaño y color. Las instancias son compartidas entre hilos,
+ * por lo que no deben modificarse: el logo se entrega como copia para poder escalarlo.
+ */
+public final class PdfResources {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfResources.class);
+
+    static final String INSTITUTIONAL_LOGO_PATH = "templates/logo ingenieria.png";
+
+    private static final Map<FontKey, Font> FONTS = new ConcurrentHashMap<>();
+
+    private PdfResources() {
+        // Clase utilitaria - no instanciar
+    }
+
+    /**
+     * Copia del logo institucional, lista para escalar y posicionar en un documento.
+     *
+     * @return el logo, o null si no se pudo cargar
+     */
+    public static Image institutionalLogo() {
+        Image logo = LogoHolder.LOGO;
+        return logo != null ? Image.getInstance(logo) : null;
+    }
+
+    /**
+     * Fuente compartida equivalente a {@code FontFactory.getFont(name, size, color)}
+     */
+    public static Font font(String name, float size, BaseColor color) {
+        return FONTS.computeIfAbsent(new FontKey(name, size, color),
+                key -> FontFactory.getFont(key.name(), key.size(), key.color()));
+    }
+
+    /**
+     * Fuente compartida equivalente a {@code FontFactory.getFont(name, size)}
+     */
+    public static Font font(String name, float size) {
+        return FONTS.computeIfAbsent(new FontKey(name, size, null),
+                key -> FontFactory.getFont(key.name(), key.size()));
+    }
+
+    private record FontKey(String name, float size, BaseColor color) {
+    }
+
+    /** Carga diferida y única del logo (inicialización de clase, segura entre hilos) */
+    private static final class LogoHolder {
+        private static final Image LOGO = load();
+
+        private static Image load() {
+            try (InputStream logoStream = new ClassPathResource(INSTITUTIONAL_LOGO_PATH).getInputStream()) {
+                return Image.getInstance(logoStream.readAllBytes());
+            } catch (Exception e) {
+                log.warn("No se pudo cargar el logo institucional: {}", e.getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.SIGMA.USCO.report.service;
+
+import com.SIGMA.USCO.report.dto.*;
+import com.SIGMA.USCO.report.entity.ReportJob;
+import com.SIGMA.USCO.report.enums.ReportJobStatus;
+import com.SIGMA.USCO.report.enums.ReportJobType;
+import com.SIGMA.USCO.report.repository.ReportJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cola de trabajos de generación de reportes PDF.
+ *
+ * Las solicitudes se registran como {@link ReportJob} y se procesan en el pool acotado
+ * {@code reportJobTaskExecutor}; el PDF terminado queda en {@code file.upload-dir/reports}
+ * hasta que vence. Cada usuario puede tener un número limitado de trabajos en curso, y una
+ * solicitud idéntica a otra que aún está en curso devuelve el trabajo existente.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportJobService {
+
+    static final Set<ReportJobStatus> ACTIVE_STATUSES = EnumSet.of(ReportJobStatus.PENDING, ReportJobStatus.RUNNING);
+
+    /** Estados de los trabajos sin archivo que se eliminan al cumplir el periodo de retención */
+    static final Set<ReportJobStatus> PURGEABLE_STATUSES = EnumSet.of(ReportJobStatus.FAILED, ReportJobStatus.EXPIRED);
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportJobWorker reportJobWorker;
+    private final ObjectMapper objectMapper;
+
+    /** Evita que dos solicitudes simultáneas del mismo usuario pasen la verificación de duplicados */
+    private final ReentrantLock submitLock = new ReentrantLock();
+
+    @Value("${reports.jobs.max-active-per-user:2}")
+    private long maxActiveJobsPerUser;
+
+    @Value("${reports.jobs.retention-days:30}")
+    private long retentionDays;
+
+    /**
+     * Registra un trabajo y lo encola, o devuelve el trabajo idéntico que el usuario ya tiene en curso.
+     *
+     * @throws IllegalArgumentException si el tipo de reporte o los parámetros no son válidos
+     * @throws IllegalStateException si el usuario alcanzó el límite de trabajos o la cola está llena
+     */
+    public ReportJobDTO submit(ReportJobRequestDTO request) {
+        submitLock.lock();
+        try {
+            if (request == null || request.getReportType() == null) {
+                throw new IllegalArgumentException("Debe indicar el tipo de reporte");
+            }
+
+            String requestedBy = currentUser();
+            String parameters = normalizeParameters(request.getReportType(), request.getParameters());
+            String dedupKey = DigestUtils.md5DigestAsHex(
+                    (request.getReportType().name() + ":" + parameters).getBytes(StandardCharsets.UTF_8));
+
+            ReportJob inFlight = reportJobRepository
+                    .findFirstByRequestedByAndDedupKeyAndStatusInOrderByIdDesc(requestedBy, dedupKey, ACTIVE_STATUSES)
+                    .orElse(null);
+            if (inFlight != null) {
+                return toDTO(inFlight);
+            }
+
+            if (reportJobRepository.countByRequestedByAndStatusIn(requestedBy, ACTIVE_STATUSES) >= maxActiveJobsPerUser) {
+                throw new IllegalStateException("Ya tiene " + maxActiveJobsPerUser
+                        + " reportes en proceso. Espere a que finalicen para solicitar otro.");
+            }
+
+            ReportJob job = reportJobRepository.save(ReportJob.builder()
+                    .reportType(request.getReportType())
+                    .status(ReportJobStatus.PENDING)
+                    .requestedBy(requestedBy)
+                    .parameters(parameters)
+                    .dedupKey(dedupKey)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            try {
+                reportJobWorker.execute(job.getId(), SecurityContextHolder.getContext());
+            } catch (TaskRejectedException e) {
+                job.setStatus(ReportJobStatus.FAILED);
+                job.setErrorMessage("La cola de reportes está llena");
+                job.setCompletedAt(LocalDateTime.now());
+                reportJobRepository.save(job);
+                throw new IllegalStateException("La cola de reportes está llena. Intente de nuevo en unos minutos.");
+            }
+
+            return toDTO(job);
+        } finally {
+            submitLock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene un trabajo del usuario autenticado
+     */
+    @Transactional(readOnly = true)
+    public ReportJobDTO getJob(Long jobId) {
+        return toDTO(findOwnJob(jobId));
+    }
+
+    /**
+     * Últimos trabajos del usuario autenticado
+     */
+    @Transactional(readOnly = true)
+    public List<ReportJobDTO> getMyJobs() {
+        return reportJobRepository.findTop20ByRequestedByOrderByIdDesc(currentUser()).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * Trabajo completado del usuario autenticado cuyo PDF se puede descargar
+     *
+     * @throws IllegalStateException si el trabajo no ha terminado o el archivo ya no existe
+     */
+    @Transactional(readOnly = true)
+    public ReportJob getDownloadableJob(Long jobId) {
+        ReportJob job = findOwnJob(jobId);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new IllegalStateException("El reporte no está disponible para descarga (estado: " + job.getStatus() + ")");
+        }
+        if (job.getFilePath() == null || !Files.exists(Paths.get(job.getFilePath()))) {
+            throw new IllegalStateException("El archivo del reporte ya no está disponible");
+        }
+        return job;
+    }
+
+    /**
+     * Los trabajos que estaban en curso cuando se detuvo la aplicación no se reanudan
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failInterruptedJobs() {
+        int interrupted = reportJobRepository.failAll(ACTIVE_STATUSES,
+                "Interrumpido por un reinicio del servidor", LocalDateTime.now());
+        if (interrupted > 0) {
+            log.warn("{} trabajos de reportes interrumpidos marcados como fallidos", interrupted);
+        }
+    }
+
+    /**
+     * Elimina los PDF vencidos y marca sus trabajos como EXPIRED. Los trabajos FAILED o EXPIRED
+     * que terminaron hace más de {@code reports.jobs.retention-days} días se eliminan de la tabla.
+     */
+    @Scheduled(cron = "0 15 * * * ?") // Cada hora, al minuto 15
+    @Transactional
+    public void cleanupExpiredArtifacts() {
+        List<ReportJob> expired = reportJobRepository.findByStatusAndExpiresAtBefore(
+                ReportJobStatus.COMPLETED, LocalDateTime.now());
+
+        for (ReportJob job : expired) {
+            if (job.getFilePath() != null) {
+                try {
+                    Files.deleteIfExists(Paths.get(job.getFilePath()));
+                } catch (IOException e) {
+                    log.warn("No se pudo eliminar el reporte vencido {}: {}", job.getFilePath(), e.getMessage());
+                    continue;
+                }
+            }
+            job.setStatus(ReportJobStatus.EXPIRED);
+            job.setFilePath(null);
+        }
+
+        if (!expired.isEmpty()) {
+            log.info("Reportes vencidos eliminados: {}", expired.size());
+        }
+
+        int purged = reportJobRepository.deleteFinishedBefore(PURGEABLE_STATUSES,
+                LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Trabajos de reportes antiguos eliminados: {}", purged);
+        }
+    }
+
+    private ReportJob findOwnJob(Long jobId) {
+        return reportJobRepository.findById(jobId)
+                .filter(job -> job.getRequestedBy().equals(currentUser()))
+                .orElseThrow(() -> new IllegalArgumentException("Trabajo de reporte no encontrado"));
+    }
+
+    /**
+     * Valida los parámetros contra el DTO de filtros del reporte y los serializa en un orden
+     * fijo, de modo que dos solicitudes equivalentes produzcan el mismo JSON
+     */
+    private String normalizeParameters(ReportJobType type, JsonNode parameters) {
+        try {
+            Object normalized = switch (type) {
+                case GLOBAL_MODALITIES -> Map.of();
+                case FILTERED_MODALITIES -> readFilters(parameters, ModalityReportFilterDTO.class);
+                case MODALITY_TYPE_COMPARISON -> readFilters(parameters, ModalityComparisonFilterDTO.class);
+                case STUDENT_LISTING -> readFilters(parameters, StudentListingFilterDTO.class);
+                case COMPLETED_MODALITIES -> readFilters(parameters, CompletedModalitiesFilterDTO.class);
+                case DIRECTOR_ASSIGNED_MODALITIES -> readFilters(parameters, DirectorReportFilterDTO.class);
+                case MODALITY_HISTORICAL -> {
+                    if (parameters == null || !parameters.path("modalityTypeId").canConvertToLong()) {
+                        throw new IllegalArgumentException("Debe indicar modalityTypeId para el reporte histórico");
+                    }
+                    Map<String, Object> historical = new LinkedHashMap<>();
+                    historical.put("modalityTypeId", parameters.path("modalityTypeId").asLong());
+                    historical.put("periods", parameters.path("periods").asInt(8));
+                    yield historical;
+                }
+            };
+            return objectMapper.writeValueAsString(normalized);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Parámetros inválidos para " + type + ": " + e.getOriginalMessage());
+        }
+    }
+
+    private <T> T readFilters(JsonNode parameters, Class<T> filterType) throws JsonProcessingException {
+        if (parameters == null || parameters.isNull()) {
+            return objectMapper.treeToValue(objectMapper.createObjectNode(), filterType);
+        }
+        return objectMapper.treeToValue(parameters, filterType);
+    }
+
+    private String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : "SYSTEM";
+    }
+
+    private ReportJobDTO toDTO(ReportJob job) {
+        return ReportJobDTO.builder()
+                .id(job.getId())
+                .reportType(job.getReportType())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .fileSize(job.getFileSize())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .expiresAt(job.getExpiresAt())
+                .downloadUrl(job.getStatus() == ReportJobStatus.COMPLETED
+                        ? "/reports/jobs/" + job.getId() + "/download" : null)
+                .build();
+    }
+}
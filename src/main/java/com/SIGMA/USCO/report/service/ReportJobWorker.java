@@ -0,0 +1,132 @@
+package com.SIGMA.USCO.report.service;
+
+import com.SIGMA.USCO.report.dto.*;
+import com.SIGMA.USCO.report.entity.ReportJob;
+import com.SIGMA.USCO.report.enums.ReportJobStatus;
+import com.SIGMA.USCO.report.repository.ReportJobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itextpdf.text.DocumentException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Ejecuta los trabajos de {@link ReportJobService} en el pool {@code reportJobTaskExecutor}.
+ *
+ * Los servicios de reportes obtienen el programa académico del usuario autenticado, por lo
+ * que cada trabajo se ejecuta con el contexto de seguridad de quien lo solicitó.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportJobWorker {
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportService reportService;
+    private final ObjectMapper objectMapper;
+    private final PdfReport pdfReport;
+    private final ModalityComparisonPdfGenerator comparisonPdfGenerator;
+    private final ModalityHistoricalPdfGenerator modalityHistoricalPdfGenerator;
+    private final StudentListingPdfGenerator studentListingPdfGenerator;
+    private final CompletedModalitiesPdfGenerator completedModalitiesPdfGenerator;
+    private final DirectorAssignedModalitiesPdfGenerator directorPdfGenerator;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${reports.jobs.retention-hours:24}")
+    private long retentionHours;
+
+    @Async("reportJobTaskExecutor")
+    public void execute(Long jobId, SecurityContext securityContext) {
+        ReportJob job = reportJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != ReportJobStatus.PENDING) {
+            return;
+        }
+
+        job.setStatus(ReportJobStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job = reportJobRepository.save(job);
+
+        Path target = Paths.get(uploadDir, "reports", "report-job-" + job.getId() + ".pdf");
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                render(job, out);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+
+            LocalDateTime now = LocalDateTime.now();
+            job.setStatus(ReportJobStatus.COMPLETED);
+            job.setFilePath(target.toString());
+            job.setFileSize(Files.size(target));
+            job.setFileName(job.getReportType().getFileNamePrefix() + "_"
+                    + now.format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HHmmss")) + ".pdf");
+            job.setCompletedAt(now);
+            job.setExpiresAt(now.plusHours(retentionHours));
+        } catch (Exception e) {
+            log.error("Error generando el reporte del trabajo {}", job.getId(), e);
+            deleteQuietly(partial);
+            job.setStatus(ReportJobStatus.FAILED);
+            job.setErrorMessage(truncate(e.getMessage()));
+            job.setCompletedAt(LocalDateTime.now());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        reportJobRepository.save(job);
+    }
+
+    private void render(ReportJob job, OutputStream out) throws IOException, DocumentException {
+        JsonNode parameters = objectMapper.readTree(job.getParameters());
+
+        switch (job.getReportType()) {
+            case GLOBAL_MODALITIES -> pdfReport.generatePDF(reportService.generateGlobalReport(), out);
+            case FILTERED_MODALITIES -> pdfReport.generatePDF(reportService.generateFilteredReport(
+                    objectMapper.treeToValue(parameters, ModalityReportFilterDTO.class)), out);
+            case MODALITY_TYPE_COMPARISON -> comparisonPdfGenerator.generatePDF(reportService.generateModalityTypeComparison(
+                    objectMapper.treeToValue(parameters, ModalityComparisonFilterDTO.class)), out);
+            case MODALITY_HISTORICAL -> modalityHistoricalPdfGenerator.generatePDF(reportService.generateModalityHistoricalReport(
+                    parameters.path("modalityTypeId").asLong(), parameters.path("periods").asInt()), out);
+            case STUDENT_LISTING -> studentListingPdfGenerator.generatePDF(reportService.generateStudentListingReport(
+                    objectMapper.treeToValue(parameters, StudentListingFilterDTO.class)), out);
+            case COMPLETED_MODALITIES -> completedModalitiesPdfGenerator.generatePDF(reportService.generateCompletedModalitiesReport(
+                    objectMapper.treeToValue(parameters, CompletedModalitiesFilterDTO.class)), out);
+            case DIRECTOR_ASSIGNED_MODALITIES -> directorPdfGenerator.generatePDF(reportService.generateDirectorAssignedModalitiesReport(
+                    objectMapper.treeToValue(parameters, DirectorReportFilterDTO.class)), out);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el archivo temporal {}", path);
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return "Error desconocido";
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
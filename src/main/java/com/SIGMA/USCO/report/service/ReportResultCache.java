@@ -0,0 +1,100 @@
+package com.SIGMA.USCO.report.service;
+
+import com.SIGMA.USCO.report.event.ModalityStatusChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caché acotada de resultados de reportes, compartida por los endpoints JSON y PDF.
+ *
+ * Las entradas se identifican por tipo de reporte, programa académico y filtros aplicados,
+ * y se descartan por tamaño máximo, por tiempo de vida o cuando una modalidad del programa
+ * cambia de estado.
+ */
+@Component
+@Slf4j
+public class ReportResultCache {
+
+    private final Cache<Key, Object> cache;
+
+    /** Generación por programa: cambia en cada invalidación para descartar cálculos en curso */
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ReportResultCache(@Value("${reports.cache.max-entries:500}") long maxEntries,
+                             @Value("${reports.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * Retorna el reporte en caché o lo genera con el loader y lo almacena.
+     *
+     * @param reportType Tipo de reporte (el mismo de la metadata del reporte)
+     * @param programId  ID del programa académico
+     * @param parameters Filtros del reporte (deben implementar equals/hashCode); puede ser null
+     * @param loader     Generador del reporte cuando no está en caché
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String reportType, Long programId, Object parameters, Supplier<T> loader) {
+        Key key = new Key(reportType, programId, parameters);
+        T cached = (T) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AtomicLong generation = generation(programId);
+        long before = generation.get();
+        T report = loader.get();
+        cache.put(key, report);
+
+        // Si el programa se invalidó mientras se generaba, el resultado puede estar desactualizado
+        if (generation.get() != before) {
+            cache.invalidate(key);
+        }
+        return report;
+    }
+
+    /**
+     * Descarta todos los reportes en caché de un programa académico.
+     */
+    public void evictProgram(Long programId) {
+        generation(programId).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> programId.equals(key.programId()));
+    }
+
+    /**
+     * Descarta todos los reportes en caché.
+     */
+    public void evictAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onModalityStatusChanged(ModalityStatusChangedEvent event) {
+        if (event.academicProgramId() != null) {
+            log.debug("Invalidando reportes en caché del programa {}", event.academicProgramId());
+            evictProgram(event.academicProgramId());
+        }
+    }
+
+    private AtomicLong generation(Long programId) {
+        return generations.computeIfAbsent(programId, id -> new AtomicLong());
+    }
+
+    private record Key(String reportType, Long programId, Object parameters) {
+    }
+}
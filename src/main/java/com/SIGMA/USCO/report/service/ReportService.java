@@ -7,18 +7,25 @@ import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
 import com.SIGMA.USCO.Modalities.Repository.DefenseEvaluationCriteriaRepository;
 import com.SIGMA.USCO.Modalities.Repository.StudentModalityMemberRepository;
 import com.SIGMA.USCO.Modalities.Repository.StudentModalityRepository;
-import com.SIGMA.USCO.Users.Entity.ProgramAuthority;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityAggregateView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityMemberCountView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityStatusCountView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityStudentAggregateView;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityTypeCountView;
 import com.SIGMA.USCO.Users.Entity.User;
 import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
-import com.SIGMA.USCO.Users.repository.ProgramAuthorityRepository;
 import com.SIGMA.USCO.Users.repository.UserRepository;
+import com.SIGMA.USCO.Users.service.ProgramAuthorityCache;
 import com.SIGMA.USCO.academic.entity.AcademicProgram;
 import com.SIGMA.USCO.academic.entity.StudentProfile;
 import com.SIGMA.USCO.academic.repository.AcademicProgramRepository;
 import com.SIGMA.USCO.academic.repository.StudentProfileRepository;
 import com.SIGMA.USCO.report.dto.DirectorInfoDTO;
 import com.SIGMA.USCO.report.dto.*;
+import com.SIGMA.USCO.report.entity.ModalityReportSnapshot;
+import com.SIGMA.USCO.security.AuthenticatedUserResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -29,59 +36,62 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.SIGMA.USCO.report.specification.StudentModalityReportSpecifications.*;
+
 
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
+    /** Máximo de IDs de modalidad por consulta IN (...) */
+    private static final int MODALITY_ID_BATCH_SIZE = 1000;
+
     private final StudentModalityRepository studentModalityRepository;
     private final StudentModalityMemberRepository studentModalityMemberRepository;
     private final DefenseEvaluationCriteriaRepository defenseEvaluationCriteriaRepository;
     private final UserRepository userRepository;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
     private final StudentProfileRepository studentProfileRepository;
     private final AcademicProgramRepository academicProgramRepository;
-    private final ProgramAuthorityRepository programAuthorityRepository;
+    private final ProgramAuthorityCache programAuthorityCache;
+    private final ReportSnapshotService reportSnapshotService;
+    private final ReportResultCache reportResultCache;
 
 
     @Transactional(readOnly = true)
     public GlobalModalityReportDTO generateGlobalReport() {
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
+        GlobalModalityReportDTO report = reportResultCache.get("GLOBAL_ACTIVE_MODALITIES", userProgram.getId(), null,
+                () -> buildGlobalReport(userProgram));
+        return report.toBuilder().generatedBy(currentGeneratedBy(userProgram)).build();
+    }
+
+    private GlobalModalityReportDTO buildGlobalReport(AcademicProgram userProgram) {
         long startTime = System.currentTimeMillis();
 
-        // Obtener usuario autenticado
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = auth != null ? auth.getName() : "SYSTEM";
-
-        // Obtener el programa académico del usuario autenticado
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
-        // Buscar autoridad de programa del usuario (puede ser PROGRAM_HEAD, PROGRAM_COMMITTEE, etc.)
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        // Obtener programa académico del usuario
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
         Long userProgramId = userProgram.getId();
         String programName = userProgram.getName();
         String programCode = userProgram.getCode();
 
         // Obtener modalidades activas filtradas por el programa del usuario
-        List<StudentModality> activeModalities = studentModalityRepository.findByStatusIn(ReportUtils.getActiveStatuses())
-                .stream()
-                .filter(modality -> modality.getAcademicProgram().getId().equals(userProgramId))
-                .collect(java.util.stream.Collectors.toList());
+        List<StudentModality> activeModalities = studentModalityRepository.findAll(
+                inProgram(userProgramId)
+                        .and(statusIn(ReportUtils.getActiveStatuses()))
+                        .and(fetchReportAssociations()));
+
+        // Calcular los totales del programa con consultas agregadas
+        ProgramAggregates aggregates = loadProgramAggregates(userProgramId, ReportUtils.getActiveStatuses());
 
         // Generar resumen ejecutivo
-        ExecutiveSummaryDTO executiveSummary = generateExecutiveSummary(activeModalities);
+        ExecutiveSummaryDTO executiveSummary = generateExecutiveSummary(aggregates);
 
         // Generar detalles de modalidades
         List<ModalityDetailReportDTO> modalityDetails = generateModalityDetails(activeModalities);
 
         // Generar estadísticas del programa
-        List<ProgramStatisticsDTO> programStatistics = generateProgramStatistics(activeModalities);
+        List<ProgramStatisticsDTO> programStatistics = generateProgramStatistics(userProgram, aggregates);
 
         // Calcular tiempo de generación
         long endTime = System.currentTimeMillis();
@@ -112,18 +122,148 @@ public class ReportService {
     }
 
 
+    /**
+     * Obtiene el programa académico del usuario autenticado
+     * (puede ser PROGRAM_HEAD, PROGRAM_COMMITTEE, etc.)
+     */
+    private AcademicProgram resolveAuthenticatedProgram() {
+
+        Long authenticatedUserId = authenticatedUserResolver.currentUserId();
+
+        Long programId = programAuthorityCache.findByUser(authenticatedUserId).stream()
+                .findFirst()
+                .map(ProgramAuthorityCache.Authority::academicProgramId)
+                .orElseThrow(() -> new IllegalArgumentException("El usuario no tiene asignado ningún programa académico"));
+
+        return academicProgramRepository.findById(programId)
+                .orElseThrow(() -> new IllegalArgumentException("Programa académico no encontrado"));
+    }
+
+    /**
+     * Autor del reporte para el usuario actual; los reportes en caché se comparten
+     * entre los usuarios del programa, así que este dato se asigna en cada solicitud
+     */
+    private String currentGeneratedBy(AcademicProgram userProgram) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = auth != null ? auth.getName() : "SYSTEM";
+        return userEmail + " (" + userProgram.getName() + ")";
+    }
+
+    /**
+     * Totales de las modalidades de un programa obtenidos con consultas agregadas
+     * (GROUP BY / COUNT DISTINCT), sin cargar las modalidades ni sus miembros
+     */
+    private record ProgramAggregates(ModalityAggregateView totals,
+                                     ModalityStudentAggregateView students,
+                                     List<ModalityStatusCountView> statusCounts,
+                                     List<ModalityTypeCountView> typeCounts) {
+
+        long countStatuses(Collection<ModalityProcessStatus> statuses) {
+            return statusCounts.stream()
+                    .filter(c -> statuses.contains(c.getStatus()))
+                    .mapToLong(ModalityStatusCountView::getTotal)
+                    .sum();
+        }
+
+        Map<String, Long> statusDistribution() {
+            Map<String, Long> distribution = new HashMap<>();
+            statusCounts.forEach(c -> distribution.merge(
+                    ReportUtils.describeModalityStatus(c.getStatus()), c.getTotal(), Long::sum));
+            return distribution;
+        }
+
+        Map<String, Long> typeDistribution() {
+            Map<String, Long> distribution = new HashMap<>();
+            typeCounts.forEach(c -> distribution.merge(c.getModalityName(), c.getTotal(), Long::sum));
+            return distribution;
+        }
+    }
+
+    private ProgramAggregates loadProgramAggregates(Long programId, Collection<ModalityProcessStatus> statuses) {
+        return new ProgramAggregates(
+                studentModalityRepository.aggregateByProgramAndStatuses(programId, statuses, LocalDateTime.now()),
+                studentModalityMemberRepository.aggregateActiveStudentsByProgram(programId, statuses),
+                studentModalityRepository.countByProgramGroupedByStatus(programId, statuses),
+                studentModalityRepository.countByProgramGroupedByModalityType(programId, statuses));
+    }
+
+    /**
+     * Genera el resumen ejecutivo a partir de los totales agregados del programa
+     */
+    private ExecutiveSummaryDTO generateExecutiveSummary(ProgramAggregates aggregates) {
+        ModalityAggregateView totals = aggregates.totals();
+
+        int totalActiveModalities = totals.getTotalModalities().intValue();
+        long groupCount = totals.getGroupModalities();
+
+        double avgStudentsPerGroup = groupCount > 0
+                ? (double) aggregates.students().getGroupMembers() / groupCount
+                : 0.0;
+
+        long modalitiesInReview = aggregates.countStatuses(EnumSet.of(
+                ModalityProcessStatus.UNDER_REVIEW_PROGRAM_HEAD,
+                ModalityProcessStatus.UNDER_REVIEW_PROGRAM_CURRICULUM_COMMITTEE));
+
+        long advancedStates = aggregates.statusCounts().stream()
+                .filter(c -> ReportUtils.isAdvancedStatus(c.getStatus()))
+                .mapToLong(ModalityStatusCountView::getTotal)
+                .sum();
+        double overallProgressRate = totalActiveModalities > 0
+                ? (advancedStates * 100.0) / totalActiveModalities
+                : 0.0;
+
+        return ExecutiveSummaryDTO.builder()
+                .totalActiveModalities(totalActiveModalities)
+                .totalActiveStudents(aggregates.students().getTotalStudents().intValue())
+                .totalActiveDirectors(totals.getTotalDirectors().intValue())
+                .modalitiesByStatus(aggregates.statusDistribution())
+                .modalitiesByType(aggregates.typeDistribution())
+                .individualModalities(totals.getIndividualModalities().intValue())
+                .groupModalities((int) groupCount)
+                .averageStudentsPerGroup(Math.round(avgStudentsPerGroup * 100.0) / 100.0)
+                .modalitiesWithoutDirector(totals.getModalitiesWithoutDirector().intValue())
+                .modalitiesInReview((int) modalitiesInReview)
+                .overallProgressRate(Math.round(overallProgressRate * 100.0) / 100.0)
+                .build();
+    }
+
+    /**
+     * Genera las estadísticas del programa a partir de sus totales agregados
+     */
+    private List<ProgramStatisticsDTO> generateProgramStatistics(AcademicProgram program, ProgramAggregates aggregates) {
+        ModalityAggregateView totals = aggregates.totals();
+        if (totals.getTotalModalities() == 0) {
+            return new ArrayList<>();
+        }
+
+        double avgDaysInProcess = totals.getAverageDaysInProcess() != null ? totals.getAverageDaysInProcess() : 0.0;
+
+        List<ProgramStatisticsDTO> statistics = new ArrayList<>();
+        statistics.add(ProgramStatisticsDTO.builder()
+                .programId(program.getId())
+                .programName(program.getName())
+                .programCode(program.getCode())
+                .totalActiveModalities(totals.getTotalModalities().intValue())
+                .totalActiveStudents(aggregates.students().getTotalStudents().intValue())
+                .modalityDistribution(aggregates.typeDistribution())
+                .statusDistribution(aggregates.statusDistribution())
+                .averageDaysInProcess(Math.round(avgDaysInProcess * 100.0) / 100.0)
+                .facultyName(program.getFaculty().getName())
+                .build());
+        return statistics;
+    }
+
+    /**
+     * Genera el resumen ejecutivo agrupando en memoria una lista ya cargada de modalidades.
+     * Se usa cuando el conjunto proviene de filtros que no se pueden expresar en las
+     * consultas agregadas (ver {@link #generateExecutiveSummary(ProgramAggregates)})
+     */
     private ExecutiveSummaryDTO generateExecutiveSummary(List<StudentModality> activeModalities) {
 
         int totalActiveModalities = activeModalities.size();
 
 
-        Set<Long> uniqueStudents = new HashSet<>();
-        for (StudentModality modality : activeModalities) {
-            List<StudentModalityMember> members = studentModalityMemberRepository
-                    .findByStudentModalityIdAndStatus(modality.getId(), MemberStatus.ACTIVE);
-            members.forEach(member -> uniqueStudents.add(member.getStudent().getId()));
-        }
-        int totalActiveStudents = uniqueStudents.size();
+        int totalActiveStudents = (int) countDistinctActiveStudents(activeModalities);
 
 
         Set<Long> uniqueDirectors = activeModalities.stream()
@@ -157,10 +297,11 @@ public class ReportService {
 
         double avgStudentsPerGroup = 0.0;
         if (groupCount > 0) {
-            long totalStudentsInGroups = activeModalities.stream()
+            long totalStudentsInGroups = countActiveMembersByModality(activeModalities.stream()
                     .filter(m -> m.getModalityType() == com.SIGMA.USCO.Modalities.Entity.enums.ModalityType.GROUP)
-                    .mapToLong(m -> studentModalityMemberRepository
-                            .countByStudentModalityIdAndStatus(m.getId(), MemberStatus.ACTIVE))
+                    .collect(Collectors.toList()))
+                    .values().stream()
+                    .mapToLong(Long::longValue)
                     .sum();
             avgStudentsPerGroup = (double) totalStudentsInGroups / groupCount;
         }
@@ -280,6 +421,9 @@ public class ReportService {
     }
 
 
+    /**
+     * Genera las estadísticas por programa agrupando en memoria una lista ya cargada de modalidades
+     */
     private List<ProgramStatisticsDTO> generateProgramStatistics(List<StudentModality> activeModalities) {
 
         Map<Long, List<StudentModality>> modalitiesByProgram = activeModalities.stream()
@@ -293,12 +437,7 @@ public class ReportService {
                     AcademicProgram program = programModalities.get(0).getAcademicProgram();
 
 
-                    Set<Long> uniqueStudents = new HashSet<>();
-                    for (StudentModality modality : programModalities) {
-                        List<StudentModalityMember> members = studentModalityMemberRepository
-                                .findByStudentModalityIdAndStatus(modality.getId(), MemberStatus.ACTIVE);
-                        members.forEach(member -> uniqueStudents.add(member.getStudent().getId()));
-                    }
+                    long uniqueStudents = countDistinctActiveStudents(programModalities);
 
 
                     Map<String, Long> modalityDistribution = programModalities.stream()
@@ -326,7 +465,7 @@ public class ReportService {
                             .programName(program.getName())
                             .programCode(program.getCode())
                             .totalActiveModalities(programModalities.size())
-                            .totalActiveStudents(uniqueStudents.size())
+                            .totalActiveStudents((int) uniqueStudents)
                             .modalityDistribution(modalityDistribution)
                             .statusDistribution(statusDistribution)
                             .averageDaysInProcess(Math.round(avgDaysInProcess * 100.0) / 100.0)
@@ -338,6 +477,47 @@ public class ReportService {
     }
 
 
+    /**
+     * Cuenta los estudiantes activos únicos de un conjunto de modalidades, consultando los IDs
+     * por lotes de {@link #MODALITY_ID_BATCH_SIZE} modalidades
+     */
+    private long countDistinctActiveStudents(Collection<StudentModality> modalities) {
+        Set<Long> studentIds = new HashSet<>();
+        for (List<Long> batch : modalityIdBatches(modalities)) {
+            studentIds.addAll(studentModalityMemberRepository.findDistinctActiveStudentIdsByModalityIds(batch));
+        }
+        return studentIds.size();
+    }
+
+    /**
+     * Cuenta los miembros activos de cada modalidad del conjunto, con una consulta por lote
+     * de {@link #MODALITY_ID_BATCH_SIZE} modalidades
+     * @return Cantidad de miembros activos por ID de modalidad (sin entradas para modalidades sin miembros)
+     */
+    private Map<Long, Long> countActiveMembersByModality(Collection<StudentModality> modalities) {
+        Map<Long, Long> membersByModality = new HashMap<>();
+        for (List<Long> batch : modalityIdBatches(modalities)) {
+            for (ModalityMemberCountView count : studentModalityMemberRepository.countActiveMembersByModalityIds(batch)) {
+                membersByModality.put(count.getStudentModalityId(), count.getTotal());
+            }
+        }
+        return membersByModality;
+    }
+
+    /**
+     * Divide los IDs (sin repetir) de las modalidades en lotes para las consultas IN (...),
+     * así la lista de parámetros no crece con el tamaño del programa o del periodo
+     */
+    private static List<List<Long>> modalityIdBatches(Collection<StudentModality> modalities) {
+        List<Long> ids = modalities.stream().map(StudentModality::getId).distinct().toList();
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MODALITY_ID_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + MODALITY_ID_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+
     private String generateObservations(StudentModality modality, long daysInCurrentStatus) {
         List<String> observations = new ArrayList<>();
 
@@ -391,33 +571,30 @@ public class ReportService {
      */
     @Transactional(readOnly = true)
     public GlobalModalityReportDTO generateFilteredReport(ModalityReportFilterDTO filters) {
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
+        GlobalModalityReportDTO report = reportResultCache.get("FILTERED_ACTIVE_MODALITIES", userProgram.getId(), filters,
+                () -> buildFilteredReport(userProgram, filters));
+        return report.toBuilder().generatedBy(currentGeneratedBy(userProgram)).build();
+    }
+
+    private GlobalModalityReportDTO buildFilteredReport(AcademicProgram userProgram, ModalityReportFilterDTO filters) {
         long startTime = System.currentTimeMillis();
 
-        // Obtener usuario autenticado y su programa
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = auth != null ? auth.getName() : "SYSTEM";
-
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
         Long userProgramId = userProgram.getId();
         String programName = userProgram.getName();
         String programCode = userProgram.getCode();
 
-        // Obtener TODAS las modalidades del programa (en cualquier estado)
-        List<StudentModality> allModalities = studentModalityRepository.findAll()
-                .stream()
-                .filter(modality -> modality.getAcademicProgram().getId().equals(userProgramId))
-                .collect(Collectors.toList());
+        // Obtener las modalidades del programa (en cualquier estado), filtrando en la consulta
+        // por tipo y estado cuando vienen en los filtros
+        List<StudentModality> allModalities = studentModalityRepository.findAll(
+                inProgram(userProgramId)
+                        .and(degreeModalityIdIn(filters != null ? filters.getDegreeModalityIds() : null))
+                        .and(statusNameIn(filters != null ? filters.getProcessStatuses() : null))
+                        .and(fetchReportAssociations()));
 
-        // Aplicar filtros
+        // Aplicar filtros restantes
         List<StudentModality> filteredModalities = applyFilters(allModalities, filters);
 
         // Generar componentes del reporte
@@ -462,25 +639,12 @@ public class ReportService {
     @Transactional(readOnly = true)
     public AvailableModalityTypesDTO getAvailableModalityTypes() {
         // Obtener usuario autenticado y su programa
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = auth != null ? auth.getName() : "SYSTEM";
-
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
 
         // Obtener TODAS las modalidades del programa (en cualquier estado)
-        List<StudentModality> allModalities = studentModalityRepository.findAll()
-                .stream()
-                .filter(modality -> modality.getAcademicProgram().getId().equals(userProgram.getId()))
-                .collect(Collectors.toList());
+        List<StudentModality> allModalities = studentModalityRepository.findAll(
+                inProgram(userProgram.getId()).and(fetchReportAssociations()));
 
         // Agrupar por tipo de modalidad
         Map<Long, List<StudentModality>> modalitiesByType = allModalities.stream()
@@ -595,23 +759,19 @@ public class ReportService {
      */
     @Transactional(readOnly = true)
     public ModalityTypeComparisonReportDTO generateModalityTypeComparison(ModalityComparisonFilterDTO filters) {
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
+        ModalityTypeComparisonReportDTO report = reportResultCache.get("MODALITY_TYPE_COMPARISON", userProgram.getId(), filters,
+                () -> buildModalityTypeComparison(userProgram, filters));
+        return report.toBuilder().generatedBy(currentGeneratedBy(userProgram)).build();
+    }
+
+    private ModalityTypeComparisonReportDTO buildModalityTypeComparison(AcademicProgram userProgram,
+                                                                        ModalityComparisonFilterDTO filters) {
         long startTime = System.currentTimeMillis();
 
-        // Obtener usuario autenticado y su programa
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = auth != null ? auth.getName() : "SYSTEM";
 
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
-
         // Obtener modalidades según filtros
         List<StudentModality> modalities = getModalitiesForComparison(userProgram.getId(), filters);
 
@@ -673,35 +833,19 @@ public class ReportService {
      * Obtiene las modalidades para la comparativa según los filtros
      */
     private List<StudentModality> getModalitiesForComparison(Long programId, ModalityComparisonFilterDTO filters) {
-        List<StudentModality> allModalities;
+        Specification<StudentModality> spec = inProgram(programId).and(fetchReportAssociations());
 
         // Filtrar por activas o todas
         if (filters != null && Boolean.TRUE.equals(filters.getOnlyActiveModalities())) {
-            allModalities = studentModalityRepository.findByStatusIn(ReportUtils.getActiveStatuses());
-        } else {
-            allModalities = studentModalityRepository.findAll();
+            spec = spec.and(statusIn(ReportUtils.getActiveStatuses()));
         }
 
-        // Filtrar por programa
-        allModalities = allModalities.stream()
-                .filter(m -> m.getAcademicProgram().getId().equals(programId))
-                .collect(Collectors.toList());
-
         // Filtrar por año y semestre si se especificó
-        if (filters != null && filters.getYear() != null) {
-            allModalities = allModalities.stream()
-                    .filter(m -> m.getSelectionDate() != null &&
-                                 m.getSelectionDate().getYear() == filters.getYear())
-                    .collect(Collectors.toList());
-
-            if (filters.getSemester() != null) {
-                allModalities = allModalities.stream()
-                        .filter(m -> getSemesterFromDate(m.getSelectionDate()) == filters.getSemester())
-                        .collect(Collectors.toList());
-            }
+        if (filters != null) {
+            spec = spec.and(selectedInPeriod(filters.getYear(), filters.getSemester()));
         }
 
-        return allModalities;
+        return studentModalityRepository.findAll(spec);
     }
 
     /**
@@ -866,12 +1010,15 @@ public class ReportService {
     }
 
     /**
-     * Genera la comparación histórica por periodos
+     * Genera la comparación histórica por periodos, a partir de los contadores precalculados
      */
     private List<ModalityTypeComparisonReportDTO.PeriodComparisonDTO> generateHistoricalComparison(
             Long programId, int periodsCount, ModalityComparisonFilterDTO baseFilters) {
 
         List<ModalityTypeComparisonReportDTO.PeriodComparisonDTO> periods = new ArrayList<>();
+        Collection<ModalityProcessStatus> statuses = baseFilters != null && Boolean.TRUE.equals(baseFilters.getOnlyActiveModalities())
+                ? ReportUtils.getActiveStatuses()
+                : EnumSet.allOf(ModalityProcessStatus.class);
         LocalDateTime now = LocalDateTime.now();
         int currentYear = now.getYear();
         int currentSemester = getSemesterFromDate(now);
@@ -887,37 +1034,23 @@ public class ReportService {
                 semester += 2;
             }
 
-            ModalityComparisonFilterDTO periodFilter = ModalityComparisonFilterDTO.builder()
-                    .year(year)
-                    .semester(semester)
-                    .onlyActiveModalities(baseFilters != null ? baseFilters.getOnlyActiveModalities() : false)
-                    .build();
-
-            List<StudentModality> periodModalities = getModalitiesForComparison(programId, periodFilter);
-
-            // Contar modalidades por tipo
-            Map<String, Integer> modalitiesByType = periodModalities.stream()
-                    .collect(Collectors.groupingBy(
-                            m -> m.getProgramDegreeModality().getDegreeModality().getName(),
-                            Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                    ));
+            // Contar modalidades por tipo desde los contadores precalculados
+            Map<String, Integer> modalitiesByType =
+                    reportSnapshotService.countPeriodByModalityType(programId, year, semester, statuses);
 
             // Contar estudiantes por tipo
-            Map<String, Set<Long>> studentsSetByType = new HashMap<>();
-            for (StudentModality modality : periodModalities) {
-                String typeName = modality.getProgramDegreeModality().getDegreeModality().getName();
-                List<StudentModalityMember> members = studentModalityMemberRepository
-                        .findByStudentModalityIdAndStatus(modality.getId(), MemberStatus.ACTIVE);
-
-                studentsSetByType.computeIfAbsent(typeName, k -> new HashSet<>());
-                members.forEach(member -> studentsSetByType.get(typeName).add(member.getStudent().getId()));
-            }
-
-            Map<String, Integer> studentsByType = studentsSetByType.entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().size()));
+            LocalDateTime from = LocalDateTime.of(year, semester == 1 ? 1 : 7, 1, 0, 0);
+            Map<String, Integer> studentsByType = studentModalityMemberRepository
+                    .countDistinctActiveStudentsByModalityType(programId, statuses, from, from.plusMonths(6))
+                    .stream()
+                    .collect(Collectors.toMap(ModalityTypeCountView::getModalityName, c -> c.getTotal().intValue()));
+
+            int totalModalities = modalitiesByType.values().stream()
+                    .mapToInt(Integer::intValue)
+                    .sum();
 
-            int totalStudents = studentsSetByType.values().stream()
-                    .mapToInt(Set::size)
+            int totalStudents = studentsByType.values().stream()
+                    .mapToInt(Integer::intValue)
                     .sum();
 
             periods.add(ModalityTypeComparisonReportDTO.PeriodComparisonDTO.builder()
@@ -926,7 +1059,7 @@ public class ReportService {
                     .periodLabel(year + "-" + semester)
                     .modalitiesByType(modalitiesByType)
                     .studentsByType(studentsByType)
-                    .totalModalitiesInPeriod(periodModalities.size())
+                    .totalModalitiesInPeriod(totalModalities)
                     .totalStudentsInPeriod(totalStudents)
                     .build());
         }
@@ -1030,16 +1163,7 @@ public class ReportService {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = auth != null ? auth.getName() : "SYSTEM";
 
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
 
         // Obtener modalidades del programa
         List<StudentModality> modalities = getModalitiesForDirectorReport(userProgram.getId(), filters);
@@ -1125,44 +1249,24 @@ public class ReportService {
      * Obtiene las modalidades para el reporte de directores según los filtros
      */
     private List<StudentModality> getModalitiesForDirectorReport(Long programId, DirectorReportFilterDTO filters) {
-        List<StudentModality> modalities;
-
-        // Filtrar por activas o todas
-        if (filters != null && Boolean.TRUE.equals(filters.getOnlyActiveModalities())) {
-            modalities = studentModalityRepository.findByStatusIn(ReportUtils.getActiveStatuses());
-        } else {
-            modalities = studentModalityRepository.findAll();
-        }
-
-        // Filtrar por programa
-        modalities = modalities.stream()
-                .filter(m -> m.getAcademicProgram().getId().equals(programId))
-                .filter(m -> m.getProjectDirector() != null) // Solo las que tienen director
-                .collect(Collectors.toList());
-
-        // Filtrar por director específico
-        if (filters != null && filters.getDirectorId() != null) {
-            modalities = modalities.stream()
-                    .filter(m -> m.getProjectDirector().getId().equals(filters.getDirectorId()))
-                    .collect(Collectors.toList());
-        }
-
-        // Filtrar por estados
-        if (filters != null && filters.getProcessStatuses() != null && !filters.getProcessStatuses().isEmpty()) {
-            modalities = modalities.stream()
-                    .filter(m -> filters.getProcessStatuses().contains(m.getStatus().name()))
-                    .collect(Collectors.toList());
-        }
+        // Solo las que tienen director
+        Specification<StudentModality> spec = inProgram(programId)
+                .and(hasProjectDirector())
+                .and(fetchReportAssociations());
+
+        if (filters != null) {
+            // Filtrar por activas o todas
+            if (Boolean.TRUE.equals(filters.getOnlyActiveModalities())) {
+                spec = spec.and(statusIn(ReportUtils.getActiveStatuses()));
+            }
 
-        // Filtrar por tipos de modalidad
-        if (filters != null && filters.getModalityTypes() != null && !filters.getModalityTypes().isEmpty()) {
-            modalities = modalities.stream()
-                    .filter(m -> filters.getModalityTypes().contains(
-                            m.getProgramDegreeModality().getDegreeModality().getName()))
-                    .collect(Collectors.toList());
+            spec = spec
+                    .and(projectDirectorIs(filters.getDirectorId()))
+                    .and(statusNameIn(filters.getProcessStatuses()))
+                    .and(degreeModalityNameIn(filters.getModalityTypes()));
         }
 
-        return modalities;
+        return studentModalityRepository.findAll(spec);
     }
 
     /**
@@ -1353,12 +1457,7 @@ public class ReportService {
                 .count();
 
         // Contar estudiantes únicos
-        Set<Long> uniqueStudents = new HashSet<>();
-        for (StudentModality modality : allModalities) {
-            List<StudentModalityMember> members = studentModalityMemberRepository
-                    .findByStudentModalityIdAndStatus(modality.getId(), MemberStatus.ACTIVE);
-            members.forEach(member -> uniqueStudents.add(member.getStudent().getId()));
-        }
+        long uniqueStudents = countDistinctActiveStudents(allModalities);
 
         // Calcular promedios
         double avgModalitiesPerDirector = totalDirectors > 0 ?
@@ -1394,7 +1493,7 @@ public class ReportService {
                 .totalDirectors(totalDirectors)
                 .totalModalitiesAssigned(totalModalitiesAssigned)
                 .totalActiveModalities((int) activeModalities)
-                .totalStudentsSupervised(uniqueStudents.size())
+                .totalStudentsSupervised((int) uniqueStudents)
                 .averageModalitiesPerDirector(Math.round(avgModalitiesPerDirector * 100.0) / 100.0)
                 .directorWithMostModalities(directorWithMost)
                 .maxModalitiesCount(maxCount)
@@ -1461,27 +1560,26 @@ public class ReportService {
      */
     @Transactional(readOnly = true)
     public ModalityHistoricalReportDTO generateModalityHistoricalReport(Long modalityTypeId, Integer periodsToAnalyze) {
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
+        int periods = periodsToAnalyze != null ? periodsToAnalyze : 8; // Por defecto 4 años (8 semestres)
+        ModalityHistoricalReportDTO report = reportResultCache.get("MODALITY_HISTORICAL_ANALYSIS", userProgram.getId(),
+                List.of(modalityTypeId, periods),
+                () -> buildModalityHistoricalReport(userProgram, modalityTypeId, periods));
+        return report.toBuilder().generatedBy(currentGeneratedBy(userProgram)).build();
+    }
+
+    private ModalityHistoricalReportDTO buildModalityHistoricalReport(AcademicProgram userProgram, Long modalityTypeId,
+                                                                      int periods) {
         long startTime = System.currentTimeMillis();
 
-        // Obtener usuario autenticado y su programa
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = auth != null ? auth.getName() : "SYSTEM";
 
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
-
         // Obtener todas las modalidades del tipo especificado en el programa
-        List<StudentModality> allModalitiesOfType = studentModalityRepository.findAll().stream()
-                .filter(m -> m.getAcademicProgram().getId().equals(userProgram.getId()))
-                .filter(m -> m.getProgramDegreeModality().getDegreeModality().getId().equals(modalityTypeId))
-                .collect(Collectors.toList());
+        List<StudentModality> allModalitiesOfType = studentModalityRepository.findAll(
+                inProgram(userProgram.getId())
+                        .and(degreeModalityIdIn(List.of(modalityTypeId)))
+                        .and(fetchReportAssociations()));
 
         if (allModalitiesOfType.isEmpty()) {
             throw new IllegalArgumentException("No se encontraron modalidades del tipo especificado en el programa");
@@ -1494,9 +1592,9 @@ public class ReportService {
         ModalityHistoricalReportDTO.CurrentStateDTO currentState = generateCurrentState(allModalitiesOfType, userProgram);
 
         // Generar análisis histórico por periodos
-        int periods = periodsToAnalyze != null ? periodsToAnalyze : 8; // Por defecto 4 años (8 semestres)
         List<ModalityHistoricalReportDTO.AcademicPeriodAnalysisDTO> historicalAnalysis =
-                generateHistoricalAnalysis(allModalitiesOfType, periods);
+                generateHistoricalAnalysis(allModalitiesOfType,
+                        reportSnapshotService.getSnapshots(userProgram.getId(), modalityTypeId), periods);
 
         // Generar análisis de tendencias
         ModalityHistoricalReportDTO.TrendsEvolutionDTO trendsEvolution =
@@ -1516,7 +1614,8 @@ public class ReportService {
 
         // Generar análisis de desempeño
         ModalityHistoricalReportDTO.PerformanceAnalysisDTO performanceAnalysis =
-                generatePerformanceAnalysis(allModalitiesOfType, historicalAnalysis);
+                generatePerformanceAnalysis(allModalitiesOfType, historicalAnalysis,
+                        reportSnapshotService.getAverageDaysByStatus(userProgram.getId(), modalityTypeId));
 
         // Generar proyecciones
         ModalityHistoricalReportDTO.ProjectionsDTO projections =
@@ -1701,10 +1800,11 @@ public class ReportService {
     }
 
     /**
-     * Genera análisis histórico por periodos académicos
+     * Genera análisis histórico por periodos académicos.
+     * Los conteos por estado, tipo de sesión y calificación se leen de los contadores precalculados
      */
     private List<ModalityHistoricalReportDTO.AcademicPeriodAnalysisDTO> generateHistoricalAnalysis(
-            List<StudentModality> allModalities, int periodsToAnalyze) {
+            List<StudentModality> allModalities, List<ModalityReportSnapshot> snapshots, int periodsToAnalyze) {
 
         List<ModalityHistoricalReportDTO.AcademicPeriodAnalysisDTO> analysis = new ArrayList<>();
         LocalDateTime now = LocalDateTime.now();
@@ -1732,7 +1832,11 @@ public class ReportService {
                     .filter(m -> getSemesterFromDate(m.getSelectionDate()) == finalSemester)
                     .collect(Collectors.toList());
 
-            analysis.add(analyzePeriod(year, semester, periodModalities));
+            List<ModalityReportSnapshot> periodSnapshots = snapshots.stream()
+                    .filter(s -> s.getPeriodYear() == finalYear && s.getPeriodSemester() == finalSemester)
+                    .collect(Collectors.toList());
+
+            analysis.add(analyzePeriod(year, semester, periodModalities, periodSnapshots));
         }
 
         return analysis;
@@ -1742,36 +1846,34 @@ public class ReportService {
      * Analiza un periodo académico específico
      */
     private ModalityHistoricalReportDTO.AcademicPeriodAnalysisDTO analyzePeriod(
-            int year, int semester, List<StudentModality> periodModalities) {
+            int year, int semester, List<StudentModality> periodModalities,
+            List<ModalityReportSnapshot> periodSnapshots) {
 
         // Contar estudiantes únicos
-        Set<Long> students = new HashSet<>();
-        for (StudentModality modality : periodModalities) {
-            List<StudentModalityMember> members = studentModalityMemberRepository
-                    .findByStudentModalityIdAndStatus(modality.getId(), MemberStatus.ACTIVE);
-            members.forEach(member -> students.add(member.getStudent().getId()));
-        }
+        long students = countDistinctActiveStudents(periodModalities);
 
-        // Contar por tipo
-        long individual = periodModalities.stream()
-                .filter(m -> m.getModalityType() == com.SIGMA.USCO.Modalities.Entity.enums.ModalityType.INDIVIDUAL)
-                .count();
+        // Contadores precalculados del periodo
+        long totalInstances = periodSnapshots.stream().mapToLong(ModalityReportSnapshot::getModalityCount).sum();
 
-        long group = periodModalities.size() - individual;
+        long group = periodSnapshots.stream().mapToLong(ModalityReportSnapshot::getGroupModalityCount).sum();
+        long individual = totalInstances - group;
 
         // Contar por resultado
-        long completed = periodModalities.stream()
-                .filter(m -> m.getStatus() == ModalityProcessStatus.GRADED_APPROVED)
-                .count();
+        long completed = countSnapshots(periodSnapshots, EnumSet.of(ModalityProcessStatus.GRADED_APPROVED));
 
-        long abandoned = periodModalities.stream()
-                .filter(m -> m.getStatus() == ModalityProcessStatus.CORRECTIONS_REJECTED_FINAL ||
-                           m.getStatus() == ModalityProcessStatus.GRADED_FAILED)
-                .count();
+        long abandoned = countSnapshots(periodSnapshots, EnumSet.of(
+                ModalityProcessStatus.CORRECTIONS_REJECTED_FINAL,
+                ModalityProcessStatus.GRADED_FAILED));
 
         // Calcular tasa de completitud
-        double completionRate = periodModalities.size() > 0 ?
-                (double) completed / periodModalities.size() * 100 : 0;
+        double completionRate = totalInstances > 0 ?
+                (double) completed / totalInstances * 100 : 0;
+
+        // Calificación promedio
+        long graded = periodSnapshots.stream().mapToLong(ModalityReportSnapshot::getGradedCount).sum();
+        Double averageGrade = graded > 0
+                ? Math.round(periodSnapshots.stream().mapToDouble(ModalityReportSnapshot::getGradeSum).sum() / graded * 100.0) / 100.0
+                : null;
 
         // Calcular días promedio
         double avgDays = periodModalities.stream()
@@ -1794,11 +1896,9 @@ public class ReportService {
                 .collect(Collectors.toList());
 
         // Distribución por estado
-        Map<String, Integer> statusDistribution = periodModalities.stream()
-                .collect(Collectors.groupingBy(
-                        m -> ReportUtils.describeModalityStatus(m.getStatus()),
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+        Map<String, Integer> statusDistribution = new HashMap<>();
+        periodSnapshots.forEach(s -> statusDistribution.merge(
+                ReportUtils.describeModalityStatus(s.getStatus()), (int) s.getModalityCount(), Integer::sum));
 
         // Generar observaciones
         String observations = generatePeriodObservations(periodModalities, completionRate, avgDays);
@@ -1807,8 +1907,8 @@ public class ReportService {
                 .year(year)
                 .semester(semester)
                 .periodLabel(year + "-" + semester)
-                .totalInstances(periodModalities.size())
-                .studentsEnrolled(students.size())
+                .totalInstances((int) totalInstances)
+                .studentsEnrolled((int) students)
                 .individualInstances((int) individual)
                 .groupInstances((int) group)
                 .completedSuccessfully((int) completed)
@@ -1818,12 +1918,19 @@ public class ReportService {
                 .averageCompletionDays(Math.round(avgDays * 100.0) / 100.0)
                 .directorsInvolved(directors.size())
                 .topDirectors(topDirectors)
-                .averageGrade(null) // No disponible actualmente
+                .averageGrade(averageGrade)
                 .distributionByStatus(statusDistribution)
                 .observations(observations)
                 .build();
     }
 
+    private long countSnapshots(List<ModalityReportSnapshot> snapshots, Set<ModalityProcessStatus> statuses) {
+        return snapshots.stream()
+                .filter(s -> statuses.contains(s.getStatus()))
+                .mapToLong(ModalityReportSnapshot::getModalityCount)
+                .sum();
+    }
+
     /**
      * Genera observaciones para un periodo
      */
@@ -1893,11 +2000,11 @@ public class ReportService {
         int currentYear = now.getYear();
         int currentSemester = getSemesterFromDate(now);
 
-        Map<Long, Long> countByModality = studentModalityRepository.findAll().stream()
-                .filter(m -> m.getAcademicProgram().getId().equals(program.getId()))
-                .filter(m -> m.getSelectionDate() != null)
-                .filter(m -> m.getSelectionDate().getYear() == currentYear)
-                .filter(m -> getSemesterFromDate(m.getSelectionDate()) == currentSemester)
+        Map<Long, Long> countByModality = studentModalityRepository.findAll(
+                        inProgram(program.getId())
+                                .and(selectedInPeriod(currentYear, currentSemester))
+                                .and(fetchReportAssociations()))
+                .stream()
                 .collect(Collectors.groupingBy(
                         m -> m.getProgramDegreeModality().getDegreeModality().getId(),
                         Collectors.counting()
@@ -2258,10 +2365,13 @@ public class ReportService {
                         Collectors.counting()
                 ));
 
+        // Miembros activos de todas las modalidades, en una sola consulta
+        Map<Long, Long> membersByModality = countActiveMembersByModality(allModalities);
+
         List<ModalityHistoricalReportDTO.TopDirectorDTO> topDirectors = directorCounts.entrySet().stream()
                 .sorted(Map.Entry.<User, Long>comparingByValue().reversed())
                 .limit(5)
-                .map(entry -> buildTopDirector(entry.getKey(), entry.getValue().intValue(), allModalities))
+                .map(entry -> buildTopDirector(entry.getKey(), entry.getValue().intValue(), allModalities, membersByModality))
                 .collect(Collectors.toList());
 
         // Director más experimentado
@@ -2288,14 +2398,13 @@ public class ReportService {
      * Construye información de un top director
      */
     private ModalityHistoricalReportDTO.TopDirectorDTO buildTopDirector(
-            User director, int instances, List<StudentModality> allModalities) {
+            User director, int instances, List<StudentModality> allModalities, Map<Long, Long> membersByModality) {
 
         // Contar estudiantes supervisados
         int students = 0;
         for (StudentModality m : allModalities) {
             if (m.getProjectDirector() != null && m.getProjectDirector().getId().equals(director.getId())) {
-                students += studentModalityMemberRepository
-                        .findByStudentModalityIdAndStatus(m.getId(), MemberStatus.ACTIVE).size();
+                students += membersByModality.getOrDefault(m.getId(), 0L).intValue();
             }
         }
 
@@ -2334,30 +2443,20 @@ public class ReportService {
             List<StudentModality> allModalities) {
 
         // Estudiantes históricos únicos
-        Set<Long> allStudents = new HashSet<>();
-        for (StudentModality m : allModalities) {
-            List<StudentModalityMember> members = studentModalityMemberRepository
-                    .findByStudentModalityIdAndStatus(m.getId(), MemberStatus.ACTIVE);
-            members.forEach(member -> allStudents.add(member.getStudent().getId()));
-        }
+        long allStudents = countDistinctActiveStudents(allModalities);
 
         // Estudiantes actuales
         LocalDateTime now = LocalDateTime.now();
-        Set<Long> currentStudents = new HashSet<>();
         List<StudentModality> currentModalities = allModalities.stream()
                 .filter(m -> m.getSelectionDate() != null)
                 .filter(m -> m.getSelectionDate().getYear() == now.getYear())
                 .filter(m -> getSemesterFromDate(m.getSelectionDate()) == getSemesterFromDate(now))
                 .collect(Collectors.toList());
 
-        for (StudentModality m : currentModalities) {
-            List<StudentModalityMember> members = studentModalityMemberRepository
-                    .findByStudentModalityIdAndStatus(m.getId(), MemberStatus.ACTIVE);
-            members.forEach(member -> currentStudents.add(member.getStudent().getId()));
-        }
+        long currentStudents = countDistinctActiveStudents(currentModalities);
 
         double avgStudentsPerInstance = allModalities.size() > 0 ?
-                (double) allStudents.size() / allModalities.size() : 0;
+                (double) allStudents / allModalities.size() : 0;
 
         // Contar individuales vs grupales
         long individual = allModalities.stream()
@@ -2372,8 +2471,8 @@ public class ReportService {
         // Se puede implementar si se necesita
 
         return ModalityHistoricalReportDTO.StudentStatisticsDTO.builder()
-                .totalHistoricalStudents(allStudents.size())
-                .currentStudents(currentStudents.size())
+                .totalHistoricalStudents((int) allStudents)
+                .currentStudents((int) currentStudents)
                 .averageStudentsPerInstance(Math.round(avgStudentsPerInstance * 100.0) / 100.0)
                 .maxStudentsInGroup(3) // Valor por defecto, se puede calcular
                 .minStudentsInGroup(1)
@@ -2388,7 +2487,8 @@ public class ReportService {
      */
     private ModalityHistoricalReportDTO.PerformanceAnalysisDTO generatePerformanceAnalysis(
             List<StudentModality> allModalities,
-            List<ModalityHistoricalReportDTO.AcademicPeriodAnalysisDTO> historical) {
+            List<ModalityHistoricalReportDTO.AcademicPeriodAnalysisDTO> historical,
+            Map<ModalityProcessStatus, Double> averageDaysByStatus) {
 
         // Tasa de completitud general
         long completed = allModalities.stream()
@@ -2476,6 +2576,11 @@ public class ReportService {
                 .slowestCompletionDays(slowest)
                 .completionRateByYear(completionRateByYear)
                 .successRateByYear(successRateByYear)
+                .averageDaysByStatus(averageDaysByStatus.entrySet().stream()
+                        .collect(Collectors.toMap(
+                                e -> ReportUtils.describeModalityStatus(e.getKey()),
+                                e -> Math.round(e.getValue() * 100.0) / 100.0,
+                                (a, b) -> a)))
                 .performanceVerdict(verdict)
                 .strengthPoints(strengths)
                 .improvementAreas(improvements)
@@ -2660,22 +2765,16 @@ public class ReportService {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = auth != null ? auth.getName() : "SYSTEM";
 
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
 
-        // Obtener todas las modalidades del programa
-        List<StudentModality> allModalities = studentModalityRepository.findAll().stream()
-                .filter(m -> m.getAcademicProgram().getId().equals(userProgram.getId()))
-                .collect(Collectors.toList());
+        // Obtener las modalidades del programa, filtrando en la consulta por estado y tipo
+        List<StudentModality> allModalities = studentModalityRepository.findAll(
+                inProgram(userProgram.getId())
+                        .and(statusNameIn(filters != null ? filters.getStatuses() : null))
+                        .and(degreeModalityNameIn(filters != null ? filters.getModalityTypes() : null))
+                        .and(fetchReportAssociations()));
 
-        // Aplicar filtros
+        // Aplicar filtros restantes
         List<StudentModality> filteredModalities = applyFilters(allModalities, filters);
 
         // Generar filtros aplicados
@@ -3513,15 +3612,7 @@ public class ReportService {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = auth != null ? auth.getName() : "SYSTEM";
 
-        User authenticatedUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
-
-        List<ProgramAuthority> programAuthorities = programAuthorityRepository.findByUser_Id(authenticatedUser.getId());
-        if (programAuthorities.isEmpty()) {
-            throw new IllegalArgumentException("El usuario no tiene asignado ningún programa académico");
-        }
-
-        AcademicProgram userProgram = programAuthorities.get(0).getAcademicProgram();
+        AcademicProgram userProgram = resolveAuthenticatedProgram();
 
         // Obtener modalidades completadas (aprobadas o fallidas)
         List<ModalityProcessStatus> completedStatuses = Arrays.asList(
@@ -3529,10 +3620,10 @@ public class ReportService {
                 ModalityProcessStatus.GRADED_FAILED
         );
 
-        List<StudentModality> completedModalities = studentModalityRepository
-                .findByStatusIn(completedStatuses).stream()
-                .filter(m -> m.getAcademicProgram().getId().equals(userProgram.getId()))
-                .collect(Collectors.toList());
+        List<StudentModality> completedModalities = studentModalityRepository.findAll(
+                inProgram(userProgram.getId())
+                        .and(statusIn(completedStatuses))
+                        .and(fetchReportAssociations()));
 
         // Aplicar filtros adicionales
         completedModalities = applyCompletedFilters(completedModalities, filters);
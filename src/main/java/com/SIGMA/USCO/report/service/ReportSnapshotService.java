@@ -0,0 +1,232 @@
+package com.SIGMA.USCO.report.service;
+
+import com.SIGMA.USCO.Modalities.Entity.ModalityProcessStatusHistory;
+import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import com.SIGMA.USCO.Modalities.Repository.ModalityProcessStatusHistoryRepository;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityTypeCountView;
+import com.SIGMA.USCO.report.dto.projection.ModalitySnapshotSourceView;
+import com.SIGMA.USCO.report.dto.projection.StatusTransitionView;
+import com.SIGMA.USCO.report.entity.ModalityReportSnapshot;
+import com.SIGMA.USCO.report.entity.ModalityStatusDurationSnapshot;
+import com.SIGMA.USCO.report.event.ModalityStatusChangedEvent;
+import com.SIGMA.USCO.report.repository.ModalityReportSnapshotRepository;
+import com.SIGMA.USCO.report.repository.ModalityStatusDurationSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Mantiene las tablas precalculadas de reportes ({@link ModalityReportSnapshot} y
+ * {@link ModalityStatusDurationSnapshot}) a partir de los cambios de estado de las modalidades.
+ *
+ * Cada registro nuevo en el historial de estados recalcula únicamente el bucket
+ * (programa, tipo de modalidad y periodo) de la modalidad afectada y suma el tiempo
+ * que la modalidad permaneció en su estado anterior. Una reconstrucción completa
+ * se ejecuta al iniciar la aplicación si las tablas están vacías y cada noche,
+ * para corregir cualquier cambio que no haya pasado por el historial.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportSnapshotService {
+
+    /** Año y semestre usados para las modalidades sin fecha de selección */
+    public static final int UNDATED_PERIOD = 0;
+
+    private final ModalityReportSnapshotRepository snapshotRepository;
+    private final ModalityStatusDurationSnapshotRepository durationRepository;
+    private final ModalityProcessStatusHistoryRepository historyRepository;
+    private final ReportResultCache reportResultCache;
+
+    @Async("reportSnapshotTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onModalityStatusChanged(ModalityStatusChangedEvent event) {
+        ModalityProcessStatusHistory history = historyRepository.findById(event.historyId()).orElse(null);
+        if (history == null) {
+            return;
+        }
+
+        StudentModality modality = history.getStudentModality();
+        Long programId = modality.getAcademicProgram().getId();
+        Long degreeModalityId = modality.getProgramDegreeModality().getDegreeModality().getId();
+
+        refreshBucket(programId, degreeModalityId,
+                periodYear(modality.getSelectionDate()), periodSemester(modality.getSelectionDate()));
+
+        historyRepository.findTopByStudentModalityIdAndIdLessThanOrderByIdDesc(modality.getId(), history.getId())
+                .filter(previous -> previous.getChangeDate() != null && history.getChangeDate() != null)
+                .ifPresent(previous -> addCompletedStay(programId, degreeModalityId, previous.getStatus(),
+                        secondsBetween(previous.getChangeDate(), history.getChangeDate())));
+
+        // Los reportes que leen las tablas precalculadas pudieron guardarse en caché antes de esta actualización
+        afterCommit(() -> reportResultCache.evictProgram(programId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (snapshotRepository.count() == 0) {
+            log.info("Tablas precalculadas de reportes vacías, reconstruyendo");
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "0 30 2 * * ?") // Todos los días a las 2:30 AM
+    @Transactional
+    public void rebuildAll() {
+        rebuild();
+        afterCommit(reportResultCache::evictAll);
+    }
+
+    /**
+     * Obtiene los contadores de todos los periodos de un tipo de modalidad en un programa
+     */
+    @Transactional(readOnly = true)
+    public List<ModalityReportSnapshot> getSnapshots(Long programId, Long degreeModalityId) {
+        return snapshotRepository.findByAcademicProgramIdAndDegreeModalityId(programId, degreeModalityId);
+    }
+
+    /**
+     * Cuenta las modalidades de un periodo agrupadas por tipo de modalidad de grado
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Integer> countPeriodByModalityType(Long programId, int year, int semester,
+                                                           Collection<ModalityProcessStatus> statuses) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (ModalityTypeCountView row : snapshotRepository.sumPeriodByModalityType(programId, year, semester, statuses)) {
+            counts.merge(row.getModalityName(), row.getTotal().intValue(), Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Calcula los días promedio que las modalidades de un tipo permanecen en cada estado
+     */
+    @Transactional(readOnly = true)
+    public Map<ModalityProcessStatus, Double> getAverageDaysByStatus(Long programId, Long degreeModalityId) {
+        Map<ModalityProcessStatus, Double> averages = new EnumMap<>(ModalityProcessStatus.class);
+        for (ModalityStatusDurationSnapshot row : durationRepository.findByAcademicProgramIdAndDegreeModalityId(programId, degreeModalityId)) {
+            if (row.getCompletedStays() > 0) {
+                averages.put(row.getStatus(), row.getTotalSeconds() / 86400.0 / row.getCompletedStays());
+            }
+        }
+        return averages;
+    }
+
+    public static int periodYear(LocalDateTime selectionDate) {
+        return selectionDate != null ? selectionDate.getYear() : UNDATED_PERIOD;
+    }
+
+    public static int periodSemester(LocalDateTime selectionDate) {
+        if (selectionDate == null) {
+            return UNDATED_PERIOD;
+        }
+        return selectionDate.getMonthValue() <= 6 ? 1 : 2;
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void refreshBucket(Long programId, Long degreeModalityId, int year, int semester) {
+        snapshotRepository.deleteBucket(programId, degreeModalityId, year, semester);
+        LocalDateTime now = LocalDateTime.now();
+        snapshotRepository.saveAll(snapshotRepository.aggregateBucketSource(programId, degreeModalityId, year, semester)
+                .stream()
+                .map(source -> toSnapshot(source, now))
+                .toList());
+    }
+
+    private void addCompletedStay(Long programId, Long degreeModalityId, ModalityProcessStatus status, long seconds) {
+        LocalDateTime now = LocalDateTime.now();
+        if (durationRepository.addCompletedStay(programId, degreeModalityId, status, seconds, now) == 0) {
+            durationRepository.save(ModalityStatusDurationSnapshot.builder()
+                    .academicProgramId(programId)
+                    .degreeModalityId(degreeModalityId)
+                    .status(status)
+                    .completedStays(1)
+                    .totalSeconds(seconds)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        snapshotRepository.deleteAllSnapshots();
+        List<ModalityReportSnapshot> snapshots = snapshotRepository.aggregateAllSources().stream()
+                .map(source -> toSnapshot(source, now))
+                .toList();
+        snapshotRepository.saveAll(snapshots);
+
+        durationRepository.deleteAllSnapshots();
+        Map<String, ModalityStatusDurationSnapshot> durations = new HashMap<>();
+        StatusTransitionView previous = null;
+        for (StatusTransitionView transition : durationRepository.findAllTransitionsInOrder()) {
+            if (previous != null
+                    && previous.getStudentModalityId().equals(transition.getStudentModalityId())
+                    && previous.getChangeDate() != null
+                    && transition.getChangeDate() != null) {
+                StatusTransitionView left = previous;
+                ModalityStatusDurationSnapshot duration = durations.computeIfAbsent(
+                        left.getAcademicProgramId() + "|" + left.getDegreeModalityId() + "|" + left.getStatus(),
+                        key -> ModalityStatusDurationSnapshot.builder()
+                                .academicProgramId(left.getAcademicProgramId())
+                                .degreeModalityId(left.getDegreeModalityId())
+                                .status(left.getStatus())
+                                .updatedAt(now)
+                                .build());
+                duration.setCompletedStays(duration.getCompletedStays() + 1);
+                duration.setTotalSeconds(duration.getTotalSeconds()
+                        + secondsBetween(left.getChangeDate(), transition.getChangeDate()));
+            }
+            previous = transition;
+        }
+        durationRepository.saveAll(durations.values());
+
+        log.info("Tablas precalculadas de reportes reconstruidas: {} contadores, {} tiempos por estado en {} ms",
+                snapshots.size(), durations.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private ModalityReportSnapshot toSnapshot(ModalitySnapshotSourceView source, LocalDateTime now) {
+        return ModalityReportSnapshot.builder()
+                .academicProgramId(source.getAcademicProgramId())
+                .degreeModalityId(source.getDegreeModalityId())
+                .periodYear(source.getPeriodYear())
+                .periodSemester(source.getPeriodSemester())
+                .status(source.getStatus())
+                .modalityCount(source.getModalityCount())
+                .groupModalityCount(source.getGroupModalityCount())
+                .gradedCount(source.getGradedCount())
+                .gradeSum(source.getGradeSum())
+                .updatedAt(now)
+                .build();
+    }
+
+    private static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).getSeconds());
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -26,29 +27,38 @@ public class StudentListingPdfGenerator {
     private static final BaseColor TEXT_GRAY = new BaseColor(80, 80, 80); // Texto secundario
 
     // Fuentes con colores institucionales
-    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 22, INSTITUTIONAL_RED);
-    private static final Font SUBTITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED);
-    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15, INSTITUTIONAL_RED);
-    private static final Font SUBHEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED);
-    private static final Font BOLD_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
-    private static final Font NORMAL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_BLACK);
-    private static final Font SMALL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9, TEXT_GRAY);
-    private static final Font TINY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY);
-    private static final Font TABLE_HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, WHITE);
-    private static final Font TABLE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_BLACK);
+    private static final Font TITLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 22, INSTITUTIONAL_RED);
+    private static final Font SUBTITLE_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 16, INSTITUTIONAL_RED);
+    private static final Font HEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 15, INSTITUTIONAL_RED);
+    private static final Font SUBHEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 12, INSTITUTIONAL_RED);
+    private static final Font BOLD_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_BLACK);
+    private static final Font NORMAL_FONT = PdfResources.font(FontFactory.HELVETICA, 10, TEXT_BLACK);
+    private static final Font SMALL_FONT = PdfResources.font(FontFactory.HELVETICA, 9, TEXT_GRAY);
+    private static final Font TINY_FONT = PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY);
+    private static final Font TABLE_HEADER_FONT = PdfResources.font(FontFactory.HELVETICA_BOLD, 8, WHITE);
+    private static final Font TABLE_FONT = PdfResources.font(FontFactory.HELVETICA, 7, TEXT_BLACK);
 
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
+    // Filas del listado que se acumulan antes de escribirlas al documento
+    private static final int LISTING_FLUSH_ROWS = 200;
+
     public ByteArrayOutputStream generatePDF(StudentListingReportDTO report)
             throws DocumentException, IOException {
-
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePDF(report, outputStream);
+        return outputStream;
+    }
+
+    public void generatePDF(StudentListingReportDTO report, OutputStream outputStream)
+            throws DocumentException, IOException {
+
         Document document = new Document(PageSize.A4.rotate(), 40, 40, 50, 50); // Landscape para más espacio
         PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
 
         // Agregar eventos de página
-        StudentListingPageEventHelper pageEvent = new StudentListingPageEventHelper(report);
-        writer.setPageEvent(pageEvent);
+        writer.setPageEvent(new InstitutionalFooterEvent(report.getAcademicProgramName()));
 
         document.open();
 
@@ -94,7 +104,6 @@ public class StudentListingPdfGenerator {
         addFooterSection(document, report);
 
         document.close();
-        return outputStream;
     }
 
     /**
@@ -123,7 +132,7 @@ public class StudentListingPdfGenerator {
         titleCell.setBorder(Rectangle.NO_BORDER);
 
         Paragraph titlePara = new Paragraph("REPORTE DE LISTADO DE ESTUDIANTES\nModalidades de Grado",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 20, WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 20, WHITE));
         titlePara.setAlignment(Element.ALIGN_CENTER);
         titleCell.addElement(titlePara);
         titleBox.addCell(titleCell);
@@ -164,7 +173,7 @@ public class StudentListingPdfGenerator {
                 "Este reporte presenta un listado detallado de estudiantes con sus modalidades de grado, " +
                 "incluyendo información académica, estado de avance, directores asignados y estadísticas " +
                 "generales. La información es generada automáticamente por el Sistema SIGMA.",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 9, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 9, TEXT_GRAY));
         disclaimer.setAlignment(Element.ALIGN_JUSTIFIED);
         disclaimer.setIndentationLeft(40);
         disclaimer.setIndentationRight(40);
@@ -174,7 +183,7 @@ public class StudentListingPdfGenerator {
         Paragraph closing = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n" +
                 "Universidad Surcolombiana | Facultad de Ingeniería | Neiva – Huila",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         closing.setAlignment(Element.ALIGN_CENTER);
         document.add(closing);
     }
@@ -191,7 +200,7 @@ public class StudentListingPdfGenerator {
 
         PdfPCell leftCell = new PdfPCell(new Phrase(
                 "UNIVERSIDAD SURCOLOMBIANA — SIGMA",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
         leftCell.setBorder(Rectangle.BOTTOM);
         leftCell.setBorderColorBottom(INSTITUTIONAL_RED);
         leftCell.setBorderWidthBottom(1.5f);
@@ -200,7 +209,7 @@ public class StudentListingPdfGenerator {
 
         PdfPCell rightCell = new PdfPCell(new Phrase(
                 "Listado de Estudiantes — " + report.getAcademicProgramName(),
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY)));
         rightCell.setBorder(Rectangle.BOTTOM);
         rightCell.setBorderColorBottom(INSTITUTIONAL_GOLD);
         rightCell.setBorderWidthBottom(1.5f);
@@ -233,7 +242,7 @@ public class StudentListingPdfGenerator {
                 "Este reporte fue generado automáticamente por el sistema SIGMA a partir de los datos académicos " +
                 "registrados para el programa: " + report.getAcademicProgramName() + ". " +
                 "Para consultas o modificaciones del listado, contacte con la coordinación del programa académico.",
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA_OBLIQUE, 8, TEXT_GRAY));
         note.setAlignment(Element.ALIGN_JUSTIFIED);
         noteCell.addElement(note);
         noteTable.addCell(noteCell);
@@ -243,7 +252,7 @@ public class StudentListingPdfGenerator {
         Paragraph closing = new Paragraph(
                 "Sistema Integral de Gestión de Modalidades de Grado — SIGMA\n" +
                 "Universidad Surcolombiana | Facultad de Ingeniería | Neiva – Huila",
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY));
         closing.setAlignment(Element.ALIGN_CENTER);
         document.add(closing);
     }
@@ -255,7 +264,7 @@ public class StudentListingPdfGenerator {
         if (value == null) value = "—";
 
         PdfPCell labelCell = new PdfPCell(new Phrase(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, TEXT_GRAY)));
         labelCell.setBackgroundColor(LIGHT_GOLD);
         labelCell.setPadding(8f);
         labelCell.setBorder(Rectangle.BOX);
@@ -265,7 +274,7 @@ public class StudentListingPdfGenerator {
         table.addCell(labelCell);
 
         PdfPCell valueCell = new PdfPCell(new Phrase(value,
-                FontFactory.getFont(FontFactory.HELVETICA, 10, TEXT_BLACK)));
+                PdfResources.font(FontFactory.HELVETICA, 10, TEXT_BLACK)));
         valueCell.setPadding(8f);
         valueCell.setBorder(Rectangle.BOX);
         valueCell.setBorderColor(INSTITUTIONAL_GOLD);
@@ -520,6 +529,8 @@ public class StudentListingPdfGenerator {
         table.setWidths(new float[]{1.5f, 0.8f, 1.8f, 1f, 0.6f, 0.6f, 1.2f, 0.7f, 1f, 0.7f, 0.8f});
         table.setSpacingBefore(10);
         table.setHeaderRows(1);
+        // Tabla incompleta: las filas ya escritas se liberan en cada document.add
+        table.setComplete(false);
 
         // Encabezados
         addTableHeader(table, "Estudiante");
@@ -536,6 +547,7 @@ public class StudentListingPdfGenerator {
 
         // Datos
         boolean alternate = false;
+        int pendingRows = 0;
         for (StudentListingReportDTO.StudentDetailDTO student : report.getStudents()) {
             // Nombre completo
             addTableCell(table, truncate(student.getFullName(), 25), alternate);
@@ -579,8 +591,14 @@ public class StudentListingPdfGenerator {
             addTableCell(table, String.valueOf(credits), alternate);
 
             alternate = !alternate;
+
+            if (++pendingRows == LISTING_FLUSH_ROWS) {
+                document.add(table);
+                pendingRows = 0;
+            }
         }
 
+        table.setComplete(true);
         document.add(table);
 
         // Notas explicativas mejoradas
@@ -790,12 +808,12 @@ public class StudentListingPdfGenerator {
 
             Paragraph infoPara = new Paragraph();
             infoPara.add(new Chunk(String.format("%.1f%%\n", pct),
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
+                    PdfResources.font(FontFactory.HELVETICA_BOLD, 9, INSTITUTIONAL_RED)));
 
             // Agregar días promedio si está disponible
             if (stat.getAverageDaysInStatus() != null && stat.getAverageDaysInStatus() > 0) {
                 infoPara.add(new Chunk(String.format("(%.0f días)", stat.getAverageDaysInStatus()),
-                        FontFactory.getFont(FontFactory.HELVETICA, 7, TEXT_GRAY)));
+                        PdfResources.font(FontFactory.HELVETICA, 7, TEXT_GRAY)));
             }
 
             infoCell.addElement(infoPara);
@@ -1080,14 +1098,14 @@ public class StudentListingPdfGenerator {
 
         // Valor grande (número principal)
         Paragraph valuePara = new Paragraph(value,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 24, color));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 24, color));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         valuePara.setSpacingAfter(5);
         card.addElement(valuePara);
 
         // Etiqueta descriptiva
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         card.addElement(labelPara);
 
@@ -1129,11 +1147,11 @@ public class StudentListingPdfGenerator {
 
         Paragraph individualContent = new Paragraph();
         individualContent.add(new Chunk("INDIVIDUALES\n",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, WHITE)));
         individualContent.add(new Chunk(individualCount + " estudiantes\n",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 18, WHITE)));
         individualContent.add(new Chunk(String.format("%.1f%% del total", (double) individualCount / total * 100),
-                FontFactory.getFont(FontFactory.HELVETICA, 10, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA, 10, WHITE)));
         individualContent.setAlignment(Element.ALIGN_CENTER);
         individualCell.addElement(individualContent);
         compTable.addCell(individualCell);
@@ -1146,11 +1164,11 @@ public class StudentListingPdfGenerator {
 
         Paragraph groupContent = new Paragraph();
         groupContent.add(new Chunk("GRUPALES\n",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, WHITE)));
         groupContent.add(new Chunk(groupCount + " estudiantes\n",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 18, WHITE)));
         groupContent.add(new Chunk(String.format("%.1f%% del total", (double) groupCount / total * 100),
-                FontFactory.getFont(FontFactory.HELVETICA, 10, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA, 10, WHITE)));
         groupContent.setAlignment(Element.ALIGN_CENTER);
         groupCell.addElement(groupContent);
         compTable.addCell(groupCell);
@@ -1233,9 +1251,9 @@ public class StudentListingPdfGenerator {
 
         Paragraph valueContent = new Paragraph();
         valueContent.add(new Chunk(count + " ",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, color)));
         valueContent.add(new Chunk("(" + String.format("%.1f%%", percentage * 100) + ")",
-                FontFactory.getFont(FontFactory.HELVETICA, 8, TEXT_GRAY)));
+                PdfResources.font(FontFactory.HELVETICA, 8, TEXT_GRAY)));
         valueCell.addElement(valueContent);
         innerTable.addCell(valueCell);
 
@@ -1264,7 +1282,7 @@ public class StudentListingPdfGenerator {
 
         // Parte coloreada
         PdfPCell filledCell = new PdfPCell(new Phrase(String.valueOf(value),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, WHITE)));
         filledCell.setBackgroundColor(color);
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setPadding(4);
@@ -1350,7 +1368,7 @@ public class StudentListingPdfGenerator {
 
         // Etiqueta
         Paragraph labelPara = new Paragraph(label,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 9, TEXT_BLACK));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         cell.addElement(labelPara);
 
@@ -1389,7 +1407,7 @@ public class StudentListingPdfGenerator {
         String valueText = unit.equals("GPA") ? String.format("%.2f", value) :
                           String.format("%.0f%s", value, unit);
         Paragraph valuePara = new Paragraph(valueText,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, barColor));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 12, barColor));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         cell.addElement(valuePara);
 
@@ -1473,7 +1491,7 @@ public class StudentListingPdfGenerator {
         totalCell.setBorder(Rectangle.NO_BORDER);
 
         Paragraph totalText = new Paragraph("TOTAL: " + totalItems + " estudiantes",
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, WHITE));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 10, WHITE));
         totalText.setAlignment(Element.ALIGN_CENTER);
         totalCell.addElement(totalText);
         totalTable.addCell(totalCell);
@@ -1511,7 +1529,7 @@ public class StudentListingPdfGenerator {
         String valueText = value + " (" + (pct != null ? String.format("%.1f%%", pct) : "N/D") + ")";
 
         PdfPCell valueCell = new PdfPCell(new Phrase(valueText,
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, color)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 8, color)));
         valueCell.setBorder(Rectangle.NO_BORDER);
         valueCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         valueCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
@@ -1543,7 +1561,7 @@ public class StudentListingPdfGenerator {
 
         // Parte llena
         PdfPCell filledCell = new PdfPCell(new Phrase(String.valueOf(value),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 7, WHITE)));
+                PdfResources.font(FontFactory.HELVETICA_BOLD, 7, WHITE)));
         filledCell.setBackgroundColor(color);
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setPadding(3);
@@ -1645,7 +1663,7 @@ public class StudentListingPdfGenerator {
 
         // Parte coloreada
         PdfPCell filledCell = new PdfPCell(new Phrase(label,
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 7, WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 7, WHITE)));
         filledCell.setBackgroundColor(color);
         filledCell.setBorder(Rectangle.NO_BORDER);
         filledCell.setPadding(3);
@@ -1678,9 +1696,9 @@ public class StudentListingPdfGenerator {
 
         Paragraph content = new Paragraph();
         content.add(new Chunk(value + "\n",
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, BaseColor.WHITE)));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 16, BaseColor.WHITE)));
         content.add(new Chunk(label,
-            FontFactory.getFont(FontFactory.HELVETICA, 8, new BaseColor(240, 240, 240))));
+            PdfResources.font(FontFactory.HELVETICA, 8, new BaseColor(240, 240, 240))));
         content.setAlignment(Element.ALIGN_CENTER);
 
         cell.addElement(content);
@@ -1699,21 +1717,21 @@ public class StudentListingPdfGenerator {
 
         // Etiqueta primero (más prominente)
         Paragraph labelPara = new Paragraph(label,
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9, BaseColor.WHITE));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 9, BaseColor.WHITE));
         labelPara.setAlignment(Element.ALIGN_CENTER);
         labelPara.setSpacingAfter(5);
         cell.addElement(labelPara);
 
         // Valor grande
         Paragraph valuePara = new Paragraph(value,
-            FontFactory.getFont(FontFactory.HELVETICA_BOLD, 22, BaseColor.WHITE));
+            PdfResources.font(FontFactory.HELVETICA_BOLD, 22, BaseColor.WHITE));
         valuePara.setAlignment(Element.ALIGN_CENTER);
         valuePara.setSpacingAfter(3);
         cell.addElement(valuePara);
 
         // Texto "estudiantes" pequeño para dar contexto
         Paragraph unitPara = new Paragraph("estudiantes",
-            FontFactory.getFont(FontFactory.HELVETICA, 7, new BaseColor(240, 240, 240)));
+            PdfResources.font(FontFactory.HELVETICA, 7, new BaseColor(240, 240, 240)));
         unitPara.setAlignment(Element.ALIGN_CENTER);
         cell.addElement(unitPara);
 
@@ -1844,53 +1862,5 @@ public class StudentListingPdfGenerator {
         return text.length() > maxLength ? text.substring(0, maxLength - 3) + "..." : text;
     }
 
-    // ==================== CLASE INTERNA: PAGE EVENT HELPER ====================
-
-    /**
-     * Helper para eventos de página con pie institucional.
-     */
-    private static class StudentListingPageEventHelper extends PdfPageEventHelper {
-
-        private final StudentListingReportDTO report;
-        private static final BaseColor GOLD  = new BaseColor(213, 203, 160);
-        private static final BaseColor RED   = new BaseColor(143, 30, 30);
-        private static final BaseColor GRAY  = new BaseColor(80, 80, 80);
-
-        public StudentListingPageEventHelper(StudentListingReportDTO report) {
-            this.report = report;
-        }
-
-        @Override
-        public void onEndPage(PdfWriter writer, Document document) {
-            PdfContentByte cb = writer.getDirectContent();
-
-            float left   = document.leftMargin();
-            float right  = document.right();
-            float bottom = document.bottom() - 15f;
-
-            // Línea dorada encima del pie
-            cb.setLineWidth(1f);
-            cb.setColorStroke(GOLD);
-            cb.moveTo(left, bottom + 10f);
-            cb.lineTo(right, bottom + 10f);
-            cb.stroke();
-
-            // SIGMA — izquierda
-            Phrase systemPhrase = new Phrase("SIGMA — Universidad Surcolombiana",
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, RED));
-            ColumnText.showTextAligned(cb, Element.ALIGN_LEFT, systemPhrase, left, bottom, 0);
-
-            // Programa — centro
-            Phrase centerPhrase = new Phrase(report.getAcademicProgramName(),
-                    FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 8, GRAY));
-            ColumnText.showTextAligned(cb, Element.ALIGN_CENTER, centerPhrase,
-                    (left + right) / 2f, bottom, 0);
-
-            // Número de página — derecha
-            Phrase pagePhrase = new Phrase("Pág. " + writer.getPageNumber(),
-                    FontFactory.getFont(FontFactory.HELVETICA, 8, GRAY));
-            ColumnText.showTextAligned(cb, Element.ALIGN_RIGHT, pagePhrase, right, bottom, 0);
-        }
-    }
 }
 
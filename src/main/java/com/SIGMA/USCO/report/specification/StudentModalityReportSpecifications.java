@@ -0,0 +1,132 @@
+package com.SIGMA.USCO.report.specification;
+
+import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Criterios de consulta de StudentModality usados por los reportes.
+ * Permiten que cada reporte lea solo las modalidades de su programa y periodo,
+ * en lugar de cargar todas las modalidades de la universidad y filtrarlas en memoria.
+ *
+ * Los criterios que reciben una colección vacía o nula no restringen la consulta.
+ */
+public final class StudentModalityReportSpecifications {
+
+    private static final Set<String> STATUS_NAMES = Arrays.stream(ModalityProcessStatus.values())
+            .map(Enum::name)
+            .collect(Collectors.toSet());
+
+    private StudentModalityReportSpecifications() {
+    }
+
+    public static Specification<StudentModality> inProgram(Long academicProgramId) {
+        return (root, query, cb) -> cb.equal(root.get("academicProgram").get("id"), academicProgramId);
+    }
+
+    public static Specification<StudentModality> statusIn(Collection<ModalityProcessStatus> statuses) {
+        return (root, query, cb) -> statuses == null || statuses.isEmpty()
+                ? null
+                : root.get("status").in(statuses);
+    }
+
+    /**
+     * Filtra por nombres de estado tal como llegan en los DTO de filtros.
+     * Si se envían nombres pero ninguno es un estado válido, no coincide ninguna modalidad
+     * (igual que el filtro en memoria que reemplaza).
+     */
+    public static Specification<StudentModality> statusNameIn(Collection<String> statusNames) {
+        return (root, query, cb) -> {
+            if (statusNames == null || statusNames.isEmpty()) {
+                return null;
+            }
+
+            List<ModalityProcessStatus> statuses = statusNames.stream()
+                    .filter(STATUS_NAMES::contains)
+                    .map(ModalityProcessStatus::valueOf)
+                    .toList();
+
+            return statuses.isEmpty() ? cb.disjunction() : root.get("status").in(statuses);
+        };
+    }
+
+    public static Specification<StudentModality> degreeModalityIdIn(Collection<Long> degreeModalityIds) {
+        return (root, query, cb) -> degreeModalityIds == null || degreeModalityIds.isEmpty()
+                ? null
+                : root.get("programDegreeModality").get("degreeModality").get("id").in(degreeModalityIds);
+    }
+
+    public static Specification<StudentModality> degreeModalityNameIn(Collection<String> degreeModalityNames) {
+        return (root, query, cb) -> degreeModalityNames == null || degreeModalityNames.isEmpty()
+                ? null
+                : root.get("programDegreeModality").get("degreeModality").get("name").in(degreeModalityNames);
+    }
+
+    public static Specification<StudentModality> hasProjectDirector() {
+        return (root, query, cb) -> cb.isNotNull(root.get("projectDirector"));
+    }
+
+    public static Specification<StudentModality> projectDirectorIs(Long directorId) {
+        return (root, query, cb) -> directorId == null
+                ? null
+                : cb.equal(root.get("projectDirector").get("id"), directorId);
+    }
+
+    /**
+     * Modalidades seleccionadas en un año y, opcionalmente, en un semestre
+     * (1 = enero a junio, 2 = julio a diciembre). Sin año no restringe.
+     */
+    public static Specification<StudentModality> selectedInPeriod(Integer year, Integer semester) {
+        return (root, query, cb) -> {
+            if (year == null) {
+                return null;
+            }
+
+            LocalDateTime from;
+            LocalDateTime to;
+
+            if (semester == null) {
+                from = LocalDateTime.of(year, 1, 1, 0, 0);
+                to = from.plusYears(1);
+            } else {
+                from = LocalDateTime.of(year, semester == 1 ? 1 : 7, 1, 0, 0);
+                to = from.plusMonths(6);
+            }
+
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("selectionDate"), from),
+                    cb.lessThan(root.get("selectionDate"), to)
+            );
+        };
+    }
+
+    /**
+     * Carga en la misma consulta las asociaciones que recorren los reportes
+     * (programa, modalidad de grado, líder y director), evitando una consulta por modalidad.
+     * No se aplica a las consultas de conteo.
+     */
+    public static Specification<StudentModality> fetchReportAssociations() {
+        return (root, query, cb) -> {
+            Class<?> resultType = query.getResultType();
+
+            if (resultType != Long.class && resultType != long.class) {
+                Fetch<Object, Object> programDegreeModality = root.fetch("programDegreeModality", JoinType.INNER);
+                programDegreeModality.fetch("degreeModality", JoinType.INNER);
+                root.fetch("academicProgram", JoinType.INNER);
+                root.fetch("leader", JoinType.INNER);
+                root.fetch("projectDirector", JoinType.LEFT);
+            }
+
+            return null;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.SIGMA.USCO.security;
+
+import java.util.Set;
+
+/**
+ * Usuario autenticado de la solicitud actual, tomado de los claims del JWT
+ * (sin cargar la entidad User ni sus roles desde la base de datos).
+ *
+ * @param id          ID del usuario (claim {@code userId})
+ * @param email       correo del usuario (subject del token)
+ * @param authorities permisos y roles (claim {@code authorities})
+ */
+public record AuthenticatedUser(Long id, String email, Set<String> authorities) {
+
+    public boolean hasAuthority(String authority) {
+        return authorities.contains(authority);
+    }
+}
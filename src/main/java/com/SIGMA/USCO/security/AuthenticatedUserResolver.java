@@ -0,0 +1,63 @@
+package com.SIGMA.USCO.security;
+
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.Users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resuelve el usuario autenticado de la solicitud actual a partir del JWT.
+ *
+ * Los tokens emitidos por {@link JwtService} incluyen el claim {@code userId}, así que el
+ * ID del usuario se obtiene sin consultar la base de datos. Solo los tokens anteriores a ese
+ * claim (o una autenticación que no sea JWT) requieren buscar al usuario por correo.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserResolver {
+
+    private final UserRepository userRepository;
+
+    /**
+     * Usuario autenticado de la solicitud actual.
+     *
+     * @throws RuntimeException si no hay un usuario autenticado
+     */
+    public AuthenticatedUser current() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) {
+            throw new RuntimeException("Usuario no autenticado");
+        }
+
+        Set<String> authorities = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toUnmodifiableSet());
+
+        if (auth instanceof JwtAuthenticationToken jwtAuth) {
+            Jwt jwt = jwtAuth.getToken();
+            Object userId = jwt.getClaim(JwtService.USER_ID_CLAIM);
+            if (userId instanceof Number number) {
+                return new AuthenticatedUser(number.longValue(), auth.getName(), authorities);
+            }
+        }
+
+        User user = userRepository.findByEmail(auth.getName())
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        return new AuthenticatedUser(user.getId(), user.getEmail(), authorities);
+    }
+
+    /**
+     * ID del usuario autenticado de la solicitud actual.
+     */
+    public Long currentUserId() {
+        return current().id();
+    }
+}
@@ -1,6 +1,5 @@
 package com.SIGMA.USCO.security;
 
-import com.SIGMA.USCO.Users.repository.BlackListedTokenRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,7 +14,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class BlackListFilter extends OncePerRequestFilter {
 
-    private final BlackListedTokenRepository blackListedTokenRepository;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -24,7 +23,7 @@ public class BlackListFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (blackListedTokenRepository.existsByToken(token)) {
+            if (tokenRevocationStore.isRevoked(token)) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("Por favor inicie sesion de nuevo.");
                 return;
@@ -0,0 +1,74 @@
+package com.SIGMA.USCO.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Decodificador que conserva por un tiempo corto los JWT ya verificados.
+ *
+ * Un mismo token llega en muchas solicitudes seguidas; mientras esté en caché no se vuelve
+ * a verificar la firma ni a parsear el JSON. La clave es el hash SHA-256 del token, así que
+ * los tokens no quedan en memoria. Una entrada nunca sobrevive a la expiración del token,
+ * y la revocación se sigue comprobando antes en {@link BlackListFilter}.
+ */
+final class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<ByteBuffer, Jwt> cache;
+
+    CachingJwtDecoder(JwtDecoder delegate, long maxEntries, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilTokenExpires(ttl))
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        ByteBuffer key = ByteBuffer.wrap(TokenRevocationStore.sha256(token));
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        cache.put(key, jwt);
+        return jwt;
+    }
+
+    /**
+     * Vida de la entrada: el menor entre el TTL configurado y el tiempo restante del token.
+     */
+    private record UntilTokenExpires(Duration ttl) implements Expiry<ByteBuffer, Jwt> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+            long ttlNanos = ttl.toNanos();
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return ttlNanos;
+            }
+            long remainingNanos = Duration.between(Instant.now(), expiresAt).toNanos();
+            return Math.max(0, Math.min(ttlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -6,15 +6,28 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
+import java.time.Duration;
+
 @Configuration
 public class JwtConfig {
 
     @Value("${jwt.secret}")
     private String secretKey;
 
+    /** Tokens verificados en caché; 0 desactiva la caché */
+    @Value("${security.jwt.cache.max-entries:10000}")
+    private long cacheMaxEntries;
+
+    @Value("${security.jwt.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
     @Bean
     public JwtDecoder jwtDecoder() {
         byte[] secretBytes = java.util.Base64.getDecoder().decode(secretKey);
-        return NimbusJwtDecoder.withSecretKey(new javax.crypto.spec.SecretKeySpec(secretBytes, "HmacSHA256")).build();
+        JwtDecoder decoder = NimbusJwtDecoder.withSecretKey(new javax.crypto.spec.SecretKeySpec(secretBytes, "HmacSHA256")).build();
+        if (cacheMaxEntries <= 0 || cacheTtlSeconds <= 0) {
+            return decoder;
+        }
+        return new CachingJwtDecoder(decoder, cacheMaxEntries, Duration.ofSeconds(cacheTtlSeconds));
     }
 }
@@ -1,32 +1,40 @@
 package com.SIGMA.USCO.security;
 
+import com.SIGMA.USCO.Users.Entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String SECRET_KEY;
+    /** Claim con el ID del usuario, para resolverlo sin consultar la base de datos */
+    public static final String USER_ID_CLAIM = "userId";
 
-    private Key getSignInKey(){
-        byte[] KeyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(KeyBytes);
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    /**
+     * La clave y el parser se construyen una sola vez: son inmutables y seguros entre hilos.
+     */
+    public JwtService(@Value("${jwt.secret}") String secretKey) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -38,6 +46,9 @@ public class JwtService {
                 .collect(Collectors.toList());
 
         extraClaims.put("authorities", authorities);
+        if (userDetails instanceof User user) {
+            extraClaims.put(USER_ID_CLAIM, user.getId());
+        }
 
         return generateToken(extraClaims, userDetails);
     }
@@ -50,46 +61,34 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 300))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
-    private Claims getAllClaims(String token){
+    /**
+     * Verifica la firma y la expiración del token y retorna sus claims.
+     * Quien necesite varios claims debe usar este resultado en lugar de volver a parsear.
+     */
+    public Claims parseClaims(String token){
         try {
-            return Jwts
-                    .parser()
-                    .setSigningKey(getSignInKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (JwtException e) {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
             throw new RuntimeException("Invalid or expired JWT token", e);
         }
     }
 
-
-    private <T> T getClaim(String token, Function<Claims,T> claimsT){
-        Claims claims = getAllClaims(token);
-        return claimsT.apply(claims);
-
-    }
-
     public String getUsername(String token){
-        return getClaim(token,Claims::getSubject);
-    }
-
-    private Date getExpirationDate (String token){
-        return getClaim(token,Claims::getExpiration);
+        return parseClaims(token).getSubject();
     }
 
-    private boolean tokenExpired (String token){
-        return  getClaim(token,Claims::getExpiration).before(new Date());
+    public Date getExpirationDate (String token){
+        return parseClaims(token).getExpiration();
     }
 
     public  boolean validateToken (String token, UserDetails userDetails){
-        final String username = getUsername(token);
+        Claims claims = parseClaims(token);
 
-        return (username.equals(userDetails.getUsername()) && !tokenExpired(token));
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
 }
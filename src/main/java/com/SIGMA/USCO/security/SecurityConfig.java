@@ -53,6 +53,7 @@ public class SecurityConfig {
                                 .requestMatchers("/redoc.html").permitAll()
                                 .requestMatchers("/webjars/**").permitAll()
                                 .requestMatchers("/health/**").permitAll()
+                                .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasAuthority("ROLE_SUPERADMIN")
                                 .anyRequest().authenticated())
 
                 .sessionManagement(session -> session
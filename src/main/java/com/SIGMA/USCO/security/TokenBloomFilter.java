@@ -0,0 +1,79 @@
+package com.SIGMA.USCO.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sobre el hash SHA-256 de los tokens revocados.
+ *
+ * Responde "seguro no está" o "puede estar": un resultado negativo evita buscar el token
+ * en el conjunto exacto. Las posiciones se derivan del propio hash (doble hashing), así que
+ * no se vuelve a procesar el token. Es seguro para lectura y escritura concurrentes.
+ */
+final class TokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedEntries         cantidad de tokens esperada
+     * @param falsePositiveProbability probabilidad de falso positivo deseada con esa cantidad
+     */
+    TokenBloomFilter(int expectedEntries, double falsePositiveProbability) {
+        int entries = Math.max(expectedEntries, 1);
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(optimalBits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    void put(byte[] tokenHash) {
+        long h1 = firstHash(tokenHash);
+        long h2 = secondHash(tokenHash);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            int word = index >>> 6;
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(byte[] tokenHash) {
+        long h1 = firstHash(tokenHash);
+        long h2 = secondHash(tokenHash);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+    }
+
+    private static long firstHash(byte[] hash) {
+        return toLong(hash, 0);
+    }
+
+    private static long secondHash(byte[] hash) {
+        // Impar para que las posiciones no se repitan en ciclos cortos
+        return toLong(hash, 8) | 1L;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,330 @@
+package com.SIGMA.USCO.security;
+
+import com.SIGMA.USCO.Users.Entity.BlackListedToken;
+import com.SIGMA.USCO.Users.repository.BlackListedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tokens revocados (cierre de sesión), persistidos en la tabla de tokens revocados y
+ * mantenidos en memoria para no consultar la base de datos en cada solicitud autenticada.
+ *
+ * Se guarda el hash SHA-256 de cada token junto con su fecha de expiración, detrás de un
+ * filtro de Bloom que descarta sin búsqueda la gran mayoría de tokens válidos. El conjunto
+ * exacto tiene un tamaño máximo: si se supera, los tokens que pasan el filtro se confirman
+ * contra la tabla. Los tokens expirados se eliminan periódicamente de la tabla y de memoria,
+ * porque la validación del JWT ya los rechaza. En la misma tarea periódica se leen los tokens
+ * revocados desde otras instancias de la aplicación desde la lectura anterior.
+ *
+ * Al iniciar, los tokens de la tabla anterior (black_listed_token, con el JWT completo) se
+ * importan como hash y esa tabla se elimina, para que las sesiones cerradas antes del
+ * cambio sigan revocadas.
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore {
+
+    /** Tabla de versiones anteriores, con el token completo en la columna token */
+    static final String LEGACY_TABLE = "black_listed_token";
+
+    /**
+     * Margen de la lectura incremental: cubre la diferencia de reloj entre instancias y las
+     * revocaciones que se confirman después de fijar su revokedAt. Releer un token no lo duplica.
+     */
+    static final Duration DELTA_OVERLAP = Duration.ofMinutes(2);
+
+    private final BlackListedTokenRepository blackListedTokenRepository;
+    private final JwtService jwtService;
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+    private final int maxEntries;
+    private final double falsePositiveProbability;
+
+    /** null hasta la carga inicial; mientras tanto se consulta la base de datos */
+    private volatile RevocationSet revocations;
+
+    /** Momento de la última lectura de la tabla; se modifica con el lock tomado */
+    private LocalDateTime lastReadAt;
+
+    /** Ordena revocaciones, cargas y compactaciones, que consultan la base de datos con el lock tomado */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TokenRevocationStore(BlackListedTokenRepository blackListedTokenRepository,
+                                JwtService jwtService,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema,
+                                @Value("${security.revocation.max-entries:100000}") int maxEntries,
+                                @Value("${security.revocation.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.blackListedTokenRepository = blackListedTokenRepository;
+        this.jwtService = jwtService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+        this.maxEntries = maxEntries;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Indica si el token fue revocado.
+     */
+    public boolean isRevoked(String token) {
+        byte[] hash = sha256(token);
+        RevocationSet current = revocations;
+        if (current == null) {
+            return blackListedTokenRepository.existsByTokenHash(HexFormat.of().formatHex(hash));
+        }
+
+        if (!current.bloomFilter.mightContain(hash)) {
+            return false;
+        }
+        String tokenHash = HexFormat.of().formatHex(hash);
+        if (current.expirations.containsKey(tokenHash)) {
+            return true;
+        }
+        return current.overflowed && blackListedTokenRepository.existsByTokenHash(tokenHash);
+    }
+
+    /**
+     * Revoca el token: lo guarda en la tabla de tokens revocados y en memoria.
+     * Un token expirado o inválido no se guarda, porque la validación del JWT ya lo rechaza.
+     *
+     * @return false si el token ya estaba revocado
+     */
+    public boolean revoke(String token) {
+        lock.lock();
+        try {
+            if (isRevoked(token)) {
+                return false;
+            }
+            LocalDateTime expiresAt = expirationOf(token);
+            if (expiresAt == null) {
+                return true;
+            }
+
+            byte[] hash = sha256(token);
+            if (!save(hash, expiresAt, LocalDateTime.now())) {
+                // Revocado al mismo tiempo desde otra instancia
+                return false;
+            }
+
+            // Sin carga inicial, el token se leerá de la base de datos
+            RevocationSet current = revocations;
+            if (current != null) {
+                current.add(hash, expiresAt);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Importa los tokens de la tabla anterior y carga los tokens revocados en memoria.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        importLegacyTokens();
+        load();
+    }
+
+    /**
+     * Carga los tokens revocados vigentes desde la base de datos.
+     */
+    public void load() {
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            RevocationSet loaded = new RevocationSet();
+            for (BlackListedToken blackListedToken : blackListedTokenRepository.findByExpiresAtAfter(now)) {
+                loaded.add(HexFormat.of().parseHex(blackListedToken.getTokenHash()), blackListedToken.getExpiresAt());
+            }
+
+            revocations = loaded;
+            lastReadAt = now;
+            log.info("Tokens revocados cargados en memoria: {}{}",
+                    loaded.expirations.size(), loaded.overflowed ? " (se superó el máximo en memoria)" : "");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina los tokens expirados de la tabla y de memoria, y reconstruye el filtro de Bloom
+     * sin ellos. Así el tamaño de la tabla y de su índice depende de las sesiones vigentes.
+     * Además agrega los tokens revocados desde la lectura anterior, que pueden venir de otra
+     * instancia de la aplicación.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.compaction-interval-ms:900000}",
+            initialDelayString = "${security.revocation.compaction-interval-ms:900000}")
+    public void compact() {
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int deleted = blackListedTokenRepository.deleteExpired(now);
+            if (deleted > 0) {
+                log.info("Tokens revocados expirados eliminados: {}", deleted);
+            }
+
+            RevocationSet current = revocations;
+            if (current == null) {
+                return;
+            }
+            if (current.overflowed) {
+                // Hay tokens que solo están en la base de datos: se recarga todo
+                load();
+                return;
+            }
+
+            RevocationSet compacted = new RevocationSet();
+            current.expirations.forEach((tokenHash, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    compacted.add(HexFormat.of().parseHex(tokenHash), expiresAt);
+                }
+            });
+
+            List<BlackListedToken> revokedSince = blackListedTokenRepository
+                    .findByRevokedAtAfterAndExpiresAtAfter(lastReadAt.minus(DELTA_OVERLAP), now);
+            for (BlackListedToken blackListedToken : revokedSince) {
+                compacted.add(HexFormat.of().parseHex(blackListedToken.getTokenHash()), blackListedToken.getExpiresAt());
+            }
+
+            revocations = compacted;
+            lastReadAt = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Guarda como hash los tokens de la tabla black_listed_token que todavía no expiran y
+     * elimina esa tabla. Los tokens expirados o inválidos se descartan, porque la validación
+     * del JWT ya los rechaza. Si falla, la tabla se conserva y se reintenta en el siguiente inicio.
+     */
+    void importLegacyTokens() {
+        lock.lock();
+        try {
+            String legacyTable = findLegacyTable();
+            if (legacyTable == null) {
+                return;
+            }
+
+            List<String> tokens = jdbcTemplate.queryForList("SELECT token FROM " + legacyTable, String.class);
+            LocalDateTime now = LocalDateTime.now();
+            int imported = 0;
+            for (String token : tokens) {
+                if (token == null) {
+                    continue;
+                }
+                LocalDateTime expiresAt = expirationOf(token);
+                if (expiresAt == null || !expiresAt.isAfter(now)) {
+                    continue;
+                }
+                byte[] hash = sha256(token);
+                if (!blackListedTokenRepository.existsByTokenHash(HexFormat.of().formatHex(hash))
+                        && save(hash, expiresAt, now)) {
+                    imported++;
+                }
+            }
+
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + legacyTable);
+            log.info("Tabla {} importada y eliminada: {} de {} tokens siguen vigentes",
+                    legacyTable, imported, tokens.size());
+        } catch (DataAccessException e) {
+            log.warn("No se pudieron importar los tokens revocados de {}: {}", LEGACY_TABLE, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Nombre calificado de la tabla anterior, o null si ya no existe.
+     */
+    private String findLegacyTable() {
+        String schemaPattern = schema == null || schema.isBlank() ? null : schema;
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : new String[]{LEGACY_TABLE, LEGACY_TABLE.toUpperCase()}) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), schemaPattern, name, new String[]{"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        if (!Boolean.TRUE.equals(exists)) {
+            return null;
+        }
+        return schemaPattern == null ? LEGACY_TABLE : schemaPattern + "." + LEGACY_TABLE;
+    }
+
+    /**
+     * @return false si el hash ya estaba en la tabla
+     */
+    private boolean save(byte[] hash, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        try {
+            blackListedTokenRepository.save(BlackListedToken.builder()
+                    .tokenHash(HexFormat.of().formatHex(hash))
+                    .expiresAt(expiresAt)
+                    .revokedAt(revokedAt)
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private LocalDateTime expirationOf(String token) {
+        try {
+            Date expiration = jwtService.getExpirationDate(token);
+            return expiration != null ? LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()) : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private final class RevocationSet {
+        private final TokenBloomFilter bloomFilter = new TokenBloomFilter(maxEntries, falsePositiveProbability);
+        private final Map<String, LocalDateTime> expirations = new ConcurrentHashMap<>();
+        private volatile boolean overflowed;
+
+        void add(byte[] hash, LocalDateTime expiresAt) {
+            bloomFilter.put(hash);
+            if (expirations.size() < maxEntries) {
+                expirations.put(HexFormat.of().formatHex(hash), expiresAt);
+            } else {
+                overflowed = true;
+            }
+        }
+    }
+}
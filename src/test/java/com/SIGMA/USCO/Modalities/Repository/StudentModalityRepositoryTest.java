@@ -0,0 +1,141 @@
+package com.SIGMA.USCO.Modalities.Repository;
+
+import com.SIGMA.USCO.Modalities.Entity.DegreeModality;
+import com.SIGMA.USCO.Modalities.Entity.StudentModality;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityProcessStatus;
+import com.SIGMA.USCO.Modalities.Entity.enums.ModalityType;
+import com.SIGMA.USCO.Modalities.dto.ModalityListCursor;
+import com.SIGMA.USCO.Modalities.dto.projection.ModalityListView;
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.academic.entity.AcademicProgram;
+import com.SIGMA.USCO.academic.entity.Faculty;
+import com.SIGMA.USCO.academic.entity.ProgramDegreeModality;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Paginación por llave (updatedAt, id) del listado de modalidades sobre H2.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Pruebas de la paginación del listado de modalidades")
+class StudentModalityRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 8, 0);
+    private static final List<ModalityProcessStatus> ALL_STATUSES = Arrays.asList(ModalityProcessStatus.values());
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StudentModalityRepository studentModalityRepository;
+
+    private AcademicProgram program;
+    private ProgramDegreeModality programModality;
+    private User leader;
+
+    @BeforeEach
+    void setUp() {
+        Faculty faculty = entityManager.persist(Faculty.builder()
+                .name("Facultad de Ingeniería").code("FING").active(true).build());
+        program = entityManager.persist(AcademicProgram.builder()
+                .name("Ingeniería de Software").code("ISW").totalCredits(160L).faculty(faculty).active(true).build());
+        DegreeModality degreeModality = entityManager.persist(DegreeModality.builder()
+                .name("PASANTÍA").faculty(faculty).build());
+        programModality = entityManager.persist(ProgramDegreeModality.builder()
+                .academicProgram(program).degreeModality(degreeModality).creditsRequired(10L).active(true).build());
+        leader = entityManager.persist(User.builder()
+                .name("Ana").lastName("Pérez").email("ana@usco.edu.co").password("x").build());
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las filas sin repetir ni saltar, con updatedAt empatados")
+    void testPagesCoverEveryRowOnce() {
+        // Tres filas comparten updatedAt: el ID define el orden y el límite de página cae entre ellas
+        List<Long> expected = new ArrayList<>();
+        Long tied1 = persistModality(BASE.plusHours(5));
+        Long tied2 = persistModality(BASE.plusHours(5));
+        Long tied3 = persistModality(BASE.plusHours(5));
+        Long newest = persistModality(BASE.plusHours(9));
+        Long oldest = persistModality(BASE);
+        entityManager.clear();
+        expected.addAll(List.of(newest, tied3, tied2, tied1, oldest));
+
+        List<Long> visited = new ArrayList<>();
+        ModalityListCursor cursor = ModalityListCursor.FIRST_PAGE;
+        int pages = 0;
+        while (true) {
+            List<ModalityListView> rows = page(cursor, 2);
+            pages++;
+            boolean hasMore = rows.size() > 2;
+            List<ModalityListView> pageRows = hasMore ? rows.subList(0, 2) : rows;
+            pageRows.forEach(row -> visited.add(row.getId()));
+            if (!hasMore) {
+                break;
+            }
+            ModalityListView last = pageRows.get(pageRows.size() - 1);
+            // Ida y vuelta por el token, como lo recibe el cliente
+            cursor = ModalityListCursor.decode(new ModalityListCursor(last.getUpdatedAt(), last.getId()).encode());
+        }
+
+        assertEquals(expected, visited);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    @DisplayName("La última página exacta no debe indicar más resultados")
+    void testExactLastPage() {
+        persistModality(BASE.plusHours(1));
+        persistModality(BASE.plusHours(2));
+        entityManager.clear();
+
+        assertEquals(2, page(ModalityListCursor.FIRST_PAGE, 2).size());
+    }
+
+    @Test
+    @DisplayName("Una modalidad sin updatedAt debe guardarse con la fecha de selección")
+    void testUpdatedAtDefaultsToSelectionDate() {
+        StudentModality modality = entityManager.persistFlushFind(StudentModality.builder()
+                .modalityType(ModalityType.INDIVIDUAL)
+                .leader(leader)
+                .academicProgram(program)
+                .programDegreeModality(programModality)
+                .status(ModalityProcessStatus.MODALITY_SELECTED)
+                .selectionDate(BASE)
+                .build());
+
+        assertEquals(BASE, modality.getUpdatedAt());
+        assertEquals(1, page(ModalityListCursor.FIRST_PAGE, 10).size());
+    }
+
+    private List<ModalityListView> page(ModalityListCursor cursor, int pageSize) {
+        return studentModalityRepository.findListViewForPrograms(
+                List.of(program.getId()), ALL_STATUSES, "",
+                cursor.updatedAt(), cursor.id(), Limit.of(pageSize + 1));
+    }
+
+    private Long persistModality(LocalDateTime updatedAt) {
+        return entityManager.persistAndGetId(StudentModality.builder()
+                .modalityType(ModalityType.INDIVIDUAL)
+                .leader(leader)
+                .academicProgram(program)
+                .programDegreeModality(programModality)
+                .status(ModalityProcessStatus.MODALITY_SELECTED)
+                .selectionDate(BASE.minusDays(30))
+                .updatedAt(updatedAt)
+                .build(), Long.class);
+    }
+}
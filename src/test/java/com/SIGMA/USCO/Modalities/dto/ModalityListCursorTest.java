@@ -0,0 +1,63 @@
+package com.SIGMA.USCO.Modalities.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas del cursor del listado de modalidades")
+class ModalityListCursorTest {
+
+    @Test
+    @DisplayName("Debe decodificar el mismo cursor que se codificó")
+    void testRoundTrip() {
+        ModalityListCursor cursor = new ModalityListCursor(LocalDateTime.of(2026, 3, 1, 8, 30, 15, 123_000_000), 42L);
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="), "El token no debe llevar relleno");
+        assertFalse(token.contains("42"), "El token no debe exponer el ID en claro");
+        assertEquals(cursor, ModalityListCursor.decode(token));
+        assertEquals(ModalityListCursor.FIRST_PAGE, ModalityListCursor.decode(ModalityListCursor.FIRST_PAGE.encode()));
+    }
+
+    @Test
+    @DisplayName("Sin token debe devolver null")
+    void testBlankToken() {
+        assertNull(ModalityListCursor.decode(null));
+        assertNull(ModalityListCursor.decode(""));
+        assertNull(ModalityListCursor.decode("   "));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tokens mal formados")
+    void testInvalidTokens() {
+        assertInvalid("no es base64!");
+        assertInvalid(encodeRaw("2026-03-01T08:30"));
+        assertInvalid(encodeRaw("|42"));
+        assertInvalid(encodeRaw("ayer|42"));
+        assertInvalid(encodeRaw("2026-03-01T08:30|cuarenta"));
+        assertInvalid(encodeRaw("2026-03-01T08:30|"));
+    }
+
+    @Test
+    @DisplayName("No debe codificar una fila sin updatedAt o sin ID")
+    void testEncodeRequiresBothFields() {
+        assertThrows(IllegalStateException.class, () -> new ModalityListCursor(null, 1L).encode());
+        assertThrows(IllegalStateException.class, () -> new ModalityListCursor(LocalDateTime.now(), null).encode());
+    }
+
+    private static void assertInvalid(String token) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ModalityListCursor.decode(token), token);
+        assertEquals("Cursor de paginación inválido", e.getMessage());
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.SIGMA.USCO.Modalities.service;
+
+import com.SIGMA.USCO.Modalities.Repository.SeminarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pruebas de la caché de seminarios disponibles")
+class SeminarAvailabilityCacheTest {
+
+    private SeminarRepository seminarRepository;
+    private SeminarAvailabilityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        seminarRepository = mock(SeminarRepository.class);
+        when(seminarRepository.findActiveWithAvailableSeatsByProgramFetchingProgram(anyLong())).thenReturn(List.of());
+        cache = new SeminarAvailabilityCache(seminarRepository, 60);
+    }
+
+    @Test
+    @DisplayName("Debe guardar el listado hasta que se invalide su programa")
+    void testCachesUntilInvalidated() {
+        SeminarAvailabilityCache.Listing first = cache.listing(1L);
+        assertSame(first, cache.listing(1L));
+
+        cache.invalidate(1L);
+
+        SeminarAvailabilityCache.Listing reloaded = cache.listing(1L);
+        assertNotSame(first, reloaded);
+        // Mismo contenido, misma versión
+        assertEquals(first.etag(), reloaded.etag());
+        verify(seminarRepository, times(2)).findActiveWithAvailableSeatsByProgramFetchingProgram(1L);
+    }
+
+    @Test
+    @DisplayName("Invalidar otro programa durante una carga no debe descartar esa carga")
+    void testInvalidationIsPerProgram() {
+        when(seminarRepository.findActiveWithAvailableSeatsByProgramFetchingProgram(1L)).thenAnswer(invocation -> {
+            cache.invalidate(2L);
+            return List.of();
+        });
+
+        SeminarAvailabilityCache.Listing loaded = cache.listing(1L);
+
+        assertSame(loaded, cache.listing(1L));
+        verify(seminarRepository, times(1)).findActiveWithAvailableSeatsByProgramFetchingProgram(1L);
+    }
+
+    @Test
+    @DisplayName("No debe guardar una carga que empezó antes de invalidar el mismo programa")
+    void testDiscardsLoadStartedBeforeInvalidation() {
+        when(seminarRepository.findActiveWithAvailableSeatsByProgramFetchingProgram(1L))
+                .thenAnswer(invocation -> {
+                    cache.invalidate(1L);
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        cache.listing(1L);
+        cache.listing(1L);
+
+        verify(seminarRepository, times(2)).findActiveWithAvailableSeatsByProgramFetchingProgram(1L);
+    }
+}
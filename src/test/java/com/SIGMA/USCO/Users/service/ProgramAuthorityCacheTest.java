@@ -0,0 +1,192 @@
+package com.SIGMA.USCO.Users.service;
+
+import com.SIGMA.USCO.Users.Entity.enums.ProgramRole;
+import com.SIGMA.USCO.Users.dto.projection.ProgramAuthorityView;
+import com.SIGMA.USCO.Users.event.ProgramAuthorityChangedEvent;
+import com.SIGMA.USCO.Users.repository.ProgramAuthorityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * La caché de autoridades de programa debe descartarse solo cuando se confirma la
+ * transacción que publicó el cambio.
+ */
+@SpringJUnitConfig(ProgramAuthorityCacheTest.Config.class)
+@DisplayName("Pruebas de la caché de autoridades de programa")
+class ProgramAuthorityCacheTest {
+
+    private static final Long USER_ID = 10L;
+
+    @Autowired
+    private ProgramAuthorityCache cache;
+
+    @Autowired
+    private ProgramAuthorityRepository programAuthorityRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        reset(programAuthorityRepository);
+        cache.invalidate();
+        when(programAuthorityRepository.findAllViews())
+                .thenReturn(List.of(view(1L, USER_ID, 100L, ProgramRole.PROGRAM_HEAD)));
+    }
+
+    @Test
+    @DisplayName("Debe ver el nuevo programa después del commit")
+    void testInvalidatesAfterCommit() {
+        assertEquals(List.of(100L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+
+        when(programAuthorityRepository.findAllViews()).thenReturn(List.of(
+                view(1L, USER_ID, 100L, ProgramRole.PROGRAM_HEAD),
+                view(2L, USER_ID, 200L, ProgramRole.PROGRAM_HEAD)));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new ProgramAuthorityChangedEvent(USER_ID, 200L));
+            // Antes del commit se sigue usando la carga anterior
+            assertEquals(List.of(100L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+        });
+
+        assertEquals(List.of(100L, 200L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+        assertTrue(cache.hasRole(USER_ID, 200L, ProgramRole.PROGRAM_HEAD));
+        verify(programAuthorityRepository, times(2)).findAllViews();
+    }
+
+    @Test
+    @DisplayName("No debe descartar la caché si la transacción se revierte")
+    void testKeepsSnapshotOnRollback() {
+        assertEquals(List.of(100L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new ProgramAuthorityChangedEvent(USER_ID, 200L));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(100L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+        verify(programAuthorityRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    @DisplayName("Debe descartar la caché si el cambio se publica sin transacción")
+    void testInvalidatesWithoutTransaction() {
+        assertEquals(List.of(100L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+
+        when(programAuthorityRepository.findAllViews()).thenReturn(List.of());
+        eventPublisher.publishEvent(new ProgramAuthorityChangedEvent(USER_ID, 100L));
+
+        assertTrue(cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD).isEmpty());
+    }
+
+    @Test
+    @DisplayName("No debe guardar una carga que empezó antes de un cambio confirmado")
+    void testDiscardsLoadStartedBeforeChange() {
+        when(programAuthorityRepository.findAllViews())
+                .thenAnswer(invocation -> {
+                    // El cambio se confirma mientras se lee la tabla
+                    eventPublisher.publishEvent(new ProgramAuthorityChangedEvent(USER_ID, 200L));
+                    return List.of(view(1L, USER_ID, 100L, ProgramRole.PROGRAM_HEAD));
+                })
+                .thenReturn(List.of(
+                        view(1L, USER_ID, 100L, ProgramRole.PROGRAM_HEAD),
+                        view(2L, USER_ID, 200L, ProgramRole.PROGRAM_HEAD)));
+
+        assertEquals(List.of(100L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+        assertEquals(List.of(100L, 200L), cache.programIds(USER_ID, ProgramRole.PROGRAM_HEAD));
+        verify(programAuthorityRepository, times(2)).findAllViews();
+    }
+
+    private static ProgramAuthorityView view(Long id, Long userId, Long academicProgramId, ProgramRole role) {
+        return new ProgramAuthorityView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getAcademicProgramId() {
+                return academicProgramId;
+            }
+
+            @Override
+            public Long getFacultyId() {
+                return 1L;
+            }
+
+            @Override
+            public ProgramRole getRole() {
+                return role;
+            }
+        };
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        ProgramAuthorityRepository programAuthorityRepository() {
+            return mock(ProgramAuthorityRepository.class);
+        }
+
+        @Bean
+        ProgramAuthorityCache programAuthorityCache(ProgramAuthorityRepository programAuthorityRepository) {
+            return new ProgramAuthorityCache(programAuthorityRepository, 10);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new InMemoryTransactionManager();
+        }
+    }
+
+    /**
+     * Administrador de transacciones sin recursos: solo activa la sincronización de
+     * transacciones que usan los listeners AFTER_COMMIT.
+     */
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
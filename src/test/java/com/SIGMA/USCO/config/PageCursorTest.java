@@ -0,0 +1,29 @@
+package com.SIGMA.USCO.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas del cursor de paginación por ID")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Debe decodificar el ID que se codificó, sin exponerlo en claro")
+    void testIdRoundTrip() {
+        String token = PageCursor.encodeId(12345L);
+
+        assertNotEquals("12345", token);
+        assertEquals(12345L, PageCursor.decodeId(token));
+        assertNull(PageCursor.decodeId(null));
+        assertNull(PageCursor.decodeId(" "));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un ID en claro o un token mal formado")
+    void testInvalidTokens() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeId("12345"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeId("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeId(PageCursor.encode("doce")));
+    }
+}
@@ -0,0 +1,159 @@
+package com.SIGMA.USCO.notifications.repository;
+
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.notifications.entity.Notification;
+import com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cambios de estado del outbox de correos: toma por lotes, reintento, descarte y envío.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Pruebas del outbox de correos de notificaciones")
+class NotificationRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 8, 0);
+    private static final LocalDateTime LEASE_UNTIL = NOW.plusMinutes(10);
+    private static final Limit BATCH = Limit.of(50);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User recipient;
+
+    @BeforeEach
+    void setUp() {
+        recipient = entityManager.persist(User.builder()
+                .name("Ana").lastName("Pérez").email("ana@usco.edu.co").password("x").build());
+    }
+
+    @Test
+    @DisplayName("Solo una toma debe quedarse con la notificación mientras dure el plazo")
+    void testClaimIsExclusive() {
+        Long id = persistDue(NOW.minusSeconds(1));
+
+        assertEquals(List.of(id), notificationRepository.findDueEmailIds(NOW, NOW.minusMinutes(10), BATCH));
+        assertEquals(1, notificationRepository.claimEmails(List.of(id), "lote-1", NOW, LEASE_UNTIL));
+        assertEquals(0, notificationRepository.claimEmails(List.of(id), "lote-2", NOW, LEASE_UNTIL));
+
+        Notification claimed = reload(id);
+        assertEquals(EmailDeliveryStatus.SENDING, claimed.getEmailDeliveryStatus());
+        assertEquals("lote-1", claimed.getEmailClaim());
+        assertEquals(LEASE_UNTIL, claimed.getEmailNextAttemptAt());
+        assertTrue(notificationRepository.findDueEmailIds(NOW, NOW.minusMinutes(10), BATCH).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Una toma vencida debe poder retomarse y la anterior ya no puede cerrarla")
+    void testExpiredClaimIsRetaken() {
+        Long id = persistDue(NOW.minusSeconds(1));
+        notificationRepository.claimEmails(List.of(id), "lote-1", NOW, LEASE_UNTIL);
+
+        LocalDateTime later = LEASE_UNTIL.plusSeconds(1);
+        assertEquals(List.of(id), notificationRepository.findDueEmailIds(later, later.minusMinutes(10), BATCH));
+        assertEquals(1, notificationRepository.claimEmails(List.of(id), "lote-2", later, later.plusMinutes(10)));
+
+        assertEquals(0, notificationRepository.completeEmails(List.of(id), "lote-1", EmailDeliveryStatus.SENT, true, later));
+        assertEquals(0, notificationRepository.recordEmailFailure(id, "lote-1", EmailDeliveryStatus.DEAD, 1, null, "error"));
+        assertEquals("lote-2", reload(id).getEmailClaim());
+    }
+
+    @Test
+    @DisplayName("Un fallo debe dejar la notificación pendiente hasta el siguiente intento")
+    void testFailureReschedules() {
+        Long id = persistDue(NOW.minusSeconds(1));
+        notificationRepository.claimEmails(List.of(id), "lote-1", NOW, LEASE_UNTIL);
+
+        LocalDateTime nextAttemptAt = NOW.plusMinutes(1);
+        assertEquals(1, notificationRepository.recordEmailFailure(id, "lote-1",
+                EmailDeliveryStatus.PENDING, 1, nextAttemptAt, "421 4.3.0 Try again"));
+
+        Notification failed = reload(id);
+        assertEquals(EmailDeliveryStatus.PENDING, failed.getEmailDeliveryStatus());
+        assertEquals(1, failed.getEmailAttempts());
+        assertEquals("421 4.3.0 Try again", failed.getEmailLastError());
+        assertNull(failed.getEmailClaim());
+        assertTrue(notificationRepository.findDueEmailIds(NOW, NOW.minusMinutes(10), BATCH).isEmpty());
+        assertEquals(List.of(id), notificationRepository.findDueEmailIds(nextAttemptAt, NOW, BATCH));
+    }
+
+    @Test
+    @DisplayName("Una notificación descartada no debe volver a tomarse")
+    void testDeadIsNeverDue() {
+        Long id = persistDue(NOW.minusSeconds(1));
+        notificationRepository.claimEmails(List.of(id), "lote-1", NOW, LEASE_UNTIL);
+        notificationRepository.recordEmailFailure(id, "lote-1", EmailDeliveryStatus.DEAD, 6, null, "550 5.1.1 User unknown");
+
+        LocalDateTime later = NOW.plusDays(1);
+        assertTrue(notificationRepository.findDueEmailIds(later, later, BATCH).isEmpty());
+        assertEquals(0, notificationRepository.claimEmails(List.of(id), "lote-2", later, later.plusMinutes(10)));
+        assertEquals(EmailDeliveryStatus.DEAD, reload(id).getEmailDeliveryStatus());
+        assertEquals(1, notificationRepository.countByEmailDeliveryStatus(EmailDeliveryStatus.DEAD));
+    }
+
+    @Test
+    @DisplayName("El envío debe cerrar la notificación y liberar la toma")
+    void testCompleteMarksSent() {
+        Long id = persistDue(NOW.minusSeconds(1));
+        notificationRepository.claimEmails(List.of(id), "lote-1", NOW, LEASE_UNTIL);
+
+        assertEquals(List.of(id), notificationRepository.findByEmailClaim("lote-1").stream().map(Notification::getId).toList());
+        assertEquals(1, notificationRepository.completeEmails(List.of(id), "lote-1", EmailDeliveryStatus.SENT, true, NOW));
+
+        Notification sent = reload(id);
+        assertEquals(EmailDeliveryStatus.SENT, sent.getEmailDeliveryStatus());
+        assertTrue(sent.isEmailSent());
+        assertNull(sent.getEmailClaim());
+        assertNull(sent.getEmailNextAttemptAt());
+        assertEquals(0, notificationRepository.countByEmailDeliveryStatus(EmailDeliveryStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Una notificación guardada y nunca despachada debe tomarse pasado el margen")
+    void testOrphanIsDueAfterGrace() {
+        Long id = entityManager.persistAndGetId(notification(null, NOW.minusMinutes(5)), Long.class);
+
+        assertTrue(notificationRepository.findDueEmailIds(NOW, NOW.minusMinutes(10), BATCH).isEmpty());
+        assertEquals(List.of(id), notificationRepository.findDueEmailIds(NOW, NOW.minusMinutes(1), BATCH));
+        assertEquals(1, notificationRepository.claimEmails(List.of(id), "lote-1", NOW, LEASE_UNTIL));
+    }
+
+    private Long persistDue(LocalDateTime nextAttemptAt) {
+        return entityManager.persistAndGetId(notification(nextAttemptAt, NOW.minusMinutes(1)), Long.class);
+    }
+
+    private Notification notification(LocalDateTime nextAttemptAt, LocalDateTime createdAt) {
+        return Notification.builder()
+                .type(NotificationType.MODALITY_STARTED)
+                .recipientType(NotificationRecipientType.STUDENT)
+                .recipient(recipient)
+                .subject("Modalidad iniciada")
+                .message("Su modalidad fue iniciada")
+                .createdAt(createdAt)
+                .emailNextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+    private Notification reload(Long id) {
+        entityManager.clear();
+        return entityManager.find(Notification.class, id);
+    }
+}
@@ -0,0 +1,86 @@
+package com.SIGMA.USCO.notifications.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de los textos de notificación compilados")
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("Un texto posicional debe generar lo mismo que String.format")
+    void testPositionalMatchesStringFormat() {
+        Map<String, Object> variables = NotificationTemplateEngine.variables(
+                "estudiante", "Ana Pérez", "modalidad", "PASANTÍA", "creditos", 10);
+        String[] sources = {
+                "Hola %s, su modalidad %s requiere %d créditos.",
+                "Sin variables",
+                "%s%s",
+                "Avance del 100%% en %2$s (%1$s)",
+                "Línea 1%nLínea 2: %s",
+                "",
+        };
+
+        for (String source : sources) {
+            assertEquals(String.format(source, variables.values().toArray()),
+                    CompiledTemplate.positional(source).render(variables), source);
+        }
+    }
+
+    @Test
+    @DisplayName("Un valor nulo debe mostrarse vacío")
+    void testNullValues() {
+        Map<String, Object> variables = NotificationTemplateEngine.variables("nombre", null, "fecha", "1 de marzo");
+
+        assertEquals("Hola , fecha 1 de marzo", CompiledTemplate.positional("Hola %s, fecha %s").render(variables));
+        assertEquals("Hola , fecha 1 de marzo", CompiledTemplate.named("Hola {{nombre}}, fecha {{ fecha }}").render(variables));
+    }
+
+    @Test
+    @DisplayName("Un texto posicional sin valores suficientes debe fallar como String.format")
+    void testPositionalMissingValues() {
+        CompiledTemplate template = CompiledTemplate.positional("%s y %3$s");
+        Map<String, Object> variables = NotificationTemplateEngine.variables("a", 1, "b", 2);
+
+        assertFalse(template.accepts(variables));
+        assertThrows(MissingFormatArgumentException.class, () -> template.render(variables));
+        assertTrue(template.variableNames().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar especificadores de formato que no soporta")
+    void testPositionalUnsupportedSpecifiers() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.positional("Nota %.1f"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.positional("Nota %f"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.positional("Fecha %1$tY"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.positional("Al final %"));
+    }
+
+    @Test
+    @DisplayName("Un texto con nombre debe reemplazar cada variable, aunque se repita")
+    void testNamed() {
+        CompiledTemplate template = CompiledTemplate.named("{{nombre}}: su modalidad {{modalidad}} fue aprobada, {{nombre}}.");
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("modalidad", "PASANTÍA");
+        variables.put("nombre", "Ana");
+
+        assertEquals(Set.of("nombre", "modalidad"), template.variableNames());
+        assertTrue(template.accepts(variables));
+        assertEquals("Ana: su modalidad PASANTÍA fue aprobada, Ana.", template.render(variables));
+        assertFalse(template.accepts(Map.of("nombre", "Ana")));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar variables sin cerrar o sin nombre")
+    void testNamedInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.named("Hola {{nombre"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.named("Hola {{ }}"));
+        assertEquals("Sin variables {", CompiledTemplate.named("Sin variables {").render(Map.of()));
+    }
+}
@@ -0,0 +1,159 @@
+package com.SIGMA.USCO.notifications.service;
+
+import com.SIGMA.USCO.config.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSenderFailedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pruebas del motor de envío de correos")
+class EmailDeliveryEngineTest {
+
+    private EmailService emailService;
+    private EmailDeliveryEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        emailService = mock(EmailService.class);
+        // Envío en el hilo de la prueba; cupo de 10 correos sin recarga apreciable
+        engine = new EmailDeliveryEngine(emailService, Runnable::run, new SimpleMeterRegistry(),
+                1, 25, 0.0001, 10, 60, 900);
+    }
+
+    @Test
+    @DisplayName("Los errores de conexión, autenticación y 4xx deben ser transitorios")
+    void testTransientFailures() throws Exception {
+        assertTrue(EmailDeliveryEngine.isTransientFailure(new MessagingException("sin conexión", new SocketTimeoutException())));
+        assertTrue(EmailDeliveryEngine.isTransientFailure(new MailAuthenticationException("credenciales")));
+        assertTrue(EmailDeliveryEngine.isTransientFailure(new AuthenticationFailedException("535")));
+        assertTrue(EmailDeliveryEngine.isTransientFailure(
+                new MailSendException("envío", sendFailed(451, "451 Temporary local problem"))));
+        assertTrue(EmailDeliveryEngine.isTransientFailure(
+                new SMTPSenderFailedException(new InternetAddress("sigma@usco.edu.co"), "MAIL FROM", 421, "421 Service not available")));
+    }
+
+    @Test
+    @DisplayName("Las direcciones inválidas y los rechazos 5xx no deben ser transitorios")
+    void testPermanentFailures() throws Exception {
+        assertFalse(EmailDeliveryEngine.isTransientFailure(new SMTPAddressFailedException(
+                new InternetAddress("nadie@usco.edu.co"), "RCPT TO", 550, "550 5.1.1 User unknown")));
+        assertFalse(EmailDeliveryEngine.isTransientFailure(sendFailed(554, "554 5.7.1 Message rejected")));
+        assertFalse(EmailDeliveryEngine.isTransientFailure(new MessagingException("mensaje mal formado")));
+    }
+
+    @Test
+    @DisplayName("Los rechazos por cuota deben reconocerse aunque el código sea 5xx")
+    void testQuotaRejections() throws Exception {
+        assertTrue(EmailDeliveryEngine.isQuotaRejection(sendFailed(550, "550 5.4.5 Daily user sending quota exceeded")));
+        assertTrue(EmailDeliveryEngine.isQuotaRejection(
+                new MailSendException("envío", new MessagingException("421 4.7.0 Try again later"))));
+        assertTrue(EmailDeliveryEngine.isTransientFailure(sendFailed(550, "550 5.4.5 Daily user sending quota exceeded")));
+
+        assertFalse(EmailDeliveryEngine.isQuotaRejection(sendFailed(554, "554 5.7.1 Message rejected")));
+        assertFalse(EmailDeliveryEngine.isQuotaRejection(new MessagingException("550 5.1.1 User unknown")));
+        // Números de versión o direcciones IP no son códigos de estado
+        assertFalse(EmailDeliveryEngine.isQuotaRejection(new MessagingException("host 10.4.5.1 no responde")));
+        assertFalse(EmailDeliveryEngine.isQuotaRejection(new MessagingException("cliente 4.7.1.2")));
+    }
+
+    @Test
+    @DisplayName("Debe pausar los envíos si todos los fallos del lote son transitorios")
+    void testPausesOnAllTransientFailures() throws Exception {
+        MimeMessage first = mock(MimeMessage.class);
+        MimeMessage second = mock(MimeMessage.class);
+        when(emailService.sendAll(anyList())).thenReturn(Map.of(
+                first, new MessagingException("sin conexión", new SocketTimeoutException()),
+                second, new MessagingException("sin conexión", new SocketTimeoutException())));
+
+        assertEquals(2, engine.reserve(2));
+        assertEquals(2, engine.send(List.of(first, second)).size());
+
+        assertEquals(0, engine.reserve(1));
+    }
+
+    @Test
+    @DisplayName("No debe pausar si en el lote también hay fallos del propio correo")
+    void testDoesNotPauseOnMixedFailures() throws Exception {
+        MimeMessage transientFailure = mock(MimeMessage.class);
+        MimeMessage invalidAddress = mock(MimeMessage.class);
+        when(emailService.sendAll(anyList())).thenReturn(Map.of(
+                transientFailure, new MessagingException("sin conexión", new SocketTimeoutException()),
+                invalidAddress, new SMTPAddressFailedException(
+                        new InternetAddress("nadie@usco.edu.co"), "RCPT TO", 550, "550 5.1.1 User unknown")));
+
+        assertEquals(2, engine.reserve(2));
+        engine.send(List.of(transientFailure, invalidAddress));
+
+        assertEquals(8, engine.reserve(10));
+    }
+
+    @Test
+    @DisplayName("Un rechazo por cuota debe pausar los envíos aunque haya otros fallos")
+    void testPausesOnQuotaRejection() throws Exception {
+        MimeMessage throttled = mock(MimeMessage.class);
+        MimeMessage invalidAddress = mock(MimeMessage.class);
+        when(emailService.sendAll(anyList())).thenReturn(Map.of(
+                throttled, sendFailed(550, "550 5.4.5 Daily user sending quota exceeded"),
+                invalidAddress, new SMTPAddressFailedException(
+                        new InternetAddress("nadie@usco.edu.co"), "RCPT TO", 550, "550 5.1.1 User unknown")));
+
+        engine.send(List.of(throttled, invalidAddress));
+
+        assertEquals(0, engine.reserve(1));
+        assertEquals(TimeUnit.SECONDS.toNanos(900), engine.quotaPause().toNanos());
+    }
+
+    @Test
+    @DisplayName("El token bucket debe limitar la ráfaga y devolver el cupo no usado")
+    void testTokenBucketBurstAndRefund() {
+        EmailDeliveryEngine.TokenBucket bucket = new EmailDeliveryEngine.TokenBucket(5, 0.0001);
+
+        assertEquals(5, bucket.tryAcquire(10));
+        assertEquals(0, bucket.tryAcquire(1));
+
+        bucket.refund(3);
+        assertEquals(3, bucket.tryAcquire(10));
+
+        bucket.refund(50);
+        assertEquals(5.0, bucket.available(), 0.01);
+    }
+
+    @Test
+    @DisplayName("El token bucket debe recargarse con el tiempo y no entregar cupo durante una pausa")
+    void testTokenBucketRefillAndPause() throws InterruptedException {
+        EmailDeliveryEngine.TokenBucket bucket = new EmailDeliveryEngine.TokenBucket(5, 1_000);
+        assertEquals(5, bucket.tryAcquire(5));
+        Thread.sleep(20);
+        assertEquals(5, bucket.tryAcquire(5));
+
+        bucket.pause(TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(0, bucket.tryAcquire(1));
+
+        Thread.sleep(250);
+        assertEquals(5, bucket.tryAcquire(5));
+    }
+
+    private static SMTPSendFailedException sendFailed(int returnCode, String message) {
+        return new SMTPSendFailedException("DATA", returnCode, message,
+                new SendFailedException(message), null, null, null);
+    }
+}
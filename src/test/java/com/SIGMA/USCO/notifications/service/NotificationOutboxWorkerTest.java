@@ -0,0 +1,206 @@
+package com.SIGMA.USCO.notifications.service;
+
+import com.SIGMA.USCO.Users.Entity.User;
+import com.SIGMA.USCO.config.EmailService;
+import com.SIGMA.USCO.notifications.entity.Notification;
+import com.SIGMA.USCO.notifications.entity.enums.EmailDeliveryStatus;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pruebas del envío del outbox de correos")
+class NotificationOutboxWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 6;
+
+    private NotificationRepository notificationRepository;
+    private EmailService emailService;
+    private EmailDeliveryEngine emailDeliveryEngine;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxWorker worker;
+    private ArgumentCaptor<String> claim;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        emailService = mock(EmailService.class);
+        emailDeliveryEngine = mock(EmailDeliveryEngine.class);
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new NotificationOutboxWorker(notificationRepository, emailService, emailDeliveryEngine,
+                meterRegistry, 50, MAX_ATTEMPTS, 60, 3_600, 600, 600);
+        when(emailDeliveryEngine.quotaPause()).thenReturn(Duration.ofMinutes(15));
+    }
+
+    @Test
+    @DisplayName("La espera entre intentos debe duplicarse hasta el máximo")
+    void testBackoff() {
+        assertEquals(Duration.ofSeconds(60), worker.backoff(1));
+        assertEquals(Duration.ofSeconds(120), worker.backoff(2));
+        assertEquals(Duration.ofSeconds(240), worker.backoff(3));
+        assertEquals(Duration.ofSeconds(1_920), worker.backoff(6));
+        assertEquals(Duration.ofSeconds(3_600), worker.backoff(7));
+        // Sin desbordamiento con muchos intentos
+        assertEquals(Duration.ofSeconds(3_600), worker.backoff(200));
+    }
+
+    @Test
+    @DisplayName("Sin cupo de envío no debe tomar notificaciones")
+    void testNoPermits() {
+        when(emailDeliveryEngine.reserve(50)).thenReturn(0);
+
+        assertEquals(0, worker.deliverBatch());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("Si otra instancia tomó el lote, debe devolver el cupo")
+    void testLostClaimReleasesPermits() {
+        when(emailDeliveryEngine.reserve(50)).thenReturn(2);
+        when(notificationRepository.findDueEmailIds(any(), any(), any())).thenReturn(List.of(1L, 2L));
+        when(notificationRepository.claimEmails(eq(List.of(1L, 2L)), anyString(), any(), any())).thenReturn(0);
+
+        assertEquals(0, worker.deliverBatch());
+        verify(emailDeliveryEngine).release(2);
+        verify(notificationRepository, never()).findByEmailClaim(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe marcar enviados, reprogramar los fallos y descartar al agotar los intentos")
+    void testDeliverBatchStateChanges() throws Exception {
+        Notification sent = notification(1L, 0);
+        Notification retried = notification(2L, 0);
+        Notification exhausted = notification(3L, MAX_ATTEMPTS - 1);
+        due(sent, retried, exhausted);
+
+        MimeMessage sentMessage = message(sent);
+        MimeMessage retriedMessage = message(retried);
+        MimeMessage exhaustedMessage = message(exhausted);
+        when(emailDeliveryEngine.send(List.of(sentMessage, retriedMessage, exhaustedMessage))).thenReturn(Map.of(
+                retriedMessage, new MessagingException("421 4.3.0 Try again later"),
+                exhaustedMessage, new MessagingException("451 4.3.0 Try again later")));
+
+        LocalDateTime before = LocalDateTime.now();
+        assertEquals(3, worker.deliverBatch());
+
+        verify(notificationRepository).completeEmails(eq(List.of(1L)), eq(claim()),
+                eq(EmailDeliveryStatus.SENT), eq(true), any());
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).recordEmailFailure(eq(2L), eq(claim()), eq(EmailDeliveryStatus.PENDING),
+                eq(1), nextAttemptAt.capture(), eq("421 4.3.0 Try again later"));
+        assertFalse(nextAttemptAt.getValue().isBefore(before.plusSeconds(60)));
+        assertTrue(nextAttemptAt.getValue().isBefore(before.plusSeconds(120)));
+
+        verify(notificationRepository).recordEmailFailure(eq(3L), eq(claim()), eq(EmailDeliveryStatus.DEAD),
+                eq(MAX_ATTEMPTS), isNull(), anyString());
+        assertEquals(1.0, meterRegistry.counter("sigma.mail.dead").count());
+        verify(emailDeliveryEngine).release(0);
+    }
+
+    @Test
+    @DisplayName("Una dirección inválida debe descartarse sin reintentos")
+    void testInvalidAddressIsDead() throws Exception {
+        Notification invalid = notification(1L, 0);
+        due(invalid);
+        MimeMessage invalidMessage = message(invalid);
+        when(emailDeliveryEngine.send(List.of(invalidMessage))).thenReturn(Map.of(invalidMessage,
+                new SendFailedException("550 5.1.1 User unknown", null, new Address[0],
+                        new Address[0], new Address[]{new InternetAddress("nadie@usco.edu.co")})));
+
+        worker.deliverBatch();
+
+        verify(notificationRepository).recordEmailFailure(eq(1L), eq(claim()), eq(EmailDeliveryStatus.DEAD),
+                eq(1), isNull(), anyString());
+    }
+
+    @Test
+    @DisplayName("Un rechazo por cuota no debe contar como intento")
+    void testQuotaRejectionKeepsAttempts() throws Exception {
+        Notification throttled = notification(1L, MAX_ATTEMPTS - 1);
+        due(throttled);
+        MimeMessage throttledMessage = message(throttled);
+        when(emailDeliveryEngine.send(List.of(throttledMessage))).thenReturn(Map.of(throttledMessage,
+                new MessagingException("550 5.4.5 Daily user sending quota exceeded")));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.deliverBatch();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).recordEmailFailure(eq(1L), eq(claim()), eq(EmailDeliveryStatus.PENDING),
+                eq(MAX_ATTEMPTS - 1), nextAttemptAt.capture(), anyString());
+        assertFalse(nextAttemptAt.getValue().isBefore(before.plusMinutes(15)));
+        assertEquals(0.0, meterRegistry.counter("sigma.mail.dead").count());
+    }
+
+    @Test
+    @DisplayName("Los destinatarios sin correo deben cerrarse sin enviar")
+    void testRecipientsWithoutEmailAreNotRequired() {
+        Notification programHead = notification(1L, 0);
+        programHead.setRecipientType(NotificationRecipientType.PROGRAM_HEAD);
+        due(programHead);
+        when(emailDeliveryEngine.send(List.of())).thenReturn(Map.of());
+
+        worker.deliverBatch();
+
+        verify(notificationRepository).completeEmails(List.of(1L), claim(), EmailDeliveryStatus.NOT_REQUIRED, false, null);
+        verify(emailDeliveryEngine).release(1);
+        verifyNoInteractions(emailService);
+    }
+
+    /**
+     * Prepara el lote con las notificaciones; la toma (UUID) se genera dentro del lote y se
+     * lee con {@link #claim()} después de ejecutarlo.
+     */
+    private void due(Notification... notifications) {
+        List<Long> ids = Arrays.stream(notifications).map(Notification::getId).toList();
+        when(emailDeliveryEngine.reserve(50)).thenReturn(notifications.length);
+        when(notificationRepository.findDueEmailIds(any(), any(), any())).thenReturn(ids);
+        claim = ArgumentCaptor.forClass(String.class);
+        when(notificationRepository.claimEmails(eq(ids), claim.capture(), any(), any())).thenReturn(ids.size());
+        when(notificationRepository.findByEmailClaim(anyString())).thenAnswer(invocation -> {
+            assertEquals(claim.getValue(), invocation.getArgument(0));
+            return List.of(notifications);
+        });
+    }
+
+    private String claim() {
+        return claim.getValue();
+    }
+
+    private MimeMessage message(Notification notification) throws Exception {
+        MimeMessage message = mock(MimeMessage.class);
+        when(emailService.createMessage(eq(notification.getRecipient().getEmail()), anyString(), anyString(), isNull(), isNull()))
+                .thenReturn(message);
+        return message;
+    }
+
+    private static Notification notification(Long id, int attempts) {
+        return Notification.builder()
+                .id(id)
+                .recipientType(NotificationRecipientType.STUDENT)
+                .recipient(User.builder().id(100 + id).email("estudiante" + id + "@usco.edu.co").build())
+                .subject("Asunto " + id)
+                .message("Mensaje " + id)
+                .emailAttempts(attempts)
+                .build();
+    }
+}
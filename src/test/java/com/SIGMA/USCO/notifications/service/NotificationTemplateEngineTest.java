@@ -0,0 +1,114 @@
+package com.SIGMA.USCO.notifications.service;
+
+import com.SIGMA.USCO.notifications.entity.NotificationTemplate;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationRecipientType;
+import com.SIGMA.USCO.notifications.entity.enums.NotificationType;
+import com.SIGMA.USCO.notifications.repository.NotificationTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pruebas del motor de plantillas de notificación")
+class NotificationTemplateEngineTest {
+
+    private static final String DEFAULT_SUBJECT = "Modalidad aprobada";
+    private static final String DEFAULT_MESSAGE = "Hola %s, su modalidad %s fue aprobada.";
+
+    private NotificationTemplateRepository repository;
+    private NotificationTemplateEngine engine;
+    private Map<String, Object> variables;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(NotificationTemplateRepository.class);
+        engine = new NotificationTemplateEngine(repository, 10);
+        variables = NotificationTemplateEngine.variables("estudiante", "Ana", "modalidad", "PASANTÍA");
+    }
+
+    @Test
+    @DisplayName("Sin plantilla activa debe usar el texto incorporado")
+    void testBuiltInWithoutTemplate() {
+        when(repository.findByActiveTrue()).thenReturn(List.of());
+
+        RenderedNotification rendered = render();
+
+        assertEquals(DEFAULT_SUBJECT, rendered.subject());
+        assertEquals("Hola Ana, su modalidad PASANTÍA fue aprobada.", rendered.message());
+    }
+
+    @Test
+    @DisplayName("Debe usar la plantilla activa del tipo y destinatario")
+    void testUsesActiveTemplate() {
+        when(repository.findByActiveTrue()).thenReturn(List.of(
+                template(1L, "{{modalidad}} aprobada", "{{estudiante}}, felicitaciones por {{modalidad}}")));
+
+        RenderedNotification rendered = render();
+
+        assertEquals("PASANTÍA aprobada", rendered.subject());
+        assertEquals("Ana, felicitaciones por PASANTÍA", rendered.message());
+        // Otro destinatario no tiene plantilla
+        assertEquals(DEFAULT_SUBJECT, engine.render(NotificationType.MODALITY_APPROVED_BY_PROGRAM_HEAD,
+                NotificationRecipientType.PROJECT_DIRECTOR, DEFAULT_SUBJECT, DEFAULT_MESSAGE, variables).subject());
+    }
+
+    @Test
+    @DisplayName("Si la plantilla usa una variable que el evento no tiene, debe usar el texto incorporado")
+    void testFallbackOnMissingVariable() {
+        when(repository.findByActiveTrue()).thenReturn(List.of(
+                template(1L, "Modalidad aprobada", "{{estudiante}}, su director es {{director}}")));
+
+        RenderedNotification rendered = render();
+
+        assertEquals(DEFAULT_SUBJECT, rendered.subject());
+        assertEquals("Hola Ana, su modalidad PASANTÍA fue aprobada.", rendered.message());
+        // La advertencia no cambia el resultado en las siguientes notificaciones
+        assertEquals(rendered, render());
+    }
+
+    @Test
+    @DisplayName("Una plantilla mal formada debe ignorarse sin afectar a las demás")
+    void testInvalidTemplateIsSkipped() {
+        when(repository.findByActiveTrue()).thenReturn(List.of(template(1L, "Asunto", "Hola {{estudiante")));
+
+        assertEquals("Hola Ana, su modalidad PASANTÍA fue aprobada.", render().message());
+    }
+
+    @Test
+    @DisplayName("Debe cargar las plantillas una vez y recargarlas al invalidar")
+    void testCachesUntilInvalidated() {
+        when(repository.findByActiveTrue())
+                .thenReturn(List.of(template(1L, "Primera", "{{estudiante}}")))
+                .thenReturn(List.of(template(1L, "Segunda", "{{estudiante}}")));
+
+        assertEquals("Primera", render().subject());
+        assertEquals("Primera", render().subject());
+        verify(repository, times(1)).findByActiveTrue();
+
+        engine.invalidate();
+
+        assertEquals("Segunda", render().subject());
+        verify(repository, times(2)).findByActiveTrue();
+    }
+
+    private RenderedNotification render() {
+        return engine.render(NotificationType.MODALITY_APPROVED_BY_PROGRAM_HEAD, NotificationRecipientType.STUDENT,
+                DEFAULT_SUBJECT, DEFAULT_MESSAGE, variables);
+    }
+
+    private static NotificationTemplate template(Long id, String subject, String body) {
+        return NotificationTemplate.builder()
+                .id(id)
+                .type(NotificationType.MODALITY_APPROVED_BY_PROGRAM_HEAD)
+                .recipientType(NotificationRecipientType.STUDENT)
+                .subject(subject)
+                .bodyTemplate(body)
+                .active(true)
+                .build();
+    }
+}
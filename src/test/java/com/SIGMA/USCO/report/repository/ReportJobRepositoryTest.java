@@ -0,0 +1,60 @@
+package com.SIGMA.USCO.report.repository;
+
+import com.SIGMA.USCO.report.entity.ReportJob;
+import com.SIGMA.USCO.report.enums.ReportJobStatus;
+import com.SIGMA.USCO.report.enums.ReportJobType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Pruebas de la retención de trabajos de reportes")
+class ReportJobRepositoryTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Test
+    @DisplayName("Solo debe eliminar los trabajos FAILED o EXPIRED terminados antes del corte")
+    void testDeleteFinishedBefore() {
+        persist(ReportJobStatus.FAILED, CUTOFF.minusDays(1));
+        persist(ReportJobStatus.EXPIRED, CUTOFF.minusDays(1));
+        Long recentFailed = persist(ReportJobStatus.FAILED, CUTOFF.plusDays(1));
+        Long oldCompleted = persist(ReportJobStatus.COMPLETED, CUTOFF.minusDays(1));
+        Long running = persist(ReportJobStatus.RUNNING, null);
+
+        int deleted = reportJobRepository.deleteFinishedBefore(
+                EnumSet.of(ReportJobStatus.FAILED, ReportJobStatus.EXPIRED), CUTOFF);
+        entityManager.clear();
+
+        assertEquals(2, deleted);
+        assertEquals(List.of(recentFailed, oldCompleted, running),
+                reportJobRepository.findAll().stream().map(ReportJob::getId).sorted().toList());
+    }
+
+    private Long persist(ReportJobStatus status, LocalDateTime completedAt) {
+        return entityManager.persistAndFlush(ReportJob.builder()
+                .reportType(ReportJobType.GLOBAL_MODALITIES)
+                .status(status)
+                .requestedBy("jefe@usco.edu.co")
+                .dedupKey("0".repeat(32))
+                .createdAt(CUTOFF.minusDays(2))
+                .completedAt(completedAt)
+                .build()).getId();
+    }
+}
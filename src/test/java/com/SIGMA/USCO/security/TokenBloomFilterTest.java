@@ -0,0 +1,50 @@
+package com.SIGMA.USCO.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas del filtro de Bloom de tokens revocados")
+class TokenBloomFilterTest {
+
+    @Test
+    @DisplayName("Debe encontrar siempre los tokens agregados")
+    void testNoFalseNegatives() {
+        TokenBloomFilter filter = new TokenBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(TokenRevocationStore.sha256("revocado-" + i));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain(TokenRevocationStore.sha256("revocado-" + i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe mantener los falsos positivos cerca de la probabilidad configurada")
+    void testFalsePositiveRate() {
+        TokenBloomFilter filter = new TokenBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(TokenRevocationStore.sha256("revocado-" + i));
+        }
+
+        int falsePositives = 0;
+        int probes = 20_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(TokenRevocationStore.sha256("vigente-" + i))) {
+                falsePositives++;
+            }
+        }
+        // 1 % esperado; se deja margen para no depender de los datos
+        assertTrue(falsePositives < probes * 0.03, "Falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Un filtro vacío no debe contener ningún token")
+    void testEmptyFilter() {
+        TokenBloomFilter filter = new TokenBloomFilter(0, 0.01);
+
+        assertFalse(filter.mightContain(TokenRevocationStore.sha256("cualquiera")));
+    }
+}
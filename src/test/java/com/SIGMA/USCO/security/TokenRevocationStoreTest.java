@@ -0,0 +1,182 @@
+package com.SIGMA.USCO.security;
+
+import com.SIGMA.USCO.Users.Entity.BlackListedToken;
+import com.SIGMA.USCO.Users.repository.BlackListedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pruebas del almacén de tokens revocados")
+class TokenRevocationStoreTest {
+
+    private BlackListedTokenRepository repository;
+    private JwtService jwtService;
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(BlackListedTokenRepository.class);
+        jwtService = mock(JwtService.class);
+        when(repository.save(any(BlackListedToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of());
+        store = newStore(1_000);
+    }
+
+    @Test
+    @DisplayName("Antes de la carga inicial debe consultar la base de datos")
+    void testQueriesDatabaseBeforeLoad() {
+        when(repository.existsByTokenHash(hashOf("token-a"))).thenReturn(true);
+
+        assertTrue(store.isRevoked("token-a"));
+        assertFalse(store.isRevoked("token-b"));
+        verify(repository, times(2)).existsByTokenHash(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe responder desde memoria después de revocar un token")
+    void testRevokeKeepsTokenInMemory() {
+        store.load();
+        expiresIn("token-a", 3_600);
+
+        assertTrue(store.revoke("token-a"));
+
+        assertTrue(store.isRevoked("token-a"));
+        assertFalse(store.isRevoked("token-b"));
+        verify(repository, never()).existsByTokenHash(anyString());
+
+        ArgumentCaptor<BlackListedToken> saved = ArgumentCaptor.forClass(BlackListedToken.class);
+        verify(repository).save(saved.capture());
+        assertEquals(hashOf("token-a"), saved.getValue().getTokenHash());
+        assertNotNull(saved.getValue().getRevokedAt());
+    }
+
+    @Test
+    @DisplayName("No debe guardar dos veces el mismo token")
+    void testRevokeTwice() {
+        store.load();
+        expiresIn("token-a", 3_600);
+
+        assertTrue(store.revoke("token-a"));
+        assertFalse(store.revoke("token-a"));
+        verify(repository, times(1)).save(any(BlackListedToken.class));
+    }
+
+    @Test
+    @DisplayName("Si otra instancia lo guardó primero, la revocación debe indicar que ya existía")
+    void testRevokeRace() {
+        store.load();
+        expiresIn("token-a", 3_600);
+        when(repository.save(any(BlackListedToken.class))).thenThrow(new DataIntegrityViolationException("duplicado"));
+
+        assertFalse(store.revoke("token-a"));
+    }
+
+    @Test
+    @DisplayName("No debe guardar un token inválido o sin expiración")
+    void testRevokeInvalidToken() {
+        store.load();
+        when(jwtService.getExpirationDate("token-a")).thenThrow(new IllegalArgumentException("firma inválida"));
+
+        assertTrue(store.revoke("token-a"));
+        verify(repository, never()).save(any(BlackListedToken.class));
+    }
+
+    @Test
+    @DisplayName("La compactación debe eliminar los tokens expirados de la tabla y de memoria")
+    void testCompactDropsExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                row("token-a", now.plusSeconds(1)),
+                row("token-b", now.plusHours(1))));
+        store.load();
+        assertTrue(store.isRevoked("token-a"));
+
+        sleepPast(now.plusSeconds(1));
+        store.compact();
+
+        verify(repository).deleteExpired(any());
+        assertFalse(store.isRevoked("token-a"));
+        assertTrue(store.isRevoked("token-b"));
+        verify(repository, never()).existsByTokenHash(anyString());
+    }
+
+    @Test
+    @DisplayName("La compactación debe agregar los tokens revocados desde otra instancia")
+    void testCompactReadsRevocationsFromOtherInstances() {
+        LocalDateTime beforeLoad = LocalDateTime.now();
+        store.load();
+        LocalDateTime afterLoad = LocalDateTime.now();
+        assertFalse(store.isRevoked("token-a"));
+
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(row("token-a", LocalDateTime.now().plusHours(1))));
+        store.compact();
+
+        assertTrue(store.isRevoked("token-a"));
+        ArgumentCaptor<LocalDateTime> revokedAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).findByRevokedAtAfterAndExpiresAtAfter(revokedAfter.capture(), any());
+        // Se lee desde la carga anterior, con el margen entre instancias
+        assertFalse(revokedAfter.getValue().isBefore(beforeLoad.minus(TokenRevocationStore.DELTA_OVERLAP)));
+        assertFalse(revokedAfter.getValue().isAfter(afterLoad.minus(TokenRevocationStore.DELTA_OVERLAP)));
+    }
+
+    @Test
+    @DisplayName("Si se supera el máximo en memoria, debe confirmar contra la base de datos")
+    void testOverflowFallsBackToDatabase() {
+        store = newStore(1);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                row("token-a", expiresAt),
+                row("token-b", expiresAt)));
+        when(repository.existsByTokenHash(hashOf("token-b"))).thenReturn(true);
+        store.load();
+
+        assertTrue(store.isRevoked("token-a"));
+        assertTrue(store.isRevoked("token-b"));
+        verify(repository).existsByTokenHash(hashOf("token-b"));
+    }
+
+    private TokenRevocationStore newStore(int maxEntries) {
+        return new TokenRevocationStore(repository, jwtService, mock(JdbcTemplate.class), "", maxEntries, 0.01);
+    }
+
+    private void expiresIn(String token, long seconds) {
+        when(jwtService.getExpirationDate(token)).thenReturn(new Date(System.currentTimeMillis() + seconds * 1000));
+    }
+
+    private static BlackListedToken row(String token, LocalDateTime expiresAt) {
+        return BlackListedToken.builder()
+                .tokenHash(hashOf(token))
+                .expiresAt(expiresAt)
+                .revokedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static String hashOf(String token) {
+        return HexFormat.of().formatHex(TokenRevocationStore.sha256(token));
+    }
+
+    private static void sleepPast(LocalDateTime instant) {
+        long millis = instant.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - System.currentTimeMillis();
+        try {
+            Thread.sleep(Math.max(0, millis) + 20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}